@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.client;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.websocket.CloseReason;
+
+import org.glassfish.tyrus.core.Beta;
+
+/**
+ * Reconnect handler with exponential backoff.
+ * <p>
+ * The n-th consecutive reconnect attempt of a connection is delayed by {@code initialDelay * 2^(n-1)}, limited by
+ * {@code maxDelay}, and randomized by the configured {@link Jitter}, so clients disconnected at the same time (for
+ * instance by a server restart) do not reconnect in lockstep. The attempt counter of a connection is reset when the
+ * connection is established. Closing a session with {@link CloseReason.CloseCodes#NORMAL_CLOSURE}, which is what
+ * {@link javax.websocket.Session#close()} does, does not cause reconnect.
+ * <p>
+ * Optionally, reconnects of all connections created by the {@link ClientManager} the handler is registered to are
+ * limited by a token bucket, see {@link Builder#reconnectRate(double, int)}.
+ * <p>
+ * Use {@link ClientProperties#RECONNECT_HANDLER} to register the handler:
+ * <pre>
+ * client.getProperties().put(ClientProperties.RECONNECT_HANDLER,
+ *                            BackoffReconnectHandler.Builder.create().maxAttempts(10).build());
+ * </pre>
+ * One instance can be shared by any number of connections, each of them has its own attempt counter.
+ *
+ * @since 2.0
+ */
+@Beta
+public final class BackoffReconnectHandler extends ClientManager.ReconnectHandler {
+
+    /**
+     * Randomization of the computed backoff delay.
+     */
+    public enum Jitter {
+
+        /**
+         * Delay is not randomized.
+         */
+        NONE,
+
+        /**
+         * Delay is a random value up to the computed backoff delay.
+         */
+        FULL,
+
+        /**
+         * Delay is a random value between the initial delay and three times the previous delay, limited by the max
+         * delay.
+         */
+        DECORRELATED
+    }
+
+    private final long initialDelay;
+    private final long maxDelay;
+    private final Jitter jitter;
+    private final int maxAttempts;
+    private final TokenBucket tokenBucket;
+
+    // state of one connection
+    private volatile int attempts = 0;
+    private volatile long previousDelay = 0;
+    private volatile long delay = 0;
+
+    private BackoffReconnectHandler(long initialDelay, long maxDelay, Jitter jitter, int maxAttempts,
+                                    TokenBucket tokenBucket) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.jitter = jitter;
+        this.maxAttempts = maxAttempts;
+        this.tokenBucket = tokenBucket;
+    }
+
+    @Override
+    public boolean onDisconnect(CloseReason closeReason) {
+        if (closeReason != null
+                && closeReason.getCloseCode().getCode() == CloseReason.CloseCodes.NORMAL_CLOSURE.getCode()) {
+            return false;
+        }
+        return nextAttempt();
+    }
+
+    @Override
+    public boolean onConnectFailure(Exception exception) {
+        return nextAttempt();
+    }
+
+    /**
+     * Get delay of the next reconnect attempt, rounded up to whole seconds.
+     * <p>
+     * {@link ClientManager} schedules the reconnect with millisecond precision.
+     *
+     * @return reconnect delay in seconds.
+     */
+    @Override
+    public long getDelay() {
+        return (delay + 999) / 1000;
+    }
+
+    @Override
+    long getDelayMillis() {
+        return delay;
+    }
+
+    @Override
+    ClientManager.ReconnectHandler forConnection() {
+        return new BackoffReconnectHandler(initialDelay, maxDelay, jitter, maxAttempts, tokenBucket);
+    }
+
+    @Override
+    void onConnected() {
+        attempts = 0;
+        previousDelay = 0;
+    }
+
+    private synchronized boolean nextAttempt() {
+        if (attempts >= maxAttempts) {
+            return false;
+        }
+        attempts++;
+
+        final long backoff = backoff(attempts);
+        previousDelay = backoff;
+        delay = tokenBucket == null ? backoff : Math.max(backoff, tokenBucket.reserve());
+        return true;
+    }
+
+    /**
+     * Compute backoff delay.
+     *
+     * @param attempt number of the reconnect attempt, starting with 1.
+     * @return delay in milliseconds.
+     */
+    long backoff(int attempt) {
+        long exponential = initialDelay;
+        for (int i = 1; i < attempt && exponential < maxDelay && exponential <= Long.MAX_VALUE / 2; i++) {
+            exponential <<= 1;
+        }
+        exponential = Math.min(maxDelay, exponential);
+
+        switch (jitter) {
+            case FULL:
+                // at least 1 ms, zero delay means reconnecting from the thread which reported the disconnect
+                return 1 + ThreadLocalRandom.current().nextLong(exponential);
+            case DECORRELATED:
+                final long upper = previousDelay > maxDelay / 3 ? maxDelay : Math.max(initialDelay, previousDelay * 3);
+                return upper <= initialDelay
+                        ? initialDelay : ThreadLocalRandom.current().nextLong(initialDelay, upper + 1);
+            default:
+                return exponential;
+        }
+    }
+
+    /**
+     * Token bucket shared by all connections using the same handler.
+     * <p>
+     * Reservations are granted even when the bucket is empty; the returned wait time then grows with the number of
+     * outstanding reservations, which spreads the reconnects evenly in time.
+     */
+    static class TokenBucket {
+
+        private final double permitsPerNano;
+        private final double burst;
+
+        private double permits;
+        private long lastRefill;
+
+        TokenBucket(double permitsPerSecond, int burst) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.burst = burst;
+            this.permits = burst;
+            this.lastRefill = System.nanoTime();
+        }
+
+        /**
+         * Reserve one permit.
+         *
+         * @return time in milliseconds after which the permit can be used.
+         */
+        synchronized long reserve() {
+            final long now = System.nanoTime();
+            // credited in nanoseconds, reservations less than a millisecond apart must refill the bucket too
+            permits = Math.min(burst, permits + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+
+            permits -= 1;
+            return permits >= 0 ? 0 : (long) Math.ceil(-permits / permitsPerNano / TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * {@link BackoffReconnectHandler} builder.
+     * <p>
+     * Defaults are 1 second initial delay, 60 seconds max delay, {@link Jitter#FULL full jitter}, unlimited number of
+     * attempts and no reconnect rate limit.
+     */
+    public static final class Builder {
+
+        private long initialDelay = 1000;
+        private long maxDelay = 60000;
+        private Jitter jitter = Jitter.FULL;
+        private int maxAttempts = Integer.MAX_VALUE;
+        private double permitsPerSecond = 0;
+        private int burst = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * Create new builder.
+         *
+         * @return new builder instance.
+         */
+        public static Builder create() {
+            return new Builder();
+        }
+
+        /**
+         * Set delay of the first reconnect attempt.
+         *
+         * @param delay delay, must be positive.
+         * @param unit  unit of the delay.
+         * @return updated builder.
+         */
+        public Builder initialDelay(long delay, TimeUnit unit) {
+            if (delay <= 0) {
+                throw new IllegalArgumentException("Initial delay must be positive.");
+            }
+            this.initialDelay = Math.max(1, unit.toMillis(delay));
+            return this;
+        }
+
+        /**
+         * Set the maximal delay between reconnect attempts.
+         *
+         * @param delay delay, must be positive.
+         * @param unit  unit of the delay.
+         * @return updated builder.
+         */
+        public Builder maxDelay(long delay, TimeUnit unit) {
+            if (delay <= 0) {
+                throw new IllegalArgumentException("Max delay must be positive.");
+            }
+            this.maxDelay = Math.max(1, unit.toMillis(delay));
+            return this;
+        }
+
+        /**
+         * Set randomization of the delay.
+         *
+         * @param jitter jitter.
+         * @return updated builder.
+         */
+        public Builder jitter(Jitter jitter) {
+            if (jitter == null) {
+                throw new IllegalArgumentException("Jitter must not be null.");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Set the maximal number of consecutive reconnect attempts of one connection.
+         *
+         * @param maxAttempts number of attempts, {@code 0} disables reconnecting.
+         * @return updated builder.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 0) {
+                throw new IllegalArgumentException("Max attempts must not be negative.");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Limit the rate of reconnects of all connections using the built handler.
+         * <p>
+         * When the limit is exceeded, reconnect attempts are delayed beyond their backoff delay.
+         *
+         * @param permitsPerSecond average number of reconnects per second.
+         * @param burst            number of reconnects which can be made at once.
+         * @return updated builder.
+         */
+        public Builder reconnectRate(double permitsPerSecond, int burst) {
+            if (permitsPerSecond <= 0 || burst <= 0) {
+                throw new IllegalArgumentException("Reconnect rate and burst must be positive.");
+            }
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Build reconnect handler.
+         *
+         * @return new reconnect handler.
+         */
+        public BackoffReconnectHandler build() {
+            return new BackoffReconnectHandler(initialDelay, Math.max(initialDelay, maxDelay), jitter, maxAttempts,
+                                               permitsPerSecond > 0 ? new TokenBucket(permitsPerSecond, burst) : null);
+        }
+    }
+}
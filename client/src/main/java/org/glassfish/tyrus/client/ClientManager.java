@@ -42,8 +42,10 @@ import javax.websocket.Extension;
 import javax.websocket.Session;
 import javax.websocket.WebSocketContainer;
 
+import org.glassfish.tyrus.client.auth.AuthCache;
 import org.glassfish.tyrus.core.AnnotatedEndpoint;
 import org.glassfish.tyrus.core.BaseContainer;
+import org.glassfish.tyrus.core.Beta;
 import org.glassfish.tyrus.core.ComponentProviderService;
 import org.glassfish.tyrus.core.DebugContext;
 import org.glassfish.tyrus.core.ErrorCollector;
@@ -177,6 +179,7 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
     private final ComponentProviderService componentProvider;
     private final Map<String, Object> properties = new HashMap<String, Object>();
     private final ClientActivityListener clientActivityListener;
+    private final AuthCache authCache = new AuthCache();
 
     private volatile long defaultAsyncSendTimeout;
     private volatile long defaultMaxSessionIdleTimeout;
@@ -443,6 +446,46 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
         return connectToServer(obj, null, path.toString(), false);
     }
 
+    /**
+     * Create a pool of sessions connected to the specified server endpoint.
+     * <p>
+     * Idle sessions are checked every 30 seconds, see
+     * {@link #createSessionPool(ClientEndpointConfig, URI, int, long, TimeUnit)}.
+     *
+     * @param cec  the configuration used to configure the pooled sessions.
+     * @param path the complete path to the server endpoint.
+     * @param size number of sessions kept open by the pool.
+     * @return new session pool. Sessions are being connected in the background.
+     * @throws DeploymentException if the provided path is not valid.
+     */
+    @Beta
+    public SessionPool createSessionPool(ClientEndpointConfig cec, URI path, int size) throws DeploymentException {
+        return createSessionPool(cec, path, size, 30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Create a pool of sessions connected to the specified server endpoint.
+     * <p>
+     * Connections are established in the background using this client manager's properties; closed sessions are
+     * replaced until the pool is closed. Every idle session is sent a ping once per {@code healthCheckInterval} and
+     * closed when it does not answer the previous one.
+     *
+     * @param cec                 the configuration used to configure the pooled sessions.
+     * @param path                the complete path to the server endpoint.
+     * @param size                number of sessions kept open by the pool.
+     * @param healthCheckInterval interval between pings sent to an idle session, not positive value disables the
+     *                            health check.
+     * @param unit                unit of the health check interval.
+     * @return new session pool.
+     * @throws DeploymentException if the provided path is not valid.
+     * @see SessionPool
+     */
+    @Beta
+    public SessionPool createSessionPool(ClientEndpointConfig cec, URI path, int size, long healthCheckInterval,
+                                         TimeUnit unit) throws DeploymentException {
+        return new SessionPool(this, cec, path.toString(), size, unit.toMillis(healthCheckInterval));
+    }
+
     /**
      * Connects client endpoint o to the specified url.
      *
@@ -456,7 +499,29 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
      */
     Future<Session> connectToServer(final Object o, final ClientEndpointConfig configuration, final String url,
                                     boolean synchronous) throws DeploymentException {
+        return connectToServer(o, configuration, url, synchronous, null);
+    }
+
+    /**
+     * Connects client endpoint o to the specified url.
+     *
+     * @param o                the endpoint.
+     * @param configuration    of the endpoint.
+     * @param url              to which the client will connect.
+     * @param synchronous      if {@code true} connect will be executed synchronously, if {@code false} connect will
+     *                         be executed asynchronously.
+     * @param reconnectHandler reconnect handler used instead of the one set by
+     *                         {@link ClientProperties#RECONNECT_HANDLER}, can be {@code null}.
+     * @return Future which will return {@link Session} instance when available.
+     * @throws DeploymentException if the endpoint or provided URL is not valid.
+     */
+    Future<Session> connectToServer(final Object o, final ClientEndpointConfig configuration, final String url,
+                                    boolean synchronous, ReconnectHandler reconnectHandler)
+            throws DeploymentException {
         final Map<String, Object> copiedProperties = new HashMap<String, Object>(properties);
+        if (reconnectHandler != null) {
+            copiedProperties.put(ClientProperties.RECONNECT_HANDLER, reconnectHandler);
+        }
 
         /* Client activity listener must be called before an executor service is obtained from the container, otherwise
          the counter of active client won't be increased and the executor service might be shut down */
@@ -558,8 +623,10 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
                 final boolean retryAfterEnabled =
                         Utils.getProperty(copiedProperties, ClientProperties.RETRY_AFTER_SERVICE_UNAVAILABLE,
                                           Boolean.class, false);
-                final ReconnectHandler userReconnectHandler =
+                final ReconnectHandler configuredReconnectHandler =
                         Utils.getProperty(copiedProperties, ClientProperties.RECONNECT_HANDLER, ReconnectHandler.class);
+                final ReconnectHandler userReconnectHandler =
+                        configuredReconnectHandler == null ? null : configuredReconnectHandler.forConnection();
 
                 final Runnable connector = new Runnable() {
 
@@ -619,12 +686,12 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
                                                                         CloseReason closeReason) {
                                                         if (reconnectHandler != null
                                                                 && reconnectHandler.onDisconnect(closeReason)) {
-                                                            long delay = reconnectHandler.getDelay();
+                                                            long delay = reconnectHandler.getDelayMillis();
                                                             if (delay <= 0) {
                                                                 run();
                                                             } else {
                                                                 getScheduledExecutorService()
-                                                                        .schedule(that, delay, TimeUnit.SECONDS);
+                                                                        .schedule(that, delay, TimeUnit.MILLISECONDS);
                                                             }
                                                         } else {
                                                             clientActivityListener.onConnectionTerminated();
@@ -642,7 +709,7 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
 
                                 TyrusClientEngine clientEngine =
                                         new TyrusClientEngine(clientEndpoint, listener, copiedProperties, uri,
-                                                              debugContext);
+                                                              debugContext, authCache);
 
                                 container.openClientSocket(config, copiedProperties, clientEngine);
 
@@ -659,6 +726,9 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
                                             }
                                         }
 
+                                        if (reconnectHandler != null) {
+                                            reconnectHandler.onConnected();
+                                        }
                                         future.setResult(listener.getSession());
                                         return;
                                     } else {
@@ -681,9 +751,9 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
                                     future.setFailure(e);
                                     return;
                                 } else {
-                                    long delay = reconnectHandler.getDelay();
+                                    long delay = reconnectHandler.getDelayMillis();
                                     if (delay > 0) {
-                                        getScheduledExecutorService().schedule(this, delay, TimeUnit.SECONDS);
+                                        getScheduledExecutorService().schedule(this, delay, TimeUnit.MILLISECONDS);
                                         return;
                                     }
                                 }
@@ -814,6 +884,21 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
         return properties;
     }
 
+    /**
+     * Cache of successful authentications.
+     * <p>
+     * Connections to a server which has already accepted credentials of a connection created by this client manager
+     * send "{@value org.glassfish.tyrus.spi.UpgradeRequest#AUTHORIZATION}" header in the first handshake request, which
+     * saves one HTTP 401 round trip.
+     *
+     * @return authentication cache of this client manager.
+     * @see AuthCache
+     */
+    @Beta
+    public AuthCache getAuthCache() {
+        return authCache;
+    }
+
     /**
      * Executor service which just executes provided {@link Runnable} in the very same thread.
      */
@@ -898,6 +983,33 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
         public long getDelay() {
             return RECONNECT_DELAY;
         }
+
+        /**
+         * Get reconnect delay in milliseconds.
+         *
+         * @return reconnect delay in milliseconds.
+         */
+        long getDelayMillis() {
+            return TimeUnit.SECONDS.toMillis(getDelay());
+        }
+
+        /**
+         * Get handler for a single connection.
+         * <p>
+         * Handlers keeping per-connection state, like {@link BackoffReconnectHandler}, return a new instance sharing
+         * the configuration with this one. Default implementation returns this handler.
+         *
+         * @return reconnect handler to be used for one connection.
+         */
+        ReconnectHandler forConnection() {
+            return this;
+        }
+
+        /**
+         * Called when the connection has been established.
+         */
+        void onConnected() {
+        }
     }
 
     private static class RetryAfterReconnectHandler extends ReconnectHandler {
@@ -908,7 +1020,8 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
         private final AtomicInteger retryCounter = new AtomicInteger(0);
         private final ReconnectHandler userReconnectHandler;
 
-        private long delay = 0;
+        private volatile long delay = 0;
+        private volatile boolean retryAfter = false;
 
         RetryAfterReconnectHandler(final ReconnectHandler userReconnectHandler) {
             this.userReconnectHandler = userReconnectHandler;
@@ -916,11 +1029,13 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
 
         @Override
         public boolean onDisconnect(CloseReason closeReason) {
+            retryAfter = false;
             return userReconnectHandler != null && userReconnectHandler.onDisconnect(closeReason);
         }
 
         @Override
         public boolean onConnectFailure(final Exception exception) {
+            retryAfter = false;
             Throwable t = exception;
             if (t instanceof DeploymentException) {
                 t = t.getCause();
@@ -931,6 +1046,7 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
                                 && retryAfterException.getDelay() <= RETRY_AFTER_MAX_DELAY) {
 
                             delay = retryAfterException.getDelay() < 0 ? 0 : retryAfterException.getDelay();
+                            retryAfter = true;
                             return true;
                         }
                     }
@@ -944,6 +1060,22 @@ public class ClientManager extends BaseContainer implements WebSocketContainer {
         public long getDelay() {
             return delay;
         }
+
+        @Override
+        long getDelayMillis() {
+            // other handlers keep the delay of the last Retry-After response
+            if (!retryAfter && userReconnectHandler instanceof BackoffReconnectHandler) {
+                return userReconnectHandler.getDelayMillis();
+            }
+            return super.getDelayMillis();
+        }
+
+        @Override
+        void onConnected() {
+            if (userReconnectHandler != null) {
+                userReconnectHandler.onConnected();
+            }
+        }
     }
 
     /**
@@ -128,7 +128,9 @@ public final class ClientProperties {
      * connections.
      * <p>
      * A single thread pool is reused by all clients with this property set to {@code true}.
-     * JDK client supports only shared container option, so setting this property has no effect.
+     * JDK client supports only shared container option, so setting this property has no effect. Grizzly client shares
+     * transports of connections with the same thread pool configuration even without this property, the property only
+     * keeps the transport running for {@link #SHARED_CONTAINER_IDLE_TIMEOUT} after the last connection is closed.
      *
      * @see #SHARED_CONTAINER_IDLE_TIMEOUT
      */
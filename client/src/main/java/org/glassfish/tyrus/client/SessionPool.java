@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.websocket.ClientEndpointConfig;
+import javax.websocket.CloseReason;
+import javax.websocket.DeploymentException;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
+import javax.websocket.PongMessage;
+import javax.websocket.Session;
+
+import org.glassfish.tyrus.core.Beta;
+
+/**
+ * Pool of client sessions connected to the same server endpoint.
+ * <p>
+ * The pool keeps a fixed number of open sessions, so the connection establishment (DNS lookup, TCP and TLS handshake
+ * and HTTP upgrade) is not on the critical path of the code using them. A session is leased by {@link #acquire(long,
+ * TimeUnit)}, the caller registers its message handlers and uses the session and then returns it by {@link
+ * #release(Session)}, which removes all the message handlers registered by the caller.
+ * <p>
+ * Idle sessions are periodically checked by sending a ping; a session which did not answer the previous ping with
+ * a pong is closed. Sessions closed for whatever reason, including {@link Session#close()} invoked by the caller, are
+ * replaced by a new connection using the {@link ClientManager.ReconnectHandler} mechanism.
+ * <p>
+ * Messages received by an idle session are not delivered anywhere, so the pool is suitable mainly for
+ * request/response protocols. Pong messages are always consumed by the pool.
+ *
+ * @see ClientManager#createSessionPool(ClientEndpointConfig, java.net.URI, int)
+ * @since 2.0
+ */
+@Beta
+public final class SessionPool implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(SessionPool.class.getName());
+
+    private static final long RECONNECT_DELAY = 1L;
+
+    private final int size;
+    private final BlockingQueue<Session> idleSessions;
+    private final Map<Session, PooledSession> sessions = new ConcurrentHashMap<Session, PooledSession>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private volatile ScheduledFuture<?> healthCheck;
+
+    /**
+     * Create new pool and initiate connections.
+     *
+     * @param clientManager       client manager used for creating connections.
+     * @param configuration       configuration of the client endpoint.
+     * @param url                 URL of the server endpoint.
+     * @param size                number of sessions.
+     * @param healthCheckInterval interval between pings sent to idle sessions in milliseconds. Health check is
+     *                            disabled when the value is not positive.
+     * @throws DeploymentException if the URL is not valid.
+     */
+    SessionPool(ClientManager clientManager, ClientEndpointConfig configuration, String url, int size,
+                long healthCheckInterval) throws DeploymentException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Session pool size must be positive.");
+        }
+
+        this.size = size;
+        this.idleSessions = new LinkedBlockingQueue<Session>(size);
+
+        final Endpoint endpoint = new PoolEndpoint();
+        final ClientManager.ReconnectHandler reconnectHandler = new PoolReconnectHandler();
+        for (int i = 0; i < size; i++) {
+            clientManager.connectToServer(endpoint, configuration, url, false, reconnectHandler);
+        }
+
+        if (healthCheckInterval > 0) {
+            healthCheck = clientManager.getScheduledExecutorService().scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    checkIdleSessions();
+                }
+            }, healthCheckInterval, healthCheckInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Lease an open session.
+     *
+     * @param timeout how long to wait for a session to become available.
+     * @param unit    unit of the timeout.
+     * @return open session or {@code null} when no session became available within the timeout.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws IllegalStateException if the pool has been closed.
+     */
+    public Session acquire(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        do {
+            if (closed.get()) {
+                throw new IllegalStateException("Session pool has been closed.");
+            }
+
+            final Session session = idleSessions.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (session == null) {
+                return null;
+            }
+
+            final PooledSession pooledSession = sessions.get(session);
+            if (session.isOpen() && pooledSession != null && pooledSession.leased.compareAndSet(false, true)) {
+                return session;
+            }
+            // closed in the meantime, it is going to be replaced
+        } while (System.nanoTime() - deadline < 0);
+
+        return null;
+    }
+
+    /**
+     * Return leased session to the pool.
+     * <p>
+     * All message handlers registered since the session was acquired are removed. Closed sessions are not returned,
+     * they have already been replaced.
+     *
+     * @param session session obtained from {@link #acquire(long, TimeUnit)}.
+     * @throws IllegalArgumentException if the session is not leased from this pool.
+     */
+    public void release(Session session) {
+        final PooledSession pooledSession = sessions.get(session);
+        if (pooledSession == null) {
+            if (session.isOpen()) {
+                throw new IllegalArgumentException("Session is not leased from this pool.");
+            }
+            return;
+        }
+        if (!pooledSession.leased.compareAndSet(true, false)) {
+            throw new IllegalArgumentException("Session is not leased from this pool.");
+        }
+
+        for (MessageHandler messageHandler : session.getMessageHandlers()) {
+            if (messageHandler != pooledSession) {
+                session.removeMessageHandler(messageHandler);
+            }
+        }
+
+        if (closed.get()) {
+            closeQuietly(session, CloseReason.CloseCodes.GOING_AWAY, "Session pool closed.");
+        } else if (session.isOpen()) {
+            idleSessions.offer(session);
+        }
+    }
+
+    /**
+     * Get the number of sessions the pool maintains.
+     *
+     * @return pool size.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the number of open sessions available for {@link #acquire(long, TimeUnit)}.
+     *
+     * @return number of idle sessions.
+     */
+    public int getIdleCount() {
+        return idleSessions.size();
+    }
+
+    /**
+     * Close the pool and all its sessions, including the leased ones. Closed sessions are not replaced anymore.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        final ScheduledFuture<?> healthCheck = this.healthCheck;
+        if (healthCheck != null) {
+            healthCheck.cancel(false);
+        }
+
+        idleSessions.clear();
+        for (Session session : sessions.keySet()) {
+            closeQuietly(session, CloseReason.CloseCodes.GOING_AWAY, "Session pool closed.");
+        }
+    }
+
+    private void checkIdleSessions() {
+        for (PooledSession pooledSession : sessions.values()) {
+            final Session session = pooledSession.session;
+
+            // sessions which are not idle are left to the caller
+            if (!idleSessions.remove(session)) {
+                continue;
+            }
+
+            if (pooledSession.awaitingPong) {
+                LOGGER.log(Level.FINE, "Session {0} has not answered ping, closing.", session.getId());
+                closeQuietly(session, CloseReason.CloseCodes.GOING_AWAY, "Ping timeout.");
+                continue;
+            }
+
+            try {
+                pooledSession.awaitingPong = true;
+                session.getBasicRemote().sendPing(ByteBuffer.allocate(0));
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Ping failed, closing session " + session.getId(), e);
+                closeQuietly(session, CloseReason.CloseCodes.GOING_AWAY, "Ping failed.");
+                continue;
+            }
+
+            if (!closed.get()) {
+                idleSessions.offer(session);
+            }
+        }
+    }
+
+    private static void closeQuietly(Session session, CloseReason.CloseCode closeCode, String reasonPhrase) {
+        try {
+            session.close(new CloseReason(closeCode, reasonPhrase));
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Closing session " + session.getId() + " failed.", e);
+        }
+    }
+
+    /**
+     * Receives all the pooled sessions.
+     */
+    private class PoolEndpoint extends Endpoint {
+
+        @Override
+        public void onOpen(Session session, EndpointConfig config) {
+            if (closed.get()) {
+                closeQuietly(session, CloseReason.CloseCodes.GOING_AWAY, "Session pool closed.");
+                return;
+            }
+
+            final PooledSession pooledSession = new PooledSession(session);
+            session.addMessageHandler(pooledSession);
+            sessions.put(session, pooledSession);
+            idleSessions.offer(session);
+        }
+
+        @Override
+        public void onClose(Session session, CloseReason closeReason) {
+            sessions.remove(session);
+            idleSessions.remove(session);
+        }
+    }
+
+    /**
+     * Replaces closed sessions until the pool is closed.
+     */
+    private class PoolReconnectHandler extends ClientManager.ReconnectHandler {
+
+        @Override
+        public boolean onDisconnect(CloseReason closeReason) {
+            return !closed.get();
+        }
+
+        @Override
+        public boolean onConnectFailure(Exception exception) {
+            LOGGER.log(Level.FINE, "Session pool connection failed.", exception);
+            return !closed.get();
+        }
+
+        @Override
+        public long getDelay() {
+            return RECONNECT_DELAY;
+        }
+    }
+
+    /**
+     * State of a pooled session, also used as its pong message handler.
+     */
+    private static class PooledSession implements MessageHandler.Whole<PongMessage> {
+
+        private final Session session;
+        private final AtomicBoolean leased = new AtomicBoolean(false);
+
+        private volatile boolean awaitingPong = false;
+
+        private PooledSession(Session session) {
+            this.session = session;
+        }
+
+        @Override
+        public void onMessage(PongMessage message) {
+            awaitingPong = false;
+        }
+    }
+}
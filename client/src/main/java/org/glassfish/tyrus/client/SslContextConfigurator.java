@@ -21,13 +21,19 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
+import java.security.SecureRandom;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -173,6 +179,21 @@ public class SslContextConfigurator {
      */
     public static final SslContextConfigurator DEFAULT_CONFIG = new SslContextConfigurator();
 
+    /**
+     * Maximal number of contexts kept by {@link #getSharedSSLContext()}.
+     */
+    private static final int SHARED_CONTEXTS_LIMIT = 16;
+
+    private static final Map<ConfigurationKey, SSLContext> SHARED_CONTEXTS =
+            new LinkedHashMap<ConfigurationKey, SSLContext>(SHARED_CONTEXTS_LIMIT, 0.75f, true) {
+                private static final long serialVersionUID = -1836206438235741903L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ConfigurationKey, SSLContext> eldest) {
+                    return size() > SHARED_CONTEXTS_LIMIT;
+                }
+            };
+
     private String trustStoreProvider;
     private String keyStoreProvider;
 
@@ -698,6 +719,46 @@ public class SslContextConfigurator {
         return sslContext;
     }
 
+    /**
+     * Get {@link SSLContext} for the current configuration, shared with other configurators with equal settings.
+     * <p>
+     * The context is created by {@link #createSSLContext()} when this method is called for the first time with given
+     * settings and kept for subsequent calls, so key and trust stores are loaded only once and TLS sessions cached by
+     * the context can be resumed by later connections to the same server. Least recently used contexts are dropped
+     * when more than {@value #SHARED_CONTEXTS_LIMIT} different configurations are in use. Changed content of store files
+     * is not reflected, use {@link #createSSLContext()} when that is required. Contexts are looked up by a salted hash
+     * of the settings, passwords and store contents are not retained.
+     *
+     * @return shared {@link SSLContext} or {@code null} when the context could not be created.
+     * @since 2.0
+     */
+    public SSLContext getSharedSSLContext() {
+        final ConfigurationKey key = new ConfigurationKey(this);
+
+        synchronized (SHARED_CONTEXTS) {
+            final SSLContext sslContext = SHARED_CONTEXTS.get(key);
+            if (sslContext != null) {
+                return sslContext;
+            }
+        }
+
+        // created outside of the lock, loading stores may take a while; concurrent callers may create the context
+        // more than once, only one instance is kept
+        final SSLContext created = createSSLContext();
+        if (created == null) {
+            return null;
+        }
+
+        synchronized (SHARED_CONTEXTS) {
+            final SSLContext sslContext = SHARED_CONTEXTS.get(key);
+            if (sslContext != null) {
+                return sslContext;
+            }
+            SHARED_CONTEXTS.put(key, created);
+            return created;
+        }
+    }
+
     /**
      * Retrieve settings from (system) properties.
      *
@@ -733,4 +794,89 @@ public class SslContextConfigurator {
 
         return this;
     }
+
+    /**
+     * Digest of all settings of a {@link SslContextConfigurator}.
+     * <p>
+     * Only a salted SHA-256 hash of the settings is kept, so the cache of shared contexts does not retain passwords or
+     * store contents. The salt is generated once per class loader.
+     */
+    private static final class ConfigurationKey {
+
+        private static final byte[] SALT = new byte[16];
+
+        static {
+            new SecureRandom().nextBytes(SALT);
+        }
+
+        private final byte[] digest;
+
+        private ConfigurationKey(SslContextConfigurator configurator) {
+            final MessageDigest messageDigest;
+            try {
+                messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                // SHA-256 is supported by every Java platform implementation
+                throw new IllegalStateException(e);
+            }
+
+            messageDigest.update(SALT);
+            update(messageDigest, configurator.trustStoreProvider);
+            update(messageDigest, configurator.keyStoreProvider);
+            update(messageDigest, configurator.trustStoreType);
+            update(messageDigest, configurator.keyStoreType);
+            update(messageDigest, configurator.trustStorePassword);
+            update(messageDigest, configurator.keyStorePassword);
+            update(messageDigest, configurator.keyPassword);
+            update(messageDigest, configurator.trustStoreFile);
+            update(messageDigest, configurator.keyStoreFile);
+            update(messageDigest, configurator.trustStoreBytes);
+            update(messageDigest, configurator.keyStoreBytes);
+            update(messageDigest, configurator.trustManagerFactoryAlgorithm);
+            update(messageDigest, configurator.keyManagerFactoryAlgorithm);
+            update(messageDigest, configurator.securityProtocol);
+            digest = messageDigest.digest();
+        }
+
+        private static void update(MessageDigest messageDigest, String value) {
+            update(messageDigest, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static void update(MessageDigest messageDigest, char[] value) {
+            if (value == null) {
+                update(messageDigest, (byte[]) null);
+                return;
+            }
+
+            final byte[] bytes = new byte[value.length * 2];
+            for (int i = 0; i < value.length; i++) {
+                bytes[2 * i] = (byte) (value[i] >> 8);
+                bytes[2 * i + 1] = (byte) value[i];
+            }
+            update(messageDigest, bytes);
+            Arrays.fill(bytes, (byte) 0);
+        }
+
+        // length prefix keeps values apart, so that e.g. ("ab", "c") and ("a", "bc") differ
+        private static void update(MessageDigest messageDigest, byte[] value) {
+            final int length = value == null ? -1 : value.length;
+            messageDigest.update((byte) (length >>> 24));
+            messageDigest.update((byte) (length >>> 16));
+            messageDigest.update((byte) (length >>> 8));
+            messageDigest.update((byte) length);
+            if (value != null) {
+                messageDigest.update(value);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ConfigurationKey && Arrays.equals(digest, ((ConfigurationKey) o).digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(digest);
+        }
+    }
 }
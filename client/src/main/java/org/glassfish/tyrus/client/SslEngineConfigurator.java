@@ -186,17 +186,23 @@ public class SslEngineConfigurator {
      * @return {@link SSLEngine}.
      */
     public SSLEngine createSSLEngine(String serverHost) {
-        if (sslContext == null) {
-            synchronized (sync) {
-                if (sslContext == null) {
-                    sslContext = sslContextConfiguration.createSSLContext();
-                }
-            }
-        }
+        return createSSLEngine(serverHost, -1);
+    }
 
-        /* the port is not part of host name verification, it is present in the constructor because of Kerberos
-        (which is not supported by Tyrus) */
-        final SSLEngine sslEngine = sslContext.createSSLEngine(serverHost, -1);
+    /**
+     * Create and configure {@link SSLEngine}, based on current settings.
+     * <p>
+     * Host and port are used as a key to TLS session cache of the {@link SSLContext}, so a connection to a server
+     * which has been connected to before can resume the previous TLS session instead of doing a full handshake.
+     *
+     * @param serverHost server host, which will be used to verify authenticity of the server (the provided host name
+     *                   will compared to the host in the certificate provided by the server).
+     * @param serverPort server port or {@code -1} when not known.
+     * @return {@link SSLEngine}.
+     * @since 2.0
+     */
+    public SSLEngine createSSLEngine(String serverHost, int serverPort) {
+        final SSLEngine sslEngine = getSslContext().createSSLEngine(serverHost, serverPort);
         configure(sslEngine);
 
         return sslEngine;
@@ -408,6 +414,9 @@ public class SslEngineConfigurator {
 
     /**
      * Create {@link SSLContext} and store it for further invocation of this method.
+     * <p>
+     * The context is obtained from {@link SslContextConfigurator#getSharedSSLContext()}, so configurators created with
+     * equal {@link SslContextConfigurator} settings share one context and its TLS session cache.
      *
      * @return created ssl context.
      */
@@ -415,7 +424,7 @@ public class SslEngineConfigurator {
         if (sslContext == null) {
             synchronized (sync) {
                 if (sslContext == null) {
-                    sslContext = sslContextConfiguration.createSSLContext();
+                    sslContext = sslContextConfiguration.getSharedSSLContext();
                 }
             }
         }
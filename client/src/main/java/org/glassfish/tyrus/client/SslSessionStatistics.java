@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.client;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+
+import org.glassfish.tyrus.core.Beta;
+
+/**
+ * Counts of TLS handshakes done by client containers with one {@link SSLContext}.
+ * <p>
+ * A handshake is counted as resumed when the negotiated {@link SSLSession} had been created before the handshake
+ * started, i.e. an abbreviated handshake reusing a cached session has been done instead of a full one. Sessions are
+ * cached by the context, so a low resumption rate of repeated connections to the same server usually means the server
+ * does not cache sessions or every connection uses a different {@link SSLContext}.
+ * <p>
+ * Statistics are kept only as long as the context is reachable.
+ * <pre>
+ *     SslSessionStatistics statistics = SslSessionStatistics.getStatistics(sslEngineConfigurator.getSslContext());
+ * </pre>
+ *
+ * @since 2.0
+ */
+@Beta
+public final class SslSessionStatistics {
+
+    private static final Map<SSLContext, SslSessionStatistics> STATISTICS =
+            new WeakHashMap<SSLContext, SslSessionStatistics>();
+
+    private final AtomicLong fullHandshakes = new AtomicLong();
+    private final AtomicLong resumedHandshakes = new AtomicLong();
+
+    private SslSessionStatistics() {
+    }
+
+    /**
+     * Get statistics of handshakes done with given context.
+     *
+     * @param sslContext context used by the client, e.g. {@link SslEngineConfigurator#getSslContext()}.
+     * @return statistics of the context, never {@code null}.
+     */
+    public static SslSessionStatistics getStatistics(SSLContext sslContext) {
+        synchronized (STATISTICS) {
+            SslSessionStatistics statistics = STATISTICS.get(sslContext);
+            if (statistics == null) {
+                statistics = new SslSessionStatistics();
+                STATISTICS.put(sslContext, statistics);
+            }
+            return statistics;
+        }
+    }
+
+    /**
+     * Record a finished client handshake.
+     * <p>
+     * Called by client containers, not intended to be called by applications.
+     *
+     * @param sslContext         context the {@link javax.net.ssl.SSLEngine} has been created by, statistics are not
+     *                           recorded when {@code null}.
+     * @param session            negotiated session.
+     * @param handshakeStartTime time when the handshake started, in milliseconds as returned by
+     *                           {@link System#currentTimeMillis()}.
+     * @return {@code true} when the session has been resumed.
+     */
+    public static boolean handshakeCompleted(SSLContext sslContext, SSLSession session, long handshakeStartTime) {
+        final boolean resumed = session != null && session.getCreationTime() < handshakeStartTime;
+        if (sslContext != null) {
+            final SslSessionStatistics statistics = getStatistics(sslContext);
+            if (resumed) {
+                statistics.resumedHandshakes.incrementAndGet();
+            } else {
+                statistics.fullHandshakes.incrementAndGet();
+            }
+        }
+        return resumed;
+    }
+
+    /**
+     * Get number of full handshakes.
+     *
+     * @return number of handshakes which created a new TLS session.
+     */
+    public long getFullHandshakeCount() {
+        return fullHandshakes.get();
+    }
+
+    /**
+     * Get number of abbreviated handshakes.
+     *
+     * @return number of handshakes which resumed a previously created TLS session.
+     */
+    public long getResumedHandshakeCount() {
+        return resumedHandshakes.get();
+    }
+
+    /**
+     * Get ratio of resumed handshakes to all handshakes.
+     *
+     * @return number between 0 and 1, 0 when no handshake has been done.
+     */
+    public double getResumptionRate() {
+        final long resumed = resumedHandshakes.get();
+        final long total = resumed + fullHandshakes.get();
+        return total == 0 ? 0 : (double) resumed / total;
+    }
+}
@@ -39,6 +39,7 @@ import javax.websocket.Session;
 import javax.websocket.WebSocketContainer;
 import javax.websocket.server.HandshakeRequest;
 
+import org.glassfish.tyrus.client.auth.AuthCache;
 import org.glassfish.tyrus.client.auth.AuthConfig;
 import org.glassfish.tyrus.client.auth.AuthenticationException;
 import org.glassfish.tyrus.client.auth.Authenticator;
@@ -62,6 +63,7 @@ import org.glassfish.tyrus.core.l10n.LocalizationMessages;
 import org.glassfish.tyrus.spi.ClientContainer;
 import org.glassfish.tyrus.spi.ClientEngine;
 import org.glassfish.tyrus.spi.Connection;
+import org.glassfish.tyrus.spi.ReadController;
 import org.glassfish.tyrus.spi.ReadHandler;
 import org.glassfish.tyrus.spi.UpgradeRequest;
 import org.glassfish.tyrus.spi.UpgradeResponse;
@@ -94,11 +96,14 @@ public class TyrusClientEngine implements ClientEngine {
     private final int redirectThreshold;
     private final DebugContext debugContext;
     private final boolean logUpgradeMessages;
+    private final AuthCache authCache;
 
     private volatile Handshake clientHandShake = null;
     private volatile TimeoutHandler timeoutHandler = null;
     private volatile TyrusClientEngineState clientEngineState = TyrusClientEngineState.INIT;
     private volatile URI redirectLocation = null;
+    private volatile Authenticator authenticator = null;
+    private volatile String wwwAuthenticateHeader = null;
 
     private final Set<URI> redirectUriHistory;
 
@@ -116,11 +121,13 @@ public class TyrusClientEngine implements ClientEngine {
      *                                .ClientManager#getProperties()}.
      * @param connectToServerUriParam to which the client is connecting.
      * @param debugContext            debug context.
+     * @param authCache               cache of successful authentications, can be {@code null}.
      */
     /* package */ TyrusClientEngine(TyrusEndpointWrapper endpointWrapper, ClientHandshakeListener listener,
                                     Map<String, Object> properties, URI connectToServerUriParam,
-                                    DebugContext debugContext) {
+                                    DebugContext debugContext, AuthCache authCache) {
         this.endpointWrapper = endpointWrapper;
+        this.authCache = authCache;
         this.listener = listener;
         this.properties = properties;
         this.connectToServerUriParam = connectToServerUriParam;
@@ -168,6 +175,7 @@ public class TyrusClientEngine implements ClientEngine {
 
                 UpgradeRequest upgradeRequest = clientHandShake.getRequest();
                 config.getConfigurator().beforeRequest(upgradeRequest.getHeaders());
+                addCachedAuthorization(upgradeRequest);
 
                 clientEngineState = TyrusClientEngineState.UPGRADE_REQUEST_CREATED;
                 logUpgradeRequest(upgradeRequest);
@@ -310,6 +318,12 @@ public class TyrusClientEngine implements ClientEngine {
 
     private ClientUpgradeInfo handleSwitchProtocol(UpgradeResponse upgradeResponse, Writer writer,
                                                    Connection.CloseListener closeListener) {
+        if (clientEngineState == TyrusClientEngineState.AUTH_UPGRADE_REQUEST_CREATED && authCache != null
+                && authenticator != null) {
+            authCache.authenticated(clientHandShake.getRequest().getRequestURI(), authenticator,
+                                    wwwAuthenticateHeader);
+        }
+
         // the connection has been upgraded
         clientEngineState = TyrusClientEngineState.SUCCESS;
 
@@ -324,6 +338,21 @@ public class TyrusClientEngine implements ClientEngine {
         }
     }
 
+    private void addCachedAuthorization(UpgradeRequest upgradeRequest) {
+        if (authCache == null || upgradeRequest.getHeaders().containsKey(UpgradeRequest.AUTHORIZATION)) {
+            return;
+        }
+
+        final String authorizationHeader = authCache.getAuthorization(
+                upgradeRequest.getRequestURI(), (Credentials) properties.get(ClientProperties.CREDENTIALS));
+        if (authorizationHeader != null) {
+            debugContext.appendLogMessage(LOGGER, Level.FINE, DebugContext.Type.MESSAGE_OUT,
+                                          "Using cached authentication");
+            upgradeRequest.getHeaders().put(UpgradeRequest.AUTHORIZATION,
+                                            Collections.singletonList(authorizationHeader));
+        }
+    }
+
     private ClientUpgradeInfo handleAuth(UpgradeResponse upgradeResponse) {
         if (clientEngineState == TyrusClientEngineState.AUTH_UPGRADE_REQUEST_CREATED) {
             clientEngineState = TyrusClientEngineState.FAILED;
@@ -331,6 +360,11 @@ public class TyrusClientEngine implements ClientEngine {
             return UPGRADE_INFO_FAILED;
         }
 
+        if (authCache != null) {
+            // drops the cached authentication if it has been used and the server did not accept it (stale nonce)
+            authCache.challenged(clientHandShake.getRequest().getRequestURI());
+        }
+
         AuthConfig authConfig = Utils.getProperty(properties, ClientProperties.AUTH_CONFIG,
                                                   AuthConfig.class,
                                                   AuthConfig.Builder.create().build());
@@ -370,6 +404,8 @@ public class TyrusClientEngine implements ClientEngine {
         clientEngineState = TyrusClientEngineState.AUTH_REQUIRED;
         clientEngineState.setAuthenticator(authenticator);
         clientEngineState.setWwwAuthenticateHeader(wwwAuthenticateHeader);
+        this.authenticator = authenticator;
+        this.wwwAuthenticateHeader = wwwAuthenticateHeader;
 
         return UPGRADE_INFO_ANOTHER_REQUEST_REQUIRED;
     }
@@ -678,6 +714,11 @@ public class TyrusClientEngine implements ClientEngine {
             protocolHandler.setExtensionContext(extensionContext);
         }
 
+        @Override
+        public void setReadController(ReadController readController) {
+            socket.setReadController(readController);
+        }
+
         @Override
         public void handle(ByteBuffer data) {
             try {
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.client.auth;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.core.Beta;
+import org.glassfish.tyrus.spi.UpgradeRequest;
+
+/**
+ * Cache of successful authentications, which allows sending "{@value UpgradeRequest#AUTHORIZATION}" header in the
+ * first handshake request instead of waiting for HTTP 401 challenge.
+ * <p>
+ * Authentications are cached per origin (scheme, host and port) and realm. A cached authentication is used for
+ * requests to the same origin with a path at or below the directory of the authenticated path, the same protection
+ * space a browser would assume. The authenticator, challenge and, for Digest scheme, the nonce count of the last
+ * successful authentication are remembered, so a Digest authorization sent preemptively reuses the server nonce with
+ * an incremented nonce count. When the server rejects a preemptive authorization (for example because the nonce is
+ * stale), the cached authentication is dropped and the handshake continues with the new challenge as if no
+ * authorization had been sent.
+ * <p>
+ * Every {@link ClientManager} has its own cache, see {@link ClientManager#getAuthCache()}.
+ *
+ * @since 2.0
+ */
+@Beta
+public final class AuthCache {
+
+    private static final Pattern REALM_PATTERN =
+            Pattern.compile("realm\\s*=\\s*\"([^\"]*)\"", Pattern.CASE_INSENSITIVE);
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Entry>> origins =
+            new ConcurrentHashMap<String, ConcurrentMap<String, Entry>>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Get value of "{@value UpgradeRequest#AUTHORIZATION}" header to be sent preemptively.
+     *
+     * @param uri         request URI.
+     * @param credentials credentials passed by property {@link org.glassfish.tyrus.client.ClientProperties#CREDENTIALS}.
+     *                    Can be {@code null}.
+     * @return header value or {@code null} when there is no usable cached authentication for the URI.
+     */
+    public String getAuthorization(URI uri, Credentials credentials) {
+        final Entry entry = find(uri);
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            final String authorization = entry.generateAuthorizationHeader(uri, credentials);
+            hitCount.incrementAndGet();
+            return authorization;
+        } catch (AuthenticationException e) {
+            remove(uri, entry);
+            return null;
+        }
+    }
+
+    /**
+     * Record HTTP 401 challenge received as a response to the first handshake request.
+     * <p>
+     * The cached authentication used for the request, if any, is dropped.
+     *
+     * @param uri request URI.
+     */
+    public void challenged(URI uri) {
+        missCount.incrementAndGet();
+
+        final Entry entry = find(uri);
+        if (entry != null) {
+            remove(uri, entry);
+        }
+    }
+
+    /**
+     * Record successful authentication.
+     *
+     * @param uri                   request URI.
+     * @param authenticator         authenticator which created the accepted authorization.
+     * @param wwwAuthenticateHeader "{@value org.glassfish.tyrus.spi.UpgradeResponse#WWW_AUTHENTICATE}" header value the
+     *                              authorization was created for.
+     */
+    public void authenticated(URI uri, Authenticator authenticator, String wwwAuthenticateHeader) {
+        final String origin = getOrigin(uri);
+        ConcurrentMap<String, Entry> realms = origins.get(origin);
+        if (realms == null) {
+            final ConcurrentMap<String, Entry> newRealms = new ConcurrentHashMap<String, Entry>();
+            realms = origins.putIfAbsent(origin, newRealms);
+            if (realms == null) {
+                realms = newRealms;
+            }
+        }
+
+        final Matcher matcher = REALM_PATTERN.matcher(wwwAuthenticateHeader);
+        final String realm = matcher.find() ? matcher.group(1) : "";
+        realms.put(realm, new Entry(authenticator, wwwAuthenticateHeader, getDirectory(uri)));
+    }
+
+    /**
+     * Get number of authorizations sent preemptively.
+     *
+     * @return number of handshake requests which contained authorization created from the cache.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Get number of challenges received as a response to the first handshake request.
+     * <p>
+     * Each of them means another handshake request had to be sent, either because there was no cached
+     * authentication for the URI or because the server rejected the preemptive authorization.
+     *
+     * @return number of HTTP 401 responses to the first handshake request.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Remove all cached authentications.
+     */
+    public void clear() {
+        origins.clear();
+    }
+
+    private Entry find(URI uri) {
+        final Map<String, Entry> realms = origins.get(getOrigin(uri));
+        if (realms == null) {
+            return null;
+        }
+
+        final String path = getPath(uri);
+        Entry found = null;
+        for (Entry entry : realms.values()) {
+            if (path.startsWith(entry.directory)
+                    && (found == null || entry.directory.length() > found.directory.length())) {
+                found = entry;
+            }
+        }
+        return found;
+    }
+
+    private void remove(URI uri, Entry entry) {
+        final Map<String, Entry> realms = origins.get(getOrigin(uri));
+        if (realms != null) {
+            realms.values().remove(entry);
+        }
+    }
+
+    private static String getOrigin(URI uri) {
+        return String.valueOf(uri.getScheme()).toLowerCase() + "://" + String.valueOf(uri.getHost()).toLowerCase()
+                + ":" + uri.getPort();
+    }
+
+    private static String getPath(URI uri) {
+        final String path = uri.getRawPath();
+        return path == null || path.isEmpty() ? "/" : path;
+    }
+
+    private static String getDirectory(URI uri) {
+        final String path = getPath(uri);
+        return path.substring(0, path.lastIndexOf('/') + 1);
+    }
+
+    private static class Entry {
+
+        private final Authenticator authenticator;
+        private final String wwwAuthenticateHeader;
+        private final String directory;
+        // the accepted authorization has been the first one for the challenge
+        private final AtomicInteger nonceCount = new AtomicInteger(1);
+
+        private Entry(Authenticator authenticator, String wwwAuthenticateHeader, String directory) {
+            this.authenticator = authenticator;
+            this.wwwAuthenticateHeader = wwwAuthenticateHeader;
+            this.directory = directory;
+        }
+
+        private String generateAuthorizationHeader(URI uri, Credentials credentials) throws AuthenticationException {
+            if (authenticator instanceof DigestAuthenticator) {
+                return ((DigestAuthenticator) authenticator).generateAuthorizationHeader(
+                        uri, wwwAuthenticateHeader, credentials, nonceCount.incrementAndGet());
+            }
+            return authenticator.generateAuthorizationHeader(uri, wwwAuthenticateHeader, credentials);
+        }
+    }
+}
@@ -57,6 +57,31 @@ final class DigestAuthenticator extends Authenticator {
     @Override
     public String generateAuthorizationHeader(final URI uri, final String wwwAuthenticateHeader,
                                               final Credentials credentials) throws AuthenticationException {
+        final DigestScheme digestScheme = getDigestScheme(wwwAuthenticateHeader, credentials);
+        return createNextAuthToken(digestScheme, uri.toString(), credentials, digestScheme.incrementCounter());
+    }
+
+    /**
+     * Generate authorization header value for a challenge which has already been answered.
+     * <p>
+     * Used by {@link AuthCache} to reuse the server nonce of a successful authentication.
+     *
+     * @param uri                   URI is needed for generating authorization header.
+     * @param wwwAuthenticateHeader "WWW-Authenticate" header value of the answered challenge.
+     * @param credentials           credentials.
+     * @param nonceCount            nonce count to be sent.
+     * @return authorization header value.
+     * @throws AuthenticationException if something failed.
+     */
+    String generateAuthorizationHeader(final URI uri, final String wwwAuthenticateHeader,
+                                       final Credentials credentials, final int nonceCount)
+            throws AuthenticationException {
+        final DigestScheme digestScheme = getDigestScheme(wwwAuthenticateHeader, credentials);
+        return createNextAuthToken(digestScheme, uri.toString(), credentials, nonceCount);
+    }
+
+    private DigestScheme getDigestScheme(final String wwwAuthenticateHeader, final Credentials credentials)
+            throws AuthenticationException {
         if (credentials == null) {
             throw new AuthenticationException(LocalizationMessages.AUTHENTICATION_CREDENTIALS_MISSING());
         }
@@ -69,8 +94,7 @@ final class DigestAuthenticator extends Authenticator {
         if (digestScheme == null) {
             throw new AuthenticationException(LocalizationMessages.AUTHENTICATION_CREATE_AUTH_HEADER_FAILED());
         }
-
-        return createNextAuthToken(digestScheme, uri.toString(), credentials);
+        return digestScheme;
     }
 
     /**
@@ -134,11 +158,12 @@ final class DigestAuthenticator extends Authenticator {
      *
      * @param ds  DigestScheme instance
      * @param uri client request uri
+     * @param nc  nonce count
      * @return digest authentication token string
      * @throws AuthenticationException if MD5 hash fails
      */
-    private String createNextAuthToken(final DigestScheme ds, final String uri, final Credentials credentials) throws
-            AuthenticationException {
+    private String createNextAuthToken(final DigestScheme ds, final String uri, final Credentials credentials,
+                                       final int nc) throws AuthenticationException {
         StringBuilder sb = new StringBuilder(100);
         sb.append("Digest ");
         append(sb, "username", credentials.getUsername());
@@ -167,9 +192,9 @@ final class DigestAuthenticator extends Authenticator {
         } else {
             String cnonce = randomBytes(CLIENT_NONCE_BYTE_COUNT); // client nonce
             append(sb, "cnonce", cnonce);
-            String nc = String.format("%08x", ds.incrementCounter()); // counter
-            append(sb, "nc", nc, false);
-            response = md5(ha1, ds.getNonce(), nc, cnonce, ds.getQop().toString(), ha2);
+            String ncValue = String.format("%08x", nc); // counter
+            append(sb, "nc", ncValue, false);
+            response = md5(ha1, ds.getNonce(), ncValue, cnonce, ds.getQop().toString(), ha2);
         }
         append(sb, "response", response);
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.client;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.websocket.CloseReason;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link BackoffReconnectHandler}.
+ */
+public class BackoffReconnectHandlerTest {
+
+    private static final CloseReason ABNORMAL = new CloseReason(CloseReason.CloseCodes.CLOSED_ABNORMALLY, null);
+
+    @Test
+    public void testExponentialBackoff() {
+        final ClientManager.ReconnectHandler handler =
+                BackoffReconnectHandler.Builder.create().initialDelay(100, TimeUnit.MILLISECONDS)
+                                       .maxDelay(1, TimeUnit.SECONDS).jitter(BackoffReconnectHandler.Jitter.NONE)
+                                       .build().forConnection();
+
+        final long[] expected = {100, 200, 400, 800, 1000, 1000};
+        for (long delay : expected) {
+            assertTrue(handler.onConnectFailure(new IOException()));
+            assertEquals(delay, handler.getDelayMillis());
+        }
+        assertEquals(1, handler.getDelay());
+
+        handler.onConnected();
+        assertTrue(handler.onDisconnect(ABNORMAL));
+        assertEquals(100, handler.getDelayMillis());
+    }
+
+    @Test
+    public void testJitter() {
+        final ClientManager.ReconnectHandler full =
+                BackoffReconnectHandler.Builder.create().initialDelay(100, TimeUnit.MILLISECONDS)
+                                       .maxDelay(1, TimeUnit.SECONDS).build().forConnection();
+        final ClientManager.ReconnectHandler decorrelated =
+                BackoffReconnectHandler.Builder.create().initialDelay(100, TimeUnit.MILLISECONDS)
+                                       .maxDelay(1, TimeUnit.SECONDS)
+                                       .jitter(BackoffReconnectHandler.Jitter.DECORRELATED).build().forConnection();
+
+        long previous = 100;
+        for (int attempt = 1; attempt <= 20; attempt++) {
+            full.onConnectFailure(new IOException());
+            final long fullDelay = full.getDelayMillis();
+            assertTrue(fullDelay >= 0 && fullDelay <= Math.min(1000, 100L << Math.min(attempt - 1, 10)));
+
+            decorrelated.onConnectFailure(new IOException());
+            final long decorrelatedDelay = decorrelated.getDelayMillis();
+            assertTrue(decorrelatedDelay >= 100 && decorrelatedDelay <= Math.min(1000, previous * 3));
+            previous = decorrelatedDelay;
+        }
+    }
+
+    @Test
+    public void testMaxAttempts() {
+        final BackoffReconnectHandler shared = BackoffReconnectHandler.Builder.create().maxAttempts(2).build();
+        final ClientManager.ReconnectHandler first = shared.forConnection();
+        final ClientManager.ReconnectHandler second = shared.forConnection();
+
+        assertTrue(first.onConnectFailure(new IOException()));
+        assertTrue(first.onDisconnect(ABNORMAL));
+        assertFalse(first.onConnectFailure(new IOException()));
+
+        // attempts are counted per connection
+        assertTrue(second.onConnectFailure(new IOException()));
+
+        first.onConnected();
+        assertTrue(first.onConnectFailure(new IOException()));
+    }
+
+    @Test
+    public void testNormalClosure() {
+        final ClientManager.ReconnectHandler handler = BackoffReconnectHandler.Builder.create().build().forConnection();
+
+        assertFalse(handler.onDisconnect(new CloseReason(CloseReason.CloseCodes.NORMAL_CLOSURE, null)));
+        assertTrue(handler.onDisconnect(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, null)));
+    }
+
+    @Test
+    public void testReconnectRate() {
+        final BackoffReconnectHandler shared =
+                BackoffReconnectHandler.Builder.create().initialDelay(1, TimeUnit.MILLISECONDS)
+                                       .jitter(BackoffReconnectHandler.Jitter.NONE).reconnectRate(10, 2).build();
+
+        final long[] delays = new long[4];
+        for (int i = 0; i < delays.length; i++) {
+            final ClientManager.ReconnectHandler handler = shared.forConnection();
+            handler.onDisconnect(ABNORMAL);
+            delays[i] = handler.getDelayMillis();
+        }
+
+        // burst of two, then one reconnect per 100 ms
+        assertTrue(delays[0] <= 1);
+        assertTrue(delays[1] <= 1);
+        assertTrue(delays[2] > 50 && delays[2] <= 100);
+        assertTrue(delays[3] > 150 && delays[3] <= 200);
+    }
+
+    @Test
+    public void testTokenBucketRefillsWithinMillisecond() {
+        // 10 permits per millisecond, reservations are spaced by a fraction of a millisecond
+        final BackoffReconnectHandler.TokenBucket bucket = new BackoffReconnectHandler.TokenBucket(10000, 1);
+
+        final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+        while (System.nanoTime() < end) {
+            assertEquals(0, bucket.reserve());
+
+            final long next = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(200);
+            while (System.nanoTime() < next) {
+                // spin
+            }
+        }
+    }
+}
@@ -495,7 +495,7 @@ public class TyrusClientEngineTest {
             public void onError(Throwable exception) {
 
             }
-        }, properties, URI.create(requestUri), new DebugContext());
+        }, properties, URI.create(requestUri), new DebugContext(), null);
     }
 
     private static class TestEndpoint extends Endpoint {
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.client.auth;
+
+import java.net.URI;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link AuthCache}.
+ */
+public class AuthCacheTest {
+
+    private static final Credentials CREDENTIALS = new Credentials("username", "password");
+
+    @Test
+    public void testBasic() {
+        final AuthCache authCache = new AuthCache();
+        final URI uri = URI.create("ws://localhost:8025/app/echo");
+
+        assertNull(authCache.getAuthorization(uri, CREDENTIALS));
+
+        authCache.authenticated(uri, new BasicAuthenticator(), "Basic realm=\"tyrus\"");
+
+        final String authorization = authCache.getAuthorization(uri, CREDENTIALS);
+        assertNotNull(authorization);
+        assertTrue(authorization.startsWith("Basic "));
+        assertNotNull(authCache.getAuthorization(URI.create("ws://LOCALHOST:8025/app/nested/echo"), CREDENTIALS));
+
+        assertNull(authCache.getAuthorization(URI.create("ws://localhost:8026/app/echo"), CREDENTIALS));
+        assertNull(authCache.getAuthorization(URI.create("wss://localhost:8025/app/echo"), CREDENTIALS));
+        assertNull(authCache.getAuthorization(URI.create("ws://localhost:8025/other/echo"), CREDENTIALS));
+
+        assertEquals(2, authCache.getHitCount());
+        assertEquals(0, authCache.getMissCount());
+    }
+
+    @Test
+    public void testDigestNonceCount() {
+        final AuthCache authCache = new AuthCache();
+        final URI uri = URI.create("ws://localhost:8025/app/echo");
+
+        authCache.authenticated(uri, new DigestAuthenticator(),
+                                "Digest realm=\"tyrus\", qop=\"auth\", nonce=\"abcdef\", opaque=\"123\"");
+
+        final String first = authCache.getAuthorization(uri, CREDENTIALS);
+        assertTrue(first.contains("nonce=\"abcdef\""));
+        assertTrue(first.contains("nc=00000002"));
+        assertTrue(authCache.getAuthorization(uri, CREDENTIALS).contains("nc=00000003"));
+    }
+
+    @Test
+    public void testChallenged() {
+        final AuthCache authCache = new AuthCache();
+        final URI uri = URI.create("ws://localhost:8025/app/echo");
+
+        authCache.challenged(uri);
+        assertEquals(1, authCache.getMissCount());
+
+        authCache.authenticated(uri, new DigestAuthenticator(), "Digest realm=\"tyrus\", nonce=\"abcdef\"");
+        assertNotNull(authCache.getAuthorization(uri, CREDENTIALS));
+
+        // stale nonce
+        authCache.challenged(uri);
+        assertNull(authCache.getAuthorization(uri, CREDENTIALS));
+        assertEquals(2, authCache.getMissCount());
+        assertEquals(1, authCache.getHitCount());
+    }
+
+    @Test
+    public void testMostSpecificPath() {
+        final AuthCache authCache = new AuthCache();
+
+        authCache.authenticated(URI.create("ws://localhost/echo"), new BasicAuthenticator(), "Basic realm=\"root\"");
+        authCache.authenticated(URI.create("ws://localhost/admin/echo"), new DigestAuthenticator(),
+                                "Digest realm=\"admin\", nonce=\"abcdef\"");
+
+        assertTrue(authCache.getAuthorization(URI.create("ws://localhost/admin/x"), CREDENTIALS).startsWith("Digest"));
+        assertTrue(authCache.getAuthorization(URI.create("ws://localhost/x"), CREDENTIALS).startsWith("Basic"));
+
+        authCache.clear();
+        assertNull(authCache.getAuthorization(URI.create("ws://localhost/x"), CREDENTIALS));
+    }
+
+    @Test
+    public void testMissingCredentials() {
+        final AuthCache authCache = new AuthCache();
+        final URI uri = URI.create("ws://localhost/echo");
+
+        authCache.authenticated(uri, new BasicAuthenticator(), "Basic realm=\"tyrus\"");
+        assertNull(authCache.getAuthorization(uri, null));
+        assertEquals(0, authCache.getHitCount());
+    }
+}
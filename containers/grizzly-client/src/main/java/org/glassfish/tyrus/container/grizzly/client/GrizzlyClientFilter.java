@@ -80,6 +80,9 @@ class GrizzlyClientFilter extends BaseFilter {
     private static final Attribute<TaskProcessor> TASK_PROCESSOR = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
             .createAttribute(TaskProcessor.class.getName() + ".TaskProcessor");
 
+    private static final Attribute<GrizzlyReadController> READ_CONTROLLER = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
+            .createAttribute(GrizzlyReadController.class.getName() + ".ReadController");
+
     private static final Attribute<Boolean> PROXY_CONNECTED = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
             .createAttribute(GrizzlyClientFilter.class.getName() + ".ProxyConnected");
 
@@ -87,10 +90,10 @@ class GrizzlyClientFilter extends BaseFilter {
     private final Filter sslFilter;
     private final HttpCodecFilter httpCodecFilter;
     private final ClientEngine engine;
-    private final boolean sharedTransport;
     private final Map<String, String> proxyHeaders;
     private final Callable<Void> grizzlyConnector;
     private final UpgradeRequest upgradeRequest;
+    private final int maxCoalescedWriteSize;
 
     private volatile boolean done = false;
 
@@ -104,18 +107,19 @@ class GrizzlyClientFilter extends BaseFilter {
      */
     /* package */ GrizzlyClientFilter(ClientEngine engine, boolean proxy,
                                       Filter sslFilter, HttpCodecFilter httpCodecFilter,
-                                      URI uri, boolean sharedTransport,
+                                      URI uri,
                                       Map<String, String> proxyHeaders,
                                       Callable<Void> grizzlyConnector,
-                                      UpgradeRequest upgradeRequest) {
+                                      UpgradeRequest upgradeRequest,
+                                      int maxCoalescedWriteSize) {
         this.engine = engine;
         this.proxy = proxy;
         this.sslFilter = sslFilter;
         this.httpCodecFilter = httpCodecFilter;
-        this.sharedTransport = sharedTransport;
         this.proxyHeaders = proxyHeaders;
         this.grizzlyConnector = grizzlyConnector;
         this.upgradeRequest = upgradeRequest;
+        this.maxCoalescedWriteSize = maxCoalescedWriteSize;
     }
 
     // ----------------------------------------------------- Methods from Filter
@@ -247,7 +251,9 @@ class GrizzlyClientFilter extends BaseFilter {
                 TaskProcessor taskProcessor = TASK_PROCESSOR.get(ctx.getConnection());
                 taskProcessor.processTask(new ProcessTask(webSocketBuffer, readHandler));
             }
-            return ctx.getStopAction();
+
+            final GrizzlyReadController readController = READ_CONTROLLER.get(grizzlyConnection);
+            return readController == null ? ctx.getStopAction() : readController.getReadAction(ctx);
         }
 
         // tyrusConnection == null
@@ -302,20 +308,12 @@ class GrizzlyClientFilter extends BaseFilter {
      */
     private NextAction handleHandshake(final FilterChainContext ctx, HttpContent content) {
 
-        final GrizzlyWriter grizzlyWriter = new GrizzlyWriter(ctx.getConnection()) {
+        final GrizzlyWriter grizzlyWriter = new GrizzlyWriter(ctx.getConnection(), maxCoalescedWriteSize) {
             @Override
             public void close() {
                 super.close();
-                try {
-                    if (sharedTransport) {
-                        connection.close();
-                    } else {
-                        connection.getTransport().shutdownNow();
-                    }
-                } catch (IOException e) {
-                    Logger.getLogger(GrizzlyClientFilter.class.getName())
-                          .log(Level.INFO, "Exception thrown during shutdown.", e);
-                }
+                // transport not shared with other connections is shut down when the connection is closed
+                connection.close();
             }
         };
 
@@ -354,7 +352,11 @@ class GrizzlyClientFilter extends BaseFilter {
                 return ctx.getStopAction();
         }
 
+        final GrizzlyReadController readController = new GrizzlyReadController();
+        tyrusConnection.getReadHandler().setReadController(readController);
+
         TASK_PROCESSOR.set(ctx.getConnection(), new TaskProcessor());
+        READ_CONTROLLER.set(ctx.getConnection(), readController);
         TYRUS_CONNECTION.set(ctx.getConnection(), tyrusConnection);
 
         final String ATTR_NAME = "org.glassfish.tyrus.container.grizzly.WebSocketFilter.HANDSHAKE_PROCESSED";
@@ -470,6 +472,10 @@ class GrizzlyClientFilter extends BaseFilter {
             connection.close(closeReason);
             TYRUS_CONNECTION.remove(grizzlyConnection);
             TASK_PROCESSOR.remove(grizzlyConnection);
+            final GrizzlyReadController readController = READ_CONTROLLER.remove(grizzlyConnection);
+            if (readController != null) {
+                readController.close();
+            }
         }
     }
 }
@@ -43,4 +43,29 @@ public final class GrizzlyClientProperties {
      */
     public static final String SELECTOR_THREAD_POOL_CONFIG =
             "org.glassfish.tyrus.client.grizzly.selectorThreadPoolConfig";
+
+    /**
+     * Client-side property to request a transport which is not shared with any other connection.
+     * <p>
+     * Value is expected to be {@link Boolean}, default is {@code false}. Unless {@link
+     * org.glassfish.tyrus.client.ClientProperties#SHARED_CONTAINER} is set, connections with the same worker and
+     * selector thread pool configuration share one transport, which is shut down when the last of them is closed.
+     * When this property is set to {@code true}, the connection gets its own transport with its own selector and a
+     * small worker thread pool, so a slow endpoint cannot block other connections.
+     *
+     * @since 2.0
+     */
+    public static final String ISOLATED_TRANSPORT = "org.glassfish.tyrus.client.grizzly.isolatedTransport";
+
+    /**
+     * Client-side property to set maximal number of bytes of queued frames written to the connection at once.
+     * <p>
+     * Value is expected to be {@link Integer}, default is {@value GrizzlyWriter#DEFAULT_MAX_COALESCED_WRITE_SIZE}.
+     * Frames sent while a previous frame is being written are queued and then written to the connection together,
+     * which saves write calls when many small frames are sent at the same time. Frames are written one by one when
+     * the value is {@code 0} or less.
+     *
+     * @since 2.0
+     */
+    public static final String MAX_COALESCED_WRITE_SIZE = "org.glassfish.tyrus.client.grizzly.maxCoalescedWriteSize";
 }
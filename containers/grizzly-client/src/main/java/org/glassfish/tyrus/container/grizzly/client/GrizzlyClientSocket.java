@@ -47,14 +47,20 @@ import javax.net.ssl.SSLParameters;
 
 import org.glassfish.tyrus.client.ClientManager;
 import org.glassfish.tyrus.client.ClientProperties;
+import org.glassfish.tyrus.client.SslContextConfigurator;
 import org.glassfish.tyrus.client.SslEngineConfigurator;
+import org.glassfish.tyrus.client.SslSessionStatistics;
 import org.glassfish.tyrus.core.TyrusFuture;
 import org.glassfish.tyrus.core.Utils;
 import org.glassfish.tyrus.spi.ClientEngine;
 import org.glassfish.tyrus.spi.UpgradeRequest;
 
+import org.glassfish.grizzly.CloseListener;
+import org.glassfish.grizzly.Closeable;
 import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.EmptyCompletionHandler;
 import org.glassfish.grizzly.GrizzlyFuture;
+import org.glassfish.grizzly.ICloseType;
 import org.glassfish.grizzly.Processor;
 import org.glassfish.grizzly.filterchain.Filter;
 import org.glassfish.grizzly.filterchain.FilterChain;
@@ -67,7 +73,6 @@ import org.glassfish.grizzly.nio.transport.TCPNIOConnectorHandler;
 import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
 import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
 import org.glassfish.grizzly.ssl.SSLConnectionContext;
-import org.glassfish.grizzly.ssl.SSLContextConfigurator;
 import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
 import org.glassfish.grizzly.ssl.SSLFilter;
 import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
@@ -158,9 +163,14 @@ public class GrizzlyClientSocket {
 
     private static volatile TCPNIOTransport transport;
     private static final Object TRANSPORT_LOCK = new Object();
+    private static final GrizzlyTransportRegistry TRANSPORT_REGISTRY = new GrizzlyTransportRegistry();
     private final Callable<Void> grizzlyConnector;
+    private final boolean isolatedTransport;
+    private final Object[] transportConfiguration;
+    private final int maxCoalescedWriteSize;
 
-    private volatile TCPNIOTransport privateTransport;
+    private volatile GrizzlyTransportRegistry.Reference transportReference;
+    private volatile Connection connection;
 
     /**
      * Create new instance.
@@ -200,6 +210,19 @@ public class GrizzlyClientSocket {
             // default value for shared transport timeout is 30.
             sharedTransportTimeout =
                     (sharedTransport && sharedTransportTimeoutProperty != null) ? sharedTransportTimeoutProperty : 30;
+
+            final Boolean isolated =
+                    Utils.getProperty(properties, GrizzlyClientProperties.ISOLATED_TRANSPORT, Boolean.class);
+            isolatedTransport = isolated != null && isolated;
+            maxCoalescedWriteSize =
+                    Utils.getProperty(properties, GrizzlyClientProperties.MAX_COALESCED_WRITE_SIZE, Integer.class,
+                                      GrizzlyWriter.DEFAULT_MAX_COALESCED_WRITE_SIZE);
+            // the original property values are compared, converted thread pool configs are new instances every time
+            transportConfiguration = new Object[]{
+                    properties.containsKey(GrizzlyClientProperties.WORKER_THREAD_POOL_CONFIG)
+                            ? properties.get(GrizzlyClientProperties.WORKER_THREAD_POOL_CONFIG)
+                            : properties.get(ClientProperties.WORKER_THREAD_POOL_CONFIG),
+                    selectorThreadPoolConfig};
             this.clientEngine = clientEngine;
         } catch (RuntimeException e) {
             throw new DeploymentException(e.getMessage(), e);
@@ -293,7 +316,7 @@ public class GrizzlyClientSocket {
         final ClientEngine.TimeoutHandler timeoutHandler = sharedTransport ? null : new ClientEngine.TimeoutHandler() {
             @Override
             public void handleTimeout() {
-                closeTransport(privateTransport);
+                closeConnection();
             }
         };
 
@@ -305,12 +328,11 @@ public class GrizzlyClientSocket {
 
         for (Proxy proxy : proxies) {
             if (!sharedTransport) {
-                privateTransport = createTransport(workerThreadPoolConfig, selectorThreadPoolConfig);
-                privateTransport.start();
+                transportReference = acquireTransport();
             }
 
             final TCPNIOConnectorHandler connectorHandler =
-                    new TCPNIOConnectorHandler(sharedTransport ? transport : privateTransport) {
+                    new TCPNIOConnectorHandler(sharedTransport ? transport : transportReference.getTransport()) {
                     };
 
             connectorHandler.setSyncConnectTimeout(timeoutMs, TimeUnit.MILLISECONDS);
@@ -323,7 +345,7 @@ public class GrizzlyClientSocket {
                     try {
                         connectAddress = new InetSocketAddress(requestURI.getHost(), Utils.getWsPort(requestURI));
                     } catch (IllegalArgumentException e) {
-                        closeTransport(privateTransport);
+                        closeConnection();
                         throw new DeploymentException(e.getMessage(), e);
                     }
 
@@ -358,7 +380,7 @@ public class GrizzlyClientSocket {
                     createFilterChain(clientEngine, null, clientSSLEngineConfigurator,
                                       !(proxy.type() == Proxy.Type.DIRECT), requestURI, sharedTransport,
                                       sharedTransportTimeout, proxyHeaders, grizzlyConnector, sslHandshakeFuture,
-                                      upgradeRequest));
+                                      upgradeRequest, maxCoalescedWriteSize));
 
             InetAddress bindingAddress = Utils.getProperty(properties, ClientProperties.SOCKET_BINDING, InetAddress.class);
 
@@ -370,16 +392,27 @@ public class GrizzlyClientSocket {
 
             try {
                 final Connection connection = connectionGrizzlyFuture.get(timeoutMs, TimeUnit.MILLISECONDS);
+                this.connection = connection;
+
+                final GrizzlyTransportRegistry.Reference reference = transportReference;
+                if (reference != null) {
+                    connection.addCloseListener(new CloseListener() {
+                        @Override
+                        public void onClosed(Closeable closeable, ICloseType type) {
+                            reference.release();
+                        }
+                    });
+                }
 
                 // wait for the SSL handshake to finish and handle error, if they occur
                 if (sslHandshakeFuture != null) {
                     try {
                         sslHandshakeFuture.get(timeoutMs, TimeUnit.MILLISECONDS);
                     } catch (ExecutionException e) {
-                        closeTransport(privateTransport);
+                        closeConnection();
                         throw new DeploymentException("SSL handshake has failed", e.getCause());
                     } catch (Exception e) {
-                        closeTransport(privateTransport);
+                        closeConnection();
                         throw new DeploymentException(String.format("Connection to '%s' failed.", requestURI),
                                                       e.getCause());
                     }
@@ -391,11 +424,11 @@ public class GrizzlyClientSocket {
             } catch (InterruptedException interruptedException) {
                 LOGGER.log(Level.CONFIG, String.format("Connection to '%s' failed.", requestURI), interruptedException);
                 exception = interruptedException;
-                closeTransport(privateTransport);
+                abandonConnection(connectionGrizzlyFuture);
             } catch (TimeoutException timeoutException) {
                 LOGGER.log(Level.CONFIG, String.format("Connection to '%s' failed.", requestURI), timeoutException);
                 exception = timeoutException;
-                closeTransport(privateTransport);
+                abandonConnection(connectionGrizzlyFuture);
             } catch (ExecutionException executionException) {
                 LOGGER.log(Level.CONFIG, String.format("Connection to '%s' failed.", requestURI), executionException);
 
@@ -406,16 +439,60 @@ public class GrizzlyClientSocket {
                     ProxySelector.getDefault().connectFailed(requestURI, socketAddress, ioException);
                 }
 
-                closeTransport(privateTransport);
+                closeConnection();
             }
         }
 
         throw new DeploymentException("Connection failed.", exception);
     }
 
-    private static TCPNIOTransport createTransport(ThreadPoolConfig workerThreadPoolConfig,
-                                                   ThreadPoolConfig selectorThreadPoolConfig) {
-        return createTransport(workerThreadPoolConfig, selectorThreadPoolConfig, false);
+    /**
+     * Get transport for this connection. Unless {@link GrizzlyClientProperties#ISOLATED_TRANSPORT} is set, the
+     * transport is shared with all other connections with the same thread pool configuration.
+     */
+    private GrizzlyTransportRegistry.Reference acquireTransport() throws IOException {
+        final GrizzlyTransportRegistry.TransportFactory factory = new GrizzlyTransportRegistry.TransportFactory() {
+            @Override
+            public TCPNIOTransport create() {
+                return createTransport(workerThreadPoolConfig, selectorThreadPoolConfig, !isolatedTransport);
+            }
+        };
+
+        if (isolatedTransport) {
+            return TRANSPORT_REGISTRY.acquireIsolated(factory);
+        }
+        return TRANSPORT_REGISTRY.acquire(transportConfiguration, factory);
+    }
+
+    /**
+     * Close the connection, if it has been established, and release the transport.
+     */
+    private void closeConnection() {
+        final Connection connection = this.connection;
+        if (connection != null) {
+            connection.closeSilently();
+        }
+        releaseTransport();
+    }
+
+    /**
+     * Close the connection once the connect operation completes and release the transport.
+     */
+    private void abandonConnection(GrizzlyFuture<Connection> connectionFuture) {
+        connectionFuture.addCompletionHandler(new EmptyCompletionHandler<Connection>() {
+            @Override
+            public void completed(Connection connection) {
+                connection.closeSilently();
+            }
+        });
+        releaseTransport();
+    }
+
+    private void releaseTransport() {
+        final GrizzlyTransportRegistry.Reference reference = transportReference;
+        if (reference != null) {
+            reference.release();
+        }
     }
 
     private static TCPNIOTransport createTransport(ThreadPoolConfig workerThreadPoolConfig,
@@ -629,24 +706,29 @@ public class GrizzlyClientSocket {
                                                Map<String, String> proxyHeaders,
                                                Callable<Void> grizzlyConnector,
                                                final TyrusFuture<Void> sslHandshakeFuture,
-                                               final UpgradeRequest upgradeRequest) {
+                                               final UpgradeRequest upgradeRequest,
+                                               int maxCoalescedWriteSize) {
         FilterChainBuilder clientFilterChainBuilder = FilterChainBuilder.stateless();
         Filter sslFilter = null;
 
         clientFilterChainBuilder.add(new TransportFilter());
         if (serverSSLEngineConfigurator != null || clientSSLEngineConfigurator != null) {
             sslFilter = new SSLFilter(serverSSLEngineConfigurator, clientSSLEngineConfigurator) {
+                private volatile long handshakeStartTime;
+
                 {
                     addHandshakeListener(new HandshakeListener() {
                         @Override
                         public void onStart(Connection connection) {
-                            // do nothing
+                            handshakeStartTime = System.currentTimeMillis();
                         }
 
                         @Override
                         public void onComplete(Connection connection) {
                             final SSLConnectionContext sslCtx = obtainSslConnectionContext(connection);
                             final SSLEngine sslEngine = sslCtx.getSslEngine();
+                            SslSessionStatistics.handshakeCompleted(clientSSLEngineConfigurator.getSslContext(),
+                                                                    sslEngine.getSession(), handshakeStartTime);
 
                             // apply a custom host name verifier if present
                             HostnameVerifier customHostnameVerifier = clientSSLEngineConfigurator.hostnameVerifier;
@@ -691,23 +773,13 @@ public class GrizzlyClientSocket {
 
 
         clientFilterChainBuilder.add(new GrizzlyClientFilter(engine, proxy,
-                                                             sslFilter, httpCodecFilter, uri, sharedTransport,
-                                                             proxyHeaders, grizzlyConnector, upgradeRequest));
+                                                             sslFilter, httpCodecFilter, uri, proxyHeaders,
+                                                             grizzlyConnector, upgradeRequest,
+                                                             maxCoalescedWriteSize));
 
         return clientFilterChainBuilder.build();
     }
 
-    private void closeTransport(TCPNIOTransport transport) {
-        if (transport != null) {
-            try {
-                transport.shutdownNow();
-            } catch (IOException e) {
-                Logger.getLogger(GrizzlyClientSocket.class.getName())
-                      .log(Level.INFO, "Exception thrown when closing Grizzly transport: " + e.getMessage(), e);
-            }
-        }
-    }
-
     private static TCPNIOTransport getOrCreateSharedTransport(
             ThreadPoolConfig workerThreadPoolConfig, ThreadPoolConfig selectorThreadPoolConfig) throws IOException {
         synchronized (TRANSPORT_LOCK) {
@@ -743,9 +815,9 @@ public class GrizzlyClientSocket {
             // if we are trying to access "wss" scheme and we don't have sslEngineConfigurator instance
             // we should try to create ssl connection using JVM properties.
             if ("wss".equalsIgnoreCase(uri.getScheme())) {
-                final SSLContextConfigurator defaultConfig = new SSLContextConfigurator();
-                defaultConfig.retrieve(System.getProperties());
-                return new ExtendedSSLEngineConfigurator(defaultConfig.createSSLContext(), uri.getHost());
+                // shared context, so that keystores are not loaded again and TLS sessions can be resumed
+                final SslContextConfigurator defaultConfig = new SslContextConfigurator();
+                return new ExtendedSSLEngineConfigurator(defaultConfig.getSharedSSLContext(), uri.getHost());
             } else {
                 return null;
             }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.container.grizzly.client;
+
+import org.glassfish.tyrus.spi.ReadController;
+
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+
+/**
+ * {@link ReadController} of a Grizzly connection.
+ * <p>
+ * Grizzly does not select a connection for reading while processing of its read event has not been finished. When
+ * reading is suspended, the read event which is being processed or the next one is suspended by the filter passing
+ * data to Tyrus (see {@link #getReadAction(FilterChainContext)}) and its processing is finished when reading is
+ * resumed, so no more data is read from the connection in the meantime.
+ *
+ * @since 2.0
+ */
+public class GrizzlyReadController implements ReadController {
+
+    private final Object lock = new Object();
+
+    // guarded by lock
+    private boolean suspended = false;
+    private boolean closed = false;
+    private FilterChainContext suspendedContext = null;
+
+    @Override
+    public void suspendReading() {
+        synchronized (lock) {
+            if (!closed) {
+                suspended = true;
+            }
+        }
+    }
+
+    @Override
+    public void resumeReading() {
+        final FilterChainContext context;
+        synchronized (lock) {
+            suspended = false;
+            context = suspendedContext;
+            suspendedContext = null;
+        }
+
+        if (context != null) {
+            // finish processing of the read event, Grizzly will select the connection for reading again
+            context.resume(context.getStopAction());
+        }
+    }
+
+    /**
+     * Finish processing of a suspended read event and stop suspending further ones.
+     * <p>
+     * Called when the connection has been closed, Tyrus does not resume reading of a closed connection and the
+     * suspended {@link FilterChainContext} would not be completed otherwise.
+     */
+    public void close() {
+        final FilterChainContext context;
+        synchronized (lock) {
+            closed = true;
+            suspended = false;
+            context = suspendedContext;
+            suspendedContext = null;
+        }
+
+        if (context != null) {
+            context.resume(context.getStopAction());
+        }
+    }
+
+    /**
+     * Get the action finishing processing of a read event which data have been passed to Tyrus.
+     *
+     * @param ctx context of the read event.
+     * @return stop action or suspend action if reading is suspended. Suspended context is resumed by {@link
+     * #resumeReading()}.
+     */
+    public NextAction getReadAction(FilterChainContext ctx) {
+        synchronized (lock) {
+            if (suspended) {
+                ctx.suspend();
+                suspendedContext = ctx;
+                return ctx.getSuspendAction();
+            }
+        }
+
+        return ctx.getStopAction();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.container.grizzly.client;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+
+/**
+ * Reference-counted registry of client transports.
+ * <p>
+ * Connections created with the same configuration share one {@link TCPNIOTransport}, so selector runners and the
+ * worker thread pool are created once for all of them instead of once per connection. The transport is started when
+ * the first connection acquires it and shut down when the last connection releases it.
+ */
+class GrizzlyTransportRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(GrizzlyTransportRegistry.class.getName());
+
+    private final Map<Key, Entry> transports = new HashMap<Key, Entry>();
+
+    /**
+     * Creates transports for the registry.
+     */
+    interface TransportFactory {
+
+        /**
+         * Create new transport, which is not started yet.
+         *
+         * @return new transport.
+         */
+        TCPNIOTransport create();
+    }
+
+    /**
+     * Acquire a transport for given configuration. The transport is created and started if there is no transport for
+     * the configuration.
+     *
+     * @param configuration objects which identify the configuration, compared by {@link Object#equals(Object)}.
+     *                      {@code null} elements are allowed.
+     * @param factory       used for creating the transport.
+     * @return reference which has to be released exactly once when the connection does not use the transport any
+     * more.
+     * @throws IOException when the transport fails to start.
+     */
+    Reference acquire(Object[] configuration, TransportFactory factory) throws IOException {
+        final Key key = new Key(configuration);
+
+        synchronized (transports) {
+            Entry entry = transports.get(key);
+            if (entry == null) {
+                LOGGER.log(Level.FINE, "Starting client transport.");
+                final TCPNIOTransport transport = factory.create();
+                transport.start();
+                entry = new Entry(transport);
+                transports.put(key, entry);
+            }
+            entry.references++;
+            return new Reference(this, key, entry);
+        }
+    }
+
+    /**
+     * Create a reference to a transport which is not shared with any other connection. The transport is started
+     * and shut down when the reference is released.
+     *
+     * @param factory used for creating the transport.
+     * @return reference which has to be released exactly once when the connection does not use the transport any
+     * more.
+     * @throws IOException when the transport fails to start.
+     */
+    Reference acquireIsolated(TransportFactory factory) throws IOException {
+        final TCPNIOTransport transport = factory.create();
+        transport.start();
+        final Entry entry = new Entry(transport);
+        entry.references++;
+        return new Reference(this, null, entry);
+    }
+
+    private void release(Key key, Entry entry) {
+        synchronized (transports) {
+            if (--entry.references > 0) {
+                return;
+            }
+            // isolated transports are not in the map
+            if (key != null && transports.get(key) == entry) {
+                transports.remove(key);
+            }
+        }
+
+        LOGGER.log(Level.FINE, "Stopping client transport.");
+        try {
+            entry.transport.shutdownNow();
+        } catch (IOException e) {
+            LOGGER.log(Level.INFO, "Exception thrown when closing Grizzly transport: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reference to a transport held by one connection.
+     */
+    static class Reference {
+
+        private final GrizzlyTransportRegistry registry;
+        private final Key key;
+        private final Entry entry;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Reference(GrizzlyTransportRegistry registry, Key key, Entry entry) {
+            this.registry = registry;
+            this.key = key;
+            this.entry = entry;
+        }
+
+        /**
+         * Get the referenced transport.
+         *
+         * @return transport.
+         */
+        TCPNIOTransport getTransport() {
+            return entry.transport;
+        }
+
+        /**
+         * Release the reference. The transport is shut down when this was the last reference to it. Subsequent calls
+         * do nothing.
+         */
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                registry.release(key, entry);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final TCPNIOTransport transport;
+        private int references = 0;
+
+        private Entry(TCPNIOTransport transport) {
+            this.transport = transport;
+        }
+    }
+
+    private static class Key {
+
+        private final Object[] configuration;
+
+        private Key(Object[] configuration) {
+            this.configuration = configuration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Arrays.equals(configuration, ((Key) o).configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(configuration);
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package org.glassfish.tyrus.container.grizzly.client;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,21 +31,49 @@ import org.glassfish.grizzly.Connection;
 import org.glassfish.grizzly.EmptyCompletionHandler;
 import org.glassfish.grizzly.WriteHandler;
 import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.CompositeBuffer;
 
 import static org.glassfish.tyrus.container.grizzly.client.TaskProcessor.Task;
 
 /**
+ * {@link Writer} implementation used in Grizzly integration.
+ * <p>
+ * Frames written while a previous write is being processed are queued. When the writer gets to the queued frames, all
+ * frames queued one after another are written to the connection at once as a {@link CompositeBuffer}, until their
+ * total size reaches the configured limit.
+ *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
 public class GrizzlyWriter extends Writer {
 
+    /**
+     * Default maximal number of bytes of queued frames written to the connection at once.
+     *
+     * @since 2.0
+     */
+    public static final int DEFAULT_MAX_COALESCED_WRITE_SIZE = 65536;
+
     private final TaskProcessor taskProcessor;
+    private final int maxCoalescedWriteSize;
     final org.glassfish.grizzly.Connection connection;
 
     public GrizzlyWriter(final org.glassfish.grizzly.Connection connection) {
+        this(connection, DEFAULT_MAX_COALESCED_WRITE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param connection            Grizzly connection.
+     * @param maxCoalescedWriteSize maximal number of bytes of queued frames written to the connection at once. Frames
+     *                              are written one by one when the value is {@code 0} or less.
+     * @since 2.0
+     */
+    public GrizzlyWriter(final org.glassfish.grizzly.Connection connection, int maxCoalescedWriteSize) {
         this.connection = connection;
         this.connection.configureBlocking(false);
         this.taskProcessor = new TaskProcessor(new WriterCondition());
+        this.maxCoalescedWriteSize = maxCoalescedWriteSize;
     }
 
     @Override
@@ -78,7 +108,7 @@ public class GrizzlyWriter extends Writer {
             }
         };
 
-        taskProcessor.processTask(new WriteTask(connection, message, emptyCompletionHandler));
+        taskProcessor.processTask(new WriteTask(connection, message, emptyCompletionHandler, completionHandler));
     }
 
     private class WriterCondition implements TaskProcessor.Condition {
@@ -134,17 +164,99 @@ public class GrizzlyWriter extends Writer {
         private final Connection connection;
         private final Buffer message;
         private final EmptyCompletionHandler completionHandler;
+        private final CompletionHandler<ByteBuffer> tyrusCompletionHandler;
+
+        // tasks merged into this one, null when nothing has been merged
+        private List<WriteTask> merged = null;
+        private int size;
 
-        private WriteTask(Connection connection, Buffer message, EmptyCompletionHandler completionHandler) {
+        private WriteTask(Connection connection, Buffer message, EmptyCompletionHandler completionHandler,
+                          CompletionHandler<ByteBuffer> tyrusCompletionHandler) {
             this.connection = connection;
             this.message = message;
             this.completionHandler = completionHandler;
+            this.tyrusCompletionHandler = tyrusCompletionHandler;
+            this.size = message.remaining();
+        }
+
+        @Override
+        public boolean merge(Task next) {
+            if (maxCoalescedWriteSize <= 0 || !(next instanceof WriteTask)) {
+                return false;
+            }
+
+            final WriteTask writeTask = (WriteTask) next;
+            if (size + writeTask.message.remaining() > maxCoalescedWriteSize) {
+                return false;
+            }
+
+            if (merged == null) {
+                merged = new ArrayList<WriteTask>();
+                merged.add(this);
+            }
+            merged.add(writeTask);
+            size += writeTask.message.remaining();
+            return true;
         }
 
         @Override
         public void execute() {
+            if (merged == null) {
+                if (tyrusCompletionHandler != null) {
+                    tyrusCompletionHandler.started();
+                }
+                //noinspection unchecked
+                connection.write(message, completionHandler);
+                return;
+            }
+
+            // frames are owned by Tyrus runtime, Grizzly must not dispose them
+            final CompositeBuffer compositeBuffer = CompositeBuffer.newBuffer(connection.getMemoryManager());
+            compositeBuffer.allowBufferDispose(false);
+            compositeBuffer.allowInternalBuffersDispose(false);
+
+            for (WriteTask writeTask : merged) {
+                if (writeTask.tyrusCompletionHandler != null) {
+                    writeTask.tyrusCompletionHandler.started();
+                }
+                compositeBuffer.append(writeTask.message);
+            }
+
             //noinspection unchecked
-            connection.write(message, completionHandler);
+            connection.write(compositeBuffer, new CoalescedCompletionHandler(merged));
+        }
+    }
+
+    /**
+     * Notifies completion handlers of frames written at once, in the order in which the frames were written.
+     */
+    private static class CoalescedCompletionHandler extends EmptyCompletionHandler {
+
+        private final List<WriteTask> writeTasks;
+
+        private CoalescedCompletionHandler(List<WriteTask> writeTasks) {
+            this.writeTasks = writeTasks;
+        }
+
+        @Override
+        public void cancelled() {
+            for (WriteTask writeTask : writeTasks) {
+                writeTask.completionHandler.cancelled();
+            }
+        }
+
+        @Override
+        public void completed(Object result) {
+            for (WriteTask writeTask : writeTasks) {
+                writeTask.completionHandler.completed(result);
+            }
+        }
+
+        @Override
+        public void failed(Throwable throwable) {
+            for (WriteTask writeTask : writeTasks) {
+                writeTask.completionHandler.failed(throwable);
+            }
         }
     }
 
@@ -88,6 +88,12 @@ public class TaskProcessor {
                     continue;
                 }
 
+                // only the thread holding the lock removes tasks, so the peeked task is the one removed
+                Task next;
+                while ((next = taskQueue.peek()) != null && first.merge(next)) {
+                    taskQueue.poll();
+                }
+
                 first.execute();
             }
         } finally {
@@ -113,6 +119,21 @@ public class TaskProcessor {
          * To be overridden.
          */
         public abstract void execute();
+
+        /**
+         * Merge a task following this one in the task queue into this task, so that both are processed by one {@link
+         * #execute()} call.
+         * <p>
+         * Called only before this task is executed. Default implementation does not merge anything.
+         *
+         * @param next task following this one in the task queue.
+         * @return {@code true} if the task has been merged and should be removed from the task queue, {@code false}
+         * otherwise.
+         * @since 2.0
+         */
+        public boolean merge(Task next) {
+            return false;
+        }
     }
 
     /**
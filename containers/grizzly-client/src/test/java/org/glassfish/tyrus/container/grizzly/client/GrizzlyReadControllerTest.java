@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.container.grizzly.client;
+
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests that {@link GrizzlyReadController} finishes processing of a suspended read event.
+ */
+public class GrizzlyReadControllerTest {
+
+    @Test
+    public void testResumeReading() {
+        GrizzlyReadController readController = new GrizzlyReadController();
+        TestContext ctx = new TestContext();
+
+        assertSame(ctx.getStopAction(), readController.getReadAction(ctx));
+
+        readController.suspendReading();
+        assertSame(ctx.getSuspendAction(), readController.getReadAction(ctx));
+        assertEquals(1, ctx.suspended);
+        assertEquals(0, ctx.resumed);
+
+        readController.resumeReading();
+        assertEquals(1, ctx.resumed);
+    }
+
+    @Test
+    public void testCloseWhileReadingSuspended() {
+        GrizzlyReadController readController = new GrizzlyReadController();
+        TestContext ctx = new TestContext();
+
+        readController.suspendReading();
+        assertSame(ctx.getSuspendAction(), readController.getReadAction(ctx));
+
+        // connection closed before Tyrus has resumed reading
+        readController.close();
+        assertEquals(1, ctx.resumed);
+
+        // nothing is suspended after close
+        readController.suspendReading();
+        TestContext nextCtx = new TestContext();
+        assertSame(nextCtx.getStopAction(), readController.getReadAction(nextCtx));
+        assertEquals(0, nextCtx.suspended);
+
+        readController.resumeReading();
+        assertEquals(1, ctx.resumed);
+        assertEquals(0, nextCtx.resumed);
+    }
+
+    private static class TestContext extends FilterChainContext {
+
+        private int suspended = 0;
+        private int resumed = 0;
+
+        @Override
+        public Runnable suspend() {
+            suspended++;
+            return null;
+        }
+
+        @Override
+        public void resume(NextAction action) {
+            assertSame(getStopAction(), action);
+            resumed++;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.container.grizzly.client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.tyrus.spi.CompletionHandler;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of small frames written by {@link GrizzlyWriter} from several threads to one loopback connection.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=GrizzlyWriteBenchmark}. Every operation is a burst of
+ * {@value #BURST} frames, which is waited for before the next burst is sent. {@code maxCoalescedWriteSize} 0 writes
+ * every frame by its own Grizzly write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class GrizzlyWriteBenchmark {
+
+    private static final int BURST = 16;
+
+    @Param({"0", "65536"})
+    private int maxCoalescedWriteSize;
+
+    @Param({"16", "256"})
+    private int frameSize;
+
+    private TCPNIOTransport serverTransport;
+    private TCPNIOTransport clientTransport;
+    private Connection connection;
+    private GrizzlyWriter writer;
+    private ByteBuffer frame;
+
+    @Setup
+    public void setup() throws Exception {
+        final FilterChainBuilder serverFilterChain = FilterChainBuilder.stateless();
+        serverFilterChain.add(new TransportFilter());
+        serverFilterChain.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(FilterChainContext ctx) throws IOException {
+                ((Buffer) ctx.getMessage()).tryDispose();
+                return ctx.getStopAction();
+            }
+        });
+
+        serverTransport = TCPNIOTransportBuilder.newInstance().build();
+        serverTransport.setProcessor(serverFilterChain.build());
+        final int port = ((InetSocketAddress) serverTransport.bind("localhost", 0).getLocalAddress()).getPort();
+        serverTransport.start();
+
+        final FilterChainBuilder clientFilterChain = FilterChainBuilder.stateless();
+        clientFilterChain.add(new TransportFilter());
+
+        clientTransport = TCPNIOTransportBuilder.newInstance().build();
+        clientTransport.setProcessor(clientFilterChain.build());
+        clientTransport.start();
+
+        connection = clientTransport.connect("localhost", port).get(10, TimeUnit.SECONDS);
+        writer = new GrizzlyWriter(connection, maxCoalescedWriteSize);
+        frame = ByteBuffer.allocate(frameSize);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        connection.closeSilently();
+        clientTransport.shutdownNow();
+        serverTransport.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void writeBurst() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(BURST);
+        final CompletionHandler<ByteBuffer> completionHandler = new CompletionHandler<ByteBuffer>() {
+            @Override
+            public void completed(ByteBuffer result) {
+                latch.countDown();
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                latch.countDown();
+            }
+        };
+
+        for (int i = 0; i < BURST; i++) {
+            writer.write(frame.duplicate(), completionHandler);
+        }
+
+        latch.await(10, TimeUnit.SECONDS);
+    }
+}
@@ -28,6 +28,7 @@ import javax.websocket.server.ServerEndpointConfig;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 
+import org.glassfish.tyrus.container.grizzly.client.GrizzlyWriter;
 import org.glassfish.tyrus.core.DebugContext;
 import org.glassfish.tyrus.core.TyrusWebSocketEngine;
 import org.glassfish.tyrus.core.Utils;
@@ -40,6 +41,7 @@ import org.glassfish.tyrus.spi.ServerContainer;
 import org.glassfish.tyrus.spi.ServerContainerFactory;
 import org.glassfish.tyrus.spi.WebSocketEngine;
 
+import org.glassfish.grizzly.IOStrategy;
 import org.glassfish.grizzly.http.Method;
 import org.glassfish.grizzly.http.server.HttpHandler;
 import org.glassfish.grizzly.http.server.HttpServer;
@@ -77,6 +79,37 @@ public class GrizzlyServerContainer extends ServerContainerFactory {
     public static final String SELECTOR_THREAD_POOL_CONFIG =
             "org.glassfish.tyrus.container.grizzly.server.selectorThreadPoolConfig";
 
+    /**
+     * Server-side property to set maximal number of bytes of queued frames written to the connection at once.
+     * <p>
+     * Value is expected to be {@link Integer}, default is {@value GrizzlyWriter#DEFAULT_MAX_COALESCED_WRITE_SIZE}.
+     * Frames sent while a previous frame is being written are queued and then written to the connection together,
+     * which saves write calls when many small frames are sent at the same time. Frames are written one by one when
+     * the value is {@code 0} or less.
+     *
+     * @since 2.0
+     */
+    public static final String MAX_COALESCED_WRITE_SIZE =
+            "org.glassfish.tyrus.container.grizzly.server.maxCoalescedWriteSize";
+
+    /**
+     * Server-side property to set {@link IOStrategy} of the server transport.
+     * <p>
+     * Value is expected to be instance of {@link IOStrategy}, default is {@link WorkerThreadIOStrategy}, which
+     * processes every read in a worker thread, so endpoints are free to block.
+     * <p>
+     * {@link org.glassfish.grizzly.strategies.SameThreadIOStrategy} processes reads directly in the selector thread
+     * and {@link org.glassfish.grizzly.strategies.LeaderFollowerNIOStrategy} in the thread which selected the read
+     * while another thread takes over the selector. Both save the hand-off to a worker thread, which is significant
+     * when endpoints are small and do not block. They must not be used with endpoints which block - waiting for
+     * I/O, locks, synchronous sends of messages which do not fit to socket buffers etc., since a blocked selector
+     * thread stops processing of all connections handled by that selector and might not get to the write the
+     * endpoint waits for.
+     *
+     * @since 2.0
+     */
+    public static final String IO_STRATEGY = "org.glassfish.tyrus.container.grizzly.server.ioStrategy";
+
     @Override
     public ServerContainer createContainer(Map<String, Object> properties) {
 
@@ -107,6 +140,11 @@ public class GrizzlyServerContainer extends ServerContainerFactory {
         final DebugContext.TracingThreshold tracingThreshold =
                 Utils.getProperty(localProperties, TyrusWebSocketEngine.TRACING_THRESHOLD,
                                   DebugContext.TracingThreshold.class, DebugContext.TracingThreshold.TRACE);
+        final int maxCoalescedWriteSize =
+                Utils.getProperty(localProperties, MAX_COALESCED_WRITE_SIZE, Integer.class,
+                                  GrizzlyWriter.DEFAULT_MAX_COALESCED_WRITE_SIZE);
+        final IOStrategy ioStrategy =
+                Utils.getProperty(localProperties, IO_STRATEGY, IOStrategy.class, WorkerThreadIOStrategy.getInstance());
 
         return new TyrusServerContainer((Set<Class<?>>) null) {
 
@@ -165,16 +203,17 @@ public class GrizzlyServerContainer extends ServerContainerFactory {
                     if (selectorThreadPoolConfig != null) {
                         transportBuilder.setSelectorThreadPoolConfig(selectorThreadPoolConfig);
                     }
-                    transportBuilder.setIOStrategy(WorkerThreadIOStrategy.getInstance());
+                    transportBuilder.setIOStrategy(ioStrategy);
                     server.getListener("grizzly").setTransport(transportBuilder.build());
                 } else {
-                    // if no configuration is set, just update IO Strategy to worker thread strat.
-                    server.getListener("grizzly").getTransport().setIOStrategy(WorkerThreadIOStrategy.getInstance());
+                    // if no configuration is set, just update IO Strategy (worker thread strategy by default).
+                    server.getListener("grizzly").getTransport().setIOStrategy(ioStrategy);
                 }
 
                 // idle timeout set to indefinite.
                 server.getListener("grizzly").getKeepAlive().setIdleTimeoutInSeconds(-1);
-                server.getListener("grizzly").registerAddOn(new WebSocketAddOn(this, contextPath));
+                server.getListener("grizzly").registerAddOn(
+                        new WebSocketAddOn(this, contextPath, maxCoalescedWriteSize));
 
                 final WebSocketEngine webSocketEngine = getWebSocketEngine();
 
@@ -27,6 +27,7 @@ import java.util.logging.Logger;
 
 import javax.websocket.CloseReason;
 
+import org.glassfish.tyrus.container.grizzly.client.GrizzlyReadController;
 import org.glassfish.tyrus.container.grizzly.client.GrizzlyWriter;
 import org.glassfish.tyrus.container.grizzly.client.TaskProcessor;
 import org.glassfish.tyrus.core.CloseReasons;
@@ -84,8 +85,12 @@ class GrizzlyServerFilter extends BaseFilter {
     private static final Attribute<TaskProcessor> TASK_PROCESSOR = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
             .createAttribute(TaskProcessor.class.getName() + ".TaskProcessor");
 
+    private static final Attribute<GrizzlyReadController> READ_CONTROLLER = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
+            .createAttribute(GrizzlyReadController.class.getName() + ".ReadController");
+
     private final ServerContainer serverContainer;
     private final String contextPath;
+    private final int maxCoalescedWriteSize;
 
 
     // ------------------------------------------------------------ Constructors
@@ -98,8 +103,23 @@ class GrizzlyServerFilter extends BaseFilter {
      *                        "/a" will be divided into context path "" and url-pattern "/a".
      */
     public GrizzlyServerFilter(ServerContainer serverContainer, String contextPath) {
+        this(serverContainer, contextPath, GrizzlyWriter.DEFAULT_MAX_COALESCED_WRITE_SIZE);
+    }
+
+    /**
+     * Constructs a new {@link GrizzlyServerFilter}.
+     *
+     * @param serverContainer       server container.
+     * @param contextPath           the context path of the deployed application. If the value is "" or "/", a request
+     *                              URI "/a" will be divided into context path "" and url-pattern "/a".
+     * @param maxCoalescedWriteSize maximal number of bytes of queued frames written to the connection at once, see
+     *                              {@link GrizzlyServerContainer#MAX_COALESCED_WRITE_SIZE}.
+     * @since 2.0
+     */
+    public GrizzlyServerFilter(ServerContainer serverContainer, String contextPath, int maxCoalescedWriteSize) {
         this.serverContainer = serverContainer;
         this.contextPath = contextPath.endsWith("/") ? contextPath : contextPath + "/";
+        this.maxCoalescedWriteSize = maxCoalescedWriteSize;
     }
 
     // ----------------------------------------------------- Methods from Filter
@@ -200,7 +220,9 @@ class GrizzlyServerFilter extends BaseFilter {
                 byteBufferArray.recycle();
             }
         }
-        return ctx.getStopAction();
+
+        final GrizzlyReadController readController = READ_CONTROLLER.get(ctx.getConnection());
+        return readController == null ? ctx.getStopAction() : readController.getReadAction(ctx);
     }
 
     private org.glassfish.tyrus.spi.Connection getConnection(FilterChainContext ctx) {
@@ -238,7 +260,7 @@ class GrizzlyServerFilter extends BaseFilter {
                 write(ctx, upgradeResponse);
 
                 final org.glassfish.tyrus.spi.Connection connection = upgradeInfo
-                        .createConnection(new GrizzlyWriter(ctx.getConnection()),
+                        .createConnection(new GrizzlyWriter(ctx.getConnection(), maxCoalescedWriteSize),
                                           new org.glassfish.tyrus.spi.Connection.CloseListener() {
                                               @Override
                                               public void close(CloseReason reason) {
@@ -246,8 +268,12 @@ class GrizzlyServerFilter extends BaseFilter {
                                               }
                                           });
 
+                final GrizzlyReadController readController = new GrizzlyReadController();
+                connection.getReadHandler().setReadController(readController);
+
                 TYRUS_CONNECTION.set(grizzlyConnection, connection);
                 TASK_PROCESSOR.set(grizzlyConnection, new TaskProcessor());
+                READ_CONTROLLER.set(grizzlyConnection, readController);
 
                 grizzlyConnection.addCloseListener(new CloseListener() {
                     @Override
@@ -257,6 +283,8 @@ class GrizzlyServerFilter extends BaseFilter {
                         // might not be necessary, connection is going to be recycled/freed anyway
                         TYRUS_CONNECTION.remove(grizzlyConnection);
                         TASK_PROCESSOR.remove(grizzlyConnection);
+                        READ_CONTROLLER.remove(grizzlyConnection);
+                        readController.close();
                     }
                 });
 
@@ -373,6 +401,10 @@ class GrizzlyServerFilter extends BaseFilter {
             connection.close(closeReason);
             TYRUS_CONNECTION.remove(grizzlyConnection);
             TASK_PROCESSOR.remove(grizzlyConnection);
+            final GrizzlyReadController readController = READ_CONTROLLER.remove(grizzlyConnection);
+            if (readController != null) {
+                readController.close();
+            }
         }
     }
 }
@@ -35,10 +35,12 @@ public class WebSocketAddOn implements AddOn {
 
     private final ServerContainer serverContainer;
     private final String contextPath;
+    private final int maxCoalescedWriteSize;
 
-    WebSocketAddOn(ServerContainer serverContainer, String contextPath) {
+    WebSocketAddOn(ServerContainer serverContainer, String contextPath, int maxCoalescedWriteSize) {
         this.serverContainer = serverContainer;
         this.contextPath = contextPath;
+        this.maxCoalescedWriteSize = maxCoalescedWriteSize;
     }
 
     @Override
@@ -48,7 +50,8 @@ public class WebSocketAddOn implements AddOn {
 
         if (httpServerFilterIdx >= 0) {
             // Insert the WebSocketFilter right before HttpServerFilter
-            builder.add(httpServerFilterIdx, new GrizzlyServerFilter(serverContainer, contextPath));
+            builder.add(httpServerFilterIdx,
+                        new GrizzlyServerFilter(serverContainer, contextPath, maxCoalescedWriteSize));
         }
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.container.grizzly.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.websocket.ClientEndpointConfig;
+import javax.websocket.DeploymentException;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
+import javax.websocket.OnMessage;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.server.Server;
+
+import org.glassfish.grizzly.IOStrategy;
+import org.glassfish.grizzly.strategies.LeaderFollowerNIOStrategy;
+import org.glassfish.grizzly.strategies.SameThreadIOStrategy;
+import org.glassfish.grizzly.strategies.WorkerThreadIOStrategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Echo latency and throughput of the Grizzly server container with different
+ * {@link GrizzlyServerContainer#IO_STRATEGY IO strategies}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=IOStrategyBenchmark}. The client runs in the same JVM and uses
+ * the default Grizzly client container, only the server IO strategy changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IOStrategyBenchmark {
+
+    private static final int BURST = 64;
+    private static final String MESSAGE = "Hello, small message.";
+
+    @Param({"worker", "same-thread", "leader-follower"})
+    private String ioStrategy;
+
+    private final BlockingQueue<String> replies = new LinkedBlockingQueue<String>();
+
+    private Server server;
+    private ClientManager client;
+    private Session session;
+
+    @ServerEndpoint("/echo")
+    public static class EchoEndpoint {
+
+        @OnMessage
+        public String onMessage(String message) {
+            return message;
+        }
+    }
+
+    @Setup
+    public void setup() throws DeploymentException, IOException {
+        final Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(GrizzlyServerContainer.IO_STRATEGY, getIOStrategy(ioStrategy));
+
+        server = new Server("localhost", -1, "/", properties, EchoEndpoint.class);
+        server.start();
+
+        client = ClientManager.createClient();
+        session = client.connectToServer(new Endpoint() {
+            @Override
+            public void onOpen(Session session, EndpointConfig config) {
+                session.addMessageHandler(new MessageHandler.Whole<String>() {
+                    @Override
+                    public void onMessage(String message) {
+                        replies.add(message);
+                    }
+                });
+            }
+        }, ClientEndpointConfig.Builder.create().build(), URI.create("ws://localhost:" + server.getPort() + "/echo"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        session.close();
+        client.shutdown();
+        server.stop();
+    }
+
+    @Benchmark
+    public String roundTrip() throws IOException, InterruptedException {
+        session.getBasicRemote().sendText(MESSAGE);
+        return replies.take();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BURST)
+    public String burst() throws InterruptedException {
+        for (int i = 0; i < BURST; i++) {
+            session.getAsyncRemote().sendText(MESSAGE);
+        }
+
+        String reply = null;
+        for (int i = 0; i < BURST; i++) {
+            reply = replies.take();
+        }
+        return reply;
+    }
+
+    private static IOStrategy getIOStrategy(String name) {
+        if ("same-thread".equals(name)) {
+            return SameThreadIOStrategy.getInstance();
+        } else if ("leader-follower".equals(name)) {
+            return LeaderFollowerNIOStrategy.getInstance();
+        }
+        return WorkerThreadIOStrategy.getInstance();
+    }
+}
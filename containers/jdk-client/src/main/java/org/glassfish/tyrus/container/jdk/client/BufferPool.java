@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.container.jdk.client;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of direct byte buffers of the same capacity.
+ * <p>
+ * Buffers are meant to be lent only for the duration of one operation and returned by {@link #release(ByteBuffer)}, so
+ * the number of allocated buffers follows the number of concurrent operations rather than the number of connections.
+ * Larger buffers than the pool capacity are allocated on demand and are not pooled. Not returning a buffer is not an
+ * error, it is just collected as any other object.
+ */
+class BufferPool {
+
+    private final int bufferSize;
+    private final int maxPooled;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param bufferSize capacity of pooled buffers.
+     * @param maxPooled  maximal number of buffers kept in the pool, buffers released when the pool is full are dropped.
+     */
+    BufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Get a cleared buffer.
+     *
+     * @param size minimal capacity of the buffer.
+     * @return pooled buffer or a newly allocated one when the pool is empty or {@code size} exceeds its capacity.
+     */
+    ByteBuffer acquire(int size) {
+        if (size > bufferSize) {
+            return ByteBuffer.allocateDirect(size);
+        }
+
+        final ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        pooled.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Return a buffer to the pool.
+     * <p>
+     * The buffer must not be used by the caller anymore.
+     *
+     * @param buffer buffer obtained from {@link #acquire(int)}, {@code null} is ignored.
+     */
+    void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() != bufferSize || !buffer.isDirect()) {
+            return;
+        }
+
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+
+        buffers.offer(buffer);
+    }
+
+    /**
+     * Get number of buffers available in the pool.
+     *
+     * @return number of pooled buffers.
+     */
+    int getPooledCount() {
+        return pooled.get();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.container.jdk.client;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousChannelGroup;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.tyrus.client.ThreadPoolConfig;
+
+/**
+ * Reference-counted registry of {@link AsynchronousChannelGroup channel groups} shared by client connections.
+ * <p>
+ * Connections with equal {@link ThreadPoolConfig} and idle timeout share one channel group. When the last connection
+ * releases the group, it is shut down after the idle timeout unless a new connection acquires it in the meantime.
+ * Groups with different configurations are independent, so a new configuration never shuts down a group used by
+ * live connections.
+ * <p>
+ * Acquiring and releasing an existing group does not lock. Lookup compares configurations only by {@link
+ * ThreadPoolConfig#equals(Object)}, the number of distinct configurations is expected to be small.
+ */
+class ChannelGroupRegistry {
+
+    // reference count of a group which has been shut down
+    private static final int SHUT_DOWN = -1;
+
+    private final List<Entry> entries = new CopyOnWriteArrayList<Entry>();
+    private final ScheduledExecutorService closeScheduler;
+    private final ChannelGroupFactory channelGroupFactory;
+
+    /**
+     * Creates channel groups for the registry.
+     */
+    interface ChannelGroupFactory {
+
+        /**
+         * Create a new channel group.
+         *
+         * @param threadPoolConfig thread pool configuration of the group.
+         * @return new channel group.
+         * @throws IOException if the group cannot be created.
+         */
+        AsynchronousChannelGroup create(ThreadPoolConfig threadPoolConfig) throws IOException;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param closeScheduler      scheduler of idle timeouts.
+     * @param channelGroupFactory used for creating new channel groups.
+     */
+    ChannelGroupRegistry(ScheduledExecutorService closeScheduler, ChannelGroupFactory channelGroupFactory) {
+        this.closeScheduler = closeScheduler;
+        this.channelGroupFactory = channelGroupFactory;
+    }
+
+    /**
+     * Acquire a channel group for given configuration, the group is created if there is none.
+     *
+     * @param threadPoolConfig   thread pool configuration.
+     * @param idleTimeoutSeconds time in seconds after which the group is shut down when no connection uses it.
+     * @return reference which has to be released when the connection does not use the group any more.
+     * @throws IOException if the group cannot be created.
+     */
+    Reference acquire(ThreadPoolConfig threadPoolConfig, int idleTimeoutSeconds) throws IOException {
+        while (true) {
+            Entry entry = find(threadPoolConfig, idleTimeoutSeconds);
+
+            if (entry == null) {
+                synchronized (entries) {
+                    entry = find(threadPoolConfig, idleTimeoutSeconds);
+                    if (entry == null) {
+                        entry = new Entry(threadPoolConfig, idleTimeoutSeconds,
+                                          channelGroupFactory.create(threadPoolConfig));
+                        entries.add(entry);
+                    }
+                }
+            }
+
+            if (entry.retain()) {
+                return new Reference(entry);
+            }
+
+            // the group has just been shut down by its idle timeout, it is going to be removed from the list
+            entries.remove(entry);
+        }
+    }
+
+    private Entry find(ThreadPoolConfig threadPoolConfig, int idleTimeoutSeconds) {
+        for (Entry entry : entries) {
+            if (entry.idleTimeoutSeconds == idleTimeoutSeconds && threadPoolConfig.equals(entry.threadPoolConfig)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Connection's reference to a channel group.
+     */
+    class Reference {
+
+        private final Entry entry;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Reference(Entry entry) {
+            this.entry = entry;
+        }
+
+        /**
+         * Get the referenced channel group.
+         *
+         * @return channel group, which is not shut down until this reference is released.
+         */
+        AsynchronousChannelGroup getChannelGroup() {
+            return entry.channelGroup;
+        }
+
+        /**
+         * Release the reference. Subsequent calls do nothing.
+         */
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                entry.release();
+            }
+        }
+    }
+
+    private class Entry {
+
+        private final ThreadPoolConfig threadPoolConfig;
+        private final int idleTimeoutSeconds;
+        private final AsynchronousChannelGroup channelGroup;
+        private final AtomicInteger references = new AtomicInteger(0);
+        // incremented whenever the group becomes idle, a close task is valid only for the idle period it was
+        // scheduled in
+        private final AtomicInteger idlePeriod = new AtomicInteger(0);
+
+        private volatile ScheduledFuture<?> closeTask;
+
+        private Entry(ThreadPoolConfig threadPoolConfig, int idleTimeoutSeconds, AsynchronousChannelGroup channelGroup) {
+            this.threadPoolConfig = threadPoolConfig;
+            this.idleTimeoutSeconds = idleTimeoutSeconds;
+            this.channelGroup = channelGroup;
+        }
+
+        private boolean retain() {
+            while (true) {
+                final int current = references.get();
+                if (current == SHUT_DOWN) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    if (current == 0) {
+                        final ScheduledFuture<?> task = closeTask;
+                        if (task != null) {
+                            task.cancel(false);
+                        }
+                    }
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            if (references.decrementAndGet() != 0) {
+                return;
+            }
+
+            final int period = idlePeriod.incrementAndGet();
+            closeTask = closeScheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (idlePeriod.get() == period && references.compareAndSet(0, SHUT_DOWN)) {
+                        entries.remove(Entry.this);
+                        channelGroup.shutdown();
+                    }
+                }
+            }, idleTimeoutSeconds, TimeUnit.SECONDS);
+        }
+    }
+}
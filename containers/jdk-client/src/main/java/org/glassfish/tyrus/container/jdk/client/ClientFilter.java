@@ -43,6 +43,7 @@ import org.glassfish.tyrus.spi.ClientEngine;
 import org.glassfish.tyrus.spi.CompletionHandler;
 import org.glassfish.tyrus.spi.Connection;
 import org.glassfish.tyrus.spi.Connection.CloseListener;
+import org.glassfish.tyrus.spi.ReadController;
 import org.glassfish.tyrus.spi.UpgradeRequest;
 import org.glassfish.tyrus.spi.Writer;
 
@@ -188,6 +189,17 @@ class ClientFilter extends Filter {
                     break;
                 case SUCCESS:
                     wsConnection = clientUpgradeInfo.createConnection();
+                    wsConnection.getReadHandler().setReadController(new ReadController() {
+                        @Override
+                        public void suspendReading() {
+                            downstreamFilter.suspendRead();
+                        }
+
+                        @Override
+                        public void resumeReading() {
+                            downstreamFilter.resumeRead();
+                        }
+                    });
 
                     if (data.hasRemaining()) {
                         wsConnection.getReadHandler().handle(data);
@@ -51,6 +51,40 @@ class Filter {
     void write(ByteBuffer data, CompletionHandler<ByteBuffer> completionHandler) {
     }
 
+    /**
+     * Perform gathering write operation for this filter and invokes write method on the next filter in the filter
+     * chain.
+     * <p/>
+     * The default implementation writes the buffers one by one using {@link #write(ByteBuffer, CompletionHandler)}.
+     *
+     * @param data              buffers to be written in the given order.
+     * @param completionHandler will be invoked when all the buffers have been written or when the write operation has
+     *                          failed.
+     */
+    void write(ByteBuffer[] data, CompletionHandler<ByteBuffer[]> completionHandler) {
+        write(data, 0, completionHandler);
+    }
+
+    private void write(final ByteBuffer[] data, final int index,
+                       final CompletionHandler<ByteBuffer[]> completionHandler) {
+        if (index == data.length) {
+            completionHandler.completed(data);
+            return;
+        }
+
+        write(data[index], new CompletionHandler<ByteBuffer>() {
+            @Override
+            public void completed(ByteBuffer result) {
+                write(data, result.hasRemaining() ? index : index + 1, completionHandler);
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                completionHandler.failed(throwable);
+            }
+        });
+    }
+
     /**
      * Close the filter, invokes close operation on the next filter in the filter chain.
      * <p/>
@@ -65,6 +99,30 @@ class Filter {
     void startSsl() {
     }
 
+    /**
+     * Suspend reading of data from the connection, it is passed on in the filter chain until the filter reading the
+     * data is reached.
+     * <p/>
+     * Data which have already been read may still be passed to {@link #onRead(ByteBuffer)}.
+     */
+    void suspendRead() {
+        if (downstreamFilter != null) {
+            downstreamFilter.suspendRead();
+        }
+    }
+
+    /**
+     * Resume reading of data suspended by {@link #suspendRead()}, it is passed on in the filter chain until the filter
+     * reading the data is reached.
+     * <p/>
+     * Reading is resumed asynchronously, {@link #onRead(ByteBuffer)} is not invoked by this method.
+     */
+    void resumeRead() {
+        if (downstreamFilter != null) {
+            downstreamFilter.resumeRead();
+        }
+    }
+
     /**
      * Initiate connect.
      * <p/>
@@ -215,4 +273,19 @@ class Filter {
      */
     void processError(Throwable t) {
     }
+
+    /**
+     * Check whether any of the buffers has remaining data.
+     *
+     * @param buffers buffers to be checked.
+     * @return {@code true} if at least one buffer has remaining data.
+     */
+    static boolean hasRemaining(ByteBuffer[] buffers) {
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -213,7 +213,7 @@ public class JdkClientContainer implements ClientContainer {
             // property is set, we need to figure out whether new or deprecated one is used and act accordingly.
             if (sslEngineConfiguratorObject instanceof SslEngineConfigurator) {
                 sslFilter = new SslFilter(transportFilter, (SslEngineConfigurator) sslEngineConfiguratorObject,
-                                          uri.getHost());
+                                          uri.getHost(), Utils.getWsPort(uri));
             } else if (sslEngineConfiguratorObject instanceof org.glassfish.tyrus.container.jdk.client
                     .SslEngineConfigurator) {
                 sslFilter = new SslFilter(transportFilter,
@@ -281,7 +281,7 @@ public class JdkClientContainer implements ClientContainer {
 
             }
 
-            sslFilter = new SslFilter(transportFilter, sslEngineConfigurator, uri.getHost());
+            sslFilter = new SslFilter(transportFilter, sslEngineConfigurator, uri.getHost(), Utils.getWsPort(uri));
         }
         return sslFilter;
     }
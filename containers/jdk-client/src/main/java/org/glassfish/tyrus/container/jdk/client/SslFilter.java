@@ -17,16 +17,19 @@
 package org.glassfish.tyrus.container.jdk.client;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Queue;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLEngineResult;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLParameters;
 
 import org.glassfish.tyrus.client.SslEngineConfigurator;
+import org.glassfish.tyrus.client.SslSessionStatistics;
 import org.glassfish.tyrus.core.Utils;
 import org.glassfish.tyrus.spi.CompletionHandler;
 
@@ -48,32 +51,41 @@ class SslFilter extends Filter {
     /* SYNCHRONIZATION NOTE: SSLEngine#wrap and SSLEngine#unwrap can be done concurrently (one thread doing wrap
     and another doing unwrap). The same operation cannot be done concurrently (2 threads doing wrap).
 
-    Method doHandshakeStep must be synchronized, because it might be entered both by writing and reading thread
-    during re-handshake. Write, close and re-handshake cannot be done concurrently, because all those operations might
-    do SSLEngine#wrap. Read can be be done concurrently with any other operation, because even thought re-handshake
-    can do SSLEngine#unwrap, it won't do so if it was entered from write operation.
+    All operations that might do SSLEngine#wrap - write, close and a handshake step - and the write queue are guarded by
+    writeLock. Method doHandshakeStep must hold the lock, because it might be entered both by writing and reading thread
+    during re-handshake. Read direction does not take any lock, only one read is in progress at a time and even though
+    re-handshake can do SSLEngine#unwrap, it won't consume any network data if it was entered from write operation.
+    Buffers for SSLEngine#wrap and SSLEngine#unwrap are borrowed from the buffer pool for every operation, so the read
+    and write directions never share a buffer.
 
-    Operations upstreamFilter#onRead cannot be done while holding a lock of this class. Doing so might lead to a deadlock. An
+    Operations upstreamFilter#onRead cannot be done while holding writeLock. Doing so might lead to a deadlock. An
     example of deadlock would be if a thread holding a lock in upstreamFilter#onRead writes a response synchronously (blocks
     and waits for write completion handler). The write completion handler might be executed by another thread which will not be
-    able to obtain a lock for this class.*/
+    able to obtain the lock.*/
 
     /* Some operations on SSL engine require a buffer as a parameter even if they don't need any data.
     This buffer is for that purpose. */
     private static final ByteBuffer emptyBuffer = ByteBuffer.allocate(0);
     private static final String TLSV13 = "TLSv1.3";
 
-    // buffer for passing data to the upper filter
-    private final ByteBuffer applicationInputBuffer;
-    // buffer for passing data to the transport filter
-    private final ByteBuffer networkOutputBuffer;
+    /* Large enough for an SSL packet (max 16kB of data + headers) and for its decrypted content. Sessions which need
+    larger buffers get them allocated on demand. */
+    private static final int POOLED_BUFFER_SIZE = 17 * 1024;
+    /* Direct buffers are written to the socket without being copied to a temporary direct buffer. They are lent only
+    while a wrap or unwrap is in progress, so idle connections do not hold any. */
+    private static final BufferPool BUFFER_POOL =
+            new BufferPool(POOLED_BUFFER_SIZE, Math.max(16, 4 * Runtime.getRuntime().availableProcessors()));
+
     private final SSLEngine sslEngine;
+    private final SSLContext sslContext;
     private final HostnameVerifier customHostnameVerifier;
     private final String serverHost;
+    private final Object writeLock = new Object();
     private final WriteQueue writeQueue = new WriteQueue();
 
     private volatile State state = State.NOT_STARTED;
     private volatile boolean tlsv13 = false;
+    private volatile long handshakeStartTime;
     /*
      * Pending write operation stored when writing data was not possible. It will be resumed when write operation is
      * available again. Only one write operation can be in progress at a time. Trying to store more than one pending
@@ -83,6 +95,7 @@ class SslFilter extends Filter {
      */
     private Runnable pendingApplicationWrite = null;
 
+
     /**
      * SSL Filter constructor, takes upstream filter as a parameter.
      *
@@ -96,9 +109,25 @@ class SslFilter extends Filter {
      *                              the verification will fail.
      */
     SslFilter(Filter downstreamFilter, SslEngineConfigurator sslEngineConfigurator, String serverHost) {
+        this(downstreamFilter, sslEngineConfigurator, serverHost, -1);
+    }
+
+    /**
+     * SSL Filter constructor, takes upstream filter as a parameter.
+     *
+     * @param downstreamFilter      a filter that is positioned under the SSL filter.
+     * @param sslEngineConfigurator configuration of SSL engine.
+     * @param serverHost            server host (hostname or IP address), which will be used to verify authenticity of
+     *                              the server.
+     * @param serverPort            server port, together with the host it allows resuming a TLS session cached by the
+     *                              SSL context. {@code -1} when not known.
+     */
+    SslFilter(Filter downstreamFilter, SslEngineConfigurator sslEngineConfigurator, String serverHost,
+              int serverPort) {
         super(downstreamFilter);
         this.serverHost = serverHost;
-        sslEngine = sslEngineConfigurator.createSSLEngine(serverHost);
+        sslEngine = sslEngineConfigurator.createSSLEngine(serverHost, serverPort);
+        sslContext = sslEngineConfigurator.getSslContext();
         customHostnameVerifier = sslEngineConfigurator.getHostnameVerifier();
 
         /**
@@ -111,9 +140,6 @@ class SslFilter extends Filter {
             sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
             sslEngine.setSSLParameters(sslParameters);
         }
-
-        applicationInputBuffer = ByteBuffer.allocate(sslEngine.getSession().getApplicationBufferSize());
-        networkOutputBuffer = ByteBuffer.allocate(sslEngine.getSession().getPacketBufferSize());
     }
 
     /**
@@ -126,62 +152,89 @@ class SslFilter extends Filter {
               org.glassfish.tyrus.container.jdk.client.SslEngineConfigurator sslEngineConfigurator) {
         super(downstreamFilter);
         sslEngine = sslEngineConfigurator.createSSLEngine();
-        applicationInputBuffer = ByteBuffer.allocate(sslEngine.getSession().getApplicationBufferSize());
-        networkOutputBuffer = ByteBuffer.allocate(sslEngine.getSession().getPacketBufferSize());
+        sslContext = sslEngineConfigurator.sslContext;
         customHostnameVerifier = null;
         serverHost = null;
     }
 
     @Override
-    synchronized void write(final ByteBuffer applicationData, final CompletionHandler<ByteBuffer> completionHandler) {
-        switch (state) {
-            // before SSL is started, write just passes through
-            case NOT_STARTED: {
-                writeQueue.write(applicationData, completionHandler);
-                return;
+    void write(final ByteBuffer applicationData, final CompletionHandler<ByteBuffer> completionHandler) {
+        write(new ByteBuffer[]{applicationData}, new CompletionHandler<ByteBuffer[]>() {
+            @Override
+            public void completed(ByteBuffer[] result) {
+                completionHandler.completed(applicationData);
             }
 
-            /* TODO:
-             The current model does not permit calling write before SSL handshake has completed, if we allow this
-             we could easily get rid of the onSslHandshakeCompleted event. The SSL filter can simply store the write until
-             the handshake has completed like during re-handshake. With such a change HANDSHAKING and REHANDSHAKING could
-             be collapsed into one state. */
-            case HANDSHAKING: {
-                completionHandler.failed(new IllegalStateException("Cannot write until SSL handshake has been completed"));
-                break;
+            @Override
+            public void failed(Throwable throwable) {
+                completionHandler.failed(throwable);
             }
+        });
+    }
 
-            /* Suspend all writes until the re-handshaking is done. Data are permitted during re-handshake in SSL, but this
-             would only complicate things */
-            case REHANDSHAKING: {
-                storePendingApplicationWrite(applicationData, completionHandler);
-                break;
-            }
+    /**
+     * Write application data from multiple buffers.
+     * <p/>
+     * The buffers are wrapped together, so data of small buffers are sent in one SSL packet.
+     *
+     * @param applicationData   buffers to be written in the given order.
+     * @param completionHandler will be invoked when all the data have been written or when the write operation has
+     *                          failed.
+     */
+    @Override
+    void write(final ByteBuffer[] applicationData, final CompletionHandler<ByteBuffer[]> completionHandler) {
+        synchronized (writeLock) {
+            switch (state) {
+                // before SSL is started, write just passes through
+                case NOT_STARTED: {
+                    writeQueue.write(applicationData, completionHandler);
+                    return;
+                }
 
-            case DATA: {
-                handleWrite(applicationData, completionHandler);
-                break;
-            }
+                /* TODO:
+                 The current model does not permit calling write before SSL handshake has completed, if we allow this
+                 we could easily get rid of the onSslHandshakeCompleted event. The SSL filter can simply store the write
+                 until the handshake has completed like during re-handshake. With such a change HANDSHAKING and
+                 REHANDSHAKING could be collapsed into one state. */
+                case HANDSHAKING: {
+                    completionHandler.failed(
+                            new IllegalStateException("Cannot write until SSL handshake has been completed"));
+                    break;
+                }
+
+                /* Suspend all writes until the re-handshaking is done. Data are permitted during re-handshake in SSL,
+                but this would only complicate things */
+                case REHANDSHAKING: {
+                    storePendingApplicationWrite(applicationData, completionHandler);
+                    break;
+                }
+
+                case DATA: {
+                    handleWrite(applicationData, completionHandler);
+                    break;
+                }
 
-            case CLOSED: {
-                // the engine is closed just abort with failure
-                completionHandler.failed(new IllegalStateException("SSL session has been closed"));
-                break;
+                case CLOSED: {
+                    // the engine is closed just abort with failure
+                    completionHandler.failed(new IllegalStateException("SSL session has been closed"));
+                    break;
+                }
             }
         }
     }
 
-    private void handleWrite(final ByteBuffer applicationData, final CompletionHandler<ByteBuffer> completionHandler) {
+    private void handleWrite(final ByteBuffer[] applicationData,
+                             final CompletionHandler<ByteBuffer[]> completionHandler) {
+        final ByteBuffer networkOutputBuffer = BUFFER_POOL.acquire(sslEngine.getSession().getPacketBufferSize());
+        boolean lent = false;
         try {
-            // transport buffer always writes all data, so there are not leftovers in the networkOutputBuffer
-            networkOutputBuffer.clear();
             SSLEngineResult result = sslEngine.wrap(applicationData, networkOutputBuffer);
 
             switch (result.getStatus()) {
                 case BUFFER_OVERFLOW: {
                     /* this means that the content of the ssl packet (max 16kB) did not fit into
-                       networkOutputBuffer, we make sure to set networkOutputBuffer > max 16kB + SSL headers
-                       when initializing this filter. This indicates a bug. */
+                       networkOutputBuffer, we make sure to get networkOutputBuffer > max 16kB + SSL headers
+                       from the pool. This indicates a bug. */
                     throw new IllegalStateException("SSL packet does not fit into the network buffer: "
                             + networkOutputBuffer + "\n" + getDebugState());
                 }
@@ -190,7 +243,7 @@ class SslFilter extends Filter {
                     /* This basically says that there is not enough data to create an SSL packet. Javadoc suggests that
                     BUFFER_UNDERFLOW can occur only after unwrap(), but to be 100% sure we handle all possible error states: */
                     throw new IllegalStateException("SSL engine underflow with the following application input: "
-                            + applicationData + "\n" + getDebugState());
+                            + Arrays.toString(applicationData) + "\n" + getDebugState());
                 }
 
                 case CLOSED: {
@@ -207,14 +260,17 @@ class SslFilter extends Filter {
                     networkOutputBuffer.flip();
                     // write only if something was written to the output buffer
                     if (networkOutputBuffer.hasRemaining()) {
+                        lent = true;
                         writeQueue.write(networkOutputBuffer, new CompletionHandler<ByteBuffer>() {
                             @Override
                             public void completed(ByteBuffer result) {
+                                BUFFER_POOL.release(networkOutputBuffer);
                                 handlePostWrite(applicationData, completionHandler);
                             }
 
                             @Override
                             public void failed(Throwable throwable) {
+                                BUFFER_POOL.release(networkOutputBuffer);
                                 completionHandler.failed(throwable);
                             }
                         });
@@ -227,30 +283,36 @@ class SslFilter extends Filter {
 
         } catch (SSLException e) {
             handleSslError(e);
+        } finally {
+            if (!lent) {
+                BUFFER_POOL.release(networkOutputBuffer);
+            }
         }
     }
 
-    private synchronized void handlePostWrite(final ByteBuffer applicationData,
-                                              final CompletionHandler<ByteBuffer> completionHandler) {
-        if (state == State.REHANDSHAKING) {
-            if (applicationData.hasRemaining()) {
-                // the remaining data will be sent after re-handshake
-                storePendingApplicationWrite(applicationData, completionHandler);
-                // start re-handshaking
-                doHandshakeStep(emptyBuffer);
-            }
-        } else {
-            if (applicationData.hasRemaining()) {
-                // make sure to empty the application output buffer
-                handleWrite(applicationData, completionHandler);
+    private void handlePostWrite(final ByteBuffer[] applicationData,
+                                 final CompletionHandler<ByteBuffer[]> completionHandler) {
+        synchronized (writeLock) {
+            if (state == State.REHANDSHAKING) {
+                if (hasRemaining(applicationData)) {
+                    // the remaining data will be sent after re-handshake
+                    storePendingApplicationWrite(applicationData, completionHandler);
+                    // start re-handshaking
+                    doHandshakeStep(emptyBuffer);
+                }
             } else {
-                completionHandler.completed(applicationData);
+                if (hasRemaining(applicationData)) {
+                    // make sure to empty the application output buffers
+                    handleWrite(applicationData, completionHandler);
+                } else {
+                    completionHandler.completed(applicationData);
+                }
             }
         }
     }
 
-    private void storePendingApplicationWrite(final ByteBuffer applicationData,
-                                              final CompletionHandler<ByteBuffer> completionHandler) {
+    private void storePendingApplicationWrite(final ByteBuffer[] applicationData,
+                                              final CompletionHandler<ByteBuffer[]> completionHandler) {
         // store the write until re-handshaking is completed
         if (pendingApplicationWrite != null) {
             /* If this happens it means a bug in this class or upper layer called another write() without waiting
@@ -268,59 +330,63 @@ class SslFilter extends Filter {
     }
 
     @Override
-    synchronized void close() {
-        if (state == State.NOT_STARTED) {
-            downstreamFilter.close();
-            return;
-        }
+    void close() {
+        synchronized (writeLock) {
+            if (state == State.NOT_STARTED) {
+                downstreamFilter.close();
+                return;
+            }
 
-        sslEngine.closeOutbound();
-        try {
-            LazyBuffer lazyBuffer = new LazyBuffer();
+            sslEngine.closeOutbound();
+            final LazyBuffer lazyBuffer = new LazyBuffer();
+            try {
+                while (sslEngine.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_WRAP) {
+                    ByteBuffer buffer = lazyBuffer.get();
+                    SSLEngineResult result = sslEngine.wrap(emptyBuffer, buffer);
 
-            while (sslEngine.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_WRAP) {
-                ByteBuffer buffer = lazyBuffer.get();
-                SSLEngineResult result = sslEngine.wrap(emptyBuffer, buffer);
+                    switch (result.getStatus()) {
+                        case BUFFER_OVERFLOW: {
+                            lazyBuffer.resize();
+                            break;
+                        }
 
-                switch (result.getStatus()) {
-                    case BUFFER_OVERFLOW: {
-                        lazyBuffer.resize();
-                        break;
-                    }
+                        case BUFFER_UNDERFLOW: {
+                            /* This basically says that there is not enough data to create an SSL packet. Javadoc
+                            suggests that BUFFER_UNDERFLOW can occur only after unwrap(), but to be 100% sure we handle
+                            all possible error states: */
+                            throw new IllegalStateException(
+                                    "SSL engine underflow while close operation \n" + getDebugState());
+                        }
 
-                    case BUFFER_UNDERFLOW: {
-                        /* This basically says that there is not enough data to create an SSL packet. Javadoc suggests that
-                        BUFFER_UNDERFLOW can occur only after unwrap(), but to be 100% sure we handle all possible error
-                        states: */
-                        throw new IllegalStateException("SSL engine underflow while close operation \n" + getDebugState());
+                        // CLOSE or OK are expected outcomes
                     }
 
-                    // CLOSE or OK are expected outcomes
                 }
 
-            }
-
-            if (lazyBuffer.isAllocated()) {
-                ByteBuffer buffer = lazyBuffer.get();
-                buffer.flip();
-                writeQueue.write(buffer, new CompletionHandler<ByteBuffer>() {
+                if (lazyBuffer.isAllocated()) {
+                    ByteBuffer buffer = lazyBuffer.get();
+                    buffer.flip();
+                    writeQueue.write(buffer, new CompletionHandler<ByteBuffer>() {
 
-                    @Override
-                    public void completed(ByteBuffer result) {
-                        downstreamFilter.close();
-                    }
+                        @Override
+                        public void completed(ByteBuffer result) {
+                            lazyBuffer.release();
+                            downstreamFilter.close();
+                        }
 
-                    @Override
-                    public void failed(Throwable throwable) {
-                        downstreamFilter.close();
-                    }
-                });
-            } else {
-                // make sure we close even if SSL had nothing to send
-                downstreamFilter.close();
+                        @Override
+                        public void failed(Throwable throwable) {
+                            lazyBuffer.release();
+                            downstreamFilter.close();
+                        }
+                    });
+                } else {
+                    // make sure we close even if SSL had nothing to send
+                    downstreamFilter.close();
+                }
+            } catch (Exception e) {
+                handleSslError(e);
             }
-        } catch (Exception e) {
-            handleSslError(e);
         }
     }
 
@@ -360,14 +426,15 @@ class SslFilter extends Filter {
     }
 
     private boolean handleRead(ByteBuffer networkData) {
+        final ByteBuffer applicationInputBuffer =
+                BUFFER_POOL.acquire(sslEngine.getSession().getApplicationBufferSize());
         try {
-            applicationInputBuffer.clear();
             SSLEngineResult result = sslEngine.unwrap(networkData, applicationInputBuffer);
             switch (result.getStatus()) {
                 case BUFFER_OVERFLOW: {
                     /* This means that the content of the ssl packet (max 16kB) did not fit into
-                       applicationInputBuffer, but we make sure to set applicationInputBuffer > max 16kB
-                       when initializing this filter. This indicates a bug.*/
+                       applicationInputBuffer, but we make sure to get applicationInputBuffer > max 16kB
+                       from the pool. This indicates a bug.*/
                     throw new IllegalStateException("Contents of a SSL packet did not fit into buffer: "
                             + applicationInputBuffer + "\n" + getDebugState());
                 }
@@ -381,8 +448,8 @@ class SslFilter extends Filter {
                 case OK: {
                     if (result.bytesProduced() > 0) {
                         applicationInputBuffer.flip();
+                        // upstream filters copy what they need, the buffer is returned to the pool afterwards
                         upstreamFilter.onRead(applicationInputBuffer);
-                        applicationInputBuffer.compact();
                     }
 
                     if (sslEngine.isInboundDone()) {
@@ -405,6 +472,8 @@ class SslFilter extends Filter {
             }
         } catch (SSLException e) {
             handleSslError(e);
+        } finally {
+            BUFFER_POOL.release(applicationInputBuffer);
         }
 
         return true;
@@ -413,20 +482,20 @@ class SslFilter extends Filter {
     private boolean doHandshakeStep(ByteBuffer networkData) {
         /* Buffer used to store application data read during this handshake step.
         Application data can be interleaved with handshake messages only during re-handshake.
-        We don't use applicationInputBuffer, because we might want to store more than one packet */
+        It is not pooled, because we might want to store more than one packet and it is passed upstream after
+        the lock has been released */
         LazyBuffer inputBuffer = new LazyBuffer();
         boolean handshakeFinished = false;
 
-        synchronized (this) {
+        synchronized (writeLock) {
             SSLEngineResult.HandshakeStatus hs = sslEngine.getHandshakeStatus();
             if (!isHandshaking(hs)) {
                 // we stopped handshaking while waiting for the lock
                 return true;
             }
+            ByteBuffer applicationInputBuffer = null;
             try {
-                /* we don't use networkOutputBuffer, because there might be a write operation still in progress ->
-                we don't want to corrupt the buffer it is using */
-                LazyBuffer outputBuffer = new LazyBuffer();
+                final LazyBuffer outputBuffer = new LazyBuffer();
                 boolean stepFinished = false;
                 while (!stepFinished) {
                     hs = sslEngine.getHandshakeStatus();
@@ -476,6 +545,10 @@ class SslFilter extends Filter {
                         }
 
                         case NEED_UNWRAP: {
+                            if (applicationInputBuffer == null) {
+                                applicationInputBuffer =
+                                        BUFFER_POOL.acquire(sslEngine.getSession().getApplicationBufferSize());
+                            }
 
                             SSLEngineResult result = sslEngine.unwrap(networkData, applicationInputBuffer);
 
@@ -484,7 +557,7 @@ class SslFilter extends Filter {
                                 // data can flow during re-handshake
                                 inputBuffer.append(applicationInputBuffer);
                             }
-                            applicationInputBuffer.compact();
+                            applicationInputBuffer.clear();
 
                             if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.FINISHED) {
                                 stepFinished = true;
@@ -494,8 +567,8 @@ class SslFilter extends Filter {
                             switch (result.getStatus()) {
                                 case BUFFER_OVERFLOW: {
                                     /* This means that the content of the ssl packet (max 16kB) did not fit into
-                                    applicationInputBuffer, but we make sure to set applicationInputBuffer > max 16kB
-                                    when initializing this filter. This indicates a bug. */
+                                    applicationInputBuffer, but we make sure to get applicationInputBuffer > max 16kB
+                                    from the pool. This indicates a bug. */
                                     throw new IllegalStateException("SSL packet does not fit into the network buffer: "
                                             + getDebugState());
                                 }
@@ -530,11 +603,23 @@ class SslFilter extends Filter {
                 if (outputBuffer.isAllocated()) {
                     ByteBuffer buffer = outputBuffer.get();
                     buffer.flip();
-                    writeQueue.write(buffer, null);
+                    writeQueue.write(buffer, new CompletionHandler<ByteBuffer>() {
+                        @Override
+                        public void completed(ByteBuffer result) {
+                            outputBuffer.release();
+                        }
+
+                        @Override
+                        public void failed(Throwable throwable) {
+                            outputBuffer.release();
+                        }
+                    });
                 }
 
             } catch (Exception e) {
                 handleSslError(e);
+            } finally {
+                BUFFER_POOL.release(applicationInputBuffer);
             }
         }
 
@@ -570,6 +655,7 @@ class SslFilter extends Filter {
 
         if (state == State.HANDSHAKING) {
             setState(State.DATA);
+            SslSessionStatistics.handshakeCompleted(sslContext, sslEngine.getSession(), handshakeStartTime);
             upstreamFilter.onSslHandshakeCompleted();
         } else if (state == State.REHANDSHAKING) {
             setState(State.DATA);
@@ -591,6 +677,7 @@ class SslFilter extends Filter {
     void startSsl() {
         try {
             setState(State.HANDSHAKING);
+            handshakeStartTime = System.currentTimeMillis();
             sslEngine.beginHandshake();
             doHandshakeStep(emptyBuffer);
         } catch (SSLException e) {
@@ -614,13 +701,12 @@ class SslFilter extends Filter {
      */
     private String getDebugState() {
         return "SslFilter{"
-                + "\napplicationInputBuffer=" + applicationInputBuffer
-                + ",\nnetworkOutputBuffer=" + networkOutputBuffer
-                + ",\nsslEngineStatus=" + sslEngine.getHandshakeStatus()
+                + "\nsslEngineStatus=" + sslEngine.getHandshakeStatus()
                 + ",\nsslSession=" + sslEngine.getSession()
                 + ",\nstate=" + state
                 + ",\npendingApplicationWrite=" + pendingApplicationWrite
                 + ",\npendingWritesSize=" + writeQueue
+                + ",\npooledBuffers=" + BUFFER_POOL.getPooledCount()
                 + '}';
     }
 
@@ -638,7 +724,7 @@ class SslFilter extends Filter {
 
         ByteBuffer get() {
             if (buffer == null) {
-                buffer = ByteBuffer.allocate(sslEngine.getSession().getPacketBufferSize());
+                buffer = BUFFER_POOL.acquire(sslEngine.getSession().getPacketBufferSize());
             }
 
             return buffer;
@@ -651,11 +737,16 @@ class SslFilter extends Filter {
         void resize() {
             int increment = sslEngine.getSession().getPacketBufferSize();
             int newSize = buffer.position() + increment;
-            ByteBuffer newBuffer = ByteBuffer.allocate(newSize);
+            ByteBuffer newBuffer = BUFFER_POOL.acquire(newSize);
             buffer.flip();
-            newBuffer.flip();
-            buffer = Utils.appendBuffers(newBuffer, buffer, newBuffer.limit(), 50);
-            buffer.compact();
+            newBuffer.put(buffer);
+            BUFFER_POOL.release(buffer);
+            buffer = newBuffer;
+        }
+
+        void release() {
+            BUFFER_POOL.release(buffer);
+            buffer = null;
         }
 
         void append(ByteBuffer b) {
@@ -668,40 +759,57 @@ class SslFilter extends Filter {
         }
     }
 
-    // synchronized on the outer class, because there is a danger of deadlock if this has its own lock
+    // synchronized on the write lock of the outer class, there is a danger of deadlock if this has its own lock
     private class WriteQueue {
 
         private final Queue<Runnable> pendingWrites = new LinkedList<>();
 
         void write(final ByteBuffer data, final CompletionHandler<ByteBuffer> completionHandler) {
-            synchronized (SslFilter.this) {
-                Runnable r = new Runnable() {
-                    @Override
-                    public void run() {
-                        downstreamFilter.write(data, new CompletionHandler<ByteBuffer>() {
-
-                            @Override
-                            public void completed(ByteBuffer result) {
-                                if (completionHandler != null) {
-                                    completionHandler.completed(result);
-                                }
+            enqueue(new Runnable() {
+                @Override
+                public void run() {
+                    downstreamFilter.write(data, new CompletionHandler<ByteBuffer>() {
+
+                        @Override
+                        public void completed(ByteBuffer result) {
+                            completionHandler.completed(result);
+                            onWriteCompleted();
+                        }
 
-                                onWriteCompleted();
-                            }
+                        @Override
+                        public void failed(Throwable throwable) {
+                            completionHandler.failed(throwable);
+                            onWriteCompleted();
+                        }
+                    });
+                }
+            });
+        }
 
-                            @Override
-                            public void failed(Throwable throwable) {
-                                if (completionHandler != null) {
-                                    completionHandler.failed(throwable);
-                                }
+        void write(final ByteBuffer[] data, final CompletionHandler<ByteBuffer[]> completionHandler) {
+            enqueue(new Runnable() {
+                @Override
+                public void run() {
+                    downstreamFilter.write(data, new CompletionHandler<ByteBuffer[]>() {
 
-                                onWriteCompleted();
-                            }
-                        });
-                    }
-                };
+                        @Override
+                        public void completed(ByteBuffer[] result) {
+                            completionHandler.completed(result);
+                            onWriteCompleted();
+                        }
 
+                        @Override
+                        public void failed(Throwable throwable) {
+                            completionHandler.failed(throwable);
+                            onWriteCompleted();
+                        }
+                    });
+                }
+            });
+        }
 
+        private void enqueue(Runnable r) {
+            synchronized (writeLock) {
                 pendingWrites.offer(r);
                 // if our task is the first one in the queue, there is no other write task in progress -> process it
                 if (pendingWrites.peek() == r) {
@@ -711,7 +819,7 @@ class SslFilter extends Filter {
         }
 
         private void onWriteCompleted() {
-            synchronized (SslFilter.this) {
+            synchronized (writeLock) {
                 // task in progress is at the head of the queue -> remove it
                 pendingWrites.poll();
                 Runnable next = pendingWrites.peek();
@@ -724,7 +832,7 @@ class SslFilter extends Filter {
 
         @Override
         public String toString() {
-            synchronized (SslFilter.this) {
+            synchronized (writeLock) {
                 return "WriteQueue{"
                         + "pendingWrites="
                         + pendingWrites.size()
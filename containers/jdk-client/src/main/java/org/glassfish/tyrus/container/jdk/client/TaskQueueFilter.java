@@ -17,6 +17,8 @@
 package org.glassfish.tyrus.container.jdk.client;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -33,11 +35,19 @@ import org.glassfish.tyrus.spi.CompletionHandler;
  * methods called before {@link #close()} will be processed. Including {@link #startSsl()} methods in the queue ensures
  * that no {@link #write(java.nio.ByteBuffer, org.glassfish.tyrus.spi.CompletionHandler)} method will be passed to
  * {@link org.glassfish.tyrus.container.jdk.client.SslFilter} while it performs SSL handshake.
+ * <p/>
+ * Writes queued while a previous task is in progress are passed to the downstream filter together as one gathering
+ * write, so that {@link org.glassfish.tyrus.container.jdk.client.SslFilter} can put them in one SSL packet.
  *
  * @author Petr Janouch
  */
 class TaskQueueFilter extends Filter {
 
+    /* Limits of writes gathered to one downstream write. The size limit corresponds to the maximal amount of data
+    in one SSL packet. */
+    private static final int MAX_GATHERED_WRITES = 16;
+    private static final int MAX_GATHERED_SIZE = 16 * 1024;
+
     private final Queue<Task> taskQueue = new ConcurrentLinkedQueue<>();
     private final AtomicBoolean taskLock = new AtomicBoolean(false);
 
@@ -64,9 +74,31 @@ class TaskQueueFilter extends Filter {
             taskLock.set(false);
             return;
         }
+        if (task instanceof WriteTask && taskQueue.peek() instanceof WriteTask) {
+            gatherWrites((WriteTask) task).execute(this);
+            return;
+        }
         task.execute(this);
     }
 
+    private Task gatherWrites(WriteTask first) {
+        // only the thread holding the task lock removes tasks from the queue, the peeked task cannot be taken away
+        final List<WriteTask> writes = new ArrayList<>();
+        writes.add(first);
+        int size = first.getData().remaining();
+
+        Task next = taskQueue.peek();
+        while (writes.size() < MAX_GATHERED_WRITES && next instanceof WriteTask
+                && size + ((WriteTask) next).getData().remaining() <= MAX_GATHERED_SIZE) {
+            taskQueue.poll();
+            writes.add((WriteTask) next);
+            size += ((WriteTask) next).getData().remaining();
+            next = taskQueue.peek();
+        }
+
+        return writes.size() == 1 ? first : new GatheredWriteTask(writes);
+    }
+
     @Override
     void close() {
         // close task
@@ -133,6 +165,11 @@ class TaskQueueFilter extends Filter {
 
         @Override
         public void execute(final TaskQueueFilter queueFilter) {
+            getCompletionHandler().started();
+            write(queueFilter);
+        }
+
+        private void write(final TaskQueueFilter queueFilter) {
             queueFilter.downstreamFilter.write(getData(), new CompletionHandler<ByteBuffer>() {
 
                 @Override
@@ -144,7 +181,7 @@ class TaskQueueFilter extends Filter {
                 @Override
                 public void completed(ByteBuffer result) {
                     if (result.hasRemaining()) {
-                        execute(queueFilter);
+                        write(queueFilter);
                         return;
                     }
 
@@ -167,4 +204,59 @@ class TaskQueueFilter extends Filter {
             return "WriteTask{data=" + data + ", completionHandler=" + completionHandler + '}';
         }
     }
+
+    /**
+     * A task that writes data of several write tasks to the downstreamFilter at once.
+     */
+    static class GatheredWriteTask implements Task {
+        private final List<WriteTask> writes;
+        private final ByteBuffer[] data;
+
+        GatheredWriteTask(List<WriteTask> writes) {
+            this.writes = writes;
+            this.data = new ByteBuffer[writes.size()];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = writes.get(i).getData();
+            }
+        }
+
+        @Override
+        public void execute(final TaskQueueFilter queueFilter) {
+            for (WriteTask write : writes) {
+                write.getCompletionHandler().started();
+            }
+            write(queueFilter);
+        }
+
+        private void write(final TaskQueueFilter queueFilter) {
+            queueFilter.downstreamFilter.write(data, new CompletionHandler<ByteBuffer[]>() {
+
+                @Override
+                public void failed(Throwable throwable) {
+                    for (WriteTask write : writes) {
+                        write.getCompletionHandler().failed(throwable);
+                    }
+                    queueFilter.processTask();
+                }
+
+                @Override
+                public void completed(ByteBuffer[] result) {
+                    if (hasRemaining(result)) {
+                        write(queueFilter);
+                        return;
+                    }
+
+                    for (WriteTask write : writes) {
+                        write.getCompletionHandler().completed(write.getData());
+                    }
+                    queueFilter.processTask();
+                }
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "GatheredWriteTask{writes=" + writes + '}';
+        }
+    }
 }
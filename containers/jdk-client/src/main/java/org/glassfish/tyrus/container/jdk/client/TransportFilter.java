@@ -35,7 +35,6 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -60,7 +59,6 @@ class TransportFilter extends Filter {
 
     private static final Logger LOGGER = Logger.getLogger(TransportFilter.class.getName());
     private static final int DEFAULT_CONNECTION_CLOSE_WAIT = 30;
-    private static final AtomicInteger openedConnections = new AtomicInteger(0);
     private static final ScheduledExecutorService connectionCloseScheduler =
             Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
                 @Override
@@ -72,17 +70,13 @@ class TransportFilter extends Filter {
                 }
             });
 
-    private static volatile AsynchronousChannelGroup channelGroup;
-    private static volatile ScheduledFuture<?> closeWaitTask;
-
-    /**
-     * {@link org.glassfish.tyrus.client.ThreadPoolConfig} current {@link #channelGroup} has been created with.
-     */
-    private static volatile ThreadPoolConfig currentThreadPoolConfig;
-    /**
-     * Idle timeout that will be used when closing current {@link #channelGroup}
-     */
-    private static volatile Integer currentContainerIdleTimeout;
+    private static final ChannelGroupRegistry channelGroupRegistry =
+            new ChannelGroupRegistry(connectionCloseScheduler, new ChannelGroupRegistry.ChannelGroupFactory() {
+                @Override
+                public AsynchronousChannelGroup create(ThreadPoolConfig threadPoolConfig) throws IOException {
+                    return createChannelGroup(threadPoolConfig);
+                }
+            });
 
     private final int inputBufferSize;
     private final ThreadPoolConfig threadPoolConfig;
@@ -90,13 +84,20 @@ class TransportFilter extends Filter {
     private final InetAddress bindingAddress;
 
     private volatile AsynchronousSocketChannel socketChannel;
+    private volatile ChannelGroupRegistry.Reference channelGroupReference;
+
+    private final Object readLock = new Object();
+    // guarded by readLock
+    private boolean readSuspended = false;
+    // input buffer of the read not started because reading has been suspended, guarded by readLock
+    private ByteBuffer suspendedReadBuffer = null;
 
     /**
      * Constructor.
      * <p/>
-     * If the channel group is not active (all connections have been closed and the shutdown timeout is running) and a
-     * new transport is created with tread pool configuration different from the one of the current thread pool, the
-     * current thread pool will be shut down and a new one created with the new configuration.
+     * Transports with equal thread pool configuration and idle timeout share one channel group, which is shut down
+     * when the idle timeout elapses after the last of them has been closed. Transports with other configuration use
+     * other channel groups.
      *
      * @param inputBufferSize      size of buffer to be allocated for reading data from a socket.
      * @param threadPoolConfig     thread pool configuration used for creating thread pool.
@@ -136,9 +137,33 @@ class TransportFilter extends Filter {
         });
     }
 
+    @Override
+    void write(ByteBuffer[] data, final org.glassfish.tyrus.spi.CompletionHandler<ByteBuffer[]> completionHandler) {
+        // zero timeout means no timeout, the same as for the single buffer write
+        socketChannel.write(data, 0, data.length, 0, TimeUnit.MILLISECONDS, data,
+                            new CompletionHandler<Long, ByteBuffer[]>() {
+
+                                @Override
+                                public void completed(Long result, ByteBuffer[] buffers) {
+                                    if (hasRemaining(buffers)) {
+                                        write(buffers, completionHandler);
+                                        return;
+                                    }
+                                    completionHandler.completed(buffers);
+                                }
+
+                                @Override
+                                public void failed(Throwable exc, ByteBuffer[] buffers) {
+                                    completionHandler.failed(exc);
+                                }
+                            });
+    }
+
     @Override
     synchronized void close() {
-        if (!socketChannel.isOpen()) {
+        releaseChannelGroup();
+
+        if (socketChannel == null || !socketChannel.isOpen()) {
             return;
         }
         try {
@@ -146,16 +171,31 @@ class TransportFilter extends Filter {
         } catch (IOException e) {
             LOGGER.log(Level.INFO, "Could not close a connection", e);
         }
-        synchronized (TransportFilter.class) {
-            openedConnections.decrementAndGet();
-            if (openedConnections.get() == 0 && channelGroup != null) {
-                scheduleClose();
-            }
-        }
 
         upstreamFilter = null;
     }
 
+    @Override
+    void suspendRead() {
+        synchronized (readLock) {
+            readSuspended = true;
+        }
+    }
+
+    @Override
+    void resumeRead() {
+        final ByteBuffer inputBuffer;
+        synchronized (readLock) {
+            readSuspended = false;
+            inputBuffer = suspendedReadBuffer;
+            suspendedReadBuffer = null;
+        }
+
+        if (inputBuffer != null) {
+            _read(inputBuffer);
+        }
+    }
+
     @Override
     void startSsl() {
         onSslHandshakeCompleted();
@@ -166,16 +206,14 @@ class TransportFilter extends Filter {
         this.upstreamFilter = upstreamFilter;
 
         try {
-            synchronized (TransportFilter.class) {
-                updateThreadPoolConfig();
-                initializeChannelGroup();
-                socketChannel = AsynchronousSocketChannel.open(channelGroup);
-                if (bindingAddress != null) {
-                    socketChannel.bind(new InetSocketAddress(bindingAddress, 0));
-                }
-                openedConnections.incrementAndGet();
+            final int closeWait = containerIdleTimeout == null ? DEFAULT_CONNECTION_CLOSE_WAIT : containerIdleTimeout;
+            channelGroupReference = channelGroupRegistry.acquire(threadPoolConfig, closeWait);
+            socketChannel = AsynchronousSocketChannel.open(channelGroupReference.getChannelGroup());
+            if (bindingAddress != null) {
+                socketChannel.bind(new InetSocketAddress(bindingAddress, 0));
             }
         } catch (IOException e) {
+            releaseChannelGroup();
             onError(e);
             return;
         }
@@ -199,72 +237,48 @@ class TransportFilter extends Filter {
                     } catch (IOException e) {
                         LOGGER.log(Level.FINE, "Could not close connection", exc.getMessage());
                     }
+                    releaseChannelGroup();
                 }
             });
         } catch (UnresolvedAddressException | UnsupportedAddressTypeException e) {
+            releaseChannelGroup();
             onError(e);
         }
     }
 
-    private void updateThreadPoolConfig() {
-
-        // the channel group is active, no change in configuration
-        if (openedConnections.get() != 0) {
-            return;
-        }
-
-        Integer closeWait = containerIdleTimeout == null ? DEFAULT_CONNECTION_CLOSE_WAIT : containerIdleTimeout;
-        // check if the new configuration is different from the one of the current container
-        if (!threadPoolConfig.equals(currentThreadPoolConfig) || !closeWait.equals(currentContainerIdleTimeout)) {
-
-            currentThreadPoolConfig = threadPoolConfig;
-            currentContainerIdleTimeout = closeWait;
-
-            if (channelGroup == null) {
-                // the channel group has not been initialized (this is a first client) - no need to shut it down
-                return;
-            }
-
-            closeWaitTask.cancel(true);
-            closeWaitTask = null;
-            channelGroup.shutdown();
-            channelGroup = null;
+    private void releaseChannelGroup() {
+        final ChannelGroupRegistry.Reference reference = channelGroupReference;
+        if (reference != null) {
+            reference.release();
         }
     }
 
-    private void initializeChannelGroup() throws IOException {
-        if (closeWaitTask != null) {
-            closeWaitTask.cancel(true);
-            closeWaitTask = null;
+    private static AsynchronousChannelGroup createChannelGroup(ThreadPoolConfig threadPoolConfig) throws IOException {
+        ThreadFactory threadFactory = threadPoolConfig.getThreadFactory();
+        if (threadFactory == null) {
+            threadFactory = new TransportThreadFactory(threadPoolConfig);
         }
 
-        if (channelGroup == null) {
-            ThreadFactory threadFactory = threadPoolConfig.getThreadFactory();
-            if (threadFactory == null) {
-                threadFactory = new TransportThreadFactory(threadPoolConfig);
-            }
-
-            ExecutorService executor;
-            if (threadPoolConfig.getQueue() != null) {
-                executor = new QueuingExecutor(threadPoolConfig.getCorePoolSize(), threadPoolConfig.getMaxPoolSize(),
-                                               threadPoolConfig.getKeepAliveTime(TimeUnit.MILLISECONDS),
-                                               TimeUnit.MILLISECONDS,
-                                               threadPoolConfig.getQueue(), false, threadFactory);
-            } else {
-                int taskQueueLimit = threadPoolConfig.getQueueLimit();
-                if (taskQueueLimit == -1) {
-                    taskQueueLimit = Integer.MAX_VALUE;
-                }
-
-                executor = new QueuingExecutor(threadPoolConfig.getCorePoolSize(), threadPoolConfig.getMaxPoolSize(),
-                                               threadPoolConfig.getKeepAliveTime(TimeUnit.MILLISECONDS),
-                                               TimeUnit.MILLISECONDS, new
-                        LinkedBlockingDeque<Runnable>(taskQueueLimit), true, threadFactory);
+        ExecutorService executor;
+        if (threadPoolConfig.getQueue() != null) {
+            executor = new QueuingExecutor(threadPoolConfig.getCorePoolSize(), threadPoolConfig.getMaxPoolSize(),
+                                           threadPoolConfig.getKeepAliveTime(TimeUnit.MILLISECONDS),
+                                           TimeUnit.MILLISECONDS,
+                                           threadPoolConfig.getQueue(), false, threadFactory);
+        } else {
+            int taskQueueLimit = threadPoolConfig.getQueueLimit();
+            if (taskQueueLimit == -1) {
+                taskQueueLimit = Integer.MAX_VALUE;
             }
 
-            // Thread pool is owned by the channel group and will be shut down when channel group is shut down
-            channelGroup = AsynchronousChannelGroup.withCachedThreadPool(executor, threadPoolConfig.getCorePoolSize());
+            executor = new QueuingExecutor(threadPoolConfig.getCorePoolSize(), threadPoolConfig.getMaxPoolSize(),
+                                           threadPoolConfig.getKeepAliveTime(TimeUnit.MILLISECONDS),
+                                           TimeUnit.MILLISECONDS, new
+                    LinkedBlockingDeque<Runnable>(taskQueueLimit), true, threadFactory);
         }
+
+        // Thread pool is owned by the channel group and will be shut down when channel group is shut down
+        return AsynchronousChannelGroup.withCachedThreadPool(executor, threadPoolConfig.getCorePoolSize());
     }
 
     private void _read(final ByteBuffer inputBuffer) {
@@ -293,6 +307,15 @@ class TransportFilter extends Filter {
                 inputBuffer.flip();
                 onRead(inputBuffer);
                 inputBuffer.compact();
+
+                synchronized (readLock) {
+                    if (readSuspended) {
+                        // the next read is started by resumeRead()
+                        suspendedReadBuffer = inputBuffer;
+                        return;
+                    }
+                }
+
                 _read(inputBuffer);
             }
 
@@ -311,22 +334,6 @@ class TransportFilter extends Filter {
         });
     }
 
-    private void scheduleClose() {
-        closeWaitTask = connectionCloseScheduler.schedule(new Runnable() {
-            @Override
-            public void run() {
-                synchronized (TransportFilter.class) {
-                    if (closeWaitTask == null) {
-                        return;
-                    }
-                    channelGroup.shutdown();
-                    channelGroup = null;
-                    closeWaitTask = null;
-                }
-            }
-        }, currentContainerIdleTimeout, TimeUnit.SECONDS);
-    }
-
     /**
      * A default thread factory that gets used if {@link org.glassfish.tyrus.client.ThreadPoolConfig#getThreadFactory()}
      * is not specified.
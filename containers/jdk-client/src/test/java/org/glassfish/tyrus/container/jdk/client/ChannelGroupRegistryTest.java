@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.container.jdk.client;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousChannelGroup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.tyrus.client.ThreadPoolConfig;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link ChannelGroupRegistry}.
+ */
+public class ChannelGroupRegistryTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger createdGroups = new AtomicInteger(0);
+    private final ChannelGroupRegistry registry =
+            new ChannelGroupRegistry(scheduler, new ChannelGroupRegistry.ChannelGroupFactory() {
+                @Override
+                public AsynchronousChannelGroup create(ThreadPoolConfig threadPoolConfig) throws IOException {
+                    createdGroups.incrementAndGet();
+                    return AsynchronousChannelGroup.withFixedThreadPool(1, Executors.defaultThreadFactory());
+                }
+            });
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testSharing() throws IOException {
+        final ChannelGroupRegistry.Reference first = registry.acquire(ThreadPoolConfig.defaultConfig(), 30);
+        final ChannelGroupRegistry.Reference second = registry.acquire(ThreadPoolConfig.defaultConfig(), 30);
+        final ChannelGroupRegistry.Reference otherTimeout = registry.acquire(ThreadPoolConfig.defaultConfig(), 10);
+        final ChannelGroupRegistry.Reference otherConfig =
+                registry.acquire(ThreadPoolConfig.defaultConfig().setMaxPoolSize(3), 30);
+
+        assertSame(first.getChannelGroup(), second.getChannelGroup());
+        assertNotSame(first.getChannelGroup(), otherTimeout.getChannelGroup());
+        assertNotSame(first.getChannelGroup(), otherConfig.getChannelGroup());
+        assertEquals(3, createdGroups.get());
+
+        for (ChannelGroupRegistry.Reference reference : new ChannelGroupRegistry.Reference[]{first, second,
+                otherTimeout, otherConfig}) {
+            reference.release();
+            assertFalse(reference.getChannelGroup().isShutdown());
+        }
+    }
+
+    @Test
+    public void testIdleTimeout() throws Exception {
+        final ChannelGroupRegistry.Reference first = registry.acquire(ThreadPoolConfig.defaultConfig(), 0);
+        final ChannelGroupRegistry.Reference second = registry.acquire(ThreadPoolConfig.defaultConfig(), 0);
+        final AsynchronousChannelGroup channelGroup = first.getChannelGroup();
+
+        first.release();
+        // released twice, must not affect the other reference
+        first.release();
+        Thread.sleep(100);
+        assertFalse(channelGroup.isShutdown());
+
+        second.release();
+        assertTrue(channelGroup.awaitTermination(5, TimeUnit.SECONDS));
+
+        final ChannelGroupRegistry.Reference third = registry.acquire(ThreadPoolConfig.defaultConfig(), 0);
+        assertNotSame(channelGroup, third.getChannelGroup());
+        assertEquals(2, createdGroups.get());
+        third.release();
+    }
+
+    @Test
+    public void testConcurrentAcquireRelease() throws Exception {
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        final List<Throwable> errors = new ArrayList<Throwable>();
+
+        final ChannelGroupRegistry.Reference held = registry.acquire(ThreadPoolConfig.defaultConfig(), 30);
+        for (int i = 0; i < threads; i++) {
+            new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int j = 0; j < 10000; j++) {
+                            final ChannelGroupRegistry.Reference reference =
+                                    registry.acquire(ThreadPoolConfig.defaultConfig(), 30);
+                            if (reference.getChannelGroup() != held.getChannelGroup()) {
+                                throw new AssertionError("Channel group not shared.");
+                            }
+                            reference.release();
+                        }
+                    } catch (Throwable t) {
+                        synchronized (errors) {
+                            errors.add(t);
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }.start();
+        }
+
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertTrue(errors.toString(), errors.isEmpty());
+        assertEquals(1, createdGroups.get());
+        held.release();
+    }
+}
@@ -17,6 +17,7 @@
 package org.glassfish.tyrus.container.jdk.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -44,6 +45,7 @@ import javax.net.ssl.SSLSocket;
 
 import org.glassfish.tyrus.client.SslContextConfigurator;
 import org.glassfish.tyrus.client.SslEngineConfigurator;
+import org.glassfish.tyrus.client.SslSessionStatistics;
 import org.glassfish.tyrus.client.ThreadPoolConfig;
 import org.glassfish.tyrus.spi.CompletionHandler;
 import org.junit.Before;
@@ -357,6 +359,93 @@ public class SslFilterTest {
         }
     }
 
+    @Test
+    public void testGatheringWrite() throws Throwable {
+        CountDownLatch latch = new CountDownLatch(1);
+        final CountDownLatch writeLatch = new CountDownLatch(1);
+        SslEchoServer server = new SslEchoServer();
+        try {
+            server.start();
+            String message = "Hello world\n";
+            ByteBuffer readBuffer = ByteBuffer.allocate(message.length());
+            Filter clientSocket = openClientSocket("localhost", readBuffer, latch, null);
+
+            final ByteBuffer[] data = new ByteBuffer[]{stringToBuffer("Hello"), stringToBuffer(" "),
+                    stringToBuffer("world\n")};
+            clientSocket.write(data, new CompletionHandler<ByteBuffer[]>() {
+                @Override
+                public void completed(ByteBuffer[] result) {
+                    writeLatch.countDown();
+                }
+
+                @Override
+                public void failed(Throwable t) {
+                    t.printStackTrace();
+                }
+            });
+
+            assertTrue(writeLatch.await(5, TimeUnit.SECONDS));
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            clientSocket.close();
+            for (ByteBuffer buffer : data) {
+                assertEquals(0, buffer.remaining());
+            }
+            readBuffer.flip();
+            assertEquals(message, bufferToString(readBuffer));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testSessionResumption() throws Throwable {
+        SslContextConfigurator sslConfig = new SslContextConfigurator(false);
+        sslConfig.setTrustStoreFile(this.getClass().getResource(CLIENT_TRUST_STORE).getPath())
+                .setTrustStorePassword(PASSWORD)
+                .setKeyStoreFile(this.getClass().getResource(CLIENT_KEY_STORE).getPath())
+                .setKeyStorePassword(PASSWORD);
+        SslContextConfigurator equalConfig = new SslContextConfigurator(false);
+        equalConfig.setTrustStoreFile(this.getClass().getResource(CLIENT_TRUST_STORE).getPath())
+                .setTrustStorePassword(PASSWORD)
+                .setKeyStoreFile(this.getClass().getResource(CLIENT_KEY_STORE).getPath())
+                .setKeyStorePassword(PASSWORD);
+
+        // configurators with equal settings share the context and its session cache
+        assertSame(sslConfig.getSharedSSLContext(), equalConfig.getSharedSSLContext());
+
+        SslEchoServer server = new SslEchoServer();
+        try {
+            SslSessionStatistics statistics = SslSessionStatistics.getStatistics(sslConfig.getSharedSSLContext());
+            long resumed = statistics.getResumedHandshakeCount();
+            String message = "Hello world\n";
+            for (SslContextConfigurator config : new SslContextConfigurator[]{sslConfig, equalConfig}) {
+                server.start();
+                CountDownLatch latch = new CountDownLatch(1);
+                ByteBuffer readBuffer = ByteBuffer.allocate(message.length());
+                Filter clientSocket = openClientSocket("localhost", new SslEngineConfigurator(config), PORT, readBuffer,
+                                                       latch);
+                clientSocket.write(stringToBuffer(message), new CompletionHandler<ByteBuffer>() {
+                    @Override
+                    public void failed(Throwable t) {
+                        t.printStackTrace();
+                    }
+                });
+
+                assertTrue(latch.await(5, TimeUnit.SECONDS));
+                clientSocket.close();
+            }
+
+            assertEquals(resumed + 1, statistics.getResumedHandshakeCount());
+
+            // statistics are kept per context, a context created separately has not been used by any connection
+            SslSessionStatistics otherStatistics = SslSessionStatistics.getStatistics(sslConfig.createSSLContext());
+            assertEquals(0, otherStatistics.getFullHandshakeCount());
+            assertEquals(0, otherStatistics.getResumedHandshakeCount());
+        } finally {
+            server.stop();
+        }
+    }
+
     private String bufferToString(ByteBuffer buffer) {
         byte[] bytes = new byte[buffer.remaining()];
         buffer.get(bytes);
@@ -386,8 +475,14 @@ public class SslFilterTest {
         SslEngineConfigurator sslEngineConfigurator = new SslEngineConfigurator(sslConfig.createSSLContext());
         sslEngineConfigurator.setHostnameVerifier(customHostnameVerifier);
 
+        return openClientSocket(host, sslEngineConfigurator, -1, readBuffer, completionLatch);
+    }
+
+    private Filter openClientSocket(String host, SslEngineConfigurator sslEngineConfigurator, int serverPort,
+                                    final ByteBuffer readBuffer, final CountDownLatch completionLatch)
+            throws Throwable {
         final TransportFilter transportFilter = new TransportFilter(17_000, ThreadPoolConfig.defaultConfig(), null, null);
-        final SslFilter sslFilter = new SslFilter(transportFilter, sslEngineConfigurator, host);
+        final SslFilter sslFilter = new SslFilter(transportFilter, sslEngineConfigurator, host, serverPort);
 
         // exceptions errors that occur before SSL handshake has finished are thrown from this method
         final AtomicReference<Throwable> exception = new AtomicReference<>();
@@ -442,6 +537,11 @@ public class SslFilterTest {
                 downstreamFilter.write(data, completionHandler);
             }
 
+            @Override
+            void write(ByteBuffer[] data, CompletionHandler<ByteBuffer[]> completionHandler) {
+                downstreamFilter.write(data, completionHandler);
+            }
+
             @Override
             void processConnectionClosed() {
                 downstreamFilter.close();
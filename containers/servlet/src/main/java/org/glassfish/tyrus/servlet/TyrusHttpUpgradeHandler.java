@@ -19,6 +19,7 @@ package org.glassfish.tyrus.servlet;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -32,6 +33,7 @@ import javax.servlet.http.WebConnection;
 
 import org.glassfish.tyrus.core.CloseReasons;
 import org.glassfish.tyrus.spi.Connection;
+import org.glassfish.tyrus.spi.ReadController;
 import org.glassfish.tyrus.spi.WebSocketEngine;
 import org.glassfish.tyrus.spi.Writer;
 
@@ -52,16 +54,27 @@ public class TyrusHttpUpgradeHandler implements HttpUpgradeHandler, ReadListener
     private ServletInputStream is;
     private ServletOutputStream os;
     private WebConnection wc;
-    private ByteBuffer buf;
 
     private volatile boolean closed = false;
     private int incomingBufferSize = 4194315; // 4M (payload) + 11 (frame overhead)
 
     private static final Logger LOGGER = Logger.getLogger(TyrusHttpUpgradeHandler.class.getName());
 
+    // read buffers are lent only for the duration of onDataAvailable, so their number follows the number of threads
+    // reading at the same time rather than the number of connections
+    private static final BufferPool READ_BUFFER_POOL =
+            new BufferPool(16384, 4 * Runtime.getRuntime().availableProcessors());
+
     private Connection connection;
     private WebSocketEngine.UpgradeInfo upgradeInfo;
     private Writer writer;
+    private Executor readExecutor;
+
+    private final Object readLock = new Object();
+    // guarded by readLock
+    private boolean readSuspended = false;
+    // onDataAvailable returned while data were ready because reading has been suspended, guarded by readLock
+    private boolean readStopped = false;
 
 
     private boolean authenticated = false;
@@ -94,6 +107,10 @@ public class TyrusHttpUpgradeHandler implements HttpUpgradeHandler, ReadListener
             }
         });
 
+        if (readExecutor != null) {
+            connection.getReadHandler().setReadController(new ServletReadController());
+        }
+
         connectionLatch.countDown();
     }
 
@@ -111,99 +128,69 @@ public class TyrusHttpUpgradeHandler implements HttpUpgradeHandler, ReadListener
             // do nothing.
         }
 
-        do {
-            try {
-                int available = is.available();
-                if (available == 0) {
-                    // tomcat impl returns always 0
-                    available = 16384;
+        final ByteBuffer buffer = READ_BUFFER_POOL.acquire();
+        try {
+            do {
+                if (stopReading()) {
+                    break;
                 }
 
-                int toRead;
-                if (buf == null) {
-                    if (available > incomingBufferSize) {
-                        toRead = incomingBufferSize;
-                    } else {
-                        toRead = available;
-                    }
-                } else {
-                    if (buf.remaining() + available > incomingBufferSize) {
-                        toRead = incomingBufferSize - buf.remaining();
-                    } else {
-                        toRead = buf.remaining() + available;
+                try {
+                    if (!readAvailable(buffer)) {
+                        break;
                     }
+                } catch (IOException e) {
+                    connection.close(CloseReasons.CANNOT_ACCEPT.getCloseReason());
                 }
+            } while (!closed && is.isReady());
+        } finally {
+            READ_BUFFER_POOL.release(buffer);
+        }
+    }
 
-                if (toRead == 0) {
-                    throw new IOException(String.format("Tyrus input buffer exceeded. Current buffer size is %s bytes.",
-                                                        incomingBufferSize));
-                }
-
-                available -= fillBuf(toRead);
-
-                if (buf != null) {
-
-                    LOGGER.finest(String.format("Remaining Data = %d", buf.remaining()));
-
-                    if (buf.hasRemaining()) {
-                        connection.getReadHandler().handle(buf);
-                    }
-                }
-            } catch (IOException e) {
-                connection.close(CloseReasons.CANNOT_ACCEPT.getCloseReason());
+    /**
+     * Check whether reading has been suspended.
+     * <p>
+     * The container calls {@link #onDataAvailable()} again only after {@link ServletInputStream#isReady()} has returned
+     * {@code false}, so when reading is stopped, it has to be restarted by {@link ServletReadController#resumeReading()}.
+     *
+     * @return {@code true} if {@link #onDataAvailable()} should stop reading.
+     */
+    private boolean stopReading() {
+        synchronized (readLock) {
+            if (readSuspended) {
+                readStopped = true;
+                return true;
             }
-        } while (!closed && is.isReady());
+            return false;
+        }
     }
 
     /**
-     * Fill the buf with some more websocket protocol data.
+     * Read data from the servlet input stream and pass them to the Tyrus runtime.
+     * <p>
+     * The read handler copies passed data into its own buffer (it has to keep incomplete frames anyway), so the read
+     * buffer can be reused right after the read handler returns.
      *
-     * @param length length of data available to read.
-     * @return legth of actually read data.
+     * @param buffer read buffer.
+     * @return {@code false} when no data could be read.
      * @throws IOException if some other I/O error occurs.
      */
-    private int fillBuf(int length) throws IOException {
-        byte[] data = new byte[length];
-        int len = is.read(data);
-        if (len == 0) {
-            return 0;
+    private boolean readAvailable(ByteBuffer buffer) throws IOException {
+        final int len =
+                is.read(buffer.array(), buffer.arrayOffset(), Math.min(buffer.capacity(), incomingBufferSize));
+        if (len <= 0) {
+            return false;
         }
-        if (buf == null) {
-            LOGGER.finest("No Buffer. Allocating new one");
-            buf = ByteBuffer.wrap(data);
-            buf.limit(len);
-        } else {
-            int limit = buf.limit();
-            int capacity = buf.capacity();
-            int remaining = buf.remaining();
-
-            if (capacity - limit >= len) {
-                // Remaining data need not be changed. New data is just appended
-                LOGGER.finest("Remaining data need not be moved. New data is just appended");
-                buf.mark();
-                buf.position(limit);
-                buf.limit(capacity);
-                buf.put(data, 0, len);
-                buf.limit(limit + len);
-                buf.reset();
-            } else if (remaining + len < capacity) {
-                // Remaining data is moved to left. Then new data is appended
-                LOGGER.finest("Remaining data is moved to left. Then new data is appended");
-                buf.compact();
-                buf.put(data, 0, len);
-                buf.flip();
-            } else {
-                // Remaining data + new > capacity. So allocate new one
-                LOGGER.finest("Remaining data + new > capacity. So allocate new one");
-                byte[] array = new byte[remaining + len];
-                buf.get(array, 0, remaining);
-                System.arraycopy(data, 0, array, remaining, len);
-                buf = ByteBuffer.wrap(array);
-                buf.limit(remaining + len);
-            }
+
+        if (LOGGER.isLoggable(Level.FINEST)) {
+            LOGGER.finest(String.format("Read data = %d", len));
         }
 
-        return len;
+        buffer.clear();
+        buffer.limit(len);
+        connection.getReadHandler().handle(buffer);
+        return true;
     }
 
     @Override
@@ -252,6 +239,18 @@ public class TyrusHttpUpgradeHandler implements HttpUpgradeHandler, ReadListener
         this.incomingBufferSize = incomingBufferSize;
     }
 
+    /**
+     * Set executor used to resume reading of the connection after Tyrus has suspended it.
+     * <p>
+     * Has to be called before {@link #init(WebConnection)}. If not set, the connection is always read as fast as
+     * possible.
+     *
+     * @param readExecutor executor which continues reading when it is resumed.
+     */
+    public void setReadExecutor(Executor readExecutor) {
+        this.readExecutor = readExecutor;
+    }
+
     private void httpSessionForcedClose(int closeCode, String closeReason) {
         if (!closed) {
             try {
@@ -286,4 +285,33 @@ public class TyrusHttpUpgradeHandler implements HttpUpgradeHandler, ReadListener
         }
         return wc;
     }
+
+    private class ServletReadController implements ReadController {
+
+        @Override
+        public void suspendReading() {
+            synchronized (readLock) {
+                readSuspended = true;
+            }
+        }
+
+        @Override
+        public void resumeReading() {
+            synchronized (readLock) {
+                readSuspended = false;
+                if (!readStopped) {
+                    // onDataAvailable is still running or the container will call it
+                    return;
+                }
+                readStopped = false;
+            }
+
+            readExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    onDataAvailable();
+                }
+            });
+        }
+    }
 }
@@ -36,6 +36,7 @@ import javax.servlet.ServletException;
 import javax.servlet.annotation.HandlesTypes;
 
 import org.glassfish.tyrus.core.DebugContext;
+import org.glassfish.tyrus.core.EndpointIndex;
 import org.glassfish.tyrus.core.TyrusWebSocketEngine;
 import org.glassfish.tyrus.core.monitoring.ApplicationEventListener;
 import org.glassfish.tyrus.server.TyrusServerContainer;
@@ -45,6 +46,9 @@ import org.glassfish.tyrus.spi.WebSocketEngine;
  * Registers a filter for upgrade handshake.
  * <p>
  * All requests will be handled by registered filter if not specified otherwise.
+ * <p>
+ * Endpoints and application configs listed in {@value org.glassfish.tyrus.core.EndpointIndex#RESOURCE_NAME} are
+ * deployed together with the classes found by the container.
  *
  * @author Jitendra Kotamraju
  * @author Pavel Bucek (pavel.bucek at oracle.com)
@@ -64,6 +68,13 @@ public class TyrusServletContainerInitializer implements ServletContainerInitial
 
     @Override
     public void onStartup(Set<Class<?>> classes, final ServletContext ctx) throws ServletException {
+        // endpoints indexed at build time are deployed even when the container does not scan the application
+        final EndpointIndex endpointIndex = EndpointIndex.getInstance(ctx.getClassLoader());
+        if (!endpointIndex.isEmpty()) {
+            classes = classes == null ? new HashSet<Class<?>>() : new HashSet<Class<?>>(classes);
+            classes.addAll(endpointIndex.getClasses());
+        }
+
         if (classes == null || classes.isEmpty()) {
             return;
         }
@@ -22,6 +22,7 @@ import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javax.websocket.server.HandshakeRequest;
@@ -164,6 +165,11 @@ class TyrusServletFilter implements Filter, HttpSessionListener {
             handler.setIncomingBufferSize(incomingBufferSize);
         }
 
+        @Override
+        public void setReadExecutor(Executor readExecutor) {
+            handler.setReadExecutor(readExecutor);
+        }
+
         @Override
         WebConnection getWebConnection() {
             return handler.getWebConnection();
@@ -245,6 +251,9 @@ class TyrusServletFilter implements Filter, HttpSessionListener {
                     if (frameBufferSize != null) {
                         handler.setIncomingBufferSize(Integer.parseInt(frameBufferSize));
                     }
+                    if (serverContainer != null) {
+                        handler.setReadExecutor(serverContainer.getExecutorService());
+                    }
 
                     handler.preInit(upgradeInfo, webSocketConnection, httpServletRequest.getUserPrincipal() != null);
 
@@ -18,8 +18,10 @@ package org.glassfish.tyrus.servlet;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -31,29 +33,54 @@ import org.glassfish.tyrus.spi.Writer;
 
 /**
  * {@link org.glassfish.tyrus.spi.Writer} implementation used in Servlet integration.
+ * <p>
+ * Frames are queued and written by one thread at a time. Frames queued while some other thread is writing are written
+ * by that thread too and the {@link ServletOutputStream} is flushed only when the queue is empty or the stream is not
+ * ready, so frames sent at the same time are flushed together.
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
 class TyrusServletWriter extends Writer implements WriteListener {
 
     private final TyrusHttpUpgradeHandler tyrusHttpUpgradeHandler;
+
+    // guarded by "this"
     private final Deque<QueuedFrame> queue = new LinkedList<QueuedFrame>();
 
+    // frames written, but not flushed yet; accessed only by the draining thread
+    private final List<QueuedFrame> written = new ArrayList<QueuedFrame>();
+
+    // frames flushed or failed, their completion handlers are notified once the draining thread stops draining, so
+    // that a handler can send another frame synchronously; accessed only by the draining thread
+    private final List<QueuedFrame> finished = new ArrayList<QueuedFrame>();
+
     private static final Logger LOGGER = Logger.getLogger(TyrusServletWriter.class.getName());
 
+    // direct buffers are copied to a pooled array, which is lent only for the duration of one write
+    private static final BufferPool TRANSFER_BUFFER_POOL =
+            new BufferPool(16384, 4 * Runtime.getRuntime().availableProcessors());
+
     /**
-     * ServletOutputStream is not thread safe, must be synchronized.
+     * ServletOutputStream is not thread safe, must be used only by one thread at a time.
      * <p/>
-     * Access synchronized via "this" - Tyrus creates one instance of TyrusServletWriter per WebSocket connection, so
-     * that should be ok.
+     * Written only by the thread which drains the queue (see {@link #draining}) - Tyrus creates one instance of
+     * TyrusServletWriter per WebSocket connection, so that should be ok.
      */
     private ServletOutputStream servletOutputStream = null;
 
+    // guarded by "this"
     private boolean isListenerSet;
 
+    // guarded by "this"; true when some thread is writing queued frames
+    private boolean draining;
+
+    // guarded by "this"; onWritePossible was called while some thread was writing queued frames
+    private boolean writePossible;
+
     private static class QueuedFrame {
         public final CompletionHandler<ByteBuffer> completionHandler;
         public final ByteBuffer dataFrame;
+        public Throwable failure;
 
         QueuedFrame(CompletionHandler<ByteBuffer> completionHandler, ByteBuffer dataFrame) {
             this.completionHandler = completionHandler;
@@ -71,75 +98,243 @@ class TyrusServletWriter extends Writer implements WriteListener {
     }
 
     @Override
-    public synchronized void onWritePossible() throws IOException {
+    public void onWritePossible() throws IOException {
         LOGGER.log(Level.FINEST, "OnWritePossible called");
 
-        while (!queue.isEmpty() && servletOutputStream.isReady()) {
-            final QueuedFrame queuedFrame = queue.poll();
-            assert queuedFrame != null;
-
-            _write(queuedFrame.dataFrame, queuedFrame.completionHandler);
+        synchronized (this) {
+            if (draining) {
+                // the draining thread will check the stream once more before it stops
+                writePossible = true;
+                return;
+            }
+            draining = true;
         }
+
+        drain();
     }
 
     @Override
-    public synchronized void onError(Throwable t) {
+    public void onError(Throwable t) {
         LOGGER.log(Level.WARNING, "TyrusServletWriter.onError", t);
 
-        QueuedFrame queuedFrame;
-        while ((queuedFrame = queue.poll()) != null) {
-            queuedFrame.completionHandler.failed(t);
+        final List<QueuedFrame> failed = new ArrayList<QueuedFrame>();
+        synchronized (this) {
+            QueuedFrame queuedFrame;
+            while ((queuedFrame = queue.poll()) != null) {
+                queuedFrame.failure = t;
+                failed.add(queuedFrame);
+            }
         }
+
+        notifyCompletionHandlers(failed);
     }
 
     @Override
-    public synchronized void write(final ByteBuffer buffer, CompletionHandler<ByteBuffer> completionHandler) {
+    public void write(final ByteBuffer buffer, CompletionHandler<ByteBuffer> completionHandler) {
+
+        synchronized (this) {
+            // first write
+            if (servletOutputStream == null) {
+                try {
+                    servletOutputStream = tyrusHttpUpgradeHandler.getWebConnection().getOutputStream();
+                } catch (IOException e) {
+                    LOGGER.log(Level.CONFIG, "ServletOutputStream cannot be obtained", e);
+                    completionHandler.failed(e);
+                    return;
+                }
+            }
+
+            queue.offer(new QueuedFrame(completionHandler, buffer));
+
+            if (draining) {
+                // written by the draining thread together with other queued frames
+                return;
+            }
+            draining = true;
+        }
 
-        // first write
-        if (servletOutputStream == null) {
+        drain();
+    }
+
+    /**
+     * Write queued frames until the queue is empty or the {@link ServletOutputStream} is not ready.
+     * <p>
+     * Must be called only by the thread which set {@link #draining}. Completion handlers of written frames are
+     * invoked after the stream is flushed, in the order in which the frames were queued, and only after the thread has
+     * stopped draining, so a handler can write another frame and wait for its completion. When the stream is not
+     * ready, remaining frames are written from {@link #onWritePossible()}.
+     */
+    private void drain() {
+        while (true) {
             try {
-                servletOutputStream = tyrusHttpUpgradeHandler.getWebConnection().getOutputStream();
-            } catch (IOException e) {
-                LOGGER.log(Level.CONFIG, "ServletOutputStream cannot be obtained", e);
-                completionHandler.failed(e);
+                drainQueue();
+            } catch (RuntimeException e) {
+                // stream is broken, do not leave frames waiting for a write that will never happen
+                LOGGER.log(Level.FINE, "Writing to ServletOutputStream failed", e);
+
+                for (QueuedFrame queuedFrame : written) {
+                    queuedFrame.failure = e;
+                    finished.add(queuedFrame);
+                }
+                written.clear();
+
+                synchronized (this) {
+                    QueuedFrame queuedFrame;
+                    while ((queuedFrame = queue.poll()) != null) {
+                        queuedFrame.failure = e;
+                        finished.add(queuedFrame);
+                    }
+                }
+            }
+
+            final List<QueuedFrame> toNotify;
+            final boolean drainAgain;
+            synchronized (this) {
+                toNotify = new ArrayList<QueuedFrame>(finished);
+                finished.clear();
+
+                // decided in the same critical section which stops draining, so a frame queued by write() or
+                // a call of onWritePossible() cannot be missed
+                drainAgain = canWriteQueued();
+                draining = false;
+            }
+
+            notifyCompletionHandlers(toNotify);
+
+            if (!drainAgain) {
                 return;
             }
+
+            synchronized (this) {
+                if (draining || queue.isEmpty()) {
+                    // some other thread is writing the frames queued meanwhile
+                    return;
+                }
+                draining = true;
+            }
         }
+    }
 
-        if (queue.isEmpty() && servletOutputStream.isReady()) {
-            _write(buffer, completionHandler);
-        } else {
-            final QueuedFrame queuedFrame = new QueuedFrame(completionHandler, buffer);
-            queue.offer(queuedFrame);
+    /**
+     * Write queued frames while the stream is ready and flush them.
+     */
+    private void drainQueue() {
+        while (servletOutputStream.isReady()) {
+            final QueuedFrame queuedFrame;
+            synchronized (this) {
+                queuedFrame = queue.poll();
+            }
+            if (queuedFrame == null) {
+                break;
+            }
 
+            _write(queuedFrame);
+        }
+
+        flush();
+    }
+
+    /**
+     * Check whether queued frames can be written right away. When they cannot, {@link #onWritePossible()} is called
+     * once the stream gets ready.
+     * <p>
+     * Must be called with "this" held by the draining thread.
+     *
+     * @return {@code true} if there are queued frames and the stream is ready.
+     */
+    private boolean canWriteQueued() {
+        if (queue.isEmpty()) {
+            writePossible = false;
+            return false;
+        }
+
+        try {
             if (!isListenerSet) {
                 isListenerSet = true;
                 servletOutputStream.setWriteListener(this);
             }
+
+            // frames queued during flush or onWritePossible called meanwhile
+            if (writePossible || servletOutputStream.isReady()) {
+                writePossible = false;
+                return true;
+            }
+        } catch (RuntimeException e) {
+            // broken stream, queued frames are failed by the next drain
+            return true;
         }
+
+        return false;
     }
 
-    private void _write(ByteBuffer buffer, CompletionHandler<ByteBuffer> completionHandler) {
+    private void _write(QueuedFrame queuedFrame) {
+        final ByteBuffer buffer = queuedFrame.dataFrame;
+
+        if (queuedFrame.completionHandler != null) {
+            queuedFrame.completionHandler.started();
+        }
 
         try {
             if (buffer.hasArray()) {
                 byte[] array = buffer.array();
                 servletOutputStream.write(array, buffer.arrayOffset() + buffer.position(), buffer.remaining());
             } else {
+                // the frame has to be written by a single write, stream might not be ready for the next one
                 final int remaining = buffer.remaining();
-                final byte[] array = new byte[remaining];
-                buffer.get(array);
-                servletOutputStream.write(array);
+                final ByteBuffer transferBuffer = remaining <= TRANSFER_BUFFER_POOL.getBufferSize()
+                        ? TRANSFER_BUFFER_POOL.acquire() : ByteBuffer.allocate(remaining);
+                try {
+                    buffer.get(transferBuffer.array(), transferBuffer.arrayOffset(), remaining);
+                    servletOutputStream.write(transferBuffer.array(), transferBuffer.arrayOffset(), remaining);
+                } finally {
+                    TRANSFER_BUFFER_POOL.release(transferBuffer);
+                }
             }
 
-            servletOutputStream.flush();
+            written.add(queuedFrame);
+        } catch (Exception e) {
+            // keep the order of completion handlers
+            flush();
+
+            queuedFrame.failure = e;
+            finished.add(queuedFrame);
+        }
+    }
+
+    /**
+     * Flush written frames and add them to the frames which completion handlers are to be notified.
+     * <p>
+     * The stream is not flushed when it is not ready, the container is writing the data already.
+     */
+    private void flush() {
+        if (written.isEmpty()) {
+            return;
+        }
 
-            if (completionHandler != null) {
-                completionHandler.completed(buffer);
+        Exception failure = null;
+        try {
+            if (servletOutputStream.isReady()) {
+                servletOutputStream.flush();
             }
         } catch (Exception e) {
-            if (completionHandler != null) {
-                completionHandler.failed(e);
+            failure = e;
+        }
+
+        for (QueuedFrame queuedFrame : written) {
+            queuedFrame.failure = failure;
+            finished.add(queuedFrame);
+        }
+        written.clear();
+    }
+
+    private static void notifyCompletionHandlers(List<QueuedFrame> frames) {
+        for (QueuedFrame queuedFrame : frames) {
+            if (queuedFrame.completionHandler != null) {
+                if (queuedFrame.failure == null) {
+                    queuedFrame.completionHandler.completed(queuedFrame.dataFrame);
+                } else {
+                    queuedFrame.completionHandler.failed(queuedFrame.failure);
+                }
             }
         }
     }
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.servlet;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import javax.websocket.CloseReason;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.WebConnection;
+
+import org.glassfish.tyrus.spi.Connection;
+import org.glassfish.tyrus.spi.ReadHandler;
+import org.glassfish.tyrus.spi.WebSocketEngine;
+import org.glassfish.tyrus.spi.Writer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link TyrusHttpUpgradeHandler#onDataAvailable()} passing data from {@link ServletInputStream} to the
+ * Tyrus runtime.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=ServletReadBenchmark}. The read handler copies the data once
+ * just like the read handler of the Tyrus runtime does, frames are not parsed. {@code chunkSize} is the
+ * amount of data the servlet container has available per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServletReadBenchmark {
+
+    @Param({"128", "4096", "65536"})
+    private int chunkSize;
+
+    private TyrusHttpUpgradeHandler handler;
+    private TestInputStream inputStream;
+
+    @Setup
+    public void setup() {
+        inputStream = new TestInputStream(new byte[chunkSize]);
+        final ReadHandler readHandler = new ReadHandler() {
+
+            private final byte[] sink = new byte[chunkSize];
+
+            @Override
+            public void handle(ByteBuffer data) {
+                data.get(sink, 0, data.remaining());
+            }
+        };
+
+        handler = new TyrusHttpUpgradeHandler();
+        handler.preInit(new TestUpgradeInfo(readHandler), null, false);
+        handler.init(new WebConnection() {
+            @Override
+            public ServletInputStream getInputStream() {
+                return inputStream;
+            }
+
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return null;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+    }
+
+    @Benchmark
+    public int onDataAvailable() {
+        inputStream.rewind();
+        handler.onDataAvailable();
+        return inputStream.position;
+    }
+
+    private static class TestInputStream extends ServletInputStream {
+
+        private final byte[] data;
+        private int position;
+
+        private TestInputStream(byte[] data) {
+            this.data = data;
+        }
+
+        private void rewind() {
+            position = 0;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return false;
+        }
+
+        @Override
+        public boolean isReady() {
+            return position < data.length;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+        }
+
+        @Override
+        public int available() {
+            return data.length - position;
+        }
+
+        @Override
+        public int read() {
+            return position < data.length ? data[position++] : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= data.length) {
+                return -1;
+            }
+            final int read = Math.min(len, data.length - position);
+            System.arraycopy(data, position, b, off, read);
+            position += read;
+            return read;
+        }
+    }
+
+    private static class TestUpgradeInfo implements WebSocketEngine.UpgradeInfo {
+
+        private final ReadHandler readHandler;
+
+        private TestUpgradeInfo(ReadHandler readHandler) {
+            this.readHandler = readHandler;
+        }
+
+        @Override
+        public WebSocketEngine.UpgradeStatus getStatus() {
+            return WebSocketEngine.UpgradeStatus.SUCCESS;
+        }
+
+        @Override
+        public Connection createConnection(final Writer writer, final Connection.CloseListener closeListener) {
+            return new Connection() {
+                @Override
+                public ReadHandler getReadHandler() {
+                    return readHandler;
+                }
+
+                @Override
+                public Writer getWriter() {
+                    return writer;
+                }
+
+                @Override
+                public CloseListener getCloseListener() {
+                    return closeListener;
+                }
+
+                @Override
+                public void close(CloseReason reason) {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.servlet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.WebConnection;
+
+import org.glassfish.tyrus.spi.CompletionHandler;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link TyrusServletWriter}.
+ */
+public class TyrusServletWriterTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testWriteReady() {
+        final TestOutputStream outputStream = new TestOutputStream();
+        final TyrusServletWriter writer = new TyrusServletWriter(new TestUpgradeHandler(outputStream));
+        final List<String> events = new ArrayList<String>();
+
+        writer.write(ByteBuffer.wrap("a".getBytes(UTF8)), new RecordingHandler("a", events));
+        writer.write(ByteBuffer.wrap("b".getBytes(UTF8)), new RecordingHandler("b", events));
+
+        assertEquals("ab", outputStream.getWritten());
+        assertEquals(2, outputStream.flushes);
+        assertEquals(Arrays.asList("started a", "completed a", "started b", "completed b"), events);
+        assertEquals(null, outputStream.writeListener);
+    }
+
+    @Test
+    public void testQueuedFramesFlushedTogether() throws IOException {
+        final TestOutputStream outputStream = new TestOutputStream();
+        final TyrusServletWriter writer = new TyrusServletWriter(new TestUpgradeHandler(outputStream));
+        final List<String> events = new ArrayList<String>();
+
+        outputStream.ready = false;
+        writer.write(ByteBuffer.wrap("a".getBytes(UTF8)), new RecordingHandler("a", events));
+        writer.write(ByteBuffer.wrap("b".getBytes(UTF8)), new RecordingHandler("b", events));
+        writer.write(ByteBuffer.wrap("c".getBytes(UTF8)), new RecordingHandler("c", events));
+
+        assertSame(writer, outputStream.writeListener);
+        assertEquals("", outputStream.getWritten());
+        assertTrue(events.isEmpty());
+
+        outputStream.ready = true;
+        writer.onWritePossible();
+
+        assertEquals("abc", outputStream.getWritten());
+        assertEquals(1, outputStream.flushes);
+        assertEquals(Arrays.asList("started a", "started b", "started c", "completed a", "completed b", "completed c"),
+                     events);
+    }
+
+    @Test
+    public void testDirectBuffer() {
+        final TestOutputStream outputStream = new TestOutputStream();
+        final TyrusServletWriter writer = new TyrusServletWriter(new TestUpgradeHandler(outputStream));
+        final List<String> events = new ArrayList<String>();
+
+        final byte[] large = new byte[100000];
+        Arrays.fill(large, (byte) 'x');
+
+        for (byte[] data : Arrays.asList("direct".getBytes(UTF8), large)) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+            buffer.put(data).flip();
+            writer.write(buffer, new RecordingHandler(Integer.toString(data.length), events));
+        }
+
+        final String written = outputStream.getWritten();
+        assertEquals(6 + large.length, written.length());
+        assertTrue(written.startsWith("directxxx"));
+        assertEquals(Arrays.asList("started 6", "completed 6", "started 100000", "completed 100000"), events);
+    }
+
+    @Test
+    public void testFailedFlush() throws IOException {
+        final TestOutputStream outputStream = new TestOutputStream();
+        final TyrusServletWriter writer = new TyrusServletWriter(new TestUpgradeHandler(outputStream));
+        final List<String> events = new ArrayList<String>();
+
+        outputStream.ready = false;
+        writer.write(ByteBuffer.wrap("a".getBytes(UTF8)), new RecordingHandler("a", events));
+        writer.write(ByteBuffer.wrap("b".getBytes(UTF8)), new RecordingHandler("b", events));
+
+        outputStream.ready = true;
+        outputStream.failFlush = true;
+        writer.onWritePossible();
+
+        assertEquals(Arrays.asList("started a", "started b", "failed a", "failed b"), events);
+
+        // writer is usable after a failure
+        outputStream.failFlush = false;
+        writer.write(ByteBuffer.wrap("c".getBytes(UTF8)), new RecordingHandler("c", events));
+        assertEquals("completed c", events.get(events.size() - 1));
+    }
+
+    @Test
+    public void testSynchronousSendFromCompletionHandler() throws InterruptedException {
+        final TestOutputStream outputStream = new TestOutputStream();
+        final TyrusServletWriter writer = new TyrusServletWriter(new TestUpgradeHandler(outputStream));
+        final List<String> events = new ArrayList<String>();
+        final CountDownLatch secondSent = new CountDownLatch(1);
+        final AtomicBoolean secondSentInHandler = new AtomicBoolean();
+
+        // like a SendHandler calling getBasicRemote().sendText(), which waits for the write to complete
+        writer.write(ByteBuffer.wrap("a".getBytes(UTF8)), new RecordingHandler("a", events) {
+            @Override
+            public void completed(ByteBuffer result) {
+                super.completed(result);
+                writer.write(ByteBuffer.wrap("b".getBytes(UTF8)), new RecordingHandler("b", events) {
+                    @Override
+                    public void completed(ByteBuffer result) {
+                        super.completed(result);
+                        secondSent.countDown();
+                    }
+                });
+                try {
+                    secondSentInHandler.set(secondSent.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    // verified below
+                }
+            }
+        });
+
+        assertTrue(secondSentInHandler.get());
+        assertEquals("ab", outputStream.getWritten());
+        assertEquals(Arrays.asList("started a", "completed a", "started b", "completed b"), events);
+    }
+
+    @Test
+    public void testConcurrentWriters() throws InterruptedException {
+        final TestOutputStream outputStream = new TestOutputStream();
+        final TyrusServletWriter writer = new TyrusServletWriter(new TestUpgradeHandler(outputStream));
+
+        final int writers = 8;
+        final int frames = 2000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(writers * frames);
+        final AtomicInteger failed = new AtomicInteger();
+
+        for (int i = 0; i < writers; i++) {
+            final byte[] frame = {(byte) ('a' + i)};
+            new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < frames; j++) {
+                        writer.write(ByteBuffer.wrap(frame), new CompletionHandler<ByteBuffer>() {
+                            @Override
+                            public void completed(ByteBuffer result) {
+                                completed.countDown();
+                            }
+
+                            @Override
+                            public void failed(Throwable throwable) {
+                                failed.incrementAndGet();
+                            }
+                        });
+                    }
+                }
+            }.start();
+        }
+
+        start.countDown();
+
+        // every frame is written and every completion handler is invoked, no frame is left in the queue
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertEquals(0, failed.get());
+
+        final String written = outputStream.getWritten();
+        assertEquals(writers * frames, written.length());
+        for (int i = 0; i < writers; i++) {
+            int count = 0;
+            for (char c : written.toCharArray()) {
+                if (c == 'a' + i) {
+                    count++;
+                }
+            }
+            assertEquals(frames, count);
+        }
+    }
+
+    private static class RecordingHandler extends CompletionHandler<ByteBuffer> {
+
+        private final String name;
+        private final List<String> events;
+
+        private RecordingHandler(String name, List<String> events) {
+            this.name = name;
+            this.events = events;
+        }
+
+        @Override
+        public void started() {
+            events.add("started " + name);
+        }
+
+        @Override
+        public void completed(ByteBuffer result) {
+            events.add("completed " + name);
+        }
+
+        @Override
+        public void failed(Throwable throwable) {
+            events.add("failed " + name);
+        }
+    }
+
+    private static class TestUpgradeHandler extends TyrusHttpUpgradeHandler {
+
+        private final WebConnection webConnection;
+
+        private TestUpgradeHandler(final ServletOutputStream outputStream) {
+            webConnection = new WebConnection() {
+                @Override
+                public ServletInputStream getInputStream() {
+                    return null;
+                }
+
+                @Override
+                public ServletOutputStream getOutputStream() {
+                    return outputStream;
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+
+        @Override
+        WebConnection getWebConnection() {
+            return webConnection;
+        }
+    }
+
+    private static class TestOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+        private boolean ready = true;
+        private boolean failFlush = false;
+        private int flushes = 0;
+        private WriteListener writeListener;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.writeListener = writeListener;
+        }
+
+        @Override
+        public void write(int b) {
+            data.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            data.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (failFlush) {
+                throw new IOException("flush failed");
+            }
+            flushes++;
+            // let concurrent writers queue frames while the writer is flushing
+            Thread.yield();
+        }
+
+        private String getWritten() {
+            return new String(data.toByteArray(), UTF8);
+        }
+    }
+}
@@ -191,7 +191,13 @@ public class AnnotatedEndpoint extends Endpoint {
         AnnotatedClassValidityChecker validityChecker = new AnnotatedClassValidityChecker(
                 annotatedClass, configuration.getEncoders(), configuration.getDecoders(), collector);
 
-        for (Method m : annotatedClass.getMethods()) {
+        // lifecycle methods found at build time, if the application has an endpoint index
+        Method[] methods = EndpointIndex.getInstance(annotatedClass.getClassLoader()).getMethods(annotatedClass);
+        if (methods == null) {
+            methods = annotatedClass.getMethods();
+        }
+
+        for (Method m : methods) {
             if (m.isBridge()) {
                 continue;
             }
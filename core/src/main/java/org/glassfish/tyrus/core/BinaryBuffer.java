@@ -26,6 +26,8 @@ import org.glassfish.tyrus.core.l10n.LocalizationMessages;
 
 /**
  * Save received partial messages to a list and concatenate them.
+ * <p>
+ * Parts are kept by reference until the last one is received and then copied once, into a buffer of the exact size.
  *
  * @author Stepan Kopriva (stepan.kopriva at oracle.com)
  * @author Pavel Bucek (pavel.bucek at oracle.com)
@@ -44,6 +46,9 @@ class BinaryBuffer {
      * @param message to be buffered.
      */
     void appendMessagePart(ByteBuffer message) {
+        if (!message.hasRemaining()) {
+            return;
+        }
 
         if ((currentlyBuffered + message.remaining()) <= bufferSize) {
             currentlyBuffered += message.remaining();
@@ -58,21 +63,35 @@ class BinaryBuffer {
 
     /**
      * Return concatenated list of buffers and reset internal state.
+     * <p>
+     * A message consisting of a single non-empty part, typically a fragment followed by an empty final one, is returned
+     * as it is, without copying.
      *
      * @return concatenated buffer.
      */
     ByteBuffer getBufferedContent() {
-        ByteBuffer b = ByteBuffer.allocate(currentlyBuffered);
+        final ByteBuffer b;
 
-        for (ByteBuffer buffered : list) {
-            b.put(buffered);
+        if (list.size() == 1 && isWholeArray(list.get(0))) {
+            b = list.get(0);
+        } else {
+            b = ByteBuffer.allocate(currentlyBuffered);
+            for (ByteBuffer buffered : list) {
+                b.put(buffered);
+            }
+            b.flip();
         }
 
-        b.flip();
         resetBuffer(0);
         return b;
     }
 
+    // handlers and decoders are allowed to use ByteBuffer#array(), which has to contain just the message
+    private static boolean isWholeArray(ByteBuffer buffer) {
+        return buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.limit() == buffer.array().length;
+    }
+
     /**
      * Reset buffer with setting maximal buffer size.
      *
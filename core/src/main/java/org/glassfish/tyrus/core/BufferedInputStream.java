@@ -42,6 +42,14 @@ class BufferedInputStream extends InputStream {
         return buffer.getNextByte();
     }
 
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        return buffer.read(b, off, len);
+    }
+
     @Override
     public void close() {
         this.buffer.finishReading();
@@ -39,13 +39,10 @@ class BufferedStringReader extends Reader {
 
     @Override
     public int read(char[] destination, int offsetToStart, int numberOfChars) throws IOException {
-        char[] got = readerBuffer.getNextChars(numberOfChars);
-        if (got != null) {
-            System.arraycopy(got, 0, destination, offsetToStart, got.length);
-            return got.length;
-        } else {
-            return -1;
+        if (offsetToStart < 0 || numberOfChars < 0 || numberOfChars > destination.length - offsetToStart) {
+            throw new IndexOutOfBoundsException();
         }
+        return readerBuffer.read(destination, offsetToStart, numberOfChars);
     }
 
     @Override
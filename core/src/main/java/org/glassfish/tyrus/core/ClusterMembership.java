@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Summary of cluster nodes which hold open remote sessions of one endpoint.
+ * <p>
+ * Updated when remote sessions are opened or closed, read on every clustered broadcast. Reads do not lock.
+ */
+class ClusterMembership {
+
+    // ConcurrentHashMap does not allow null values
+    private static final String UNKNOWN_NODE = "";
+
+    private final Map<String, String> sessionNodes = new ConcurrentHashMap<String, String>();
+    private final Map<String, Integer> nodeSessionCounts = new HashMap<String, Integer>();
+    private int unknownSessions = 0;
+
+    private volatile Set<String> nodeIds = Collections.emptySet();
+
+    /**
+     * Record opened remote session.
+     *
+     * @param sessionId session id.
+     * @param nodeId    id of the node owning the session, {@code null} when not known.
+     */
+    synchronized void sessionOpened(String sessionId, String nodeId) {
+        if (sessionNodes.containsKey(sessionId)) {
+            return;
+        }
+
+        sessionNodes.put(sessionId, nodeId == null ? UNKNOWN_NODE : nodeId);
+        if (nodeId == null) {
+            unknownSessions++;
+            publish();
+            return;
+        }
+
+        final Integer count = nodeSessionCounts.get(nodeId);
+        nodeSessionCounts.put(nodeId, count == null ? 1 : count + 1);
+        if (count == null) {
+            publish();
+        }
+    }
+
+    /**
+     * Record closed remote session.
+     *
+     * @param sessionId session id.
+     */
+    synchronized void sessionClosed(String sessionId) {
+        if (!sessionNodes.containsKey(sessionId)) {
+            return;
+        }
+
+        final String nodeId = sessionNodes.remove(sessionId);
+        if (UNKNOWN_NODE.equals(nodeId)) {
+            unknownSessions--;
+            publish();
+            return;
+        }
+
+        final int count = nodeSessionCounts.get(nodeId);
+        if (count == 1) {
+            nodeSessionCounts.remove(nodeId);
+            publish();
+        } else {
+            nodeSessionCounts.put(nodeId, count - 1);
+        }
+    }
+
+    /**
+     * Get id of the node owning given remote session.
+     *
+     * @param sessionId session id.
+     * @return node id or {@code null} when the session or its owner is not known.
+     */
+    String getNodeId(String sessionId) {
+        final String nodeId = sessionNodes.get(sessionId);
+        return UNKNOWN_NODE.equals(nodeId) ? null : nodeId;
+    }
+
+    /**
+     * Get ids of all nodes with at least one open remote session.
+     *
+     * @return unmodifiable set of node ids or {@code null} when owner of at least one remote session is not known and
+     * the set would be incomplete.
+     */
+    Set<String> getNodeIds() {
+        return nodeIds;
+    }
+
+    private void publish() {
+        nodeIds = unknownSessions > 0
+                ? null
+                : Collections.unmodifiableSet(new HashSet<String>(nodeSessionCounts.keySet()));
+    }
+}
@@ -45,7 +45,8 @@ public class DebugContext {
     // is not thread safe - it is assumed that it will be used only in the "handshake phase"
     private Map<String, List<String>> tracingHeaders = new HashMap<String, List<String>>();
     private final long startTimestamp;
-    private final Level tracingLevel;
+    // Level#intValue() of the tracing threshold, compared with the level of every traced message
+    private final int tracingLevelValue;
     private String sessionId = null;
 
     /**
@@ -56,9 +57,9 @@ public class DebugContext {
     public DebugContext(TracingThreshold tracingThreshold) {
         startTimestamp = System.nanoTime();
         if (TracingThreshold.SUMMARY == tracingThreshold) {
-            tracingLevel = Level.FINE;
+            tracingLevelValue = Level.FINE.intValue();
         } else {
-            tracingLevel = Level.FINER;
+            tracingLevelValue = Level.FINER.intValue();
         }
     }
 
@@ -67,7 +68,45 @@ public class DebugContext {
      */
     public DebugContext() {
         startTimestamp = System.nanoTime();
-        this.tracingLevel = Level.OFF;
+        this.tracingLevelValue = Level.OFF.intValue();
+    }
+
+    /**
+     * Append a message to the log, the logging will be postponed until the message can be provided with a session ID.
+     * Randomly generated session ID is used if a session has not been created.
+     * <p>
+     * Does not allocate anything when the message is not loggable, use it on paths executed for every message rather
+     * than the variable arity variant.
+     *
+     * @param logger       logger to be used to log the message.
+     * @param loggingLevel message level.
+     * @param type         type of the message.
+     * @param message      message to be logged.
+     */
+    public void appendLogMessage(Logger logger, Level loggingLevel, Type type, Object message) {
+        if (logger.isLoggable(loggingLevel)) {
+            appendLogMessageWithThrowable(logger, loggingLevel, type, null, new Object[]{message});
+        }
+    }
+
+    /**
+     * Append a message to the log, the logging will be postponed until the message can be provided with a session ID.
+     * Randomly generated session ID is used if a session has not been created.
+     * <p>
+     * Does not allocate anything when the message is not loggable, use it on paths executed for every message rather
+     * than the variable arity variant.
+     *
+     * @param logger       logger to be used to log the message.
+     * @param loggingLevel message level.
+     * @param type         type of the message.
+     * @param messagePart1 first part of the message.
+     * @param messagePart2 second part of the message, stringified only when the message is logged.
+     */
+    public void appendLogMessage(Logger logger, Level loggingLevel, Type type, Object messagePart1,
+                                 Object messagePart2) {
+        if (logger.isLoggable(loggingLevel)) {
+            appendLogMessageWithThrowable(logger, loggingLevel, type, null, new Object[]{messagePart1, messagePart2});
+        }
     }
 
     /**
@@ -83,6 +122,44 @@ public class DebugContext {
         appendLogMessageWithThrowable(logger, loggingLevel, type, null, messageParts);
     }
 
+    /**
+     * Append a message to the log and to the list of trace messages that are sent in handshake response.
+     * The logging will be postponed until the message can be provided with a session ID. Randomly generated session ID
+     * is used if a session has not been created.
+     * <p>
+     * Does not allocate anything when the message is neither traced nor loggable.
+     *
+     * @param logger       logger to be used to log the message.
+     * @param loggingLevel message level.
+     * @param type         type of the message.
+     * @param message      message to be logged.
+     */
+    public void appendTraceMessage(Logger logger, Level loggingLevel, Type type, Object message) {
+        if (isTraced(loggingLevel) || logger.isLoggable(loggingLevel)) {
+            appendTraceMessageWithThrowable(logger, loggingLevel, type, null, new Object[]{message});
+        }
+    }
+
+    /**
+     * Append a message to the log and to the list of trace messages that are sent in handshake response.
+     * The logging will be postponed until the message can be provided with a session ID. Randomly generated session ID
+     * is used if a session has not been created.
+     * <p>
+     * Does not allocate anything when the message is neither traced nor loggable.
+     *
+     * @param logger       logger to be used to log the message.
+     * @param loggingLevel message level.
+     * @param type         type of the message.
+     * @param messagePart1 first part of the message.
+     * @param messagePart2 second part of the message, stringified only when the message is traced or logged.
+     */
+    public void appendTraceMessage(Logger logger, Level loggingLevel, Type type, Object messagePart1,
+                                   Object messagePart2) {
+        if (isTraced(loggingLevel) || logger.isLoggable(loggingLevel)) {
+            appendTraceMessageWithThrowable(logger, loggingLevel, type, null, new Object[]{messagePart1, messagePart2});
+        }
+    }
+
     /**
      * Append a message to the log and to the list of trace messages that are sent in handshake response.
      * The logging will be postponed until the message can be provided with a session ID. Randomly generated session ID
@@ -138,7 +215,7 @@ public class DebugContext {
      */
     public void appendTraceMessageWithThrowable(Logger logger, Level loggingLevel, Type type, Throwable t,
                                                 Object... messageParts) {
-        if (this.tracingLevel.intValue() <= loggingLevel.intValue()) {
+        if (isTraced(loggingLevel)) {
             String message = stringifyMessageParts(messageParts);
             appendTracingHeader(message);
         }
@@ -208,6 +285,10 @@ public class DebugContext {
         return tracingHeaders;
     }
 
+    private boolean isTraced(Level loggingLevel) {
+        return tracingLevelValue <= loggingLevel.intValue();
+    }
+
     private void appendTracingHeader(String message) {
         String headerName = UpgradeResponse.TRACING_HEADER_PREFIX + String.format("%02d", tracingHeaders.size());
         tracingHeaders.put(headerName,
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Endpoint index generated at build time by the Tyrus endpoint index annotation processor
+ * ({@code org.glassfish.tyrus.ext:tyrus-endpoint-index}).
+ * <p>
+ * The index lists {@link javax.websocket.server.ServerEndpoint} annotated classes, {@link javax.websocket.Endpoint}
+ * descendants and {@link javax.websocket.server.ServerApplicationConfig} implementations of an application together
+ * with the lifecycle methods ({@link javax.websocket.OnOpen}, {@link javax.websocket.OnMessage}, {@link
+ * javax.websocket.OnError} and {@link javax.websocket.OnClose}) of annotated endpoints, so they do not have to be
+ * found by scanning the classpath and by introspecting all methods of endpoint classes. All
+ * {@value #RESOURCE_NAME} resources visible to a class loader are merged.
+ * <p>
+ * The index is a UTF-8 text file, one record per line, blank lines and lines starting with {@code #} are ignored:
+ * <pre>
+ * annotated &lt;class name&gt;
+ * programmatic &lt;class name&gt;
+ * config &lt;class name&gt;
+ * method &lt;class name&gt; &lt;method name&gt; [&lt;parameter type name&gt; ...]
+ * </pre>
+ * Class names are binary names as returned by {@link Class#getName()}.
+ *
+ * @since 2.0
+ */
+@Beta
+public final class EndpointIndex {
+
+    /**
+     * Name of the index resource.
+     */
+    public static final String RESOURCE_NAME = "META-INF/tyrus/endpoint-index";
+
+    private static final Logger LOGGER = Logger.getLogger(EndpointIndex.class.getName());
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final Map<ClassLoader, EndpointIndex> INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<ClassLoader, EndpointIndex>());
+
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<String, Class<?>>();
+
+    static {
+        for (Class<?> type : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class,
+                float.class, double.class}) {
+            PRIMITIVE_TYPES.put(type.getName(), type);
+        }
+    }
+
+    // weak, the index is a value of INDEXES and must not keep its key reachable
+    private final WeakReference<ClassLoader> classLoader;
+    private final Set<String> annotatedEndpoints = new LinkedHashSet<String>();
+    private final Set<String> programmaticEndpoints = new LinkedHashSet<String>();
+    private final Set<String> applicationConfigs = new LinkedHashSet<String>();
+    // class name -> "<method name> [<parameter type name> ...]", a set since one resource can be visible twice
+    private final Map<String, Set<String>> methods = new HashMap<String, Set<String>>();
+
+    private EndpointIndex(ClassLoader classLoader) {
+        this.classLoader = new WeakReference<ClassLoader>(classLoader);
+    }
+
+    /**
+     * Get index of all {@value #RESOURCE_NAME} resources visible to a class loader.
+     * <p>
+     * The resources are read only once per class loader.
+     *
+     * @param classLoader class loader used to find index resources and to load indexed classes.
+     * @return endpoint index, empty when there is no index resource.
+     */
+    public static EndpointIndex getInstance(ClassLoader classLoader) {
+        if (classLoader == null) {
+            return new EndpointIndex(null);
+        }
+
+        EndpointIndex endpointIndex = INDEXES.get(classLoader);
+        if (endpointIndex == null) {
+            endpointIndex = new EndpointIndex(classLoader);
+            endpointIndex.read(classLoader);
+            INDEXES.put(classLoader, endpointIndex);
+        }
+
+        return endpointIndex;
+    }
+
+    /**
+     * Check whether the index is empty.
+     *
+     * @return {@code true} when no index resource has been found or when no endpoint is indexed.
+     */
+    public boolean isEmpty() {
+        return annotatedEndpoints.isEmpty() && programmaticEndpoints.isEmpty() && applicationConfigs.isEmpty();
+    }
+
+    /**
+     * Load all indexed classes.
+     * <p>
+     * Classes which cannot be loaded are skipped.
+     *
+     * @return annotated endpoints, programmatic endpoints and application configs in the index.
+     */
+    public Set<Class<?>> getClasses() {
+        final Set<Class<?>> classes = new LinkedHashSet<Class<?>>();
+        final ClassLoader classLoader = this.classLoader.get();
+        if (classLoader == null) {
+            // nothing has been indexed or the class loader has already been discarded
+            return classes;
+        }
+
+        final Set<String> names = new LinkedHashSet<String>(applicationConfigs);
+        names.addAll(annotatedEndpoints);
+        names.addAll(programmaticEndpoints);
+
+        for (String name : names) {
+            try {
+                classes.add(Class.forName(name, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.log(Level.WARNING, String.format("Indexed class %s cannot be loaded.", name), e);
+            }
+        }
+
+        return classes;
+    }
+
+    /**
+     * Get indexed lifecycle methods of an annotated endpoint.
+     *
+     * @param annotatedClass annotated endpoint class.
+     * @return lifecycle methods or {@code null} when the class is not indexed or when the index does not match the
+     * class, in which case the methods have to be found by introspection.
+     */
+    public Method[] getMethods(Class<?> annotatedClass) {
+        if (!annotatedEndpoints.contains(annotatedClass.getName())) {
+            return null;
+        }
+
+        final Set<String> indexedMethods = methods.get(annotatedClass.getName());
+        if (indexedMethods == null) {
+            return new Method[0];
+        }
+
+        final Method[] result = new Method[indexedMethods.size()];
+        int i = 0;
+        try {
+            for (String method : indexedMethods) {
+                final String[] indexedMethod = method.split(" ");
+                final Class<?>[] parameterTypes = new Class<?>[indexedMethod.length - 1];
+                for (int j = 0; j < parameterTypes.length; j++) {
+                    parameterTypes[j] = loadType(indexedMethod[j + 1], annotatedClass.getClassLoader());
+                }
+
+                result[i++] = annotatedClass.getMethod(indexedMethod[0], parameterTypes);
+            }
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            LOGGER.log(Level.CONFIG, String.format("Endpoint index does not match class %s, the index is not used.",
+                                                   annotatedClass.getName()), e);
+            return null;
+        }
+
+        return result;
+    }
+
+    private static Class<?> loadType(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        final Class<?> primitiveType = PRIMITIVE_TYPES.get(name);
+        if (primitiveType != null) {
+            return primitiveType;
+        }
+
+        return Class.forName(name, false, classLoader);
+    }
+
+    private void read(ClassLoader classLoader) {
+        final Enumeration<URL> resources;
+        try {
+            resources = classLoader.getResources(RESOURCE_NAME);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Endpoint index cannot be read.", e);
+            return;
+        }
+
+        while (resources.hasMoreElements()) {
+            final URL resource = resources.nextElement();
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), UTF8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    parse(line.trim(), resource);
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, String.format("Endpoint index %s cannot be read.", resource), e);
+            }
+        }
+    }
+
+    private void parse(String line, URL resource) {
+        if (line.isEmpty() || line.startsWith("#")) {
+            return;
+        }
+
+        final String[] tokens = line.split("\\s+");
+        if (tokens.length == 2 && "annotated".equals(tokens[0])) {
+            annotatedEndpoints.add(tokens[1]);
+        } else if (tokens.length == 2 && "programmatic".equals(tokens[0])) {
+            programmaticEndpoints.add(tokens[1]);
+        } else if (tokens.length == 2 && "config".equals(tokens[0])) {
+            applicationConfigs.add(tokens[1]);
+        } else if (tokens.length >= 3 && "method".equals(tokens[0])) {
+            Set<String> classMethods = methods.get(tokens[1]);
+            if (classMethods == null) {
+                classMethods = new LinkedHashSet<String>();
+                methods.put(tokens[1], classMethods);
+            }
+
+            final StringBuilder method = new StringBuilder(tokens[2]);
+            for (int i = 3; i < tokens.length; i++) {
+                method.append(' ').append(tokens[i]);
+            }
+            classMethods.add(method.toString());
+        } else {
+            LOGGER.config(String.format("Unknown record in endpoint index %s: %s", resource, line));
+        }
+    }
+}
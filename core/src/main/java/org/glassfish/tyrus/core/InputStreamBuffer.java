@@ -19,9 +19,9 @@ package org.glassfish.tyrus.core;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ExecutorService;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
@@ -36,6 +36,9 @@ import org.glassfish.tyrus.core.l10n.LocalizationMessages;
  * <p>
  * For the first received message {@link MessageHandler.Whole#onMessage(Object)} is called in a new {@link Thread} to
  * allow blocking reading of passed {@link java.io.InputStream}.
+ * <p>
+ * Received parts are kept by reference. While the handler is running and more than the window size of received bytes
+ * has not been read yet, reading of the connection is suspended; it is resumed when half of them has been read.
  *
  * @author Danny Coward (danny.coward at oracle.com)
  * @author Stepan Kopriva (stepan.kopriva at oracle.com)
@@ -46,8 +49,9 @@ class InputStreamBuffer {
     private final ReentrantLock lock = new ReentrantLock();
     private final Condition condition = lock.newCondition();
 
-    private final List<ByteBuffer> bufferedFragments = new ArrayList<ByteBuffer>();
-    private final ExecutorService executorService;
+    private final Deque<ByteBuffer> bufferedFragments = new ArrayDeque<ByteBuffer>();
+    private final Executor executor;
+    private final TyrusWebSocket socket;
 
     private static final Logger LOGGER = Logger.getLogger(InputStreamBuffer.class.getName());
 
@@ -58,11 +62,21 @@ class InputStreamBuffer {
     private volatile int currentlyBuffered;
     private volatile boolean sessionClosed = false;
 
+    // guarded by lock
+    private int windowSize = 0;
+    private int unread = 0;
+    private int runningHandlers = 0;
+    private boolean readingSuspended = false;
+
     /**
      * Constructor.
+     *
+     * @param executor executor used to call the message handler.
+     * @param socket   socket the message is received from, used to suspend reading.
      */
-    public InputStreamBuffer(ExecutorService executorService) {
-        this.executorService = executorService;
+    public InputStreamBuffer(Executor executor, TyrusWebSocket socket) {
+        this.executor = executor;
+        this.socket = socket;
         currentlyBuffered = 0;
     }
 
@@ -74,43 +88,49 @@ class InputStreamBuffer {
     public int getNextByte() throws IOException {
         lock.lock();
         try {
-            if (this.bufferedFragments.isEmpty()) {
-                if (receivedLast) {
-                    this.inputStream = null;
-                    this.currentlyBuffered = 0;
-                    return -1;
-                } else { // there's more to come...so wait here...
-                    // don't let the reader block on a closed session
-                    checkClosedSession();
-
-                    boolean interrupted;
-                    do {
-                        interrupted = false;
-                        try {
-                            condition.await();
-
-                            checkClosedSession();
-                        } catch (InterruptedException e) {
-                            interrupted = true;
-                        }
-                    } while (interrupted);
-                }
+            if (!awaitData()) {
+                return -1;
             }
 
-            if (bufferedFragments.size() == 1 && !bufferedFragments.get(0).hasRemaining() && receivedLast) {
-                this.inputStream = null;
-                this.currentlyBuffered = 0;
+            final ByteBuffer firstBuffer = bufferedFragments.peekFirst();
+            final byte result = firstBuffer.get();
+            consumed(firstBuffer, 1);
+
+            return result & 0xFF;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Read received bytes into an array.
+     *
+     * @param b   destination array.
+     * @param off offset in the destination array.
+     * @param len maximal number of bytes to be read.
+     * @return number of read bytes or {@code -1} when the whole message has been read.
+     */
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        lock.lock();
+        try {
+            if (!awaitData()) {
                 return -1;
             }
 
-            ByteBuffer firstBuffer = bufferedFragments.get(0);
-            byte result = firstBuffer.get();
-
-            if (!firstBuffer.hasRemaining()) {
-                bufferedFragments.remove(0);
+            int read = 0;
+            while (read < len && !bufferedFragments.isEmpty()) {
+                final ByteBuffer firstBuffer = bufferedFragments.peekFirst();
+                final int size = Math.min(len - read, firstBuffer.remaining());
+                firstBuffer.get(b, off + read, size);
+                read += size;
+                consumed(firstBuffer, size);
             }
 
-            return result & 0xFF;
+            return read;
         } finally {
             lock.unlock();
         }
@@ -120,7 +140,14 @@ class InputStreamBuffer {
      * Finish reading of the buffer.
      */
     public void finishReading() {
-        this.bufferedFragments.clear();
+        lock.lock();
+        try {
+            bufferedFragments.clear();
+            unread = 0;
+            updateReading();
+        } finally {
+            lock.unlock();
+        }
         this.inputStream = null;
     }
 
@@ -135,7 +162,10 @@ class InputStreamBuffer {
         try {
             currentlyBuffered += message.remaining();
             if (currentlyBuffered <= bufferSize) {
-                bufferedFragments.add(message);
+                if (message.hasRemaining()) {
+                    unread += message.remaining();
+                    bufferedFragments.add(message);
+                }
             } else {
                 final MessageTooBigException messageTooBigException =
                         new MessageTooBigException(LocalizationMessages.PARTIAL_MESSAGE_BUFFER_OVERFLOW());
@@ -146,18 +176,33 @@ class InputStreamBuffer {
 
             this.receivedLast = last;
             condition.signalAll();
+            updateReading();
         } finally {
             lock.unlock();
         }
 
         if (this.inputStream == null) {
-            this.inputStream = new BufferedInputStream(this);
-            executorService.execute(new Runnable() {
-                @Override
-                public void run() {
-                    messageHandler.onMessage(inputStream);
-                }
-            });
+            final BufferedInputStream inputStream = new BufferedInputStream(this);
+            final MessageHandler.Whole<InputStream> messageHandler = this.messageHandler;
+            this.inputStream = inputStream;
+
+            updateRunningHandlers(1);
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            messageHandler.onMessage(inputStream);
+                        } finally {
+                            // the stream may still be read by another thread, do not hold the connection any more
+                            updateRunningHandlers(-1);
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                updateRunningHandlers(-1);
+                throw e;
+            }
         }
     }
 
@@ -171,20 +216,36 @@ class InputStreamBuffer {
     }
 
     /**
-     * Reset the buffer size.
+     * Reset the buffer size and the flow control window before a new message is received.
      *
      * @param bufferSize the size to be set.
+     * @param windowSize maximal number of received bytes not read yet before reading is suspended, {@code 0} if
+     *                   reading should never be suspended.
      */
-    public void resetBuffer(int bufferSize) {
+    public void resetBuffer(int bufferSize, int windowSize) {
         this.bufferSize = bufferSize;
         currentlyBuffered = 0;
-        bufferedFragments.clear();
+
+        lock.lock();
+        try {
+            this.windowSize = windowSize;
+            bufferedFragments.clear();
+            unread = 0;
+            updateReading();
+        } finally {
+            lock.unlock();
+        }
     }
 
     void onSessionClosed() {
         sessionClosed = true;
         lock.lock();
         try {
+            // the rest of the close handshake has to be read even if a handler has not consumed the buffered data
+            if (readingSuspended) {
+                readingSuspended = false;
+                socket.resumeReading();
+            }
             // wake up blocked thread
             condition.signalAll();
         } finally {
@@ -192,6 +253,61 @@ class InputStreamBuffer {
         }
     }
 
+    // lock has to be held, returns false when the whole message has been read
+    private boolean awaitData() throws IOException {
+        while (bufferedFragments.isEmpty()) {
+            if (receivedLast) {
+                this.inputStream = null;
+                this.currentlyBuffered = 0;
+                return false;
+            }
+
+            // there's more to come...so wait here...
+            // don't let the reader block on a closed session
+            checkClosedSession();
+            try {
+                condition.await();
+            } catch (InterruptedException e) {
+                // keep waiting
+            }
+            checkClosedSession();
+        }
+
+        return true;
+    }
+
+    // lock has to be held
+    private void consumed(ByteBuffer firstBuffer, int size) {
+        if (!firstBuffer.hasRemaining()) {
+            bufferedFragments.removeFirst();
+        }
+        unread -= size;
+        updateReading();
+    }
+
+    private void updateRunningHandlers(int delta) {
+        lock.lock();
+        try {
+            runningHandlers += delta;
+            updateReading();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock has to be held
+    private void updateReading() {
+        if (readingSuspended) {
+            if (runningHandlers == 0 || unread <= windowSize / 2) {
+                readingSuspended = false;
+                socket.resumeReading();
+            }
+        } else if (runningHandlers > 0 && windowSize > 0 && unread > windowSize && !sessionClosed) {
+            readingSuspended = true;
+            socket.suspendReading();
+        }
+    }
+
     private void checkClosedSession() throws IOException {
         if (sessionClosed) {
             throw new IOException("Websocket session has been closed.");
@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -66,7 +67,7 @@ public class MessageHandlerManager {
     private final Map<Class<?>, MessageHandler> registeredHandlers = new HashMap<Class<?>, MessageHandler>();
     private final List<Class<? extends Decoder>> decoders;
 
-    private Set<MessageHandler> messageHandlerCache;
+    private volatile DispatchTable dispatchTable = DispatchTable.EMPTY;
 
     /**
      * Construct manager with no decoders.
@@ -240,7 +241,7 @@ public class MessageHandlerManager {
             registeredHandlers.put(clazz, handler);
         }
 
-        messageHandlerCache = null;
+        dispatchTable = new DispatchTable(registeredHandlers);
     }
 
     private void throwException(String text) throws IllegalStateException {
@@ -261,7 +262,7 @@ public class MessageHandlerManager {
             if (next.getValue().equals(handler)) {
                 handlerClass = next.getKey();
                 iterator.remove();
-                messageHandlerCache = null;
+                dispatchTable = new DispatchTable(registeredHandlers);
                 break;
             }
         }
@@ -307,22 +308,28 @@ public class MessageHandlerManager {
      * @return unmodifiable {@link Set} of registered {@link MessageHandler}s.
      */
     public Set<MessageHandler> getMessageHandlers() {
-        if (messageHandlerCache == null) {
-            messageHandlerCache = Collections.unmodifiableSet(new HashSet<MessageHandler>(registeredHandlers.values()));
-        }
-
-        return messageHandlerCache;
+        return dispatchTable.handlers;
     }
 
+    /**
+     * Get registered {@link MessageHandler.Whole}s ordered from the most specific handled type.
+     *
+     * @return unmodifiable list of handled types and handlers.
+     */
     public List<Map.Entry<Class<?>, MessageHandler>> getOrderedWholeMessageHandlers() {
-        List<Map.Entry<Class<?>, MessageHandler>> result = new ArrayList<Map.Entry<Class<?>, MessageHandler>>();
-        for (final Map.Entry<Class<?>, MessageHandler> entry : registeredHandlers.entrySet()) {
-            if (entry.getValue() instanceof MessageHandler.Whole) {
-                result.add(entry);
-            }
-        }
-        Collections.sort(result, new MessageHandlerComparator());
-        return result;
+        return dispatchTable.orderedWholeHandlers;
+    }
+
+    /**
+     * Get current dispatch table.
+     * <p>
+     * The table is immutable and it is replaced whenever a handler is added or removed, so it can be used without
+     * synchronization.
+     *
+     * @return current dispatch table.
+     */
+    DispatchTable getDispatchTable() {
+        return dispatchTable;
     }
 
     static Class<?> getHandlerType(MessageHandler handler) {
@@ -402,6 +409,145 @@ public class MessageHandlerManager {
         return pongHandlerPresent;
     }
 
+    /**
+     * Immutable snapshot of registered handlers in the form used for message dispatch.
+     * <p>
+     * Whole message handlers are ordered from the most specific handled type, handled types are the ones the handlers
+     * were registered with, so no reflection is needed when a message is dispatched.
+     */
+    static final class DispatchTable {
+
+        private static final DispatchTable EMPTY =
+                new DispatchTable(Collections.<Class<?>, MessageHandler>emptyMap());
+
+        private final Set<MessageHandler> handlers;
+        private final List<Map.Entry<Class<?>, MessageHandler>> orderedWholeHandlers;
+        private final Class<?>[] wholeTypes;
+        private final MessageHandler[] wholeHandlers;
+        private final Class<?>[] partialTypes;
+        private final MessageHandler[] partialHandlers;
+        private final MessageHandler pongHandler;
+
+        private DispatchTable(Map<Class<?>, MessageHandler> registeredHandlers) {
+            final List<Map.Entry<Class<?>, MessageHandler>> whole = new ArrayList<Map.Entry<Class<?>, MessageHandler>>();
+            final List<Map.Entry<Class<?>, MessageHandler>> partial =
+                    new ArrayList<Map.Entry<Class<?>, MessageHandler>>();
+            MessageHandler pong = null;
+
+            for (Map.Entry<Class<?>, MessageHandler> entry : registeredHandlers.entrySet()) {
+                final Map.Entry<Class<?>, MessageHandler> copy =
+                        new AbstractMap.SimpleImmutableEntry<Class<?>, MessageHandler>(entry);
+                if (entry.getValue() instanceof MessageHandler.Whole) {
+                    whole.add(copy);
+                    if (PONG_HANDLER_TYPE.equals(entry.getKey())) {
+                        pong = entry.getValue();
+                    }
+                } else {
+                    partial.add(copy);
+                }
+            }
+            Collections.sort(whole, new MessageHandlerComparator());
+
+            this.handlers = Collections.unmodifiableSet(new HashSet<MessageHandler>(registeredHandlers.values()));
+            this.orderedWholeHandlers = Collections.unmodifiableList(whole);
+            this.wholeTypes = new Class<?>[whole.size()];
+            this.wholeHandlers = new MessageHandler[whole.size()];
+            for (int i = 0; i < whole.size(); i++) {
+                wholeTypes[i] = whole.get(i).getKey();
+                wholeHandlers[i] = whole.get(i).getValue();
+            }
+            this.partialTypes = new Class<?>[partial.size()];
+            this.partialHandlers = new MessageHandler[partial.size()];
+            for (int i = 0; i < partial.size(); i++) {
+                partialTypes[i] = partial.get(i).getKey();
+                partialHandlers[i] = partial.get(i).getValue();
+            }
+            this.pongHandler = pong;
+        }
+
+        /**
+         * Get number of registered {@link MessageHandler.Whole}s.
+         *
+         * @return number of whole message handlers.
+         */
+        int getWholeHandlerCount() {
+            return wholeHandlers.length;
+        }
+
+        /**
+         * Get type handled by a whole message handler.
+         *
+         * @param index index of the handler, handlers handling more specific types go first.
+         * @return handled type.
+         */
+        Class<?> getWholeHandlerType(int index) {
+            return wholeTypes[index];
+        }
+
+        /**
+         * Get whole message handler.
+         *
+         * @param index index of the handler, handlers handling more specific types go first.
+         * @return {@link MessageHandler.Whole} instance.
+         */
+        MessageHandler getWholeHandler(int index) {
+            return wholeHandlers[index];
+        }
+
+        /**
+         * Get whole message handler registered for given type.
+         *
+         * @param type handled type.
+         * @return handler or {@code null} when there is no whole message handler registered for the type.
+         */
+        MessageHandler getWholeHandler(Class<?> type) {
+            for (int i = 0; i < wholeTypes.length; i++) {
+                if (wholeTypes[i].equals(type)) {
+                    return wholeHandlers[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Get number of registered {@link MessageHandler.Partial}s.
+         *
+         * @return number of partial message handlers.
+         */
+        int getPartialHandlerCount() {
+            return partialHandlers.length;
+        }
+
+        /**
+         * Get type handled by a partial message handler.
+         *
+         * @param index index of the handler.
+         * @return handled type.
+         */
+        Class<?> getPartialHandlerType(int index) {
+            return partialTypes[index];
+        }
+
+        /**
+         * Get partial message handler.
+         *
+         * @param index index of the handler.
+         * @return {@link MessageHandler.Partial} instance.
+         */
+        MessageHandler getPartialHandler(int index) {
+            return partialHandlers[index];
+        }
+
+        /**
+         * Get pong message handler.
+         *
+         * @return handler or {@code null} when there is no pong message handler registered.
+         */
+        MessageHandler getPongHandler() {
+            return pongHandler;
+        }
+    }
+
     private static class MessageHandlerComparator implements Comparator<Map.Entry<Class<?>, MessageHandler>>,
             Serializable {
 
@@ -492,9 +492,14 @@ public final class ProtocolHandler {
             throw new IllegalStateException(LocalizationMessages.CONNECTION_NULL());
         }
 
+        final MessageEventListener listener = messageEventListener;
+        final CompletionHandlerWrapper completionHandlerWrapper = listener == MessageEventListener.NO_OP
+                ? new CompletionHandlerWrapper(completionHandler, future, frame)
+                : new TimedCompletionHandlerWrapper(completionHandler, future, frame, listener);
+
         final ByteBuffer byteBuffer = frame(frame);
-        localWriter.write(byteBuffer, new CompletionHandlerWrapper(completionHandler, future, frame), data);
-        messageEventListener.onFrameSent(frame.getFrameType(), frame.getPayloadLength());
+        localWriter.write(byteBuffer, completionHandlerWrapper, data);
+        listener.onFrameSent(frame.getFrameType(), frame.getPayloadLength());
 
         return future;
     }
@@ -889,6 +894,38 @@ public final class ProtocolHandler {
         }
     }
 
+    /**
+     * Reports the time from submitting the frame for writing to the start and to the completion of the write to {@link
+     * MessageEventListener}.
+     */
+    private static class TimedCompletionHandlerWrapper extends CompletionHandlerWrapper {
+
+        private final MessageEventListener messageEventListener;
+        private final TyrusFrame.FrameType frameType;
+        private final long submittedNanos = System.nanoTime();
+        private volatile long startedNanos = submittedNanos;
+
+        private TimedCompletionHandlerWrapper(CompletionHandler<Frame> frameCompletionHandler,
+                                              TyrusFuture<Frame> future, TyrusFrame frame,
+                                              MessageEventListener messageEventListener) {
+            super(frameCompletionHandler, future, frame);
+            this.messageEventListener = messageEventListener;
+            this.frameType = frame.getFrameType();
+        }
+
+        @Override
+        public void started() {
+            startedNanos = System.nanoTime();
+            messageEventListener.onFrameWriteStarted(frameType, submittedNanos, startedNanos);
+        }
+
+        @Override
+        public void completed(ByteBuffer result) {
+            messageEventListener.onFrameWritten(frameType, submittedNanos, startedNanos, System.nanoTime());
+            super.completed(result);
+        }
+    }
+
     private static class ParsingState {
         final AtomicInteger state = new AtomicInteger(0);
         volatile byte opcode = (byte) -1;
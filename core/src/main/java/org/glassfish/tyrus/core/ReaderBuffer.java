@@ -18,7 +18,9 @@ package org.glassfish.tyrus.core;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.util.concurrent.ExecutorService;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
@@ -34,6 +36,10 @@ import org.glassfish.tyrus.core.l10n.LocalizationMessages;
  * <p>
  * For the first received message {@link MessageHandler.Whole#onMessage(Object)} is called within a new executor to
  * allow blocking reading of passed {@link Reader}.
+ * <p>
+ * Received parts are kept by reference and copied only to the array passed to {@link Reader#read(char[], int, int)}.
+ * While the handler is running and more than the window size of received characters has not been read yet, reading
+ * of the connection is suspended; it is resumed when half of them has been read.
  *
  * @author Danny Coward (danny.coward at oracle.com)
  * @author Stepan Kopriva (stepan.kopriva at oracle.com)
@@ -42,7 +48,8 @@ import org.glassfish.tyrus.core.l10n.LocalizationMessages;
 class ReaderBuffer {
 
     private final AtomicBoolean buffering = new AtomicBoolean(true);
-    private final ExecutorService executorService;
+    private final Executor executor;
+    private final TyrusWebSocket socket;
     private final ReentrantLock lock = new ReentrantLock();
     private final Condition condition = lock.newCondition();
 
@@ -51,59 +58,68 @@ class ReaderBuffer {
     private volatile boolean receivedLast = false;
     private volatile int bufferSize;
     private volatile int currentlyBuffered;
-    private volatile StringBuffer buffer;
     private volatile BufferedStringReader reader = null;
     private volatile MessageHandler.Whole<Reader> messageHandler;
     private volatile boolean sessionClosed = false;
 
+    // guarded by lock
+    private final Deque<String> bufferedFragments = new ArrayDeque<String>();
+    // guarded by lock
+    private int windowSize = 0;
+    // guarded by lock, number of already read characters of the first buffered fragment
+    private int firstFragmentOffset = 0;
+    private int unread = 0;
+    private int runningHandlers = 0;
+    private boolean readingSuspended = false;
+
     /**
      * Constructor.
+     *
+     * @param executor executor used to call the message handler.
+     * @param socket   socket the message is received from, used to suspend reading.
      */
-    public ReaderBuffer(ExecutorService executorService) {
-        this.buffer = new StringBuffer();
-        this.executorService = executorService;
+    public ReaderBuffer(Executor executor, TyrusWebSocket socket) {
+        this.executor = executor;
+        this.socket = socket;
         currentlyBuffered = 0;
     }
 
     /**
-     * Get next received chars.
+     * Read received chars into an array.
      *
-     * @return next received chars.
+     * @param destination destination array.
+     * @param offset      offset in the destination array.
+     * @param number      maximal number of chars to be read.
+     * @return number of read chars or {@code -1} when the whole message has been read.
      */
-    public char[] getNextChars(int number) throws IOException {
+    public int read(char[] destination, int offset, int number) throws IOException {
+        if (number == 0) {
+            return 0;
+        }
+
         lock.lock();
         try {
-            if (buffer.length() == 0) {
-                if (receivedLast) {
-                    this.reader = null;
-                    buffering.set(true);
-                    this.currentlyBuffered = 0;
-                    return null;
-                } else { // there's more to come...so wait here...
-                    // don't let the reader block on a closed session
-                    checkClosedSession();
-
-                    boolean interrupted;
-                    do {
-                        interrupted = false;
-                        try {
-                            condition.await();
-
-                            checkClosedSession();
-                        } catch (InterruptedException e) {
-                            interrupted = true;
-                        }
-                    } while (interrupted);
-                }
+            if (!awaitData()) {
+                return -1;
             }
 
-            int size = number > buffer.length() ? buffer.length() : number;
+            int read = 0;
+            while (read < number && !bufferedFragments.isEmpty()) {
+                final String first = bufferedFragments.peekFirst();
+                final int size = Math.min(number - read, first.length() - firstFragmentOffset);
+                first.getChars(firstFragmentOffset, firstFragmentOffset + size, destination, offset + read);
+                read += size;
+                firstFragmentOffset += size;
 
-            char[] result = new char[size];
-            buffer.getChars(0, size, result, 0);
-            buffer.delete(0, size);
+                if (firstFragmentOffset == first.length()) {
+                    bufferedFragments.removeFirst();
+                    firstFragmentOffset = 0;
+                }
+            }
 
-            return result;
+            unread -= read;
+            updateReading();
+            return read;
         } finally {
             lock.unlock();
         }
@@ -113,7 +129,12 @@ class ReaderBuffer {
      * Finish reading of the buffer.
      */
     public void finishReading() {
-        buffer = new StringBuffer();
+        lock.lock();
+        try {
+            clear();
+        } finally {
+            lock.unlock();
+        }
         reader = null;
     }
 
@@ -128,7 +149,10 @@ class ReaderBuffer {
         try {
             currentlyBuffered += message.length();
             if (currentlyBuffered <= bufferSize) {
-                buffer.append(message);
+                if (message.length() > 0) {
+                    unread += message.length();
+                    bufferedFragments.add(message);
+                }
             } else {
                 if (buffering.get()) {
                     buffering.set(false);
@@ -143,18 +167,33 @@ class ReaderBuffer {
 
             this.receivedLast = last;
             condition.signalAll();
+            updateReading();
         } finally {
             lock.unlock();
         }
 
         if (this.reader == null) {
-            this.reader = new BufferedStringReader(this);
-            executorService.execute(new Runnable() {
-                @Override
-                public void run() {
-                    messageHandler.onMessage(reader);
-                }
-            });
+            final BufferedStringReader reader = new BufferedStringReader(this);
+            final MessageHandler.Whole<Reader> messageHandler = this.messageHandler;
+            this.reader = reader;
+
+            updateRunningHandlers(1);
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            messageHandler.onMessage(reader);
+                        } finally {
+                            // the reader may still be used by another thread, do not hold the connection any more
+                            updateRunningHandlers(-1);
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                updateRunningHandlers(-1);
+                throw e;
+            }
         }
     }
 
@@ -168,21 +207,35 @@ class ReaderBuffer {
     }
 
     /**
-     * Reset the buffer size.
+     * Reset the buffer size and the flow control window before a new message is received.
      *
      * @param bufferSize the size to be set.
+     * @param windowSize maximal number of received characters not read yet before reading is suspended, {@code 0} if
+     *                   reading should never be suspended.
      */
-    public void resetBuffer(int bufferSize) {
+    public void resetBuffer(int bufferSize, int windowSize) {
         this.bufferSize = bufferSize;
         buffering.set(true);
         currentlyBuffered = 0;
-        buffer.delete(0, buffer.length());
+
+        lock.lock();
+        try {
+            this.windowSize = windowSize;
+            clear();
+        } finally {
+            lock.unlock();
+        }
     }
 
     void onSessionClosed() {
         sessionClosed = true;
         lock.lock();
         try {
+            // the rest of the close handshake has to be read even if a handler has not consumed the buffered data
+            if (readingSuspended) {
+                readingSuspended = false;
+                socket.resumeReading();
+            }
             // wake up blocked thread
             condition.signalAll();
         } finally {
@@ -190,6 +243,61 @@ class ReaderBuffer {
         }
     }
 
+    // lock has to be held, returns false when the whole message has been read
+    private boolean awaitData() throws IOException {
+        while (bufferedFragments.isEmpty()) {
+            if (receivedLast) {
+                this.reader = null;
+                buffering.set(true);
+                this.currentlyBuffered = 0;
+                return false;
+            }
+
+            // there's more to come...so wait here...
+            // don't let the reader block on a closed session
+            checkClosedSession();
+            try {
+                condition.await();
+            } catch (InterruptedException e) {
+                // keep waiting
+            }
+            checkClosedSession();
+        }
+
+        return true;
+    }
+
+    // lock has to be held
+    private void clear() {
+        bufferedFragments.clear();
+        firstFragmentOffset = 0;
+        unread = 0;
+        updateReading();
+    }
+
+    private void updateRunningHandlers(int delta) {
+        lock.lock();
+        try {
+            runningHandlers += delta;
+            updateReading();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock has to be held
+    private void updateReading() {
+        if (readingSuspended) {
+            if (runningHandlers == 0 || unread <= windowSize / 2) {
+                readingSuspended = false;
+                socket.resumeReading();
+            }
+        } else if (runningHandlers > 0 && windowSize > 0 && unread > windowSize && !sessionClosed) {
+            readingSuspended = true;
+            socket.suspendReading();
+        }
+    }
+
     private void checkClosedSession() throws IOException {
         if (sessionClosed) {
             throw new IOException("Websocket session has been closed.");
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.tyrus.core.cluster.RemoteSession;
+
+/**
+ * Node-local cache of remote sessions of one endpoint.
+ * <p>
+ * Every change increments the version; {@link #getSessions()} returns an immutable set which is rebuilt only when the
+ * version changed since the set was built last time, so iterating remote sessions does not copy anything and does not
+ * touch the {@link org.glassfish.tyrus.core.cluster.ClusterContext}.
+ */
+class RemoteSessionCache {
+
+    private final Map<String, RemoteSession> sessions = new ConcurrentHashMap<String, RemoteSession>();
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Snapshot snapshot = new Snapshot(0, Collections.<RemoteSession>emptySet());
+
+    /**
+     * Add remote session.
+     *
+     * @param remoteSession session to be added. Session with the same id is replaced.
+     */
+    void put(RemoteSession remoteSession) {
+        final RemoteSession previous = sessions.put(remoteSession.getId(), remoteSession);
+        if (previous != null) {
+            previous.markClosed();
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * Refresh cached properties of a remote session.
+     *
+     * @param sessionId session id.
+     */
+    void invalidate(String sessionId) {
+        final RemoteSession remoteSession = sessions.get(sessionId);
+        if (remoteSession != null) {
+            remoteSession.invalidate();
+        }
+    }
+
+    /**
+     * Remove remote session and mark it as closed.
+     *
+     * @param sessionId session id.
+     */
+    void remove(String sessionId) {
+        final RemoteSession remoteSession = sessions.remove(sessionId);
+        if (remoteSession != null) {
+            remoteSession.markClosed();
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Get remote session.
+     *
+     * @param sessionId session id.
+     * @return remote session or {@code null} when there is no such session.
+     */
+    RemoteSession get(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * Get all remote sessions.
+     *
+     * @return live view of all remote sessions.
+     */
+    Collection<RemoteSession> values() {
+        return sessions.values();
+    }
+
+    /**
+     * Get immutable set of all remote sessions.
+     *
+     * @return unmodifiable set of remote sessions.
+     */
+    Set<RemoteSession> getSessions() {
+        Snapshot current = snapshot;
+        final long currentVersion = version.get();
+
+        if (current.version != currentVersion) {
+            current = new Snapshot(currentVersion,
+                                   Collections.unmodifiableSet(new HashSet<RemoteSession>(sessions.values())));
+            snapshot = current;
+        }
+
+        return current.sessions;
+    }
+
+    private static class Snapshot {
+
+        private final long version;
+        private final Set<RemoteSession> sessions;
+
+        private Snapshot(long version, Set<RemoteSession> sessions) {
+            this.version = version;
+            this.sessions = sessions;
+        }
+    }
+}
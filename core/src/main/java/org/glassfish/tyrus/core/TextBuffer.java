@@ -16,26 +16,40 @@
 
 package org.glassfish.tyrus.core;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.glassfish.tyrus.core.l10n.LocalizationMessages;
 
 /**
+ * Save received partial text messages to a list and concatenate them.
+ * <p>
+ * Parts are kept by reference until the last one is received and then copied once, into a builder of the exact size,
+ * so that the buffered message is not repeatedly copied while the buffer grows.
+ *
  * @author Stepan Kopriva (stepan.kopriva at oracle.com)
  */
 class TextBuffer {
-    private StringBuffer buffer;
+    private final List<String> list = new ArrayList<String>();
     private int bufferSize;
+    private int currentlyBuffered = 0;
     private static final Logger LOGGER = Logger.getLogger(BinaryBuffer.class.getName());
 
+    /**
+     * Append message part.
+     *
+     * @param message to be buffered.
+     */
     void appendMessagePart(String message) {
         if (message == null || message.length() == 0) {
             return;
         }
 
-        if (buffer.length() + message.length() <= bufferSize) {
-            buffer.append(message);
+        if (currentlyBuffered + message.length() <= bufferSize) {
+            currentlyBuffered += message.length();
+            list.add(message);
         } else {
             final MessageTooBigException messageTooBigException =
                     new MessageTooBigException(LocalizationMessages.PARTIAL_MESSAGE_BUFFER_OVERFLOW());
@@ -44,12 +58,40 @@ class TextBuffer {
         }
     }
 
+    /**
+     * Return concatenated message parts and reset internal state.
+     * <p>
+     * A message consisting of a single non-empty part is returned as it is, without copying.
+     *
+     * @return concatenated message.
+     */
     String getBufferedContent() {
-        return buffer.toString();
+        final String message;
+
+        if (list.isEmpty()) {
+            message = "";
+        } else if (list.size() == 1) {
+            message = list.get(0);
+        } else {
+            final StringBuilder sb = new StringBuilder(currentlyBuffered);
+            for (String buffered : list) {
+                sb.append(buffered);
+            }
+            message = sb.toString();
+        }
+
+        resetBuffer(0);
+        return message;
     }
 
+    /**
+     * Reset buffer with setting maximal buffer size.
+     *
+     * @param bufferSize max buffer size.
+     */
     void resetBuffer(int bufferSize) {
         this.bufferSize = bufferSize;
-        this.buffer = new StringBuffer();
+        this.list.clear();
+        currentlyBuffered = 0;
     }
 }
@@ -39,6 +39,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.logging.Level;
@@ -100,6 +101,7 @@ public class TyrusEndpointWrapper {
      * thread should not be lower than this constant.
      */
     private static final int MIN_SESSIONS_PER_THREAD = 16;
+    private static final int DEFAULT_STREAMING_WINDOW_SIZE = 64 * 1024;
     /**
      * The container for this session.
      */
@@ -114,8 +116,8 @@ public class TyrusEndpointWrapper {
     private final Endpoint endpoint;
     private final Map<TyrusWebSocket, TyrusSession> webSocketToSession =
             new ConcurrentHashMap<TyrusWebSocket, TyrusSession>();
-    private final Map<String, RemoteSession> clusteredSessions =
-            new ConcurrentHashMap<String, RemoteSession>();
+    private final RemoteSessionCache clusteredSessions = new RemoteSessionCache();
+    private final ClusterMembership clusterMembership = new ClusterMembership();
     private final ComponentProviderService componentProvider;
     private final ServerEndpointConfig.Configurator configurator;
     private final Method onOpen;
@@ -125,6 +127,8 @@ public class TyrusEndpointWrapper {
     private final EndpointEventListener endpointEventListener;
     private final boolean parallelBroadcastEnabled;
     private final boolean programmaticEndpoint;
+    private final int streamingWindowSize;
+    private final Executor streamingExecutor;
 
     private final ClusterContext clusterContext;
 
@@ -285,6 +289,15 @@ public class TyrusEndpointWrapper {
             }
         } : configuration;
 
+        final Map<String, Object> userProperties = this.configuration.getUserProperties();
+        this.streamingWindowSize = Utils.getProperty(userProperties, TyrusWebSocketEngine.STREAMING_WINDOW_SIZE,
+                                                     Integer.class, DEFAULT_STREAMING_WINDOW_SIZE);
+        if (Utils.getProperty(userProperties, TyrusWebSocketEngine.STREAMING_VIRTUAL_THREADS, Boolean.class, false)) {
+            this.streamingExecutor = VirtualThreadExecutor.getInstance();
+        } else {
+            this.streamingExecutor = null;
+        }
+
         for (Class<? extends Decoder> decoderClass : this.configuration.getDecoders()) {
             Class<?> type = getDecoderClassType(decoderClass);
             if (getDefaultDecoders().contains(decoderClass)) {
@@ -326,16 +339,17 @@ public class TyrusEndpointWrapper {
                     .registerSessionListener(getEndpointPath(), new org.glassfish.tyrus.core.cluster.SessionListener() {
                         @Override
                         public void onSessionOpened(String sessionId) {
-                            final Map<RemoteSession.DistributedMapKey, Object> distributedSessionProperties =
-                                    clusterContext.getDistributedSessionProperties(sessionId);
-                            clusteredSessions.put(sessionId, new RemoteSession(sessionId, clusterContext,
-                                                                               distributedSessionProperties,
-                                                                               TyrusEndpointWrapper.this,
-                                                                               dummySession));
+                            remoteSessionOpened(sessionId);
+                        }
+
+                        @Override
+                        public void onSessionUpdated(String sessionId) {
+                            clusteredSessions.invalidate(sessionId);
                         }
 
                         @Override
                         public void onSessionClosed(String sessionId) {
+                            clusterMembership.sessionClosed(sessionId);
                             clusteredSessions.remove(sessionId);
                         }
                     });
@@ -353,15 +367,19 @@ public class TyrusEndpointWrapper {
             });
 
             for (String sessionId : clusterContext.getRemoteSessionIds(getEndpointPath())) {
-                final Map<RemoteSession.DistributedMapKey, Object> distributedSessionProperties =
-                        clusterContext.getDistributedSessionProperties(sessionId);
-                clusteredSessions.put(sessionId,
-                                      new RemoteSession(sessionId, clusterContext, distributedSessionProperties, this,
-                                                        dummySession));
+                remoteSessionOpened(sessionId);
             }
         }
     }
 
+    private void remoteSessionOpened(String sessionId) {
+        final Map<RemoteSession.DistributedMapKey, Object> distributedSessionProperties =
+                clusterContext.getDistributedSessionProperties(sessionId);
+        clusteredSessions.put(new RemoteSession(sessionId, clusterContext, distributedSessionProperties, this,
+                                                dummySession));
+        clusterMembership.sessionOpened(sessionId, clusterContext.getNodeId(sessionId));
+    }
+
     static List<Class<? extends Decoder>> getDefaultDecoders() {
         final List<Class<? extends Decoder>> classList = new ArrayList<Class<? extends Decoder>>();
         classList.addAll(PrimitiveDecoders.ALL);
@@ -609,14 +627,30 @@ public class TyrusEndpointWrapper {
     }
 
     Set<RemoteSession> getRemoteSessions() {
-        Set<RemoteSession> result = new HashSet<RemoteSession>();
+        // clustered mode; cached, rebuilt only when remote sessions are opened or closed
+        return clusteredSessions.getSessions();
+    }
 
-        // clustered mode
-        if (clusterContext != null) {
-            result.addAll(clusteredSessions.values());
-        }
+    /**
+     * Report processing of a handshake request matched to this endpoint to the endpoint event listener.
+     *
+     * @param startNanos time when the handshake request has been passed to Tyrus.
+     * @param endNanos   time when the handshake response has been prepared.
+     * @param extensions extensions negotiated in the handshake.
+     */
+    void onHandshakeProcessed(long startNanos, long endNanos, List<Extension> extensions) {
+        endpointEventListener.onHandshakeProcessed(startNanos, endNanos, extensions);
+    }
 
-        return Collections.unmodifiableSet(result);
+    /**
+     * Report rejection of a handshake request matched to this endpoint to the endpoint event listener.
+     *
+     * @param startNanos time when the handshake request has been passed to Tyrus.
+     * @param endNanos   time when the handshake has been rejected.
+     * @param httpStatus HTTP status code of the handshake response.
+     */
+    void onHandshakeFailed(long startNanos, long endNanos, int httpStatus) {
+        endpointEventListener.onHandshakeFailed(startNanos, endNanos, httpStatus);
     }
 
     /**
@@ -643,6 +677,17 @@ public class TyrusEndpointWrapper {
         return webSocketToSession.get(socket);
     }
 
+    // session user properties may override the window set for the endpoint
+    private int getStreamingWindowSize(TyrusSession session) {
+        return Utils.getProperty(session.getUserProperties(), TyrusWebSocketEngine.STREAMING_WINDOW_SIZE,
+                                 Integer.class, streamingWindowSize);
+    }
+
+    // executor calling whole message handlers which consume a stream
+    private Executor getStreamingExecutor() {
+        return streamingExecutor == null ? ((BaseContainer) container).getExecutorService() : streamingExecutor;
+    }
+
     /**
      * Called by the provider when the web socket connection is established.
      *
@@ -918,10 +963,10 @@ public class TyrusEndpointWrapper {
                     case RUNNING:
                         if (buffer == null) {
                             // TODO:
-                            buffer = new ReaderBuffer(((BaseContainer) container).getExecutorService());
+                            buffer = new ReaderBuffer(getStreamingExecutor(), socket);
                             session.setReaderBuffer(buffer);
                         }
-                        buffer.resetBuffer(session.getMaxTextMessageBufferSize());
+                        buffer.resetBuffer(session.getMaxTextMessageBufferSize(), getStreamingWindowSize(session));
                         buffer.setMessageHandler((session.getMessageHandler(Reader.class)));
                         buffer.appendMessagePart(partialString, last);
                         session.setState(TyrusSession.State.RECEIVING_TEXT);
@@ -1021,10 +1066,10 @@ public class TyrusEndpointWrapper {
                     case RUNNING:
                         if (buffer == null) {
                             // TODO
-                            buffer = new InputStreamBuffer(((BaseContainer) container).getExecutorService());
+                            buffer = new InputStreamBuffer(getStreamingExecutor(), socket);
                             session.setInputStreamBuffer(buffer);
                         }
-                        buffer.resetBuffer(session.getMaxBinaryMessageBufferSize());
+                        buffer.resetBuffer(session.getMaxBinaryMessageBufferSize(), getStreamingWindowSize(session));
                         buffer.setMessageHandler((session.getMessageHandler(InputStream.class)));
                         buffer.appendMessagePart(partialBytes, last);
                         session.setState(TyrusSession.State.RECEIVING_BINARY);
@@ -1269,7 +1314,7 @@ public class TyrusEndpointWrapper {
             session.setState(TyrusSession.State.CLOSED);
 
             webSocketToSession.remove(socket);
-            endpointEventListener.onSessionClosed(session.getId());
+            endpointEventListener.onSessionClosed(session.getId(), closeReason);
             componentProvider.removeSession(session);
             sessionListener.onClose(session, closeReason);
         }
@@ -1287,9 +1332,13 @@ public class TyrusEndpointWrapper {
     /**
      * Broadcasts text message to all connected clients.
      *
+     * <p>
+     * In clustered mode, the message is sent only to nodes which hold at least one session of this endpoint.
+     *
      * @param message message to be broadcasted.
-     * @return map of sessions and futures for user to get the information about status of the message. Messages send
-     * from other cluster nodes are not included.
+     * @return map of sessions and futures for user to get the information about status of the message. Sessions
+     * connected to other cluster nodes are mapped to the future representing delivery to their node; they are not
+     * included when the {@link ClusterContext} does not support targeted broadcast.
      */
     Map<Session, Future<?>> broadcast(final String message) {
         return broadcast(message, false);
@@ -1298,8 +1347,17 @@ public class TyrusEndpointWrapper {
     private Map<Session, Future<?>> broadcast(final String message, boolean local) {
 
         if (!local && clusterContext != null) {
-            clusterContext.broadcastText(getEndpointPath(), message);
-            return new HashMap<Session, Future<?>>();
+            final Set<String> nodeIds = clusterMembership.getNodeIds();
+            final Map<String, Future<Void>> nodeFutures =
+                    nodeIds == null ? null : clusterContext.broadcastText(getEndpointPath(), message, nodeIds);
+
+            if (nodeFutures == null) {
+                // delivered to local sessions via BroadcastListener
+                clusterContext.broadcastText(getEndpointPath(), message);
+                return new HashMap<Session, Future<?>>();
+            }
+
+            return addRemoteFutures(broadcast(message, true), nodeFutures);
         } else {
 
             if (webSocketToSession.isEmpty()) {
@@ -1338,9 +1396,13 @@ public class TyrusEndpointWrapper {
     /**
      * Broadcasts binary message to all connected clients.
      *
+     * <p>
+     * In clustered mode, the message is sent only to nodes which hold at least one session of this endpoint.
+     *
      * @param message message to be broadcasted.
-     * @return map of sessions and futures for user to get the information about status of the message. Messages send
-     * from other cluster nodes are not included.
+     * @return map of sessions and futures for user to get the information about status of the message. Sessions
+     * connected to other cluster nodes are mapped to the future representing delivery to their node; they are not
+     * included when the {@link ClusterContext} does not support targeted broadcast.
      */
     Map<Session, Future<?>> broadcast(final ByteBuffer message) {
         return broadcast(message, false);
@@ -1351,9 +1413,18 @@ public class TyrusEndpointWrapper {
         final byte[] byteArrayMessage = Utils.getRemainingArray(message);
 
         if (!local && clusterContext != null) {
-            clusterContext.broadcastBinary(getEndpointPath(), byteArrayMessage);
-            // TODO: fix for cluster case
-            return new HashMap<Session, Future<?>>();
+            final Set<String> nodeIds = clusterMembership.getNodeIds();
+            final Map<String, Future<Void>> nodeFutures = nodeIds == null
+                    ? null
+                    : clusterContext.broadcastBinary(getEndpointPath(), byteArrayMessage, nodeIds);
+
+            if (nodeFutures == null) {
+                // delivered to local sessions via BroadcastListener
+                clusterContext.broadcastBinary(getEndpointPath(), byteArrayMessage);
+                return new HashMap<Session, Future<?>>();
+            }
+
+            return addRemoteFutures(broadcast(ByteBuffer.wrap(byteArrayMessage), true), nodeFutures);
         } else {
 
             if (webSocketToSession.isEmpty()) {
@@ -1389,6 +1460,30 @@ public class TyrusEndpointWrapper {
         }
     }
 
+    /**
+     * Add futures of the targeted cluster broadcast to the map of local broadcast futures.
+     *
+     * @param futures     futures of the local broadcast.
+     * @param nodeFutures futures of the delivery to remote nodes.
+     * @return map of all sessions and futures; each remote session is mapped to the future of its node.
+     */
+    private Map<Session, Future<?>> addRemoteFutures(Map<Session, Future<?>> futures,
+                                                     Map<String, Future<Void>> nodeFutures) {
+        if (nodeFutures.isEmpty()) {
+            return futures;
+        }
+
+        for (RemoteSession remoteSession : clusteredSessions.values()) {
+            final String nodeId = clusterMembership.getNodeId(remoteSession.getId());
+            final Future<Void> nodeFuture = nodeId == null ? null : nodeFutures.get(nodeId);
+            if (nodeFuture != null) {
+                futures.put(remoteSession, nodeFuture);
+            }
+        }
+
+        return futures;
+    }
+
     /**
      * Perform broadcast.
      *
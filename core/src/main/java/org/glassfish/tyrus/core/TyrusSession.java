@@ -51,7 +51,9 @@ import org.glassfish.tyrus.core.cluster.DistributedSession;
 import org.glassfish.tyrus.core.cluster.RemoteSession;
 import org.glassfish.tyrus.core.cluster.SessionEventListener;
 import org.glassfish.tyrus.core.coder.CoderWrapper;
+import org.glassfish.tyrus.core.frame.TyrusFrame;
 import org.glassfish.tyrus.core.l10n.LocalizationMessages;
+import org.glassfish.tyrus.core.monitoring.MessageEventListener;
 
 /**
  * Implementation of the {@link Session}.
@@ -66,6 +68,7 @@ public class TyrusSession implements Session, DistributedSession {
     private static final Logger LOGGER = Logger.getLogger(TyrusSession.class.getName());
 
     private final WebSocketContainer container;
+    private final TyrusWebSocket socket;
     private final TyrusEndpointWrapper endpointWrapper;
     private final TyrusRemoteEndpoint.Basic basicRemote;
     private final TyrusRemoteEndpoint.Async asyncRemote;
@@ -107,6 +110,7 @@ public class TyrusSession implements Session, DistributedSession {
                  Map<String, List<String>> requestParameterMap, final ClusterContext clusterContext,
                  String connectionId, final String remoteAddr, DebugContext debugContext) {
         this.container = container;
+        this.socket = socket;
         this.endpointWrapper = endpointWrapper;
         this.negotiatedExtensions =
                 extensions == null ? Collections.<Extension>emptyList() : Collections.unmodifiableList(extensions);
@@ -370,9 +374,7 @@ public class TyrusSession implements Session, DistributedSession {
 
     @Override
     public Set<MessageHandler> getMessageHandlers() {
-        synchronized (handlerManager) {
-            return handlerManager.getMessageHandlers();
-        }
+        return handlerManager.getMessageHandlers();
     }
 
     @Override
@@ -431,7 +433,8 @@ public class TyrusSession implements Session, DistributedSession {
      * to {@code true} in server properties.
      *
      * @param message message to be broadcasted.
-     * @return map of local sessions and futures for user to get the information about status of the message.
+     * @return map of sessions and futures for user to get the information about status of the message. Sessions
+     * connected to other cluster nodes are included only when the cluster supports targeted broadcast.
      */
     public Map<Session, Future<?>> broadcast(String message) {
         return endpointWrapper.broadcast(message);
@@ -445,7 +448,8 @@ public class TyrusSession implements Session, DistributedSession {
      * to {@code true} in server properties.
      *
      * @param message message to be broadcasted.
-     * @return map of local sessions and futures for user to get the information about status of the message.
+     * @return map of sessions and futures for user to get the information about status of the message. Sessions
+     * connected to other cluster nodes are included only when the cluster supports targeted broadcast.
      */
     public Map<Session, Future<?>> broadcast(ByteBuffer message) {
         return endpointWrapper.broadcast(message);
@@ -529,67 +533,60 @@ public class TyrusSession implements Session, DistributedSession {
 
     void notifyMessageHandlers(Object message, List<CoderWrapper<Decoder>> availableDecoders) throws DecodeException,
             IOException {
-        boolean decoded = false;
-
         if (availableDecoders.isEmpty()) {
             LOGGER.warning(LocalizationMessages.NO_DECODER_FOUND());
         }
 
-        List<Map.Entry<Class<?>, MessageHandler>> orderedMessageHandlers;
-        synchronized (handlerManager) {
-            orderedMessageHandlers = handlerManager.getOrderedWholeMessageHandlers();
-        }
+        final MessageHandlerManager.DispatchTable dispatchTable = handlerManager.getDispatchTable();
+        final int handlerCount = dispatchTable.getWholeHandlerCount();
 
-        for (CoderWrapper<Decoder> decoder : availableDecoders) {
-            for (Map.Entry<Class<?>, MessageHandler> entry : orderedMessageHandlers) {
-                MessageHandler mh = entry.getValue();
+        for (int i = 0; i < availableDecoders.size(); i++) {
+            final CoderWrapper<Decoder> decoder = availableDecoders.get(i);
+            for (int j = 0; j < handlerCount; j++) {
+                MessageHandler mh = dispatchTable.getWholeHandler(j);
 
-                Class<?> type = entry.getKey();
+                Class<?> type = dispatchTable.getWholeHandlerType(j);
                 if (type.isAssignableFrom(decoder.getType())) {
 
                     if (mh instanceof BasicMessageHandler) {
                         checkMessageSize(message, ((BasicMessageHandler) mh).getMaxMessageSize());
                     }
 
+                    final MessageEventListener messageEventListener = socket.getMessageEventListener();
+                    final long decodingStart =
+                            messageEventListener == MessageEventListener.NO_OP ? 0 : System.nanoTime();
+
                     Object object = endpointWrapper.decodeCompleteMessage(this, message, type, decoder);
+
+                    if (messageEventListener != MessageEventListener.NO_OP) {
+                        messageEventListener.onFrameDecoded(
+                                message instanceof String ? TyrusFrame.FrameType.TEXT : TyrusFrame.FrameType.BINARY,
+                                decodingStart, System.nanoTime());
+                    }
                     if (object != null) {
                         final State currentState = state.get();
                         if (currentState != State.CLOSED) {
                             //noinspection unchecked
                             ((MessageHandler.Whole) mh).onMessage(object);
                         }
-                        decoded = true;
-                        break;
+                        return;
                     }
                 }
             }
-            if (decoded) {
-                break;
-            }
         }
     }
 
     <T> MessageHandler.Whole<T> getMessageHandler(Class<T> c) {
-        List<Map.Entry<Class<?>, MessageHandler>> orderedMessageHandlers;
-        synchronized (handlerManager) {
-            orderedMessageHandlers = handlerManager.getOrderedWholeMessageHandlers();
-        }
-
-        for (Map.Entry<Class<?>, MessageHandler> entry : orderedMessageHandlers) {
-            if (entry.getKey().equals(c)) {
-                return (MessageHandler.Whole<T>) entry.getValue();
-            }
-        }
-
-        return null;
+        return (MessageHandler.Whole<T>) handlerManager.getDispatchTable().getWholeHandler(c);
     }
 
     void notifyMessageHandlers(Object message, boolean last) {
         boolean handled = false;
 
-        for (MessageHandler handler : getMessageHandlers()) {
-            if ((handler instanceof MessageHandler.Partial)
-                    && MessageHandlerManager.getHandlerType(handler).isAssignableFrom(message.getClass())) {
+        final MessageHandlerManager.DispatchTable dispatchTable = handlerManager.getDispatchTable();
+        for (int i = 0; i < dispatchTable.getPartialHandlerCount(); i++) {
+            final MessageHandler handler = dispatchTable.getPartialHandler(i);
+            if (dispatchTable.getPartialHandlerType(i).isAssignableFrom(message.getClass())) {
 
                 if (handler instanceof AsyncMessageHandler) {
                     checkMessageSize(message, ((AsyncMessageHandler) handler).getMaxMessageSize());
@@ -615,11 +612,9 @@ public class TyrusSession implements Session, DistributedSession {
     }
 
     void notifyPongHandler(PongMessage pongMessage) {
-        final Set<MessageHandler> messageHandlers = getMessageHandlers();
-        for (MessageHandler handler : messageHandlers) {
-            if (MessageHandlerManager.getHandlerType(handler).equals(PongMessage.class)) {
-                ((MessageHandler.Whole<PongMessage>) handler).onMessage(pongMessage);
-            }
+        final MessageHandler handler = handlerManager.getDispatchTable().getPongHandler();
+        if (handler != null) {
+            ((MessageHandler.Whole<PongMessage>) handler).onMessage(pongMessage);
         }
     }
 
@@ -38,6 +38,7 @@ import org.glassfish.tyrus.core.frame.TextFrame;
 import org.glassfish.tyrus.core.frame.TyrusFrame;
 import org.glassfish.tyrus.core.l10n.LocalizationMessages;
 import org.glassfish.tyrus.core.monitoring.MessageEventListener;
+import org.glassfish.tyrus.spi.ReadController;
 import org.glassfish.tyrus.spi.UpgradeRequest;
 import org.glassfish.tyrus.spi.WriterInfo;
 
@@ -56,7 +57,13 @@ public class TyrusWebSocket {
     private final AtomicReference<State> state = new AtomicReference<State>(State.NEW);
     private final Lock lock = new ReentrantLock();
 
+    private final Object readControlLock = new Object();
+
     private volatile MessageEventListener messageEventListener = MessageEventListener.NO_OP;
+    // guarded by readControlLock
+    private ReadController readController = null;
+    // guarded by readControlLock, number of parties which currently need reading to be suspended
+    private int readSuspensions = 0;
 
     private static final WriterInfo PING_INFO = new WriterInfo(WriterInfo.MessageType.PING, WriterInfo.RemoteEndpointType.SUPER);
     private static final WriterInfo PONG_INFO = new WriterInfo(WriterInfo.MessageType.PONG, WriterInfo.RemoteEndpointType.SUPER);
@@ -152,7 +159,9 @@ public class TyrusWebSocket {
     public void onFragment(BinaryFrame frame, boolean last) {
         awaitOnConnect();
         if (endpointWrapper != null) {
+            final long start = processingStart();
             endpointWrapper.onPartialMessage(this, ByteBuffer.wrap(frame.getPayloadData()), last);
+            processingEnd(frame, start);
             messageEventListener.onFrameReceived(frame.getFrameType(), frame.getPayloadLength());
         }
     }
@@ -167,7 +176,9 @@ public class TyrusWebSocket {
     public void onFragment(TextFrame frame, boolean last) {
         awaitOnConnect();
         if (endpointWrapper != null) {
+            final long start = processingStart();
             endpointWrapper.onPartialMessage(this, frame.getTextPayload(), last);
+            processingEnd(frame, start);
             messageEventListener.onFrameReceived(frame.getFrameType(), frame.getPayloadLength());
         }
     }
@@ -180,7 +191,9 @@ public class TyrusWebSocket {
     public void onMessage(BinaryFrame frame) {
         awaitOnConnect();
         if (endpointWrapper != null) {
+            final long start = processingStart();
             endpointWrapper.onMessage(this, ByteBuffer.wrap(frame.getPayloadData()));
+            processingEnd(frame, start);
             messageEventListener.onFrameReceived(frame.getFrameType(), frame.getPayloadLength());
         }
     }
@@ -193,7 +206,9 @@ public class TyrusWebSocket {
     public void onMessage(TextFrame frame) {
         awaitOnConnect();
         if (endpointWrapper != null) {
+            final long start = processingStart();
             endpointWrapper.onMessage(this, frame.getTextPayload());
+            processingEnd(frame, start);
             messageEventListener.onFrameReceived(frame.getFrameType(), frame.getPayloadLength());
         }
     }
@@ -206,7 +221,9 @@ public class TyrusWebSocket {
     public void onPing(PingFrame frame) {
         awaitOnConnect();
         if (endpointWrapper != null) {
+            final long start = processingStart();
             endpointWrapper.onPing(this, ByteBuffer.wrap(frame.getPayloadData()));
+            processingEnd(frame, start);
             messageEventListener.onFrameReceived(frame.getFrameType(), frame.getPayloadLength());
         }
     }
@@ -220,11 +237,24 @@ public class TyrusWebSocket {
     public void onPong(PongFrame frame) {
         awaitOnConnect();
         if (endpointWrapper != null) {
+            final long start = processingStart();
             endpointWrapper.onPong(this, ByteBuffer.wrap(frame.getPayloadData()));
+            processingEnd(frame, start);
             messageEventListener.onFrameReceived(frame.getFrameType(), frame.getPayloadLength());
         }
     }
 
+    private long processingStart() {
+        return messageEventListener == MessageEventListener.NO_OP ? 0 : System.nanoTime();
+    }
+
+    private void processingEnd(TyrusFrame frame, long start) {
+        final MessageEventListener listener = messageEventListener;
+        if (listener != MessageEventListener.NO_OP) {
+            listener.onFrameProcessed(frame.getFrameType(), start, System.nanoTime());
+        }
+    }
+
     /**
      * Closes this {@link TyrusWebSocket}.
      */
@@ -504,6 +534,48 @@ public class TyrusWebSocket {
         return messageEventListener;
     }
 
+    /**
+     * Set read controller of the underlying connection.
+     * <p>
+     * Called by the {@link org.glassfish.tyrus.spi.ReadHandler} of the connection when the transport supports
+     * suspending reads.
+     *
+     * @param readController read controller provided by the transport.
+     */
+    public void setReadController(ReadController readController) {
+        synchronized (readControlLock) {
+            this.readController = readController;
+            if (readController != null && readSuspensions > 0) {
+                readController.suspendReading();
+            }
+        }
+    }
+
+    /**
+     * Ask the transport to stop reading data of this connection.
+     * <p>
+     * Reading is resumed when every call has been matched by {@link #resumeReading()}. Has no effect when the transport
+     * does not support suspending reads.
+     */
+    void suspendReading() {
+        synchronized (readControlLock) {
+            if (readSuspensions++ == 0 && readController != null) {
+                readController.suspendReading();
+            }
+        }
+    }
+
+    /**
+     * Withdraw one {@link #suspendReading()} request.
+     */
+    void resumeReading() {
+        synchronized (readControlLock) {
+            if (readSuspensions > 0 && --readSuspensions == 0 && readController != null) {
+                readController.resumeReading();
+            }
+        }
+    }
+
     private void checkConnectedState() {
         if (!isConnected()) {
             throw new RuntimeException(LocalizationMessages.SOCKET_NOT_CONNECTED());
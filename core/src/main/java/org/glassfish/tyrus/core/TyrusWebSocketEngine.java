@@ -48,6 +48,7 @@ import org.glassfish.tyrus.core.monitoring.MessageEventListener;
 import org.glassfish.tyrus.core.uri.Match;
 import org.glassfish.tyrus.core.wsadl.model.Application;
 import org.glassfish.tyrus.spi.Connection;
+import org.glassfish.tyrus.spi.ReadController;
 import org.glassfish.tyrus.spi.ReadHandler;
 import org.glassfish.tyrus.spi.UpgradeRequest;
 import org.glassfish.tyrus.spi.UpgradeResponse;
@@ -141,6 +142,39 @@ public class TyrusWebSocketEngine implements WebSocketEngine {
      */
     public static final String PARALLEL_BROADCAST_ENABLED = "org.glassfish.tyrus.server.parallelBroadcastEnabled";
 
+    /**
+     * Maximal number of bytes or characters of a streamed message received but not yet read by the {@link
+     * java.io.InputStream} or {@link java.io.Reader} passed to a whole message handler.
+     * <p>
+     * When the handler does not keep up, Tyrus asks the transport to stop reading data of the connection until half of
+     * the buffered data is read, so that the memory used by the message is bounded by this value and the size of data
+     * read at once rather than by the message size. Transports which cannot suspend reading keep buffering the whole
+     * message.
+     * <p>
+     * Set in user properties of the endpoint configuration, on the server or the client side. The value must be
+     * {@link java.lang.Integer} or its primitive alternative, {@code 0} disables the flow control. Default value is
+     * 65536. The value can be overridden for a single session by setting it in {@link
+     * javax.websocket.Session#getUserProperties()}, typically in {@code onOpen}; it is applied to messages started
+     * after it has been set.
+     *
+     * @see javax.websocket.EndpointConfig#getUserProperties()
+     */
+    public static final String STREAMING_WINDOW_SIZE = "org.glassfish.tyrus.streamingWindowSize";
+
+    /**
+     * Call whole message handlers consuming {@link java.io.InputStream} or {@link java.io.Reader} in virtual threads.
+     * <p>
+     * Every streamed message occupies a thread while the handler reads it. When set to {@code true} and the runtime
+     * supports virtual threads, each such handler gets a new virtual thread instead of a thread of the container
+     * executor service. The property is ignored on runtimes without virtual threads.
+     * <p>
+     * Set in user properties of the endpoint configuration, on the server or the client side. Expected value is
+     * {@code true} or {@code false} and the default value is {@code false}.
+     *
+     * @see javax.websocket.EndpointConfig#getUserProperties()
+     */
+    public static final String STREAMING_VIRTUAL_THREADS = "org.glassfish.tyrus.streamingVirtualThreads";
+
     private static final int BUFFER_STEP_SIZE = 256;
     private static final Logger LOGGER = Logger.getLogger(TyrusWebSocketEngine.class.getName());
 
@@ -299,8 +333,8 @@ public class TyrusWebSocketEngine implements WebSocketEngine {
                                   Arrays.asList(Version.getSupportedWireProtocolVersions()));
     }
 
-    TyrusEndpointWrapper getEndpointWrapper(UpgradeRequest request, DebugContext debugContext) throws
-            HandshakeException {
+    TyrusEndpointWrapper getEndpointWrapper(UpgradeRequest request, DebugContext debugContext, long handshakeStart)
+            throws HandshakeException {
         if (endpointWrappers.isEmpty()) {
             return null;
         }
@@ -314,7 +348,15 @@ public class TyrusWebSocketEngine implements WebSocketEngine {
                 request.getParameterMap().put(parameter.getKey(), Arrays.asList(parameter.getValue()));
             }
 
-            if (endpointWrapper.upgrade(request)) {
+            final boolean upgrade;
+            try {
+                upgrade = endpointWrapper.upgrade(request);
+            } catch (HandshakeException e) {
+                endpointWrapper.onHandshakeFailed(handshakeStart, System.nanoTime(), e.getHttpStatusCode());
+                throw e;
+            }
+
+            if (upgrade) {
                 debugContext.appendTraceMessage(LOGGER, Level.FINE, DebugContext.Type.MESSAGE_IN,
                                                 "Endpoint selected as a match to the handshake URI: ",
                                                 endpointWrapper.getEndpointPath());
@@ -330,6 +372,9 @@ public class TyrusWebSocketEngine implements WebSocketEngine {
     @Override
     public UpgradeInfo upgrade(final UpgradeRequest request, final UpgradeResponse response) {
 
+        final boolean monitored = applicationEventListener != ApplicationEventListener.NO_OP;
+        final long handshakeStart = monitored ? System.nanoTime() : 0;
+
         DebugContext debugContext = createDebugContext(request);
 
         if (LOGGER.isLoggable(Level.FINE)) {
@@ -339,7 +384,7 @@ public class TyrusWebSocketEngine implements WebSocketEngine {
 
         final TyrusEndpointWrapper endpointWrapper;
         try {
-            endpointWrapper = getEndpointWrapper(request, debugContext);
+            endpointWrapper = getEndpointWrapper(request, debugContext, handshakeStart);
         } catch (HandshakeException e) {
             return handleHandshakeException(e, response);
         }
@@ -348,6 +393,9 @@ public class TyrusWebSocketEngine implements WebSocketEngine {
             final ProtocolHandler protocolHandler = loadHandler(request);
             if (protocolHandler == null) {
                 handleUnsupportedVersion(request, response);
+                if (monitored) {
+                    endpointWrapper.onHandshakeFailed(handshakeStart, System.nanoTime(), response.getStatus());
+                }
                 debugContext.appendTraceMessage(LOGGER, Level.FINE, DebugContext.Type.MESSAGE_IN,
                                                 "Upgrade request contains unsupported version of Websocket protocol");
 
@@ -375,6 +423,9 @@ public class TyrusWebSocketEngine implements WebSocketEngine {
             try {
                 protocolHandler.handshake(endpointWrapper, request, response, extensionContext);
             } catch (HandshakeException e) {
+                if (monitored) {
+                    endpointWrapper.onHandshakeFailed(handshakeStart, System.nanoTime(), e.getHttpStatusCode());
+                }
                 return handleHandshakeException(e, response);
             }
 
@@ -401,6 +452,10 @@ public class TyrusWebSocketEngine implements WebSocketEngine {
             }
 
             response.getHeaders().putAll(debugContext.getTracingHeaders());
+            if (monitored) {
+                endpointWrapper
+                        .onHandshakeProcessed(handshakeStart, System.nanoTime(), protocolHandler.getExtensions());
+            }
             return new SuccessfulUpgradeInfo(endpointWrapper, protocolHandler, incomingBufferSize, request, response,
                                              extensionContext, debugContext);
         }
@@ -558,6 +613,11 @@ public class TyrusWebSocketEngine implements WebSocketEngine {
                 }
             }
         }
+
+        @Override
+        public void setReadController(ReadController readController) {
+            socket.setReadController(readController);
+        }
     }
 
     /**
@@ -1009,9 +1069,29 @@ public class TyrusWebSocketEngine implements WebSocketEngine {
             endpointEventListener.onSessionClosed(sessionId);
         }
 
+        @Override
+        public void onSessionClosed(String sessionId, CloseReason closeReason) {
+            endpointEventListener.onSessionClosed(sessionId, closeReason);
+        }
+
         @Override
         public void onError(String sessionId, Throwable t) {
             endpointEventListener.onError(sessionId, t);
         }
+
+        @Override
+        public void onHandshakeProcessed(long startNanos, long endNanos) {
+            endpointEventListener.onHandshakeProcessed(startNanos, endNanos);
+        }
+
+        @Override
+        public void onHandshakeProcessed(long startNanos, long endNanos, List<Extension> extensions) {
+            endpointEventListener.onHandshakeProcessed(startNanos, endNanos, extensions);
+        }
+
+        @Override
+        public void onHandshakeFailed(long startNanos, long endNanos, int httpStatus) {
+            endpointEventListener.onHandshakeFailed(startNanos, endNanos, httpStatus);
+        }
     }
 }
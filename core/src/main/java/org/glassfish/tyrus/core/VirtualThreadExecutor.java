@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link Executor} running every task in a new virtual thread.
+ * <p>
+ * Virtual threads are looked up reflectively, so that Tyrus keeps running on runtimes without them.
+ */
+final class VirtualThreadExecutor implements Executor {
+
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreadExecutor.class.getName());
+    private static final VirtualThreadExecutor INSTANCE = create();
+
+    private final Method startVirtualThread;
+
+    private VirtualThreadExecutor(Method startVirtualThread) {
+        this.startVirtualThread = startVirtualThread;
+    }
+
+    /**
+     * Get the executor.
+     *
+     * @return executor running tasks in virtual threads or {@code null} when the runtime does not support them.
+     */
+    static Executor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        try {
+            startVirtualThread.invoke(null, command);
+        } catch (IllegalAccessException e) {
+            throw new RejectedExecutionException(e);
+        } catch (InvocationTargetException e) {
+            throw new RejectedExecutionException(e.getCause());
+        }
+    }
+
+    private static VirtualThreadExecutor create() {
+        try {
+            final Method method = Thread.class.getMethod("startVirtualThread", Runnable.class);
+            // preview feature on Java 19 and 20, fails unless enabled
+            method.invoke(null, new Runnable() {
+                @Override
+                public void run() {
+                }
+            });
+            return new VirtualThreadExecutor(method);
+        } catch (Exception e) {
+            LOGGER.config("Virtual threads are not supported, " + TyrusWebSocketEngine.STREAMING_VIRTUAL_THREADS
+                                  + " is ignored.");
+            LOGGER.log(Level.FINE, e.getMessage(), e);
+            return null;
+        }
+    }
+}
@@ -146,6 +146,71 @@ public abstract class ClusterContext {
      */
     public abstract void broadcastBinary(String endpointPath, byte[] data);
 
+    /**
+     * Broadcast text message to selected remote nodes.
+     * <p>
+     * Unlike {@link #broadcastText(String, String)}, the message is not delivered to sessions connected to this node;
+     * the caller is responsible for the local delivery. Default implementation does not support targeted broadcast
+     * and returns {@code null}.
+     *
+     * @param endpointPath endpoint path identifying sessions alignment to the endpoint.
+     * @param text         message to be broadcasted.
+     * @param nodeIds      ids of nodes the message will be sent to, see {@link #getNodeId(String)}.
+     * @return map of node ids and futures representing the delivery to each node. {@link
+     * java.util.concurrent.Future#get()} returns when there is an acknowledge from the node that the message has been
+     * passed to its sessions. {@code null} when targeted broadcast is not supported, caller should use {@link
+     * #broadcastText(String, String)} instead.
+     */
+    public Map<String, Future<Void>> broadcastText(String endpointPath, String text, Set<String> nodeIds) {
+        return null;
+    }
+
+    /**
+     * Broadcast binary message to selected remote nodes.
+     * <p>
+     * Unlike {@link #broadcastBinary(String, byte[])}, the message is not delivered to sessions connected to this
+     * node; the caller is responsible for the local delivery. Default implementation does not support targeted
+     * broadcast and returns {@code null}.
+     *
+     * @param endpointPath endpoint path identifying sessions alignment to the endpoint.
+     * @param data         data to be broadcasted.
+     * @param nodeIds      ids of nodes the message will be sent to, see {@link #getNodeId(String)}.
+     * @return map of node ids and futures representing the delivery to each node. {@link
+     * java.util.concurrent.Future#get()} returns when there is an acknowledge from the node that the message has been
+     * passed to its sessions. {@code null} when targeted broadcast is not supported, caller should use {@link
+     * #broadcastBinary(String, byte[])} instead.
+     */
+    public Map<String, Future<Void>> broadcastBinary(String endpointPath, byte[] data, Set<String> nodeIds) {
+        return null;
+    }
+
+    /**
+     * Get id of the cluster node which owns given session.
+     * <p>
+     * Used to track which nodes hold sessions of an endpoint, so broadcasts can skip nodes without any. Default
+     * implementation returns {@code null}, which disables targeted broadcast.
+     *
+     * @param sessionId session id.
+     * @return node id or {@code null} when not known.
+     */
+    public String getNodeId(String sessionId) {
+        return null;
+    }
+
+    /**
+     * Get information whether this context invokes {@link SessionListener#onSessionUpdated(String)} whenever
+     * distributed properties of a remote session change.
+     * <p>
+     * When supported, {@link RemoteSession} caches the distributed session properties and refreshes them only when
+     * notified. Default implementation returns {@code false}; remote sessions then read the distributed properties and
+     * the session state on every access.
+     *
+     * @return {@code true} when session updates are announced, {@code false} otherwise.
+     */
+    public boolean isSessionUpdateSupported() {
+        return false;
+    }
+
     /**
      * Get information about session state.
      *
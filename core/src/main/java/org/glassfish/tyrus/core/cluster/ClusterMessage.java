@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.core.cluster;
+
+/**
+ * Message exchanged between cluster nodes.
+ * <p>
+ * Represents one {@link ClusterContext} operation which has to be executed or announced on another node. Instances are
+ * immutable; {@link ClusterMessageEncoder} and {@link ClusterMessageDecoder} provide compact binary representation
+ * and {@link ClusterMessageBatcher} coalesces messages sent to the same node, so {@link ClusterContext}
+ * implementations do not need to define their own wire protocol.
+ */
+public final class ClusterMessage {
+
+    /**
+     * Type of the cluster message.
+     */
+    public enum Type {
+        /**
+         * Send whole text message to a session owned by the target node.
+         */
+        SEND_TEXT,
+        /**
+         * Send partial text message to a session owned by the target node.
+         */
+        SEND_PARTIAL_TEXT,
+        /**
+         * Send whole binary message to a session owned by the target node.
+         */
+        SEND_BINARY,
+        /**
+         * Send partial binary message to a session owned by the target node.
+         */
+        SEND_PARTIAL_BINARY,
+        /**
+         * Send ping to a session owned by the target node.
+         */
+        SEND_PING,
+        /**
+         * Send pong to a session owned by the target node.
+         */
+        SEND_PONG,
+        /**
+         * Close a session owned by the target node.
+         */
+        CLOSE,
+        /**
+         * Result of previously issued request.
+         */
+        RESULT,
+        /**
+         * Broadcast text message to all local sessions of an endpoint.
+         */
+        BROADCAST_TEXT,
+        /**
+         * Broadcast binary message to all local sessions of an endpoint.
+         */
+        BROADCAST_BINARY,
+        /**
+         * Session has been opened on the sending node.
+         */
+        SESSION_OPENED,
+        /**
+         * Session has been closed on the sending node.
+         */
+        SESSION_CLOSED,
+        /**
+         * Distributed session property has been set.
+         */
+        SESSION_PROPERTY_PUT,
+        /**
+         * Distributed user property has been set.
+         */
+        USER_PROPERTY_PUT,
+        /**
+         * Distributed user property has been removed.
+         */
+        USER_PROPERTY_REMOVE,
+        /**
+         * Distributed user properties of a connection have been destroyed.
+         */
+        USER_PROPERTIES_DESTROY
+    }
+
+    private final Type type;
+    private final long requestId;
+    private final String sessionId;
+    private final String endpointPath;
+    private final String key;
+    private final Object value;
+    private final String text;
+    private final byte[] data;
+    private final boolean last;
+    private final int closeCode;
+
+    private ClusterMessage(Type type, long requestId, String sessionId, String endpointPath, String key, Object value,
+                           String text, byte[] data, boolean last, int closeCode) {
+        this.type = type;
+        this.requestId = requestId;
+        this.sessionId = sessionId;
+        this.endpointPath = endpointPath;
+        this.key = key;
+        this.value = value;
+        this.text = text;
+        this.data = data;
+        this.last = last;
+        this.closeCode = closeCode;
+    }
+
+    /**
+     * Create request to send whole text message.
+     *
+     * @param requestId request id.
+     * @param sessionId session id.
+     * @param text      text to be sent.
+     * @return new message.
+     */
+    public static ClusterMessage sendText(long requestId, String sessionId, String text) {
+        return new ClusterMessage(Type.SEND_TEXT, requestId, sessionId, null, null, null, text, null, true, 0);
+    }
+
+    /**
+     * Create request to send partial text message.
+     *
+     * @param requestId request id.
+     * @param sessionId session id.
+     * @param text      partial text to be sent.
+     * @param isLast    {@code true} when the partial message is the last part of the message.
+     * @return new message.
+     */
+    public static ClusterMessage sendPartialText(long requestId, String sessionId, String text, boolean isLast) {
+        return new ClusterMessage(Type.SEND_PARTIAL_TEXT, requestId, sessionId, null, null, null, text, null, isLast,
+                                  0);
+    }
+
+    /**
+     * Create request to send whole binary message.
+     *
+     * @param requestId request id.
+     * @param sessionId session id.
+     * @param data      data to be sent.
+     * @return new message.
+     */
+    public static ClusterMessage sendBinary(long requestId, String sessionId, byte[] data) {
+        return new ClusterMessage(Type.SEND_BINARY, requestId, sessionId, null, null, null, null, data, true, 0);
+    }
+
+    /**
+     * Create request to send partial binary message.
+     *
+     * @param requestId request id.
+     * @param sessionId session id.
+     * @param data      partial data to be sent.
+     * @param isLast    {@code true} when the partial message is the last part of the message.
+     * @return new message.
+     */
+    public static ClusterMessage sendPartialBinary(long requestId, String sessionId, byte[] data, boolean isLast) {
+        return new ClusterMessage(Type.SEND_PARTIAL_BINARY, requestId, sessionId, null, null, null, null, data, isLast,
+                                  0);
+    }
+
+    /**
+     * Create request to send ping.
+     *
+     * @param requestId request id.
+     * @param sessionId session id.
+     * @param data      ping payload.
+     * @return new message.
+     */
+    public static ClusterMessage sendPing(long requestId, String sessionId, byte[] data) {
+        return new ClusterMessage(Type.SEND_PING, requestId, sessionId, null, null, null, null, data, true, 0);
+    }
+
+    /**
+     * Create request to send pong.
+     *
+     * @param requestId request id.
+     * @param sessionId session id.
+     * @param data      pong payload.
+     * @return new message.
+     */
+    public static ClusterMessage sendPong(long requestId, String sessionId, byte[] data) {
+        return new ClusterMessage(Type.SEND_PONG, requestId, sessionId, null, null, null, null, data, true, 0);
+    }
+
+    /**
+     * Create request to close a session.
+     *
+     * @param requestId    request id.
+     * @param sessionId    session id.
+     * @param closeCode    close code, {@code 0} when the session should be closed without close reason.
+     * @param reasonPhrase close reason phrase, can be {@code null}.
+     * @return new message.
+     */
+    public static ClusterMessage close(long requestId, String sessionId, int closeCode, String reasonPhrase) {
+        return new ClusterMessage(Type.CLOSE, requestId, sessionId, null, null, null, reasonPhrase, null, true,
+                                  closeCode);
+    }
+
+    /**
+     * Create result of a request.
+     *
+     * @param requestId request id of the request this result belongs to.
+     * @param error     error description or {@code null} when the request succeeded.
+     * @return new message.
+     */
+    public static ClusterMessage result(long requestId, String error) {
+        return new ClusterMessage(Type.RESULT, requestId, null, null, null, null, error, null, true, 0);
+    }
+
+    /**
+     * Create text broadcast.
+     *
+     * @param requestId    request id or {@code 0} when the receiving node should not acknowledge the delivery.
+     * @param endpointPath endpoint path.
+     * @param text         text to be broadcast.
+     * @return new message.
+     */
+    public static ClusterMessage broadcastText(long requestId, String endpointPath, String text) {
+        return new ClusterMessage(Type.BROADCAST_TEXT, requestId, null, endpointPath, null, null, text, null, true, 0);
+    }
+
+    /**
+     * Create binary broadcast.
+     *
+     * @param requestId    request id or {@code 0} when the receiving node should not acknowledge the delivery.
+     * @param endpointPath endpoint path.
+     * @param data         data to be broadcast.
+     * @return new message.
+     */
+    public static ClusterMessage broadcastBinary(long requestId, String endpointPath, byte[] data) {
+        return new ClusterMessage(Type.BROADCAST_BINARY, requestId, null, endpointPath, null, null, null, data, true,
+                                  0);
+    }
+
+    /**
+     * Create session opened announcement.
+     *
+     * @param sessionId    session id.
+     * @param endpointPath endpoint path.
+     * @return new message.
+     */
+    public static ClusterMessage sessionOpened(String sessionId, String endpointPath) {
+        return new ClusterMessage(Type.SESSION_OPENED, 0, sessionId, endpointPath, null, null, null, null, true, 0);
+    }
+
+    /**
+     * Create session closed announcement.
+     *
+     * @param sessionId    session id.
+     * @param endpointPath endpoint path.
+     * @return new message.
+     */
+    public static ClusterMessage sessionClosed(String sessionId, String endpointPath) {
+        return new ClusterMessage(Type.SESSION_CLOSED, 0, sessionId, endpointPath, null, null, null, null, true, 0);
+    }
+
+    /**
+     * Create distributed session property update. {@code null} value represents removal.
+     *
+     * @param sessionId session id.
+     * @param key       {@link RemoteSession.DistributedMapKey} name.
+     * @param value     property value.
+     * @return new message.
+     */
+    public static ClusterMessage sessionPropertyPut(String sessionId, String key, Object value) {
+        return new ClusterMessage(Type.SESSION_PROPERTY_PUT, 0, sessionId, null, key, value, null, null, true, 0);
+    }
+
+    /**
+     * Create distributed user property update.
+     *
+     * @param connectionId connection id.
+     * @param key          property key.
+     * @param value        property value.
+     * @return new message.
+     */
+    public static ClusterMessage userPropertyPut(String connectionId, String key, Object value) {
+        return new ClusterMessage(Type.USER_PROPERTY_PUT, 0, connectionId, null, key, value, null, null, true, 0);
+    }
+
+    /**
+     * Create distributed user property removal.
+     *
+     * @param connectionId connection id.
+     * @param key          property key.
+     * @return new message.
+     */
+    public static ClusterMessage userPropertyRemove(String connectionId, String key) {
+        return new ClusterMessage(Type.USER_PROPERTY_REMOVE, 0, connectionId, null, key, null, null, null, true, 0);
+    }
+
+    /**
+     * Create distributed user properties destruction.
+     *
+     * @param connectionId connection id.
+     * @return new message.
+     */
+    public static ClusterMessage userPropertiesDestroy(String connectionId) {
+        return new ClusterMessage(Type.USER_PROPERTIES_DESTROY, 0, connectionId, null, null, null, null, null, true,
+                                  0);
+    }
+
+    /**
+     * Get message type.
+     *
+     * @return message type.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Get request id used to pair {@link Type#RESULT} with the request it belongs to.
+     *
+     * @return request id or {@code 0} when the message does not expect any result.
+     */
+    public long getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Get session id. Connection id is stored here for user property related messages.
+     *
+     * @return session or connection id, can be {@code null}.
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Get endpoint path.
+     *
+     * @return endpoint path, can be {@code null}.
+     */
+    public String getEndpointPath() {
+        return endpointPath;
+    }
+
+    /**
+     * Get property key.
+     *
+     * @return property key, can be {@code null}.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Get property value.
+     *
+     * @return property value, can be {@code null}.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Get text payload. Contains close reason phrase for {@link Type#CLOSE} and error description for
+     * {@link Type#RESULT}.
+     *
+     * @return text payload, can be {@code null}.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Get binary payload.
+     *
+     * @return binary payload, can be {@code null}.
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Get last fragment flag of partial messages.
+     *
+     * @return {@code true} when the message is the last fragment.
+     */
+    public boolean isLast() {
+        return last;
+    }
+
+    /**
+     * Get close code of {@link Type#CLOSE} message.
+     *
+     * @return close code or {@code 0} when the session should be closed without a close reason.
+     */
+    public int getCloseCode() {
+        return closeCode;
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterMessage{type=" + type + ", requestId=" + requestId + ", sessionId='" + sessionId + '\''
+                + ", endpointPath='" + endpointPath + '\'' + '}';
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.core.cluster;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Coalesces {@link ClusterMessage}s sent to one node into packets.
+ * <p>
+ * Messages are never delayed: the thread which submits a message when no other thread is writing becomes the writer
+ * and keeps writing packets until the queue is empty. Messages submitted meanwhile by other threads are queued and
+ * written by the writer in the next packet, so the number of packets adapts to the load - one message per packet when
+ * idle, many messages per packet under contention or when the connection is slow.
+ * <p>
+ * One instance has to be used per connection, since it owns {@link ClusterMessageEncoder} with the interned strings of
+ * that connection.
+ */
+public class ClusterMessageBatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(ClusterMessageBatcher.class.getName());
+
+    /**
+     * Default maximal packet size in bytes.
+     */
+    public static final int DEFAULT_MAX_PACKET_SIZE = 64 * 1024;
+
+    private final Queue<ClusterMessage> queue = new ConcurrentLinkedQueue<ClusterMessage>();
+    private final AtomicBoolean writing = new AtomicBoolean(false);
+    private final AtomicLong messageCount = new AtomicLong();
+    private final AtomicLong packetCount = new AtomicLong();
+    private final ClusterMessageEncoder encoder;
+    private final PacketWriter writer;
+    private final int maxPacketSize;
+
+    /**
+     * Create new batcher with new {@link ClusterMessageEncoder} and {@link #DEFAULT_MAX_PACKET_SIZE}.
+     *
+     * @param writer writer of encoded packets.
+     */
+    public ClusterMessageBatcher(PacketWriter writer) {
+        this(new ClusterMessageEncoder(), DEFAULT_MAX_PACKET_SIZE, writer);
+    }
+
+    /**
+     * Create new batcher.
+     *
+     * @param encoder       encoder used for this connection.
+     * @param maxPacketSize no more messages are added to a packet once it reaches this size. Single message bigger
+     *                      than the limit is still sent in one packet.
+     * @param writer        writer of encoded packets.
+     */
+    public ClusterMessageBatcher(ClusterMessageEncoder encoder, int maxPacketSize, PacketWriter writer) {
+        this.encoder = encoder;
+        this.maxPacketSize = maxPacketSize;
+        this.writer = writer;
+    }
+
+    /**
+     * Submit message to be sent.
+     * <p>
+     * The message is either written by the current thread (possibly together with other queued messages) or queued
+     * and written by the thread which is currently writing.
+     *
+     * @param message message to be sent.
+     * @throws IOException when the current thread was writing and the write failed. Failures of writes performed by
+     *                     other threads are reported only to those threads.
+     */
+    public void submit(ClusterMessage message) throws IOException {
+        queue.add(message);
+
+        // re-check after releasing the flag; message added meanwhile by another thread would not be written otherwise.
+        while (!queue.isEmpty() && writing.compareAndSet(false, true)) {
+            try {
+                drain();
+            } finally {
+                writing.set(false);
+            }
+        }
+    }
+
+    /**
+     * Get number of messages written so far.
+     *
+     * @return number of written messages.
+     */
+    public long getMessageCount() {
+        return messageCount.get();
+    }
+
+    /**
+     * Get number of packets written so far.
+     *
+     * @return number of written packets.
+     */
+    public long getPacketCount() {
+        return packetCount.get();
+    }
+
+    private void drain() throws IOException {
+        ClusterMessage message = queue.poll();
+        while (message != null) {
+            encoder.begin();
+            do {
+                try {
+                    encoder.add(message);
+                } catch (IOException e) {
+                    // do not let one message with unsupported content break the whole connection
+                    LOGGER.log(Level.WARNING, "Cannot encode " + message + ", message is discarded.", e);
+                }
+                message = encoder.size() < maxPacketSize ? queue.poll() : null;
+            } while (message != null);
+
+            final int count = encoder.getMessageCount();
+            if (count > 0) {
+                writer.write(encoder.finish());
+                messageCount.addAndGet(count);
+                packetCount.incrementAndGet();
+            }
+
+            message = queue.poll();
+        }
+    }
+
+    /**
+     * Writer of encoded packets.
+     */
+    public interface PacketWriter {
+
+        /**
+         * Write packet.
+         * <p>
+         * Never invoked concurrently. The buffer is reused after this method returns.
+         *
+         * @param packet buffer containing the encoded packet.
+         * @throws IOException when the packet cannot be written.
+         */
+        void write(ByteBuffer packet) throws IOException;
+    }
+}
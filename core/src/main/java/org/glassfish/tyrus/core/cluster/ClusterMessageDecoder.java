@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.core.cluster;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.websocket.Extension;
+
+import org.glassfish.tyrus.core.TyrusExtension;
+
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.FLAG_RESET_STRINGS;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.UTF_8;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_BYTES;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_EXTENSIONS;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_FALSE;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_INT;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_LONG;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_NULL;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_SERIALIZED;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_STRING;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_STRING_LIST_MAP;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_STRING_MAP;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_TRUE;
+import static org.glassfish.tyrus.core.cluster.ClusterMessageEncoder.VALUE_URI;
+
+/**
+ * Decoder of packets produced by {@link ClusterMessageEncoder}.
+ * <p>
+ * Packets have to be decoded in the same order as they were encoded by the encoder on the other side of the
+ * connection, otherwise interned strings cannot be resolved. The instance is not thread safe.
+ * <p>
+ * Values which the encoder had to serialize are deserialized only when all classes in the serialized stream are
+ * allowed: simple JDK value types (strings, boxed primitives, enums, dates, UUIDs and {@code java.time} values) and
+ * classes passed to {@link #ClusterMessageDecoder(Collection)}. Arrays and proxies are rejected, because their size
+ * or behavior cannot be checked before they are created. The number of objects in one value and, on Java 9 and newer,
+ * the depth of its object graph are limited.
+ *
+ * @see ClusterMessageEncoder
+ */
+public class ClusterMessageDecoder {
+
+    /**
+     * Maximal number of objects in one serialized value.
+     */
+    static final int MAX_SERIALIZED_OBJECTS = 1000;
+
+    /**
+     * Maximal depth of the object graph of one serialized value, checked on Java 9 and newer.
+     */
+    static final int MAX_SERIALIZED_DEPTH = 20;
+
+    private static final ClusterMessage.Type[] TYPES = ClusterMessage.Type.values();
+    private static final RemoteSession.DistributedMapKey[] KEYS = RemoteSession.DistributedMapKey.values();
+
+    private static final Set<String> DEFAULT_ALLOWED_CLASSES = new HashSet<String>(Arrays.asList(
+            "java.lang.String", "java.lang.Boolean", "java.lang.Character", "java.lang.Number", "java.lang.Byte",
+            "java.lang.Short", "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double",
+            "java.lang.Enum", "java.util.Date", "java.util.UUID", "java.time.Ser"));
+
+    // java.io.ObjectInputFilter is available since Java 9, null when not supported
+    private static final Method SET_OBJECT_INPUT_FILTER;
+    private static final Object LIMITS_FILTER;
+
+    static {
+        Method setObjectInputFilter = null;
+        Object limitsFilter = null;
+        try {
+            final Class<?> filterClass = Class.forName("java.io.ObjectInputFilter");
+            final Class<?> configClass = Class.forName("java.io.ObjectInputFilter$Config");
+            limitsFilter = configClass.getMethod("createFilter", String.class).invoke(
+                    null, "maxdepth=" + MAX_SERIALIZED_DEPTH + ";maxrefs=" + MAX_SERIALIZED_OBJECTS);
+            setObjectInputFilter = ObjectInputStream.class.getMethod("setObjectInputFilter", filterClass);
+        } catch (Exception e) {
+            // Java 8, the number of objects is still limited
+        }
+        SET_OBJECT_INPUT_FILTER = setObjectInputFilter;
+        LIMITS_FILTER = limitsFilter;
+    }
+
+    private final List<String> internedStrings = new ArrayList<String>();
+    private final Set<String> allowedClasses;
+    private final List<String> allowedPackages;
+
+    /**
+     * Create new decoder which deserializes simple JDK value types only.
+     */
+    public ClusterMessageDecoder() {
+        this(Collections.<String>emptySet());
+    }
+
+    /**
+     * Create new decoder which deserializes simple JDK value types and given classes.
+     *
+     * @param allowedClasses names of additional classes which can be deserialized. A name ending with {@code .*}
+     *                       allows all classes of the package and its subpackages, e.g. {@code com.example.*}. Enum
+     *                       types have to be listed too.
+     */
+    public ClusterMessageDecoder(Collection<String> allowedClasses) {
+        this.allowedClasses = new HashSet<String>(DEFAULT_ALLOWED_CLASSES);
+        this.allowedPackages = new ArrayList<String>();
+        for (String allowed : allowedClasses) {
+            if (allowed.endsWith(".*")) {
+                allowedPackages.add(allowed.substring(0, allowed.length() - 1));
+            } else {
+                this.allowedClasses.add(allowed);
+            }
+        }
+    }
+
+    /**
+     * Decode one packet.
+     *
+     * @param packet buffer containing whole packet. Position of the buffer is moved to its limit.
+     * @return decoded messages in the order in which they were added to the packet.
+     * @throws IOException when the packet is malformed.
+     */
+    public List<ClusterMessage> decode(ByteBuffer packet) throws IOException {
+        try {
+            final int flags = packet.get();
+            if ((flags & FLAG_RESET_STRINGS) != 0) {
+                internedStrings.clear();
+            }
+
+            final int count = packet.getInt();
+            // every message takes at least one byte
+            if (count < 0 || count > packet.remaining()) {
+                throw new StreamCorruptedException("Message count " + count + " is not valid.");
+            }
+            final List<ClusterMessage> messages = new ArrayList<ClusterMessage>(count);
+            for (int i = 0; i < count; i++) {
+                messages.add(readMessage(packet));
+            }
+
+            if (packet.hasRemaining()) {
+                throw new StreamCorruptedException("Unexpected data after the last cluster message.");
+            }
+
+            return messages;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new StreamCorruptedException("Malformed cluster message packet: " + e);
+        }
+    }
+
+    private ClusterMessage readMessage(ByteBuffer packet) throws IOException {
+        final int typeOrdinal = packet.get();
+        if (typeOrdinal < 0 || typeOrdinal >= TYPES.length) {
+            throw new StreamCorruptedException("Unknown cluster message type: " + typeOrdinal);
+        }
+
+        final long requestId;
+        final String sessionId;
+        switch (TYPES[typeOrdinal]) {
+            case SEND_TEXT:
+                return ClusterMessage.sendText(readVarLong(packet), readInterned(packet), readString(packet));
+            case SEND_PARTIAL_TEXT:
+                return ClusterMessage.sendPartialText(readVarLong(packet), readInterned(packet), readString(packet),
+                                                      packet.get() != 0);
+            case SEND_BINARY:
+                return ClusterMessage.sendBinary(readVarLong(packet), readInterned(packet), readBytes(packet));
+            case SEND_PARTIAL_BINARY:
+                return ClusterMessage.sendPartialBinary(readVarLong(packet), readInterned(packet), readBytes(packet),
+                                                        packet.get() != 0);
+            case SEND_PING:
+                return ClusterMessage.sendPing(readVarLong(packet), readInterned(packet), readBytes(packet));
+            case SEND_PONG:
+                return ClusterMessage.sendPong(readVarLong(packet), readInterned(packet), readBytes(packet));
+            case CLOSE:
+                requestId = readVarLong(packet);
+                sessionId = readInterned(packet);
+                return ClusterMessage.close(requestId, sessionId, (int) readVarLong(packet), readString(packet));
+            case RESULT:
+                return ClusterMessage.result(readVarLong(packet), readString(packet));
+            case BROADCAST_TEXT:
+                return ClusterMessage.broadcastText(readVarLong(packet), readInterned(packet), readString(packet));
+            case BROADCAST_BINARY:
+                return ClusterMessage.broadcastBinary(readVarLong(packet), readInterned(packet), readBytes(packet));
+            case SESSION_OPENED:
+                return ClusterMessage.sessionOpened(readInterned(packet), readInterned(packet));
+            case SESSION_CLOSED:
+                return ClusterMessage.sessionClosed(readInterned(packet), readInterned(packet));
+            case SESSION_PROPERTY_PUT:
+                sessionId = readInterned(packet);
+                final int keyOrdinal = packet.get();
+                if (keyOrdinal < 0 || keyOrdinal >= KEYS.length) {
+                    throw new StreamCorruptedException("Unknown distributed session property: " + keyOrdinal);
+                }
+                return ClusterMessage.sessionPropertyPut(sessionId, KEYS[keyOrdinal].name(), readValue(packet));
+            case USER_PROPERTY_PUT:
+                return ClusterMessage.userPropertyPut(readInterned(packet), readInterned(packet), readValue(packet));
+            case USER_PROPERTY_REMOVE:
+                return ClusterMessage.userPropertyRemove(readInterned(packet), readInterned(packet));
+            case USER_PROPERTIES_DESTROY:
+                return ClusterMessage.userPropertiesDestroy(readInterned(packet));
+            default:
+                throw new StreamCorruptedException("Unsupported cluster message type: " + TYPES[typeOrdinal]);
+        }
+    }
+
+    private Object readValue(ByteBuffer packet) throws IOException {
+        final byte tag = packet.get();
+        switch (tag) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return readString(packet);
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_INT:
+                return (int) unZigZag(readVarLong(packet));
+            case VALUE_LONG:
+                return unZigZag(readVarLong(packet));
+            case VALUE_URI:
+                return URI.create(readString(packet));
+            case VALUE_BYTES:
+                return readBytes(packet);
+            case VALUE_STRING_MAP: {
+                final int size = readSize(packet);
+                final Map<String, String> map = new HashMap<String, String>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readString(packet), readString(packet));
+                }
+                return Collections.unmodifiableMap(map);
+            }
+            case VALUE_STRING_LIST_MAP: {
+                final int size = readSize(packet);
+                final Map<String, List<String>> map = new HashMap<String, List<String>>();
+                for (int i = 0; i < size; i++) {
+                    final String key = readString(packet);
+                    final int listSize = readSize(packet);
+                    final List<String> list = new ArrayList<String>(listSize);
+                    for (int j = 0; j < listSize; j++) {
+                        list.add(readString(packet));
+                    }
+                    map.put(key, list);
+                }
+                return Collections.unmodifiableMap(map);
+            }
+            case VALUE_EXTENSIONS: {
+                final int size = readSize(packet);
+                final List<Extension> extensions = new ArrayList<Extension>(size);
+                for (int i = 0; i < size; i++) {
+                    final String name = readString(packet);
+                    final int parameterCount = readSize(packet);
+                    final List<Extension.Parameter> parameters = new ArrayList<Extension.Parameter>(parameterCount);
+                    for (int j = 0; j < parameterCount; j++) {
+                        parameters.add(new TyrusExtension.TyrusParameter(readString(packet), readString(packet)));
+                    }
+                    extensions.add(new TyrusExtension(name, parameters));
+                }
+                return Collections.unmodifiableList(extensions);
+            }
+            case VALUE_SERIALIZED:
+                final byte[] serialized = readBytes(packet);
+                if (serialized == null) {
+                    throw new StreamCorruptedException("Missing serialized value.");
+                }
+                final ObjectInputStream ois = new FilteringObjectInputStream(new ByteArrayInputStream(serialized));
+                try {
+                    return ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e.getMessage(), e);
+                } finally {
+                    ois.close();
+                }
+            default:
+                throw new StreamCorruptedException("Unknown value type: " + tag);
+        }
+    }
+
+    private String readInterned(ByteBuffer packet) throws IOException {
+        final long ref = readVarLong(packet);
+        if (ref == 0) {
+            return null;
+        }
+
+        final int id = (int) (ref >>> 1);
+        if ((ref & 1) != 0) {
+            if (id != internedStrings.size() + 1) {
+                throw new StreamCorruptedException("Unexpected interned string id: " + id);
+            }
+            final String s = readString(packet);
+            internedStrings.add(s);
+            return s;
+        }
+
+        if (id < 1 || id > internedStrings.size()) {
+            throw new StreamCorruptedException("Unknown interned string id: " + id);
+        }
+        return internedStrings.get(id - 1);
+    }
+
+    private static String readString(ByteBuffer packet) throws IOException {
+        final int length = readLength(packet);
+        if (length < 0) {
+            return null;
+        }
+
+        final String s;
+        if (packet.hasArray()) {
+            s = new String(packet.array(), packet.arrayOffset() + packet.position(), length, UTF_8);
+            packet.position(packet.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            packet.get(bytes);
+            s = new String(bytes, UTF_8);
+        }
+        return s;
+    }
+
+    private static byte[] readBytes(ByteBuffer packet) throws IOException {
+        final int length = readLength(packet);
+        if (length < 0) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[length];
+        packet.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Read length of nullable string or byte array.
+     *
+     * @return length or {@code -1} for {@code null}.
+     */
+    private static int readLength(ByteBuffer packet) throws IOException {
+        // unsigned, a number with the highest bit set would be negative
+        final long length = readVarLong(packet) - 1;
+        if (length < -1 || length > packet.remaining()) {
+            throw new StreamCorruptedException("Length " + Long.toUnsignedString(length + 1) + " - 1 is not valid.");
+        }
+        return (int) length;
+    }
+
+    private static int readSize(ByteBuffer packet) throws IOException {
+        final long size = readVarLong(packet);
+        // every element takes at least one byte
+        if (size < 0 || size > packet.remaining()) {
+            throw new StreamCorruptedException("Size " + Long.toUnsignedString(size) + " is not valid.");
+        }
+        return (int) size;
+    }
+
+    private static long readVarLong(ByteBuffer packet) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = packet.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new StreamCorruptedException("Malformed variable length number.");
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private boolean isAllowed(String className) {
+        if (allowedClasses.contains(className)) {
+            return true;
+        }
+        for (String allowedPackage : allowedPackages) {
+            if (className.startsWith(allowedPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Object input stream resolving only allowed classes and limiting the number of read objects.
+     */
+    private class FilteringObjectInputStream extends ObjectInputStream {
+
+        private int objects = 0;
+
+        private FilteringObjectInputStream(InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+
+            if (SET_OBJECT_INPUT_FILTER != null) {
+                try {
+                    SET_OBJECT_INPUT_FILTER.invoke(this, LIMITS_FILTER);
+                } catch (Exception e) {
+                    // JVM-wide filter configured by jdk.serialFilter applies instead
+                }
+            }
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            // array length is read and the array allocated before any object inside is checked
+            if (desc.getName().startsWith("[") || !isAllowed(desc.getName())) {
+                throw new InvalidClassException(desc.getName(), "Class is not allowed to be deserialized.");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("Proxy classes are not allowed to be deserialized.");
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) throws IOException {
+            if (++objects > MAX_SERIALIZED_OBJECTS) {
+                throw new InvalidClassException("Serialized value contains more than " + MAX_SERIALIZED_OBJECTS
+                                                        + " objects.");
+            }
+            return obj;
+        }
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.core.cluster;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.websocket.Extension;
+
+/**
+ * Binary encoder of {@link ClusterMessage}s.
+ * <p>
+ * Messages are written into packets; one packet may contain any number of messages. Endpoint paths, session ids,
+ * connection ids and user property keys are interned - each string is written only once per encoder and then
+ * referenced by a small integer, so the encoder (and the corresponding {@link ClusterMessageDecoder}) has to be
+ * dedicated to one ordered connection to one node. Values of distributed properties are written using compact type
+ * specific representation; Java serialization is used only for values of unknown types.
+ * <p>
+ * The instance is not thread safe, see {@link ClusterMessageBatcher}.
+ *
+ * @see ClusterMessageDecoder
+ */
+public class ClusterMessageEncoder {
+
+    /**
+     * Default maximal number of interned strings.
+     */
+    public static final int DEFAULT_MAX_INTERNED_STRINGS = 64 * 1024;
+
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    // packet flags
+    static final int FLAG_RESET_STRINGS = 1;
+    // packet header: flags (1 byte) + message count (4 bytes)
+    static final int HEADER_SIZE = 5;
+
+    // value tags
+    static final byte VALUE_NULL = 0;
+    static final byte VALUE_STRING = 1;
+    static final byte VALUE_TRUE = 2;
+    static final byte VALUE_FALSE = 3;
+    static final byte VALUE_INT = 4;
+    static final byte VALUE_LONG = 5;
+    static final byte VALUE_URI = 6;
+    static final byte VALUE_BYTES = 7;
+    static final byte VALUE_STRING_MAP = 8;
+    static final byte VALUE_STRING_LIST_MAP = 9;
+    static final byte VALUE_EXTENSIONS = 10;
+    static final byte VALUE_SERIALIZED = 11;
+
+    private final int maxInternedStrings;
+    private final Map<String, Integer> internedStrings = new HashMap<String, Integer>();
+
+    private ByteBuffer buffer = ByteBuffer.allocate(1024);
+    private int messageCount;
+
+    /**
+     * Create new encoder with {@link #DEFAULT_MAX_INTERNED_STRINGS}.
+     */
+    public ClusterMessageEncoder() {
+        this(DEFAULT_MAX_INTERNED_STRINGS);
+    }
+
+    /**
+     * Create new encoder.
+     *
+     * @param maxInternedStrings maximal number of interned strings. When reached, all interned strings are
+     *                           discarded at the beginning of the next packet.
+     */
+    public ClusterMessageEncoder(int maxInternedStrings) {
+        this.maxInternedStrings = maxInternedStrings;
+    }
+
+    /**
+     * Start new packet. Previously started and not finished packet is discarded.
+     */
+    public void begin() {
+        buffer.clear();
+        messageCount = 0;
+
+        int flags = 0;
+        if (internedStrings.size() >= maxInternedStrings) {
+            internedStrings.clear();
+            flags |= FLAG_RESET_STRINGS;
+        }
+
+        buffer.put((byte) flags);
+        buffer.putInt(0);
+    }
+
+    /**
+     * Add message to the current packet.
+     *
+     * @param message message to be added.
+     * @throws IOException when a property value cannot be encoded.
+     */
+    public void add(ClusterMessage message) throws IOException {
+        final int start = buffer.position();
+        final int internedBefore = internedStrings.size();
+
+        try {
+            write(message);
+        } catch (IOException | RuntimeException e) {
+            // roll back partially written message, including strings interned by it
+            buffer.position(start);
+            final Iterator<Integer> ids = internedStrings.values().iterator();
+            while (ids.hasNext()) {
+                if (ids.next() > internedBefore) {
+                    ids.remove();
+                }
+            }
+            throw e;
+        }
+
+        messageCount++;
+    }
+
+    private void write(ClusterMessage message) throws IOException {
+        final ClusterMessage.Type type = message.getType();
+        writeByte(type.ordinal());
+
+        switch (type) {
+            case SEND_TEXT:
+                writeVarLong(message.getRequestId());
+                writeInterned(message.getSessionId());
+                writeString(message.getText());
+                break;
+            case SEND_PARTIAL_TEXT:
+                writeVarLong(message.getRequestId());
+                writeInterned(message.getSessionId());
+                writeString(message.getText());
+                writeByte(message.isLast() ? 1 : 0);
+                break;
+            case SEND_BINARY:
+            case SEND_PING:
+            case SEND_PONG:
+                writeVarLong(message.getRequestId());
+                writeInterned(message.getSessionId());
+                writeBytes(message.getData());
+                break;
+            case SEND_PARTIAL_BINARY:
+                writeVarLong(message.getRequestId());
+                writeInterned(message.getSessionId());
+                writeBytes(message.getData());
+                writeByte(message.isLast() ? 1 : 0);
+                break;
+            case CLOSE:
+                writeVarLong(message.getRequestId());
+                writeInterned(message.getSessionId());
+                writeVarLong(message.getCloseCode());
+                writeString(message.getText());
+                break;
+            case RESULT:
+                writeVarLong(message.getRequestId());
+                writeString(message.getText());
+                break;
+            case BROADCAST_TEXT:
+                writeVarLong(message.getRequestId());
+                writeInterned(message.getEndpointPath());
+                writeString(message.getText());
+                break;
+            case BROADCAST_BINARY:
+                writeVarLong(message.getRequestId());
+                writeInterned(message.getEndpointPath());
+                writeBytes(message.getData());
+                break;
+            case SESSION_OPENED:
+            case SESSION_CLOSED:
+                writeInterned(message.getSessionId());
+                writeInterned(message.getEndpointPath());
+                break;
+            case SESSION_PROPERTY_PUT:
+                writeInterned(message.getSessionId());
+                writeByte(RemoteSession.DistributedMapKey.valueOf(message.getKey()).ordinal());
+                writeValue(message.getValue());
+                break;
+            case USER_PROPERTY_PUT:
+                writeInterned(message.getSessionId());
+                writeInterned(message.getKey());
+                writeValue(message.getValue());
+                break;
+            case USER_PROPERTY_REMOVE:
+                writeInterned(message.getSessionId());
+                writeInterned(message.getKey());
+                break;
+            case USER_PROPERTIES_DESTROY:
+                writeInterned(message.getSessionId());
+                break;
+            default:
+                throw new IOException("Unsupported cluster message type: " + type);
+        }
+    }
+
+    /**
+     * Get size of the current packet in bytes.
+     *
+     * @return current packet size.
+     */
+    public int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Get number of messages in the current packet.
+     *
+     * @return number of messages.
+     */
+    public int getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * Finish the current packet.
+     * <p>
+     * Returned buffer is valid only until {@link #begin()} is invoked again.
+     *
+     * @return buffer containing the encoded packet.
+     */
+    public ByteBuffer finish() {
+        buffer.putInt(1, messageCount);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Encode given messages into one packet.
+     *
+     * @param messages messages to be encoded.
+     * @return buffer containing the encoded packet, valid only until the encoder is used again.
+     * @throws IOException when a property value cannot be encoded.
+     */
+    public ByteBuffer encode(List<ClusterMessage> messages) throws IOException {
+        begin();
+        for (ClusterMessage message : messages) {
+            add(message);
+        }
+        return finish();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            writeByte(VALUE_NULL);
+        } else if (value instanceof String) {
+            writeByte(VALUE_STRING);
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            writeByte((Boolean) value ? VALUE_TRUE : VALUE_FALSE);
+        } else if (value instanceof Integer) {
+            writeByte(VALUE_INT);
+            writeVarLong(zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            writeByte(VALUE_LONG);
+            writeVarLong(zigZag((Long) value));
+        } else if (value instanceof URI) {
+            writeByte(VALUE_URI);
+            writeString(value.toString());
+        } else if (value instanceof byte[]) {
+            writeByte(VALUE_BYTES);
+            writeBytes((byte[]) value);
+        } else if (isMapOf(value, String.class)) {
+            writeByte(VALUE_STRING_MAP);
+            final Map<?, ?> map = (Map<?, ?>) value;
+            writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString((String) entry.getKey());
+                writeString((String) entry.getValue());
+            }
+        } else if (isMapOf(value, List.class) && isStringListMap((Map<?, ?>) value)) {
+            writeByte(VALUE_STRING_LIST_MAP);
+            final Map<?, ?> map = (Map<?, ?>) value;
+            writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString((String) entry.getKey());
+                final List<?> list = (List<?>) entry.getValue();
+                writeVarLong(list.size());
+                for (Object item : list) {
+                    writeString((String) item);
+                }
+            }
+        } else if (isListOf(value, Extension.class)) {
+            writeByte(VALUE_EXTENSIONS);
+            final List<?> extensions = (List<?>) value;
+            writeVarLong(extensions.size());
+            for (Object o : extensions) {
+                final Extension extension = (Extension) o;
+                writeString(extension.getName());
+                final List<Extension.Parameter> parameters = extension.getParameters();
+                writeVarLong(parameters == null ? 0 : parameters.size());
+                if (parameters != null) {
+                    for (Extension.Parameter parameter : parameters) {
+                        writeString(parameter.getName());
+                        writeString(parameter.getValue());
+                    }
+                }
+            }
+        } else if (value instanceof Serializable) {
+            writeByte(VALUE_SERIALIZED);
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final ObjectOutputStream oos = new ObjectOutputStream(baos);
+            oos.writeObject(value);
+            oos.close();
+            writeBytes(baos.toByteArray());
+        } else {
+            throw new IOException("Value of type " + value.getClass().getName() + " cannot be encoded.");
+        }
+    }
+
+    private static boolean isMapOf(Object value, Class<?> valueType) {
+        if (!(value instanceof Map)) {
+            return false;
+        }
+
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            if (!(entry.getKey() instanceof String) || !valueType.isInstance(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStringListMap(Map<?, ?> map) {
+        for (Object list : map.values()) {
+            if (!isListOf(list, String.class)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isListOf(Object value, Class<?> itemType) {
+        if (!(value instanceof List)) {
+            return false;
+        }
+
+        for (Object item : (List<?>) value) {
+            if (!itemType.isInstance(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeInterned(String s) {
+        if (s == null) {
+            writeVarLong(0);
+            return;
+        }
+
+        final Integer id = internedStrings.get(s);
+        if (id != null) {
+            writeVarLong(((long) id) << 1);
+        } else {
+            final int newId = internedStrings.size() + 1;
+            internedStrings.put(s, newId);
+            writeVarLong((((long) newId) << 1) | 1);
+            writeString(s);
+        }
+    }
+
+    private void writeString(String s) {
+        if (s == null) {
+            writeVarLong(0);
+            return;
+        }
+
+        final byte[] bytes = s.getBytes(UTF_8);
+        writeVarLong(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void writeBytes(byte[] bytes) {
+        if (bytes == null) {
+            writeVarLong(0);
+            return;
+        }
+
+        writeVarLong(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        buffer.put((byte) b);
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private void ensureCapacity(int length) {
+        if (buffer.remaining() < length) {
+            final ByteBuffer newBuffer =
+                    ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length));
+            buffer.flip();
+            newBuffer.put(buffer);
+            buffer = newBuffer;
+        }
+    }
+}
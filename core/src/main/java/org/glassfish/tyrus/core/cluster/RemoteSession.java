@@ -25,6 +25,8 @@ import java.io.Writer;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.security.Principal;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,6 +52,13 @@ import static org.glassfish.tyrus.core.Utils.checkNotNull;
 
 /**
  * Remote session represents session originating from another node.
+ * <p>
+ * When the {@link ClusterContext#isSessionUpdateSupported() cluster context announces session updates}, distributed
+ * session properties are read once and cached as an immutable snapshot, so accessing them does not involve the
+ * distributed map. The snapshot is refreshed by {@link #invalidate()} when the owning node announces a change and the
+ * session is marked as closed by {@link #markClosed()}; both are invoked by the container when notified by
+ * {@link SessionListener}. Otherwise the properties and the session state are read from the cluster context on every
+ * access.
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
@@ -64,6 +73,10 @@ public class RemoteSession implements Session, DistributedSession {
     private final ClusterContext clusterContext;
     private final Map<DistributedMapKey, Object> distributedPropertyMap;
     private final TyrusEndpointWrapper endpointWrapper;
+    private final boolean cached;
+
+    private volatile Map<DistributedMapKey, Object> properties;
+    private volatile boolean closed = false;
 
     public static enum DistributedMapKey implements Serializable {
         /**
@@ -193,8 +206,10 @@ public class RemoteSession implements Session, DistributedSession {
         this.clusterContext = clusterContext;
         this.distributedPropertyMap = distributedPropertyMap;
         this.endpointWrapper = endpointWrapper;
+        this.cached = clusterContext.isSessionUpdateSupported();
+        this.properties = cached ? snapshot(distributedPropertyMap) : distributedPropertyMap;
 
-        this.connectionId = distributedPropertyMap.get(DistributedMapKey.CONNECTION_ID).toString();
+        this.connectionId = properties.get(DistributedMapKey.CONNECTION_ID).toString();
 
         this.basicRemote = new RemoteEndpoint.Basic() {
             @Override
@@ -582,6 +597,34 @@ public class RemoteSession implements Session, DistributedSession {
         };
     }
 
+    /**
+     * Re-read distributed session properties.
+     * <p>
+     * Invoked when the node owning the session announces a change of its properties, see
+     * {@link SessionListener#onSessionUpdated(String)}.
+     */
+    public void invalidate() {
+        if (cached) {
+            properties = snapshot(distributedPropertyMap);
+        }
+    }
+
+    /**
+     * Mark this session as closed.
+     * <p>
+     * Invoked when the node owning the session announces that it has been closed, see
+     * {@link SessionListener#onSessionClosed(String)}.
+     */
+    public void markClosed() {
+        closed = true;
+    }
+
+    private static Map<DistributedMapKey, Object> snapshot(Map<DistributedMapKey, Object> distributedPropertyMap) {
+        final Map<DistributedMapKey, Object> snapshot = new EnumMap<DistributedMapKey, Object>(DistributedMapKey.class);
+        snapshot.putAll(distributedPropertyMap);
+        return Collections.unmodifiableMap(snapshot);
+    }
+
     /**
      * Get the version of the websocket protocol currently being used. This is taken as the value of the
      * Sec-WebSocket-Version header used in the opening handshake. i.e. "13".
@@ -600,7 +643,7 @@ public class RemoteSession implements Session, DistributedSession {
      */
     @Override
     public String getNegotiatedSubprotocol() {
-        return (String) distributedPropertyMap.get(DistributedMapKey.NEGOTIATED_SUBPROTOCOL);
+        return (String) properties.get(DistributedMapKey.NEGOTIATED_SUBPROTOCOL);
     }
 
     /**
@@ -611,7 +654,7 @@ public class RemoteSession implements Session, DistributedSession {
     @Override
     public List<Extension> getNegotiatedExtensions() {
         //noinspection unchecked
-        return (List<Extension>) distributedPropertyMap.get(DistributedMapKey.NEGOTIATED_EXTENSIONS);
+        return (List<Extension>) properties.get(DistributedMapKey.NEGOTIATED_EXTENSIONS);
     }
 
     /**
@@ -622,7 +665,7 @@ public class RemoteSession implements Session, DistributedSession {
     @Override
     public boolean isSecure() {
         //noinspection unchecked
-        return (Boolean) distributedPropertyMap.get(DistributedMapKey.SECURE);
+        return (Boolean) properties.get(DistributedMapKey.SECURE);
     }
 
     /**
@@ -632,7 +675,7 @@ public class RemoteSession implements Session, DistributedSession {
      */
     @Override
     public boolean isOpen() {
-        return clusterContext.isSessionOpen(sessionId, endpointWrapper.getEndpointPath());
+        return !closed && (cached || clusterContext.isSessionOpen(sessionId, endpointWrapper.getEndpointPath()));
     }
 
     /**
@@ -644,7 +687,7 @@ public class RemoteSession implements Session, DistributedSession {
     @Override
     public long getMaxIdleTimeout() {
         //noinspection unchecked
-        return (Long) distributedPropertyMap.get(DistributedMapKey.MAX_IDLE_TIMEOUT);
+        return (Long) properties.get(DistributedMapKey.MAX_IDLE_TIMEOUT);
     }
 
     /**
@@ -657,7 +700,7 @@ public class RemoteSession implements Session, DistributedSession {
     @Override
     public int getMaxBinaryMessageBufferSize() {
         //noinspection unchecked
-        return (Integer) distributedPropertyMap.get(DistributedMapKey.MAX_BINARY_MESSAGE_BUFFER_SIZE);
+        return (Integer) properties.get(DistributedMapKey.MAX_BINARY_MESSAGE_BUFFER_SIZE);
     }
 
     /**
@@ -670,7 +713,7 @@ public class RemoteSession implements Session, DistributedSession {
     @Override
     public int getMaxTextMessageBufferSize() {
         //noinspection unchecked
-        return (Integer) distributedPropertyMap.get(DistributedMapKey.MAX_TEXT_MESSAGE_BUFFER_SIZE);
+        return (Integer) properties.get(DistributedMapKey.MAX_TEXT_MESSAGE_BUFFER_SIZE);
     }
 
     /**
@@ -743,7 +786,7 @@ public class RemoteSession implements Session, DistributedSession {
     @Override
     public URI getRequestURI() {
         //noinspection unchecked
-        return (URI) distributedPropertyMap.get(DistributedMapKey.REQUEST_URI);
+        return (URI) properties.get(DistributedMapKey.REQUEST_URI);
     }
 
     /**
@@ -755,7 +798,7 @@ public class RemoteSession implements Session, DistributedSession {
     @Override
     public Map<String, List<String>> getRequestParameterMap() {
         //noinspection unchecked
-        return (Map<String, List<String>>) distributedPropertyMap.get(DistributedMapKey.REQUEST_PARAMETER_MAP);
+        return (Map<String, List<String>>) properties.get(DistributedMapKey.REQUEST_PARAMETER_MAP);
     }
 
     /**
@@ -766,7 +809,7 @@ public class RemoteSession implements Session, DistributedSession {
      */
     @Override
     public String getQueryString() {
-        return (String) distributedPropertyMap.get(DistributedMapKey.QUERY_STRING);
+        return (String) properties.get(DistributedMapKey.QUERY_STRING);
     }
 
     /**
@@ -779,7 +822,7 @@ public class RemoteSession implements Session, DistributedSession {
     @Override
     public Map<String, String> getPathParameters() {
         //noinspection unchecked
-        return (Map<String, String>) distributedPropertyMap.get(DistributedMapKey.PATH_PARAMETERS);
+        return (Map<String, String>) properties.get(DistributedMapKey.PATH_PARAMETERS);
     }
 
     /**
@@ -807,7 +850,7 @@ public class RemoteSession implements Session, DistributedSession {
     @Override
     public Principal getUserPrincipal() {
         //noinspection unchecked
-        return (Principal) distributedPropertyMap.get(DistributedMapKey.USER_PRINCIPAL);
+        return (Principal) properties.get(DistributedMapKey.USER_PRINCIPAL);
     }
 
     @Override
@@ -32,6 +32,18 @@ public interface SessionListener {
      */
     void onSessionOpened(String sessionId);
 
+    /**
+     * Invoked when distributed properties of an opened session are changed.
+     * <p>
+     * Only invoked by contexts which {@link ClusterContext#isSessionUpdateSupported() support} it. Default
+     * implementation does nothing.
+     *
+     * @param sessionId session id of updated session.
+     * @see ClusterContext#getDistributedSessionProperties(String)
+     */
+    default void onSessionUpdated(String sessionId) {
+    }
+
     /**
      * Invoked when session is closed.
      *
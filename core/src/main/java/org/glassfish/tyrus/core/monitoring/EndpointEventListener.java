@@ -16,6 +16,11 @@
 
 package org.glassfish.tyrus.core.monitoring;
 
+import java.util.List;
+
+import javax.websocket.CloseReason;
+import javax.websocket.Extension;
+
 import org.glassfish.tyrus.core.Beta;
 
 /**
@@ -41,6 +46,19 @@ public interface EndpointEventListener {
      */
     void onSessionClosed(String sessionId);
 
+    /**
+     * Called when a session has been closed, with the reason of the closure.
+     * <p>
+     * Default implementation calls {@link #onSessionClosed(String)}.
+     *
+     * @param sessionId   an ID of the closed session.
+     * @param closeReason reason of the closure as passed to {@link javax.websocket.Endpoint#onClose
+     *                    (javax.websocket.Session, CloseReason)}.
+     */
+    default void onSessionClosed(String sessionId, CloseReason closeReason) {
+        onSessionClosed(sessionId);
+    }
+
     /**
      * Called when an error has occurred.
      * <p>
@@ -55,6 +73,49 @@ public interface EndpointEventListener {
      */
     void onError(String sessionId, Throwable t);
 
+    /**
+     * Called when a handshake request matched to the endpoint has been processed and the handshake response is ready
+     * to be sent.
+     * <p>
+     * Timestamps are values of {@link System#nanoTime()}. They are taken only when an application event listener
+     * other than {@link ApplicationEventListener#NO_OP} is installed. Default implementation does nothing.
+     *
+     * @param startNanos time when the handshake request has been passed to Tyrus.
+     * @param endNanos   time when the handshake response has been prepared.
+     */
+    default void onHandshakeProcessed(long startNanos, long endNanos) {
+    }
+
+    /**
+     * Called when a handshake request matched to the endpoint has been processed and the handshake response is ready
+     * to be sent, with the extensions negotiated in the handshake.
+     * <p>
+     * Timestamps are values of {@link System#nanoTime()}. They are taken only when an application event listener
+     * other than {@link ApplicationEventListener#NO_OP} is installed. Default implementation calls {@link
+     * #onHandshakeProcessed(long, long)}.
+     *
+     * @param startNanos time when the handshake request has been passed to Tyrus.
+     * @param endNanos   time when the handshake response has been prepared.
+     * @param extensions extensions negotiated in the handshake, empty list if there are none.
+     */
+    default void onHandshakeProcessed(long startNanos, long endNanos, List<Extension> extensions) {
+        onHandshakeProcessed(startNanos, endNanos);
+    }
+
+    /**
+     * Called when a handshake request matched to the endpoint has been rejected because of an unsupported protocol
+     * version, a failed origin check or missing or invalid handshake headers.
+     * <p>
+     * Timestamps are values of {@link System#nanoTime()}. They are taken only when an application event listener
+     * other than {@link ApplicationEventListener#NO_OP} is installed. Default implementation does nothing.
+     *
+     * @param startNanos time when the handshake request has been passed to Tyrus.
+     * @param endNanos   time when the handshake has been rejected.
+     * @param httpStatus HTTP status code of the handshake response.
+     */
+    default void onHandshakeFailed(long startNanos, long endNanos, int httpStatus) {
+    }
+
     /**
      * An instance of @EndpointEventListener that does not do anything.
      */
@@ -73,5 +134,25 @@ public interface EndpointEventListener {
         public void onError(String sessionId, Throwable t) {
             // do nothing
         }
+
+        @Override
+        public void onSessionClosed(String sessionId, CloseReason closeReason) {
+            // do nothing
+        }
+
+        @Override
+        public void onHandshakeProcessed(long startNanos, long endNanos) {
+            // do nothing
+        }
+
+        @Override
+        public void onHandshakeProcessed(long startNanos, long endNanos, List<Extension> extensions) {
+            // do nothing
+        }
+
+        @Override
+        public void onHandshakeFailed(long startNanos, long endNanos, int httpStatus) {
+            // do nothing
+        }
     };
 }
@@ -43,6 +43,80 @@ public interface MessageEventListener {
      */
     void onFrameReceived(TyrusFrame.FrameType frameType, long payloadLength);
 
+    /**
+     * Called when a received frame has been processed by the endpoint, i.e. when message handlers or annotated
+     * methods invoked for the frame have returned.
+     * <p>
+     * Timestamps are values of {@link System#nanoTime()}. They are taken only when a listener other than {@link
+     * #NO_OP} is installed. Default implementation does nothing.
+     *
+     * @param frameType  type of the frame.
+     * @param startNanos time when the frame was passed to the endpoint.
+     * @param endNanos   time when the processing has finished.
+     */
+    default void onFrameProcessed(TyrusFrame.FrameType frameType, long startNanos, long endNanos) {
+    }
+
+    /**
+     * Called when a received message has been decoded by a {@link javax.websocket.Decoder}. Decoding is a part of the
+     * processing reported by {@link #onFrameProcessed(TyrusFrame.FrameType, long, long)}.
+     * <p>
+     * Timestamps are values of {@link System#nanoTime()}. They are taken only when a listener other than {@link
+     * #NO_OP} is installed. Default implementation does nothing.
+     *
+     * @param frameType  type of the frame.
+     * @param startNanos time when decoding has started.
+     * @param endNanos   time when decoding has finished.
+     */
+    default void onFrameDecoded(TyrusFrame.FrameType frameType, long startNanos, long endNanos) {
+    }
+
+    /**
+     * Called when the transport has started writing a sent frame, which might have been waiting in a write queue.
+     * <p>
+     * Not all transports report this event, see {@link org.glassfish.tyrus.spi.CompletionHandler#started()}.
+     * Timestamps are values of {@link System#nanoTime()}. They are taken only when a listener other than {@link
+     * #NO_OP} is installed. Default implementation does nothing.
+     *
+     * @param frameType      type of the frame.
+     * @param submittedNanos time when the frame was submitted for writing.
+     * @param startedNanos   time when the transport started writing the frame.
+     */
+    default void onFrameWriteStarted(TyrusFrame.FrameType frameType, long submittedNanos, long startedNanos) {
+    }
+
+    /**
+     * Called when write of a sent frame has been completed by the transport.
+     * <p>
+     * Timestamps are values of {@link System#nanoTime()}. They are taken only when a listener other than {@link
+     * #NO_OP} is installed. Default implementation does nothing.
+     *
+     * @param frameType      type of the frame.
+     * @param submittedNanos time when the frame was submitted for writing.
+     * @param completedNanos time when the transport reported the write as completed.
+     */
+    default void onFrameWritten(TyrusFrame.FrameType frameType, long submittedNanos, long completedNanos) {
+    }
+
+    /**
+     * Called when write of a sent frame has been completed by the transport, with the time the write has been started.
+     * <p>
+     * Time between {@code submittedNanos} and {@code startedNanos} has been spent in a write queue, the rest by the
+     * write itself. If the transport does not report the start of the write, {@code startedNanos} is equal to {@code
+     * submittedNanos}. Timestamps are values of {@link System#nanoTime()}. They are taken only when a listener other
+     * than {@link #NO_OP} is installed. Default implementation calls {@link #onFrameWritten(TyrusFrame.FrameType,
+     * long, long)}.
+     *
+     * @param frameType      type of the frame.
+     * @param submittedNanos time when the frame was submitted for writing.
+     * @param startedNanos   time when the transport started writing the frame.
+     * @param completedNanos time when the transport reported the write as completed.
+     */
+    default void onFrameWritten(TyrusFrame.FrameType frameType, long submittedNanos, long startedNanos,
+                                long completedNanos) {
+        onFrameWritten(frameType, submittedNanos, completedNanos);
+    }
+
     /**
      * An instance of @MessageEventListener that does not do anything.
      */
@@ -58,5 +132,31 @@ public interface MessageEventListener {
         public void onFrameReceived(TyrusFrame.FrameType frameType, long payloadLength) {
             //do nothing
         }
+
+        @Override
+        public void onFrameProcessed(TyrusFrame.FrameType frameType, long startNanos, long endNanos) {
+            //do nothing
+        }
+
+        @Override
+        public void onFrameDecoded(TyrusFrame.FrameType frameType, long startNanos, long endNanos) {
+            //do nothing
+        }
+
+        @Override
+        public void onFrameWriteStarted(TyrusFrame.FrameType frameType, long submittedNanos, long startedNanos) {
+            //do nothing
+        }
+
+        @Override
+        public void onFrameWritten(TyrusFrame.FrameType frameType, long submittedNanos, long completedNanos) {
+            //do nothing
+        }
+
+        @Override
+        public void onFrameWritten(TyrusFrame.FrameType frameType, long submittedNanos, long startedNanos,
+                                   long completedNanos) {
+            //do nothing
+        }
     };
 }
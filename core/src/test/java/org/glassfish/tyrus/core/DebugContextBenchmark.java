@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link DebugContext} calls made for every received and sent message when neither logging nor tracing is
+ * enabled.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=DebugContextBenchmark}, add {@code -prof gc} to the JMH arguments
+ * to see that nothing is allocated per call. {@link DebugContext} methods are not inlined, as is the case in the large
+ * methods of {@link TyrusEndpointWrapper} and {@link TyrusRemoteEndpoint}; when inlined into a small benchmark method,
+ * escape analysis removes the allocations that happen in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-XX:CompileCommand=quiet",
+        "-XX:CompileCommand=dontinline,org/glassfish/tyrus/core/DebugContext.*"})
+public class DebugContextBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(DebugContextBenchmark.class.getName());
+
+    private DebugContext debugContext;
+    private DebugContext tracingContext;
+    private Object decoder;
+
+    @Setup
+    public void setup() {
+        LOGGER.setLevel(Level.INFO);
+
+        debugContext = new DebugContext();
+        debugContext.setSessionId("session");
+        tracingContext = new DebugContext(DebugContext.TracingThreshold.SUMMARY);
+        tracingContext.setSessionId("session");
+        decoder = new Object();
+    }
+
+    @Benchmark
+    public void logMessage() {
+        debugContext.appendLogMessage(LOGGER, Level.FINEST, DebugContext.Type.MESSAGE_IN, "Received text message");
+    }
+
+    @Benchmark
+    public void logMessageWithPart() {
+        debugContext.appendLogMessage(LOGGER, Level.FINEST, DebugContext.Type.MESSAGE_IN, "Decoding with ", decoder);
+    }
+
+    @Benchmark
+    public void traceMessageWithPart() {
+        tracingContext.appendTraceMessage(LOGGER, Level.FINEST, DebugContext.Type.MESSAGE_IN, "Decoding with ",
+                                          decoder);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.core;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+
+import org.junit.Test;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests {@link EndpointIndex}.
+ */
+public class EndpointIndexTest {
+
+    @Test
+    public void testDiscardedClassLoaderIsCollected() throws Exception {
+        final File directory = createIndex("annotated org.glassfish.tyrus.core.NotExisting\n");
+
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toURI().toURL()}, null);
+        final EndpointIndex endpointIndex = EndpointIndex.getInstance(classLoader);
+        assertFalse(endpointIndex.isEmpty());
+        assertSame(endpointIndex, EndpointIndex.getInstance(classLoader));
+
+        final WeakReference<ClassLoader> reference = new WeakReference<ClassLoader>(classLoader);
+        classLoader.close();
+        classLoader = null;
+
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(reference.get());
+        // the index kept by the caller does not resurrect anything
+        assertFalse(endpointIndex.isEmpty());
+    }
+
+    private static File createIndex(String content) throws IOException {
+        final File directory = Files.createTempDirectory("endpoint-index").toFile();
+        directory.deleteOnExit();
+        final File index = new File(directory, EndpointIndex.RESOURCE_NAME);
+        index.getParentFile().mkdirs();
+        index.deleteOnExit();
+        index.getParentFile().deleteOnExit();
+        index.getParentFile().getParentFile().deleteOnExit();
+
+        try (OutputStream outputStream = new FileOutputStream(index)) {
+            outputStream.write(content.getBytes("UTF-8"));
+        }
+        return directory;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.websocket.ClientEndpointConfig;
+import javax.websocket.Decoder;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
+import javax.websocket.PongMessage;
+import javax.websocket.Session;
+
+import org.glassfish.tyrus.core.coder.CoderWrapper;
+import org.glassfish.tyrus.core.coder.NoOpTextCoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of dispatching a whole text message to the message handler of a {@link TyrusSession}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=MessageDispatchBenchmark}. A session accepts at most one handler
+ * per native message type, so {@code handlers} registers a text handler, then binary and pong ones. {@code decoders}
+ * is the number of applicable decoders tried before the one accepted by the text handler, which is what the
+ * decoder &times; handler loop scales with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageDispatchBenchmark {
+
+    private static final String MESSAGE = "message";
+
+    @Param({"1", "2", "3"})
+    private int handlers;
+
+    @Param({"1", "5", "20"})
+    private int decoders;
+
+    private TyrusSession session;
+    private List<CoderWrapper<Decoder>> availableDecoders;
+    private long received;
+
+    @Setup
+    public void setup() throws Exception {
+        final TyrusEndpointWrapper endpointWrapper =
+                new TyrusEndpointWrapper(new Endpoint() {
+                    @Override
+                    public void onOpen(Session session, EndpointConfig config) {
+                    }
+                }, ClientEndpointConfig.Builder.create().build(), ComponentProviderService.create(), null, "/path",
+                                         null, null, null, null, null);
+        session = new TyrusSession(null, new TyrusWebSocket(new ProtocolHandler(false, null), null), endpointWrapper,
+                                   null, null, false, null, null, null, null, new HashMap<String, List<String>>(),
+                                   null, null, null, new DebugContext());
+
+        session.addMessageHandler(new MessageHandler.Whole<String>() {
+            @Override
+            public void onMessage(String message) {
+                received++;
+            }
+        });
+        if (handlers > 1) {
+            session.addMessageHandler(new MessageHandler.Whole<ByteBuffer>() {
+                @Override
+                public void onMessage(ByteBuffer message) {
+                }
+            });
+        }
+        if (handlers > 2) {
+            session.addMessageHandler(new MessageHandler.Whole<PongMessage>() {
+                @Override
+                public void onMessage(PongMessage message) {
+                }
+            });
+        }
+
+        availableDecoders = new ArrayList<CoderWrapper<Decoder>>();
+        for (int i = 1; i < decoders; i++) {
+            // not accepted by the text handler, never invoked
+            availableDecoders.add(new CoderWrapper<Decoder>(NoOpTextCoder.class, Integer.class));
+        }
+        availableDecoders.add(new CoderWrapper<Decoder>(new NoOpTextCoder(), String.class));
+    }
+
+    @Benchmark
+    public long dispatch() throws Exception {
+        session.notifyMessageHandlers(MESSAGE, availableDecoders);
+        return received;
+    }
+}
@@ -32,8 +32,11 @@ import org.glassfish.tyrus.core.coder.CoderWrapper;
 import org.glassfish.tyrus.core.l10n.LocalizationMessages;
 
 import org.junit.Test;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -505,4 +508,46 @@ public class MessageHandlerManagerTest {
         assertFalse(messageHandlerManager.getMessageHandlers().contains(handler2));
         assertFalse(messageHandlerManager.getMessageHandlers().contains(handler3));
     }
+
+    @Test
+    public void testDispatchTable() {
+        MessageHandlerManager messageHandlerManager = new MessageHandlerManager();
+        final MessageHandlerManager.DispatchTable empty = messageHandlerManager.getDispatchTable();
+
+        final MessageHandler.Whole<String> textHandler = new MessageHandler.Whole<String>() {
+            @Override
+            public void onMessage(String message) {
+            }
+        };
+        final MessageHandler.Partial<ByteBuffer> binaryHandler = new MessageHandler.Partial<ByteBuffer>() {
+            @Override
+            public void onMessage(ByteBuffer message, boolean last) {
+            }
+        };
+        final MessageHandler.Whole<PongMessage> pongHandler = new MessageHandler.Whole<PongMessage>() {
+            @Override
+            public void onMessage(PongMessage message) {
+            }
+        };
+
+        messageHandlerManager.addMessageHandler(textHandler);
+        messageHandlerManager.addMessageHandler(binaryHandler);
+        messageHandlerManager.addMessageHandler(pongHandler);
+
+        final MessageHandlerManager.DispatchTable dispatchTable = messageHandlerManager.getDispatchTable();
+        assertEquals(0, empty.getWholeHandlerCount());
+        assertEquals(2, dispatchTable.getWholeHandlerCount());
+        assertSame(textHandler, dispatchTable.getWholeHandler(String.class));
+        assertEquals(1, dispatchTable.getPartialHandlerCount());
+        assertEquals(ByteBuffer.class, dispatchTable.getPartialHandlerType(0));
+        assertSame(binaryHandler, dispatchTable.getPartialHandler(0));
+        assertSame(pongHandler, dispatchTable.getPongHandler());
+
+        messageHandlerManager.removeMessageHandler(pongHandler);
+
+        // published tables are never modified
+        assertSame(pongHandler, dispatchTable.getPongHandler());
+        assertNull(messageHandlerManager.getDispatchTable().getPongHandler());
+        assertEquals(1, messageHandlerManager.getDispatchTable().getWholeHandlerCount());
+    }
 }
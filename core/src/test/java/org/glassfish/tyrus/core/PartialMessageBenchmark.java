@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.core;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of aggregating a fragmented message for a whole message handler in {@link TextBuffer} and
+ * {@link BinaryBuffer}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=PartialMessageBenchmark}, add {@code -prof gc} to the JMH
+ * arguments to see the garbage produced per message. The message of {@code messageSize} bytes or characters is split
+ * into {@code fragments} fragments, followed by an empty final one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartialMessageBenchmark {
+
+    @Param({"1048576"})
+    private int messageSize;
+
+    @Param({"1", "16"})
+    private int fragments;
+
+    private final TextBuffer textBuffer = new TextBuffer();
+    private final BinaryBuffer binaryBuffer = new BinaryBuffer();
+
+    private String[] textFragments;
+    private byte[][] binaryFragments;
+
+    @Setup
+    public void setup() {
+        final int fragmentSize = messageSize / fragments;
+        final char[] chars = new char[fragmentSize];
+        Arrays.fill(chars, 'a');
+
+        textFragments = new String[fragments];
+        binaryFragments = new byte[fragments][];
+        for (int i = 0; i < fragments; i++) {
+            textFragments[i] = new String(chars);
+            binaryFragments[i] = new byte[fragmentSize];
+        }
+    }
+
+    @Benchmark
+    public String text() {
+        textBuffer.resetBuffer(messageSize);
+        for (String fragment : textFragments) {
+            textBuffer.appendMessagePart(fragment);
+        }
+        textBuffer.appendMessagePart("");
+        return textBuffer.getBufferedContent();
+    }
+
+    @Benchmark
+    public ByteBuffer binary() {
+        binaryBuffer.resetBuffer(messageSize);
+        for (byte[] fragment : binaryFragments) {
+            // TyrusWebSocket wraps the payload of every received frame
+            binaryBuffer.appendMessagePart(ByteBuffer.wrap(fragment));
+        }
+        binaryBuffer.appendMessagePart(ByteBuffer.allocate(0));
+        return binaryBuffer.getBufferedContent();
+    }
+}
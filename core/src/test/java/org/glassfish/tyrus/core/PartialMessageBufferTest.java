@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.core;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link TextBuffer} and {@link BinaryBuffer}.
+ */
+public class PartialMessageBufferTest {
+
+    @Test
+    public void testText() {
+        final TextBuffer buffer = new TextBuffer();
+        buffer.resetBuffer(10);
+        buffer.appendMessagePart("abc");
+        buffer.appendMessagePart("");
+        buffer.appendMessagePart("defg");
+        assertEquals("abcdefg", buffer.getBufferedContent());
+
+        final String single = "single";
+        buffer.resetBuffer(10);
+        buffer.appendMessagePart(single);
+        buffer.appendMessagePart("");
+        assertSame(single, buffer.getBufferedContent());
+
+        buffer.resetBuffer(10);
+        buffer.appendMessagePart("");
+        assertEquals("", buffer.getBufferedContent());
+    }
+
+    @Test
+    public void testTextOverflow() {
+        final TextBuffer buffer = new TextBuffer();
+        buffer.resetBuffer(5);
+        buffer.appendMessagePart("abc");
+        try {
+            buffer.appendMessagePart("def");
+            fail("MessageTooBigException expected.");
+        } catch (MessageTooBigException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testBinary() {
+        final BinaryBuffer buffer = new BinaryBuffer();
+        buffer.resetBuffer(10);
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+        buffer.appendMessagePart(ByteBuffer.allocate(0));
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{4, 5}));
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, buffer.getBufferedContent().array());
+
+        final ByteBuffer single = ByteBuffer.wrap(new byte[]{1, 2});
+        buffer.resetBuffer(10);
+        buffer.appendMessagePart(single);
+        buffer.appendMessagePart(ByteBuffer.allocate(0));
+        assertSame(single, buffer.getBufferedContent());
+
+        // array() has to contain just the message
+        buffer.resetBuffer(10);
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{1, 2, 3}, 1, 2));
+        assertArrayEquals(new byte[]{2, 3}, buffer.getBufferedContent().array());
+    }
+
+    @Test
+    public void testBinaryOverflow() {
+        final BinaryBuffer buffer = new BinaryBuffer();
+        buffer.resetBuffer(5);
+        buffer.appendMessagePart(ByteBuffer.allocate(3));
+        try {
+            buffer.appendMessagePart(ByteBuffer.allocate(3));
+            fail("MessageTooBigException expected.");
+        } catch (MessageTooBigException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.websocket.MessageHandler;
+
+import org.glassfish.tyrus.spi.ReadController;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests flow control of {@link InputStreamBuffer} and {@link ReaderBuffer}.
+ */
+public class StreamingBufferTest {
+
+    private static final Executor THREAD_PER_TASK = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            new Thread(command).start();
+        }
+    };
+
+    @Test
+    public void testInputStreamWindow() throws Exception {
+        final CountingReadController readController = new CountingReadController();
+        final TyrusWebSocket socket = new TyrusWebSocket(new ProtocolHandler(false, null), null);
+        socket.setReadController(readController);
+
+        final CountDownLatch startReading = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        final ByteArrayOutputStream received = new ByteArrayOutputStream();
+
+        final InputStreamBuffer buffer = new InputStreamBuffer(THREAD_PER_TASK, socket);
+        buffer.resetBuffer(100, 4);
+        buffer.setMessageHandler(new MessageHandler.Whole<InputStream>() {
+            @Override
+            public void onMessage(InputStream message) {
+                try {
+                    startReading.await(5, TimeUnit.SECONDS);
+                    final byte[] bytes = new byte[16];
+                    int read;
+                    while ((read = message.read(bytes)) != -1) {
+                        received.write(bytes, 0, read);
+                    }
+                } catch (Exception e) {
+                    // verified by the content below
+                } finally {
+                    done.countDown();
+                }
+            }
+        });
+
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{1, 2, 3}), false);
+        assertEquals(0, readController.suspended.get());
+
+        // over the window while the handler does not read
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{4, 5, 6}), false);
+        assertEquals(1, readController.suspended.get());
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{7, 8, 9}), false);
+        assertEquals(1, readController.suspended.get());
+        assertEquals(0, readController.resumed.get());
+
+        startReading.countDown();
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{10}), true);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, received.toByteArray());
+        assertEquals(1, readController.suspended.get());
+        assertEquals(1, readController.resumed.get());
+    }
+
+    @Test
+    public void testReaderHandlerReturnsWithoutReading() throws Exception {
+        final CountingReadController readController = new CountingReadController();
+        final TyrusWebSocket socket = new TyrusWebSocket(new ProtocolHandler(false, null), null);
+
+        final CountDownLatch returning = new CountDownLatch(1);
+        final CountDownLatch handlerStarted = new CountDownLatch(1);
+        final AtomicReference<Reader> reader = new AtomicReference<Reader>();
+
+        final ReaderBuffer buffer = new ReaderBuffer(THREAD_PER_TASK, socket);
+        buffer.resetBuffer(100, 4);
+        buffer.setMessageHandler(new MessageHandler.Whole<Reader>() {
+            @Override
+            public void onMessage(Reader message) {
+                reader.set(message);
+                handlerStarted.countDown();
+                try {
+                    returning.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // return
+                }
+            }
+        });
+
+        buffer.appendMessagePart("abc", false);
+        buffer.appendMessagePart("def", false);
+        assertTrue(handlerStarted.await(5, TimeUnit.SECONDS));
+
+        // suspension requested before the transport registered its controller
+        socket.setReadController(readController);
+        assertEquals(1, readController.suspended.get());
+
+        returning.countDown();
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (readController.resumed.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, readController.resumed.get());
+
+        // data stay available to a reader kept by the application
+        buffer.appendMessagePart("gh", true);
+        final char[] chars = new char[16];
+        assertEquals(8, reader.get().read(chars, 0, chars.length));
+        assertEquals("abcdefgh", new String(chars, 0, 8));
+        assertEquals(-1, reader.get().read(chars, 0, chars.length));
+        assertEquals(1, readController.suspended.get());
+    }
+
+    @Test
+    public void testWindowChangedForNextMessage() throws Exception {
+        final CountingReadController readController = new CountingReadController();
+        final TyrusWebSocket socket = new TyrusWebSocket(new ProtocolHandler(false, null), null);
+        socket.setReadController(readController);
+
+        final AtomicReference<CountDownLatch> startReading = new AtomicReference<CountDownLatch>();
+        final AtomicReference<CountDownLatch> done = new AtomicReference<CountDownLatch>();
+
+        final InputStreamBuffer buffer = new InputStreamBuffer(THREAD_PER_TASK, socket);
+        buffer.setMessageHandler(new MessageHandler.Whole<InputStream>() {
+            @Override
+            public void onMessage(InputStream message) {
+                try {
+                    startReading.get().await(5, TimeUnit.SECONDS);
+                    while (message.read() != -1) {
+                        // consume
+                    }
+                } catch (Exception e) {
+                    // verified by the suspension count below
+                } finally {
+                    done.get().countDown();
+                }
+            }
+        });
+
+        // flow control disabled for the first message
+        startReading.set(new CountDownLatch(1));
+        done.set(new CountDownLatch(1));
+        buffer.resetBuffer(100, 0);
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{1, 2, 3}), false);
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{4, 5, 6}), false);
+        assertEquals(0, readController.suspended.get());
+        startReading.get().countDown();
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{7}), true);
+        assertTrue(done.get().await(5, TimeUnit.SECONDS));
+
+        // window set before the next message is applied to it
+        startReading.set(new CountDownLatch(1));
+        done.set(new CountDownLatch(1));
+        buffer.resetBuffer(100, 4);
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{1, 2, 3}), false);
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{4, 5, 6}), false);
+        assertEquals(1, readController.suspended.get());
+        startReading.get().countDown();
+        buffer.appendMessagePart(ByteBuffer.wrap(new byte[]{7}), true);
+        assertTrue(done.get().await(5, TimeUnit.SECONDS));
+        assertEquals(1, readController.resumed.get());
+    }
+
+    private static class CountingReadController implements ReadController {
+
+        private final AtomicInteger suspended = new AtomicInteger();
+        private final AtomicInteger resumed = new AtomicInteger();
+
+        @Override
+        public void suspendReading() {
+            suspended.incrementAndGet();
+        }
+
+        @Override
+        public void resumeReading() {
+            resumed.incrementAndGet();
+        }
+    }
+}
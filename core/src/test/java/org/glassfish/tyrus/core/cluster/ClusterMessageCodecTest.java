@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.core.cluster;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link ClusterMessageEncoder}, {@link ClusterMessageDecoder} and {@link ClusterMessageBatcher}.
+ */
+public class ClusterMessageCodecTest {
+
+    @Test
+    public void testRoundTripAllTypes() throws IOException {
+        final List<ClusterMessage> messages = Arrays.asList(
+                ClusterMessage.sendText(1, "s1", "text"),
+                ClusterMessage.sendPartialText(2, "s1", "partial", true),
+                ClusterMessage.sendBinary(Long.MAX_VALUE, "s2", new byte[]{1, 2, 3}),
+                ClusterMessage.sendPartialBinary(4, "s2", new byte[0], false),
+                ClusterMessage.sendPing(5, "s1", null),
+                ClusterMessage.sendPong(6, "s1", new byte[]{9}),
+                ClusterMessage.close(7, "s1", 1001, "going away"),
+                ClusterMessage.result(8, null),
+                ClusterMessage.result(9, "failure"),
+                ClusterMessage.broadcastText(10, "/echo", "žluťoučký kůň"),
+                ClusterMessage.broadcastBinary(0, "/echo", new byte[]{4, 5}),
+                ClusterMessage.sessionOpened("s3", "/echo"),
+                ClusterMessage.sessionClosed("s3", "/echo"),
+                ClusterMessage.sessionPropertyPut("s1", RemoteSession.DistributedMapKey.SECURE.name(), true),
+                ClusterMessage.userPropertyPut("c1", "key", "value"),
+                ClusterMessage.userPropertyRemove("c1", "key"),
+                ClusterMessage.userPropertiesDestroy("c1"));
+
+        final List<ClusterMessage> decoded =
+                new ClusterMessageDecoder().decode(new ClusterMessageEncoder().encode(messages));
+
+        assertEquals(messages.size(), decoded.size());
+        for (int i = 0; i < messages.size(); i++) {
+            assertMessageEquals(messages.get(i), decoded.get(i));
+        }
+    }
+
+    @Test
+    public void testRoundTripValues() throws IOException {
+        final Map<String, String> stringMap = new HashMap<String, String>();
+        stringMap.put("a", "b");
+        final Map<String, List<String>> stringListMap = new HashMap<String, List<String>>();
+        stringListMap.put("header", Arrays.asList("v1", "v2"));
+        final Date date = new Date(1234);
+
+        final Object[] values = new Object[]{null, "string", true, false, 42, -42L, URI.create("ws://localhost/echo"),
+                new byte[]{1, 2}, stringMap, stringListMap, Collections.emptyList(), date};
+
+        final List<ClusterMessage> messages = new ArrayList<ClusterMessage>();
+        for (Object value : values) {
+            messages.add(ClusterMessage.userPropertyPut("c1", "key", value));
+        }
+
+        final List<ClusterMessage> decoded =
+                new ClusterMessageDecoder().decode(new ClusterMessageEncoder().encode(messages));
+
+        for (int i = 0; i < values.length; i++) {
+            final Object value = decoded.get(i).getValue();
+            if (values[i] instanceof byte[]) {
+                assertArrayEquals((byte[]) values[i], (byte[]) value);
+            } else {
+                assertEquals(values[i], value);
+            }
+        }
+    }
+
+    @Test
+    public void testInternedStringsReset() throws IOException {
+        final ClusterMessageEncoder encoder = new ClusterMessageEncoder(3);
+        final ClusterMessageDecoder decoder = new ClusterMessageDecoder();
+
+        final ByteBuffer first = encoder.encode(Arrays.asList(ClusterMessage.sessionOpened("s1", "/echo")));
+        final int firstSize = first.remaining();
+        assertEquals("s1", decoder.decode(first).get(0).getSessionId());
+
+        // strings already known to the decoder are sent as references only
+        final ByteBuffer second = encoder.encode(Arrays.asList(ClusterMessage.sessionOpened("s1", "/echo")));
+        assertTrue(second.remaining() < firstSize);
+        assertEquals("/echo", decoder.decode(second).get(0).getEndpointPath());
+
+        final ByteBuffer third = encoder.encode(Arrays.asList(ClusterMessage.sessionOpened("s2", "/echo")));
+        assertEquals(0, third.get(0) & ClusterMessageEncoder.FLAG_RESET_STRINGS);
+        assertEquals("s2", decoder.decode(third).get(0).getSessionId());
+
+        // limit reached, both sides start over
+        final ByteBuffer fourth = encoder.encode(Arrays.asList(ClusterMessage.sessionOpened("s3", "/echo")));
+        assertEquals(ClusterMessageEncoder.FLAG_RESET_STRINGS, fourth.get(0) & ClusterMessageEncoder.FLAG_RESET_STRINGS);
+        final ClusterMessage message = decoder.decode(fourth).get(0);
+        assertEquals("s3", message.getSessionId());
+        assertEquals("/echo", message.getEndpointPath());
+    }
+
+    @Test
+    public void testUnsupportedValueRollback() throws IOException {
+        final ClusterMessageEncoder encoder = new ClusterMessageEncoder();
+        encoder.begin();
+        encoder.add(ClusterMessage.sendText(1, "s1", "first"));
+        final int size = encoder.size();
+
+        try {
+            encoder.add(ClusterMessage.userPropertyPut("c1", "notInternedYet", new Object()));
+            fail("IOException expected.");
+        } catch (IOException e) {
+            // expected
+        }
+        assertEquals(size, encoder.size());
+
+        encoder.add(ClusterMessage.userPropertyPut("c1", "notInternedYet", "value"));
+        final List<ClusterMessage> decoded = new ClusterMessageDecoder().decode(encoder.finish());
+        assertEquals(2, decoded.size());
+        assertEquals("notInternedYet", decoded.get(1).getKey());
+        assertEquals("value", decoded.get(1).getValue());
+    }
+
+    @Test
+    public void testMalformedPacket() throws IOException {
+        final ByteBuffer packet = new ClusterMessageEncoder().encode(
+                Arrays.asList(ClusterMessage.sendText(1, "s1", "text")));
+        final byte[] bytes = new byte[packet.remaining()];
+        packet.get(bytes);
+
+        try {
+            new ClusterMessageDecoder().decode(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+            fail("StreamCorruptedException expected.");
+        } catch (StreamCorruptedException e) {
+            // expected
+        }
+
+        bytes[ClusterMessageEncoder.HEADER_SIZE] = (byte) 127;
+        try {
+            new ClusterMessageDecoder().decode(ByteBuffer.wrap(bytes));
+            fail("StreamCorruptedException expected.");
+        } catch (StreamCorruptedException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testMalformedLengths() throws IOException {
+        // negative as a signed long, 0x7FFFFFFF when cast to int
+        final long huge = 0x800000007FFFFFFFL;
+
+        // string length
+        assertCorrupted(packet(ClusterMessage.Type.RESULT, 1, huge + 1));
+        assertCorrupted(packet(ClusterMessage.Type.RESULT, 1, -1L));
+
+        // collection size
+        final ByteBuffer extensions = ByteBuffer.allocate(64);
+        extensions.put((byte) 0).putInt(1).put((byte) ClusterMessage.Type.USER_PROPERTY_PUT.ordinal());
+        putInternedString(extensions, 1, "c1");
+        putInternedString(extensions, 2, "key");
+        extensions.put(ClusterMessageEncoder.VALUE_EXTENSIONS);
+        putVarLong(extensions, huge);
+        extensions.flip();
+        assertCorrupted(extensions);
+
+        // message count
+        final ByteBuffer count = ByteBuffer.allocate(5);
+        count.put((byte) 0).putInt(Integer.MAX_VALUE).flip();
+        assertCorrupted(count);
+    }
+
+    @Test
+    public void testSerializedValueFilter() throws IOException {
+        final UUID uuid = UUID.randomUUID();
+        final ByteBuffer allowed = new ClusterMessageEncoder().encode(
+                Arrays.asList(ClusterMessage.userPropertyPut("c1", "key", uuid)));
+        assertEquals(uuid, new ClusterMessageDecoder().decode(allowed).get(0).getValue());
+
+        // not a simple value type
+        final ArrayList<Date> dates = new ArrayList<Date>(Arrays.asList(new Date(1)));
+        try {
+            new ClusterMessageDecoder().decode(
+                    new ClusterMessageEncoder().encode(
+                            Arrays.asList(ClusterMessage.userPropertyPut("c1", "key", dates))));
+            fail("InvalidClassException expected.");
+        } catch (InvalidClassException e) {
+            // expected
+        }
+
+        // allowed application class
+        final Point point = new Point(1, 2);
+        final ByteBuffer packet = new ClusterMessageEncoder().encode(
+                Arrays.asList(ClusterMessage.userPropertyPut("c1", "key", point)));
+        assertEquals(point, new ClusterMessageDecoder(Arrays.asList(Point.class.getName()))
+                .decode(packet).get(0).getValue());
+    }
+
+    @Test
+    public void testBatching() throws Exception {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ClusterMessageDecoder decoder = new ClusterMessageDecoder();
+        final List<ClusterMessage> received = Collections.synchronizedList(new ArrayList<ClusterMessage>());
+
+        final ClusterMessageBatcher batcher = new ClusterMessageBatcher(new ClusterMessageBatcher.PacketWriter() {
+            @Override
+            public void write(ByteBuffer packet) throws IOException {
+                received.addAll(decoder.decode(packet));
+                writing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        });
+
+        final Thread first = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    batcher.submit(ClusterMessage.sendText(0, "s1", "0"));
+                } catch (IOException e) {
+                    // ignore, verified by message count below
+                }
+            }
+        };
+        first.start();
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        // writer is blocked, these are only queued
+        for (int i = 1; i <= 10; i++) {
+            batcher.submit(ClusterMessage.sendText(i, "s1", Integer.toString(i)));
+        }
+
+        release.countDown();
+        first.join(5000);
+
+        assertEquals(11, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(i, received.get(i).getRequestId());
+        }
+        assertEquals(11, batcher.getMessageCount());
+        assertEquals(2, batcher.getPacketCount());
+    }
+
+    private static ByteBuffer packet(ClusterMessage.Type type, long... varLongs) {
+        final ByteBuffer packet = ByteBuffer.allocate(64);
+        packet.put((byte) 0).putInt(1).put((byte) type.ordinal());
+        for (long value : varLongs) {
+            putVarLong(packet, value);
+        }
+        packet.flip();
+        return packet;
+    }
+
+    private static void putInternedString(ByteBuffer packet, int id, String s) {
+        putVarLong(packet, (id << 1) | 1);
+        putVarLong(packet, s.length() + 1);
+        packet.put(s.getBytes(ClusterMessageEncoder.UTF_8));
+    }
+
+    private static void putVarLong(ByteBuffer packet, long value) {
+        while ((value & ~0x7FL) != 0) {
+            packet.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        packet.put((byte) value);
+    }
+
+    private static void assertCorrupted(ByteBuffer packet) throws IOException {
+        try {
+            new ClusterMessageDecoder().decode(packet);
+            fail("StreamCorruptedException expected.");
+        } catch (StreamCorruptedException e) {
+            // expected
+        }
+    }
+
+    private static void assertMessageEquals(ClusterMessage expected, ClusterMessage actual) {
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getRequestId(), actual.getRequestId());
+        assertEquals(expected.getSessionId(), actual.getSessionId());
+        assertEquals(expected.getEndpointPath(), actual.getEndpointPath());
+        assertEquals(expected.getKey(), actual.getKey());
+        assertEquals(expected.getValue(), actual.getValue());
+        assertEquals(expected.getText(), actual.getText());
+        if (expected.getData() == null) {
+            assertNull(actual.getData());
+        } else {
+            assertArrayEquals(expected.getData(), actual.getData());
+        }
+        assertEquals(expected.isLast(), actual.isLast());
+        assertEquals(expected.getCloseCode(), actual.getCloseCode());
+    }
+
+    private static class Point implements Serializable {
+
+        private final int x;
+        private final int y;
+
+        private Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Point && ((Point) o).x == x && ((Point) o).y == y;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * x + y;
+        }
+    }
+}
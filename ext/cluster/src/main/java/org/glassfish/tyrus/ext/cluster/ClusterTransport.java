@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.cluster;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.glassfish.tyrus.core.cluster.ClusterMessage;
+
+/**
+ * Transport connecting {@link ReferenceClusterContext} instances.
+ * <p>
+ * Implementations have to deliver messages sent from one node to another node in the order in which they were sent
+ * and report cluster membership changes through {@link Receiver}.
+ *
+ * @see InMemoryCluster
+ * @see SocketClusterTransport
+ */
+public interface ClusterTransport {
+
+    /**
+     * Start the transport and join the cluster.
+     *
+     * @param localNodeId id of the local node.
+     * @param receiver    receiver of messages and membership events. Receiver is never invoked concurrently.
+     * @throws IOException when the transport cannot be started.
+     */
+    void start(String localNodeId, Receiver receiver) throws IOException;
+
+    /**
+     * Send message to given node.
+     *
+     * @param nodeId  target node id.
+     * @param message message to be sent.
+     * @throws IOException when the message cannot be sent, for example when the target node is not known.
+     */
+    void send(String nodeId, ClusterMessage message) throws IOException;
+
+    /**
+     * Get ids of all other currently connected nodes.
+     *
+     * @return set of node ids, excluding the local node.
+     */
+    Set<String> getRemoteNodes();
+
+    /**
+     * Leave the cluster and release all resources.
+     */
+    void shutdown();
+
+    /**
+     * Receiver of cluster messages and membership events.
+     */
+    interface Receiver {
+
+        /**
+         * Invoked when message from another node is received.
+         *
+         * @param nodeId  id of the node which sent the message.
+         * @param message received message.
+         */
+        void onMessage(String nodeId, ClusterMessage message);
+
+        /**
+         * Invoked when another node joins the cluster.
+         *
+         * @param nodeId id of the joined node.
+         */
+        void onNodeJoined(String nodeId);
+
+        /**
+         * Invoked when another node leaves the cluster.
+         *
+         * @param nodeId id of the node which left.
+         */
+        void onNodeLeft(String nodeId);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.cluster;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.tyrus.core.cluster.ClusterMessage;
+
+/**
+ * Cluster of nodes running in a single JVM.
+ * <p>
+ * Every node gets its own transport created by {@link #createTransport()}; messages are passed by reference (no
+ * serialization is performed) and delivered to each node by a dedicated thread, which preserves ordering.
+ * <pre>
+ * InMemoryCluster cluster = new InMemoryCluster();
+ *
+ * Map&lt;String, Object&gt; properties = new HashMap&lt;String, Object&gt;();
+ * properties.put(ClusterContext.CLUSTER_CONTEXT, new ReferenceClusterContext(cluster.createTransport()));
+ * new Server("localhost", 8025, "/", properties, MyEndpoint.class).start();
+ * </pre>
+ */
+public class InMemoryCluster {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryCluster.class.getName());
+
+    private final Map<String, InMemoryTransport> nodes = new ConcurrentHashMap<String, InMemoryTransport>();
+
+    /**
+     * Create new transport connected to this cluster.
+     *
+     * @return new transport instance.
+     */
+    public ClusterTransport createTransport() {
+        return new InMemoryTransport();
+    }
+
+    private synchronized void join(InMemoryTransport transport) throws IOException {
+        if (nodes.containsKey(transport.nodeId)) {
+            throw new IOException("Node " + transport.nodeId + " is already a member of the cluster.");
+        }
+
+        nodes.put(transport.nodeId, transport);
+        for (InMemoryTransport node : nodes.values()) {
+            if (node != transport) {
+                node.deliverNodeJoined(transport.nodeId);
+                transport.deliverNodeJoined(node.nodeId);
+            }
+        }
+    }
+
+    private synchronized void leave(InMemoryTransport transport) {
+        if (nodes.remove(transport.nodeId) != null) {
+            for (InMemoryTransport node : nodes.values()) {
+                node.deliverNodeLeft(transport.nodeId);
+            }
+        }
+    }
+
+    private class InMemoryTransport implements ClusterTransport {
+
+        private volatile String nodeId;
+        private volatile Receiver receiver;
+        private volatile ExecutorService deliveryExecutor;
+
+        @Override
+        public void start(final String localNodeId, Receiver receiver) throws IOException {
+            this.nodeId = localNodeId;
+            this.receiver = receiver;
+            this.deliveryExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r, "tyrus-cluster-" + localNodeId);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+            join(this);
+        }
+
+        @Override
+        public void send(String targetNodeId, ClusterMessage message) throws IOException {
+            final InMemoryTransport target = nodes.get(targetNodeId);
+            if (target == null) {
+                throw new IOException("Node " + targetNodeId + " is not a member of the cluster.");
+            }
+
+            target.deliver(nodeId, message);
+        }
+
+        @Override
+        public Set<String> getRemoteNodes() {
+            final Set<String> result = new HashSet<String>(nodes.keySet());
+            result.remove(nodeId);
+            return result;
+        }
+
+        @Override
+        public void shutdown() {
+            leave(this);
+            if (deliveryExecutor != null) {
+                deliveryExecutor.shutdown();
+            }
+        }
+
+        private void deliver(final String sourceNodeId, final ClusterMessage message) throws IOException {
+            try {
+                deliveryExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        receiver.onMessage(sourceNodeId, message);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                throw new IOException("Node " + nodeId + " has been shut down.", e);
+            }
+        }
+
+        private void deliverNodeJoined(final String joinedNodeId) {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    receiver.onNodeJoined(joinedNodeId);
+                }
+            });
+        }
+
+        private void deliverNodeLeft(final String leftNodeId) {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    receiver.onNodeLeft(leftNodeId);
+                }
+            });
+        }
+
+        private void execute(Runnable runnable) {
+            try {
+                deliveryExecutor.execute(runnable);
+            } catch (RejectedExecutionException e) {
+                LOGGER.log(Level.FINE, "Node " + nodeId + " has been shut down.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,702 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.cluster;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.websocket.CloseReason;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+
+import org.glassfish.tyrus.core.TyrusFuture;
+import org.glassfish.tyrus.core.cluster.BroadcastListener;
+import org.glassfish.tyrus.core.cluster.ClusterContext;
+import org.glassfish.tyrus.core.cluster.ClusterMessage;
+import org.glassfish.tyrus.core.cluster.RemoteSession;
+import org.glassfish.tyrus.core.cluster.SessionEventListener;
+import org.glassfish.tyrus.core.cluster.SessionListener;
+
+/**
+ * Reference {@link ClusterContext} implementation.
+ * <p>
+ * Every node owns the sessions opened on it; the owner announces them to other nodes and executes all operations
+ * requested on them by other nodes. Distributed session and user properties are replicated to all nodes, so reading
+ * them never leaves the local node. Communication between nodes is delegated to {@link ClusterTransport}.
+ * <p>
+ * One instance has to be created for each server (node) and passed to it using {@link ClusterContext#CLUSTER_CONTEXT}
+ * property.
+ *
+ * @see InMemoryCluster
+ * @see SocketClusterTransport
+ */
+public class ReferenceClusterContext extends ClusterContext {
+
+    private static final Logger LOGGER = Logger.getLogger(ReferenceClusterContext.class.getName());
+
+    private final String nodeId;
+    private final ClusterTransport transport;
+    private final AtomicLong requestIdGenerator = new AtomicLong();
+
+    // sessions owned by this node
+    private final Map<String, SessionEventListener> localSessions =
+            new ConcurrentHashMap<String, SessionEventListener>();
+    private final Map<String, String> localSessionEndpoints = new ConcurrentHashMap<String, String>();
+
+    // sessions owned by other nodes; session id -> owner node id
+    private final Map<String, String> remoteSessionOwners = new ConcurrentHashMap<String, String>();
+    private final Map<String, Set<String>> remoteEndpointSessions = new ConcurrentHashMap<String, Set<String>>();
+
+    private final Map<String, ReplicatedMap<RemoteSession.DistributedMapKey, Object>> sessionProperties =
+            new ConcurrentHashMap<String, ReplicatedMap<RemoteSession.DistributedMapKey, Object>>();
+    private final Map<String, ReplicatedMap<String, Object>> userProperties =
+            new ConcurrentHashMap<String, ReplicatedMap<String, Object>>();
+
+    private final Map<String, List<SessionListener>> sessionListeners =
+            new ConcurrentHashMap<String, List<SessionListener>>();
+    private final Map<String, List<BroadcastListener>> broadcastListeners =
+            new ConcurrentHashMap<String, List<BroadcastListener>>();
+
+    private final Map<Long, PendingRequest> pendingRequests = new ConcurrentHashMap<Long, PendingRequest>();
+
+    /**
+     * Create new cluster node with generated node id and join the cluster.
+     *
+     * @param transport transport connecting this node to the other nodes.
+     * @throws IOException when the transport cannot be started.
+     */
+    public ReferenceClusterContext(ClusterTransport transport) throws IOException {
+        this(UUID.randomUUID().toString(), transport);
+    }
+
+    /**
+     * Create new cluster node and join the cluster.
+     *
+     * @param nodeId    node id, has to be unique in the cluster.
+     * @param transport transport connecting this node to the other nodes.
+     * @throws IOException when the transport cannot be started.
+     */
+    public ReferenceClusterContext(String nodeId, ClusterTransport transport) throws IOException {
+        this.nodeId = nodeId;
+        this.transport = transport;
+
+        transport.start(nodeId, new ClusterTransport.Receiver() {
+            @Override
+            public void onMessage(String sourceNodeId, ClusterMessage message) {
+                processMessage(sourceNodeId, message);
+            }
+
+            @Override
+            public void onNodeJoined(String joinedNodeId) {
+                processNodeJoined(joinedNodeId);
+            }
+
+            @Override
+            public void onNodeLeft(String leftNodeId) {
+                processNodeLeft(leftNodeId);
+            }
+        });
+    }
+
+    /**
+     * Get id of this node.
+     *
+     * @return node id.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Get ids of other nodes currently connected to this node.
+     *
+     * @return set of node ids.
+     */
+    public Set<String> getRemoteNodes() {
+        return transport.getRemoteNodes();
+    }
+
+    @Override
+    public Future<Void> sendText(String sessionId, String text) {
+        return request(sessionId, ClusterMessage.sendText(nextRequestId(), sessionId, text), null);
+    }
+
+    @Override
+    public Future<Void> sendText(String sessionId, String text, boolean isLast) {
+        return request(sessionId, ClusterMessage.sendPartialText(nextRequestId(), sessionId, text, isLast), null);
+    }
+
+    @Override
+    public Future<Void> sendBinary(String sessionId, byte[] data) {
+        return request(sessionId, ClusterMessage.sendBinary(nextRequestId(), sessionId, data), null);
+    }
+
+    @Override
+    public Future<Void> sendBinary(String sessionId, byte[] data, boolean isLast) {
+        return request(sessionId, ClusterMessage.sendPartialBinary(nextRequestId(), sessionId, data, isLast), null);
+    }
+
+    @Override
+    public Future<Void> sendPing(String sessionId, byte[] data) {
+        return request(sessionId, ClusterMessage.sendPing(nextRequestId(), sessionId, data), null);
+    }
+
+    @Override
+    public Future<Void> sendPong(String sessionId, byte[] data) {
+        return request(sessionId, ClusterMessage.sendPong(nextRequestId(), sessionId, data), null);
+    }
+
+    @Override
+    public void sendText(String sessionId, String text, SendHandler sendHandler) {
+        request(sessionId, ClusterMessage.sendText(nextRequestId(), sessionId, text), sendHandler);
+    }
+
+    @Override
+    public void sendBinary(String sessionId, byte[] data, SendHandler sendHandler) {
+        request(sessionId, ClusterMessage.sendBinary(nextRequestId(), sessionId, data), sendHandler);
+    }
+
+    @Override
+    public void broadcastText(String endpointPath, String text) {
+        sendToAll(ClusterMessage.broadcastText(0, endpointPath, text));
+        processMessage(nodeId, ClusterMessage.broadcastText(0, endpointPath, text));
+    }
+
+    @Override
+    public void broadcastBinary(String endpointPath, byte[] data) {
+        sendToAll(ClusterMessage.broadcastBinary(0, endpointPath, data));
+        processMessage(nodeId, ClusterMessage.broadcastBinary(0, endpointPath, data));
+    }
+
+    @Override
+    public Map<String, Future<Void>> broadcastText(String endpointPath, String text, Set<String> nodeIds) {
+        final Map<String, Future<Void>> futures = new HashMap<String, Future<Void>>();
+        for (String targetNodeId : nodeIds) {
+            final ClusterMessage message = ClusterMessage.broadcastText(nextRequestId(), endpointPath, text);
+            futures.put(targetNodeId, requestNode(targetNodeId, message));
+        }
+        return futures;
+    }
+
+    @Override
+    public Map<String, Future<Void>> broadcastBinary(String endpointPath, byte[] data, Set<String> nodeIds) {
+        final Map<String, Future<Void>> futures = new HashMap<String, Future<Void>>();
+        for (String targetNodeId : nodeIds) {
+            final ClusterMessage message = ClusterMessage.broadcastBinary(nextRequestId(), endpointPath, data);
+            futures.put(targetNodeId, requestNode(targetNodeId, message));
+        }
+        return futures;
+    }
+
+    @Override
+    public String getNodeId(String sessionId) {
+        return localSessions.containsKey(sessionId) ? nodeId : remoteSessionOwners.get(sessionId);
+    }
+
+    @Override
+    public boolean isSessionUpdateSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isSessionOpen(String sessionId, String endpointPath) {
+        if (localSessions.containsKey(sessionId)) {
+            return endpointPath.equals(localSessionEndpoints.get(sessionId));
+        }
+
+        final Set<String> sessions = remoteEndpointSessions.get(endpointPath);
+        return sessions != null && sessions.contains(sessionId);
+    }
+
+    @Override
+    public Future<Void> close(String sessionId) {
+        return request(sessionId, ClusterMessage.close(nextRequestId(), sessionId, 0, null), null);
+    }
+
+    @Override
+    public Future<Void> close(String sessionId, CloseReason closeReason) {
+        return request(sessionId, ClusterMessage.close(nextRequestId(), sessionId, closeReason.getCloseCode().getCode(),
+                                                       closeReason.getReasonPhrase()), null);
+    }
+
+    @Override
+    public Set<String> getRemoteSessionIds(String endpointPath) {
+        final Set<String> sessions = remoteEndpointSessions.get(endpointPath);
+        if (sessions == null) {
+            return Collections.emptySet();
+        }
+
+        return Collections.unmodifiableSet(new HashSet<String>(sessions));
+    }
+
+    @Override
+    public String createSessionId() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Override
+    public String createConnectionId() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Override
+    public void registerSession(String sessionId, String endpointPath, SessionEventListener listener) {
+        localSessions.put(sessionId, listener);
+        localSessionEndpoints.put(sessionId, endpointPath);
+        sendToAll(ClusterMessage.sessionOpened(sessionId, endpointPath));
+    }
+
+    @Override
+    public void registerSessionListener(String endpointPath, SessionListener listener) {
+        getListeners(sessionListeners, endpointPath).add(listener);
+    }
+
+    @Override
+    public void registerBroadcastListener(String endpointPath, BroadcastListener listener) {
+        getListeners(broadcastListeners, endpointPath).add(listener);
+    }
+
+    @Override
+    public Map<RemoteSession.DistributedMapKey, Object> getDistributedSessionProperties(final String sessionId) {
+        ReplicatedMap<RemoteSession.DistributedMapKey, Object> map = sessionProperties.get(sessionId);
+        if (map == null) {
+            map = new ReplicatedMap<RemoteSession.DistributedMapKey, Object>(
+                    new ReplicatedMap.Replicator<RemoteSession.DistributedMapKey, Object>() {
+                        @Override
+                        public void onPut(RemoteSession.DistributedMapKey key, Object value) {
+                            sendToAll(ClusterMessage.sessionPropertyPut(sessionId, key.name(), value));
+                        }
+
+                        @Override
+                        public void onRemove(RemoteSession.DistributedMapKey key) {
+                            sendToAll(ClusterMessage.sessionPropertyPut(sessionId, key.name(), null));
+                        }
+                    });
+
+            final ReplicatedMap<RemoteSession.DistributedMapKey, Object> existing =
+                    sessionProperties.putIfAbsent(sessionId, map);
+            if (existing != null) {
+                map = existing;
+            }
+        }
+
+        return map;
+    }
+
+    @Override
+    public Map<String, Object> getDistributedUserProperties(final String connectionId) {
+        ReplicatedMap<String, Object> map = userProperties.get(connectionId);
+        if (map == null) {
+            map = new ReplicatedMap<String, Object>(new ReplicatedMap.Replicator<String, Object>() {
+                @Override
+                public void onPut(String key, Object value) {
+                    sendToAll(ClusterMessage.userPropertyPut(connectionId, key, value));
+                }
+
+                @Override
+                public void onRemove(String key) {
+                    sendToAll(ClusterMessage.userPropertyRemove(connectionId, key));
+                }
+            });
+
+            final ReplicatedMap<String, Object> existing = userProperties.putIfAbsent(connectionId, map);
+            if (existing != null) {
+                map = existing;
+            }
+        }
+
+        return map;
+    }
+
+    @Override
+    public void destroyDistributedUserProperties(String connectionId) {
+        userProperties.remove(connectionId);
+        sendToAll(ClusterMessage.userPropertiesDestroy(connectionId));
+    }
+
+    @Override
+    public void removeSession(String sessionId, String endpointPath) {
+        localSessions.remove(sessionId);
+        localSessionEndpoints.remove(sessionId);
+        sessionProperties.remove(sessionId);
+        sendToAll(ClusterMessage.sessionClosed(sessionId, endpointPath));
+    }
+
+    @Override
+    public void shutdown() {
+        transport.shutdown();
+
+        for (Long requestId : pendingRequests.keySet()) {
+            final PendingRequest pendingRequest = pendingRequests.remove(requestId);
+            if (pendingRequest != null) {
+                pendingRequest.fail(new IOException("Cluster node " + nodeId + " has been shut down."));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceClusterContext{nodeId='" + nodeId + '\'' + '}';
+    }
+
+    private long nextRequestId() {
+        return requestIdGenerator.incrementAndGet();
+    }
+
+    /**
+     * Send request to the node owning given session.
+     *
+     * @param sessionId   session id.
+     * @param message     request message.
+     * @param sendHandler send handler to be notified about the result, can be {@code null}.
+     * @return future completed when the result is received from the owning node.
+     */
+    private Future<Void> request(String sessionId, ClusterMessage message, SendHandler sendHandler) {
+        final PendingRequest pendingRequest = new PendingRequest(sendHandler);
+
+        if (localSessions.containsKey(sessionId)) {
+            pendingRequest.complete(execute(message));
+            return pendingRequest.future;
+        }
+
+        final String ownerNodeId = remoteSessionOwners.get(sessionId);
+        if (ownerNodeId == null) {
+            pendingRequest.fail(new IOException("Session " + sessionId + " is not registered in the cluster."));
+            return pendingRequest.future;
+        }
+
+        return sendRequest(ownerNodeId, message, pendingRequest);
+    }
+
+    /**
+     * Send request to given node.
+     *
+     * @param targetNodeId target node id.
+     * @param message      request message.
+     * @return future completed when the result is received from the target node.
+     */
+    private Future<Void> requestNode(String targetNodeId, ClusterMessage message) {
+        final PendingRequest pendingRequest = new PendingRequest(null);
+
+        if (!transport.getRemoteNodes().contains(targetNodeId)) {
+            pendingRequest.fail(new IOException("Cluster node " + targetNodeId + " is not connected."));
+            return pendingRequest.future;
+        }
+
+        return sendRequest(targetNodeId, message, pendingRequest);
+    }
+
+    private Future<Void> sendRequest(String targetNodeId, ClusterMessage message, PendingRequest pendingRequest) {
+        pendingRequest.nodeId = targetNodeId;
+        pendingRequests.put(message.getRequestId(), pendingRequest);
+        try {
+            transport.send(targetNodeId, message);
+        } catch (IOException e) {
+            pendingRequests.remove(message.getRequestId());
+            pendingRequest.fail(e);
+        }
+
+        return pendingRequest.future;
+    }
+
+    private void sendToAll(ClusterMessage message) {
+        for (String remoteNodeId : transport.getRemoteNodes()) {
+            send(remoteNodeId, message);
+        }
+    }
+
+    private void send(String targetNodeId, ClusterMessage message) {
+        try {
+            transport.send(targetNodeId, message);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Cannot send " + message + " to node " + targetNodeId + ".", e);
+        }
+    }
+
+    private void processMessage(String sourceNodeId, ClusterMessage message) {
+        switch (message.getType()) {
+            case SEND_TEXT:
+            case SEND_PARTIAL_TEXT:
+            case SEND_BINARY:
+            case SEND_PARTIAL_BINARY:
+            case SEND_PING:
+            case SEND_PONG:
+            case CLOSE:
+                send(sourceNodeId, ClusterMessage.result(message.getRequestId(), execute(message)));
+                break;
+            case RESULT:
+                final PendingRequest pendingRequest = pendingRequests.remove(message.getRequestId());
+                if (pendingRequest != null) {
+                    pendingRequest.complete(message.getText());
+                }
+                break;
+            case BROADCAST_TEXT:
+            case BROADCAST_BINARY:
+                final String error = deliverBroadcast(message);
+                if (message.getRequestId() != 0) {
+                    send(sourceNodeId, ClusterMessage.result(message.getRequestId(), error));
+                }
+                break;
+            case SESSION_OPENED:
+                if (remoteSessionOwners.put(message.getSessionId(), sourceNodeId) == null) {
+                    getRemoteSessions(message.getEndpointPath()).add(message.getSessionId());
+                    for (SessionListener listener : getListeners(sessionListeners, message.getEndpointPath())) {
+                        listener.onSessionOpened(message.getSessionId());
+                    }
+                }
+                break;
+            case SESSION_CLOSED:
+                remoteSessionClosed(message.getSessionId(), message.getEndpointPath());
+                break;
+            case SESSION_PROPERTY_PUT:
+                final ReplicatedMap<RemoteSession.DistributedMapKey, Object> sessionMap =
+                        (ReplicatedMap<RemoteSession.DistributedMapKey, Object>)
+                                getDistributedSessionProperties(message.getSessionId());
+                final RemoteSession.DistributedMapKey key = RemoteSession.DistributedMapKey.valueOf(message.getKey());
+                if (message.getValue() == null) {
+                    sessionMap.removeLocal(key);
+                } else {
+                    sessionMap.putLocal(key, message.getValue());
+                }
+                // properties of sessions being opened are announced before the session itself
+                if (remoteSessionOwners.containsKey(message.getSessionId())) {
+                    remoteSessionUpdated(message.getSessionId());
+                }
+                break;
+            case USER_PROPERTY_PUT:
+                ((ReplicatedMap<String, Object>) getDistributedUserProperties(message.getSessionId()))
+                        .putLocal(message.getKey(), message.getValue());
+                break;
+            case USER_PROPERTY_REMOVE:
+                ((ReplicatedMap<String, Object>) getDistributedUserProperties(message.getSessionId()))
+                        .removeLocal(message.getKey());
+                break;
+            case USER_PROPERTIES_DESTROY:
+                userProperties.remove(message.getSessionId());
+                break;
+            default:
+                LOGGER.log(Level.WARNING, "Unknown cluster message: " + message);
+        }
+    }
+
+    /**
+     * Execute request on local session.
+     *
+     * @param message request message.
+     * @return {@code null} when the request was successfully executed, error description otherwise.
+     */
+    private String execute(ClusterMessage message) {
+        final SessionEventListener listener = localSessions.get(message.getSessionId());
+        if (listener == null) {
+            return "Session " + message.getSessionId() + " is not registered on node " + nodeId + ".";
+        }
+
+        try {
+            switch (message.getType()) {
+                case SEND_TEXT:
+                    listener.onSendText(message.getText());
+                    break;
+                case SEND_PARTIAL_TEXT:
+                    listener.onSendText(message.getText(), message.isLast());
+                    break;
+                case SEND_BINARY:
+                    listener.onSendBinary(message.getData());
+                    break;
+                case SEND_PARTIAL_BINARY:
+                    listener.onSendBinary(message.getData(), message.isLast());
+                    break;
+                case SEND_PING:
+                    listener.onSendPing(message.getData());
+                    break;
+                case SEND_PONG:
+                    listener.onSendPong(message.getData());
+                    break;
+                case CLOSE:
+                    if (message.getCloseCode() == 0) {
+                        listener.onClose();
+                    } else {
+                        listener.onClose(new CloseReason(CloseReason.CloseCodes.getCloseCode(message.getCloseCode()),
+                                                         message.getText()));
+                    }
+                    break;
+                default:
+                    return "Unsupported request: " + message.getType();
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, e.getMessage(), e);
+            return e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+        }
+
+        return null;
+    }
+
+    /**
+     * Deliver broadcast to local sessions.
+     *
+     * @param message broadcast message.
+     * @return {@code null} when the broadcast was delivered, error description otherwise.
+     */
+    private String deliverBroadcast(ClusterMessage message) {
+        try {
+            for (BroadcastListener listener : getListeners(broadcastListeners, message.getEndpointPath())) {
+                if (message.getType() == ClusterMessage.Type.BROADCAST_TEXT) {
+                    listener.onBroadcast(message.getText());
+                } else {
+                    listener.onBroadcast(message.getData());
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, e.getMessage(), e);
+            return e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+        }
+
+        return null;
+    }
+
+    private void processNodeJoined(String joinedNodeId) {
+        // replay state owned by this node; properties first, as they have to be ready before the session is opened.
+        for (Map.Entry<String, String> session : localSessionEndpoints.entrySet()) {
+            final ReplicatedMap<RemoteSession.DistributedMapKey, Object> map = sessionProperties.get(session.getKey());
+            if (map != null) {
+                for (Map.Entry<RemoteSession.DistributedMapKey, Object> property : map.snapshot().entrySet()) {
+                    send(joinedNodeId, ClusterMessage.sessionPropertyPut(session.getKey(), property.getKey().name(),
+                                                                         property.getValue()));
+                }
+            }
+            send(joinedNodeId, ClusterMessage.sessionOpened(session.getKey(), session.getValue()));
+        }
+
+        for (Map.Entry<String, ReplicatedMap<String, Object>> connection : userProperties.entrySet()) {
+            for (Map.Entry<String, Object> property : connection.getValue().snapshot().entrySet()) {
+                send(joinedNodeId, ClusterMessage.userPropertyPut(connection.getKey(), property.getKey(),
+                                                                  property.getValue()));
+            }
+        }
+    }
+
+    private void processNodeLeft(String leftNodeId) {
+        for (Map.Entry<String, String> owner : remoteSessionOwners.entrySet()) {
+            if (leftNodeId.equals(owner.getValue())) {
+                for (Map.Entry<String, Set<String>> endpoint : remoteEndpointSessions.entrySet()) {
+                    if (endpoint.getValue().contains(owner.getKey())) {
+                        remoteSessionClosed(owner.getKey(), endpoint.getKey());
+                    }
+                }
+            }
+        }
+
+        for (Long requestId : pendingRequests.keySet()) {
+            final PendingRequest pendingRequest = pendingRequests.get(requestId);
+            if (pendingRequest != null && leftNodeId.equals(pendingRequest.nodeId)
+                    && pendingRequests.remove(requestId, pendingRequest)) {
+                pendingRequest.fail(new IOException("Cluster node " + leftNodeId + " left the cluster."));
+            }
+        }
+    }
+
+    private void remoteSessionUpdated(String sessionId) {
+        for (Map.Entry<String, Set<String>> endpoint : remoteEndpointSessions.entrySet()) {
+            if (endpoint.getValue().contains(sessionId)) {
+                for (SessionListener listener : getListeners(sessionListeners, endpoint.getKey())) {
+                    listener.onSessionUpdated(sessionId);
+                }
+            }
+        }
+    }
+
+    private void remoteSessionClosed(String sessionId, String endpointPath) {
+        remoteSessionOwners.remove(sessionId);
+        sessionProperties.remove(sessionId);
+
+        final Set<String> sessions = remoteEndpointSessions.get(endpointPath);
+        if (sessions != null && sessions.remove(sessionId)) {
+            for (SessionListener listener : getListeners(sessionListeners, endpointPath)) {
+                listener.onSessionClosed(sessionId);
+            }
+        }
+    }
+
+    private Set<String> getRemoteSessions(String endpointPath) {
+        Set<String> sessions = remoteEndpointSessions.get(endpointPath);
+        if (sessions == null) {
+            sessions = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+            final Set<String> existing = remoteEndpointSessions.putIfAbsent(endpointPath, sessions);
+            if (existing != null) {
+                sessions = existing;
+            }
+        }
+
+        return sessions;
+    }
+
+    private static <T> List<T> getListeners(Map<String, List<T>> listeners, String endpointPath) {
+        List<T> list = listeners.get(endpointPath);
+        if (list == null) {
+            list = new CopyOnWriteArrayList<T>();
+            final List<T> existing = listeners.putIfAbsent(endpointPath, list);
+            if (existing != null) {
+                list = existing;
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Request waiting for the result from the session owner.
+     */
+    private static class PendingRequest {
+
+        private final TyrusFuture<Void> future = new TyrusFuture<Void>();
+        private final SendHandler sendHandler;
+        private volatile String nodeId;
+
+        private PendingRequest(SendHandler sendHandler) {
+            this.sendHandler = sendHandler;
+        }
+
+        private void complete(String error) {
+            if (error == null) {
+                future.setResult(null);
+                if (sendHandler != null) {
+                    sendHandler.onResult(new SendResult());
+                }
+            } else {
+                fail(new IOException(error));
+            }
+        }
+
+        private void fail(Throwable throwable) {
+            future.setFailure(throwable);
+            if (sendHandler != null) {
+                sendHandler.onResult(new SendResult(throwable));
+            }
+        }
+    }
+}
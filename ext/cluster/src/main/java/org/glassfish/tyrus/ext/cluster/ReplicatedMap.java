@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.cluster;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Node-local replica of a distributed map.
+ * <p>
+ * Changes made through the {@link Map} interface are applied locally and passed to {@link Replicator}, changes
+ * received from other nodes are applied using {@link #putLocal(Object, Object)} and {@link #removeLocal(Object)}.
+ * Unlike {@link java.util.concurrent.ConcurrentHashMap}, {@code null} values are permitted.
+ *
+ * @param <K> key type.
+ * @param <V> value type.
+ */
+class ReplicatedMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V> delegate = Collections.synchronizedMap(new HashMap<K, V>());
+    private final Replicator<K, V> replicator;
+
+    /**
+     * Constructor.
+     *
+     * @param replicator replicator notified about every local change.
+     */
+    ReplicatedMap(Replicator<K, V> replicator) {
+        this.replicator = replicator;
+    }
+
+    @Override
+    public V get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        final V old = delegate.put(key, value);
+        replicator.onPut(key, value);
+        return old;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!delegate.containsKey(key)) {
+            return null;
+        }
+
+        final V old = delegate.remove(key);
+        //noinspection unchecked
+        replicator.onRemove((K) key);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        for (K key : snapshot().keySet()) {
+            remove(key);
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(snapshot()).entrySet();
+    }
+
+    /**
+     * Apply change received from another node.
+     *
+     * @param key   key.
+     * @param value value.
+     */
+    void putLocal(K key, V value) {
+        delegate.put(key, value);
+    }
+
+    /**
+     * Apply removal received from another node.
+     *
+     * @param key key.
+     */
+    void removeLocal(K key) {
+        delegate.remove(key);
+    }
+
+    /**
+     * Get consistent copy of the map content.
+     *
+     * @return copy of the map content.
+     */
+    Map<K, V> snapshot() {
+        synchronized (delegate) {
+            return new HashMap<K, V>(delegate);
+        }
+    }
+
+    /**
+     * Callback invoked on every change made through the {@link Map} interface.
+     *
+     * @param <K> key type.
+     * @param <V> value type.
+     */
+    interface Replicator<K, V> {
+
+        /**
+         * Invoked when an entry is put into the map.
+         *
+         * @param key   key.
+         * @param value value.
+         */
+        void onPut(K key, V value);
+
+        /**
+         * Invoked when an entry is removed from the map.
+         *
+         * @param key key.
+         */
+        void onRemove(K key);
+    }
+}
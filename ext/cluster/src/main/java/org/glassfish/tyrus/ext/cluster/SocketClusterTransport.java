@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.cluster;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.tyrus.core.cluster.ClusterMessage;
+import org.glassfish.tyrus.core.cluster.ClusterMessageBatcher;
+import org.glassfish.tyrus.core.cluster.ClusterMessageDecoder;
+
+/**
+ * {@link ClusterTransport} connecting nodes using TCP sockets.
+ * <p>
+ * Every node listens on its bind address and connects to all configured peers; peers which are not running yet will
+ * connect to this node when they start (provided this node is in their list of peers). There is exactly one connection
+ * between each pair of nodes. Messages are encoded by {@link org.glassfish.tyrus.core.cluster.ClusterMessageEncoder}
+ * and messages sent to the same node concurrently are coalesced into one packet by {@link ClusterMessageBatcher}.
+ * Distributed property values of types not known to the encoder have to be {@link java.io.Serializable}; other than
+ * simple JDK value types, their classes have to be allowed when the transport is created, see
+ * {@link ClusterMessageDecoder#ClusterMessageDecoder(Collection)}.
+ * <p>
+ * The transport is intended for testing and embedded clusters on a single machine (loopback interface), it does not
+ * provide any security.
+ */
+public class SocketClusterTransport implements ClusterTransport {
+
+    private static final Logger LOGGER = Logger.getLogger(SocketClusterTransport.class.getName());
+
+    private final SocketAddress bindAddress;
+    private final List<InetSocketAddress> peers;
+    private final Collection<String> serializedClasses;
+    private final Map<String, Connection> connections = new ConcurrentHashMap<String, Connection>();
+
+    private volatile String nodeId;
+    private volatile Receiver receiver;
+    private volatile ServerSocket serverSocket;
+    private volatile ExecutorService deliveryExecutor;
+    private volatile boolean shutdown = false;
+
+    /**
+     * Create new socket transport.
+     *
+     * @param bindAddress address this node listens on. Use port {@code 0} to bind to any free port, see
+     *                    {@link #getLocalAddress()}.
+     * @param peers       addresses of other nodes.
+     */
+    public SocketClusterTransport(InetSocketAddress bindAddress, InetSocketAddress... peers) {
+        this(bindAddress, Collections.<String>emptySet(), peers);
+    }
+
+    /**
+     * Create new socket transport which deserializes distributed property values of given classes.
+     *
+     * @param bindAddress       address this node listens on. Use port {@code 0} to bind to any free port, see
+     *                          {@link #getLocalAddress()}.
+     * @param serializedClasses names of classes or packages (ending with {@code .*}) of distributed property values
+     *                          which can be deserialized, see {@link ClusterMessageDecoder#ClusterMessageDecoder
+     *                          (Collection)}.
+     * @param peers             addresses of other nodes.
+     */
+    public SocketClusterTransport(InetSocketAddress bindAddress, Collection<String> serializedClasses,
+                                  InetSocketAddress... peers) {
+        this.bindAddress = bindAddress;
+        this.serializedClasses = new ArrayList<String>(serializedClasses);
+        this.peers = new ArrayList<InetSocketAddress>(Arrays.asList(peers));
+    }
+
+    /**
+     * Get the address this transport listens on.
+     *
+     * @return local address or {@code null} when the transport is not started.
+     */
+    public InetSocketAddress getLocalAddress() {
+        final ServerSocket socket = serverSocket;
+        return socket == null ? null : (InetSocketAddress) socket.getLocalSocketAddress();
+    }
+
+    @Override
+    public void start(final String localNodeId, Receiver receiver) throws IOException {
+        this.nodeId = localNodeId;
+        this.receiver = receiver;
+        this.deliveryExecutor = Executors.newSingleThreadExecutor(daemonThreadFactory("tyrus-cluster-" + localNodeId));
+
+        serverSocket = new ServerSocket();
+        serverSocket.bind(bindAddress);
+
+        daemonThreadFactory("tyrus-cluster-acceptor-" + localNodeId).newThread(new Runnable() {
+            @Override
+            public void run() {
+                while (!shutdown) {
+                    try {
+                        final Socket socket = serverSocket.accept();
+                        startConnection(socket, false);
+                    } catch (IOException e) {
+                        if (!shutdown) {
+                            LOGGER.log(Level.WARNING, "Cannot accept cluster connection.", e);
+                        }
+                    }
+                }
+            }
+        }).start();
+
+        for (InetSocketAddress peer : peers) {
+            try {
+                startConnection(new Socket(peer.getAddress(), peer.getPort()), true);
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Cluster peer " + peer + " is not available.", e);
+            }
+        }
+    }
+
+    @Override
+    public void send(String targetNodeId, ClusterMessage message) throws IOException {
+        final Connection connection = connections.get(targetNodeId);
+        if (connection == null) {
+            throw new IOException("Node " + targetNodeId + " is not connected.");
+        }
+
+        connection.write(message);
+    }
+
+    @Override
+    public Set<String> getRemoteNodes() {
+        return new HashSet<String>(connections.keySet());
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, e.getMessage(), e);
+        }
+
+        for (Connection connection : connections.values()) {
+            connection.close();
+        }
+        connections.clear();
+
+        if (deliveryExecutor != null) {
+            deliveryExecutor.shutdown();
+        }
+    }
+
+    private void startConnection(final Socket socket, final boolean outbound) throws IOException {
+        socket.setTcpNoDelay(true);
+
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        out.writeUTF(nodeId);
+        out.flush();
+
+        daemonThreadFactory("tyrus-cluster-reader-" + nodeId).newThread(new Runnable() {
+            @Override
+            public void run() {
+                final Connection connection;
+                try {
+                    final DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                    connection = new Connection(in.readUTF(), socket, out);
+                    if (!register(connection, outbound)) {
+                        connection.close();
+                        return;
+                    }
+                    connection.read(in);
+                } catch (IOException e) {
+                    LOGGER.log(Level.FINE, "Cluster handshake failed.", e);
+                    try {
+                        socket.close();
+                    } catch (IOException ioe) {
+                        LOGGER.log(Level.FINEST, ioe.getMessage(), ioe);
+                    }
+                }
+            }
+        }).start();
+    }
+
+    /**
+     * Register new connection.
+     * <p>
+     * When both nodes connect to each other at the same time, the connection initiated by the node with lower id wins.
+     *
+     * @return {@code true} when the connection should be used, {@code false} when it is redundant.
+     */
+    private boolean register(Connection connection, boolean outbound) {
+        final boolean preferred = outbound == (nodeId.compareTo(connection.remoteNodeId) < 0);
+        final Connection previous;
+
+        synchronized (connections) {
+            if (shutdown) {
+                return false;
+            }
+
+            previous = connections.get(connection.remoteNodeId);
+            if (previous != null && !preferred) {
+                return false;
+            }
+            connections.put(connection.remoteNodeId, connection);
+        }
+
+        if (previous == null) {
+            deliver(new Runnable() {
+                @Override
+                public void run() {
+                    receiver.onNodeJoined(connection.remoteNodeId);
+                }
+            });
+        } else {
+            previous.close();
+        }
+        return true;
+    }
+
+    private void unregister(final Connection connection) {
+        final boolean removed;
+        synchronized (connections) {
+            removed = connections.remove(connection.remoteNodeId, connection);
+        }
+
+        if (removed) {
+            deliver(new Runnable() {
+                @Override
+                public void run() {
+                    receiver.onNodeLeft(connection.remoteNodeId);
+                }
+            });
+        }
+    }
+
+    private void deliver(Runnable runnable) {
+        try {
+            deliveryExecutor.execute(runnable);
+        } catch (RejectedExecutionException e) {
+            LOGGER.log(Level.FINE, "Node " + nodeId + " has been shut down.", e);
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                final Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    private class Connection {
+
+        private final String remoteNodeId;
+        private final Socket socket;
+        private final ClusterMessageBatcher batcher;
+
+        private Connection(String remoteNodeId, Socket socket, final DataOutputStream out) {
+            this.remoteNodeId = remoteNodeId;
+            this.socket = socket;
+            this.batcher = new ClusterMessageBatcher(new ClusterMessageBatcher.PacketWriter() {
+                @Override
+                public void write(ByteBuffer packet) throws IOException {
+                    out.writeInt(packet.remaining());
+                    out.write(packet.array(), packet.arrayOffset() + packet.position(), packet.remaining());
+                    out.flush();
+                }
+            });
+        }
+
+        private void write(ClusterMessage message) throws IOException {
+            batcher.submit(message);
+        }
+
+        private void read(DataInputStream in) {
+            final ClusterMessageDecoder decoder = new ClusterMessageDecoder(serializedClasses);
+            byte[] packet = new byte[1024];
+
+            try {
+                while (!shutdown) {
+                    final int length = in.readInt();
+                    if (packet.length < length) {
+                        packet = new byte[Math.max(length, packet.length * 2)];
+                    }
+                    in.readFully(packet, 0, length);
+
+                    for (final ClusterMessage message : decoder.decode(ByteBuffer.wrap(packet, 0, length))) {
+                        deliver(new Runnable() {
+                            @Override
+                            public void run() {
+                                receiver.onMessage(remoteNodeId, message);
+                            }
+                        });
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Cluster connection to " + remoteNodeId + " closed.", e);
+            } finally {
+                close();
+                unregister(this);
+            }
+        }
+
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINEST, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.cluster;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.tyrus.core.cluster.BroadcastListener;
+import org.glassfish.tyrus.core.cluster.SessionEventListener;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cross-node send latency and broadcast fan-out cost of {@link ReferenceClusterContext}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=ClusterBenchmark}. Sessions are represented by no-op
+ * {@link SessionEventListener}s, so only the cluster layer is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClusterBenchmark {
+
+    private static final String ENDPOINT_PATH = "/benchmark";
+    private static final String SESSION_ID = "benchmark-session";
+
+    @Param({"inmemory", "socket"})
+    private String transport;
+
+    @Param({"2", "4", "8"})
+    private int nodes;
+
+    private ReferenceClusterContext[] contexts;
+    private volatile CountDownLatch broadcastLatch = new CountDownLatch(0);
+
+    @Setup
+    public void setup() throws Exception {
+        contexts = new ReferenceClusterContext[nodes];
+        final InMemoryCluster cluster = new InMemoryCluster();
+        final InetSocketAddress[] addresses = new InetSocketAddress[nodes];
+
+        for (int i = 0; i < nodes; i++) {
+            if ("socket".equals(transport)) {
+                final InetSocketAddress[] peers = new InetSocketAddress[i];
+                System.arraycopy(addresses, 0, peers, 0, i);
+                final SocketClusterTransport socketTransport =
+                        new SocketClusterTransport(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), peers);
+                contexts[i] = new ReferenceClusterContext("node" + i, socketTransport);
+                addresses[i] = socketTransport.getLocalAddress();
+            } else {
+                contexts[i] = new ReferenceClusterContext("node" + i, cluster.createTransport());
+            }
+
+            contexts[i].registerBroadcastListener(ENDPOINT_PATH, new BroadcastListener() {
+                @Override
+                public void onBroadcast(String text) {
+                    broadcastLatch.countDown();
+                }
+
+                @Override
+                public void onBroadcast(byte[] data) {
+                    broadcastLatch.countDown();
+                }
+            });
+        }
+
+        for (ReferenceClusterContext context : contexts) {
+            while (context.getRemoteNodes().size() < nodes - 1) {
+                Thread.sleep(10);
+            }
+        }
+
+        contexts[nodes - 1].registerSession(SESSION_ID, ENDPOINT_PATH, new SessionEventListener(null) {
+            @Override
+            public void onSendText(String message) throws IOException {
+                // no-op
+            }
+        });
+
+        while (!contexts[0].isSessionOpen(SESSION_ID, ENDPOINT_PATH)) {
+            Thread.sleep(10);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (ReferenceClusterContext context : contexts) {
+            context.shutdown();
+        }
+    }
+
+    /**
+     * Round trip of a text message sent to a session owned by another node.
+     */
+    @Benchmark
+    public void remoteSend() throws Exception {
+        contexts[0].sendText(SESSION_ID, "benchmark").get();
+    }
+
+    /**
+     * Time until a broadcast reaches all nodes, including the sending one.
+     */
+    @Benchmark
+    public void broadcastFanOut() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(nodes);
+        broadcastLatch = latch;
+        contexts[0].broadcastText(ENDPOINT_PATH, "benchmark");
+        latch.await();
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.cluster;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.websocket.ClientEndpoint;
+import javax.websocket.OnMessage;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.core.TyrusSession;
+import org.glassfish.tyrus.core.cluster.BroadcastListener;
+import org.glassfish.tyrus.core.cluster.ClusterContext;
+import org.glassfish.tyrus.core.cluster.RemoteSession;
+import org.glassfish.tyrus.core.cluster.SessionEventListener;
+import org.glassfish.tyrus.server.Server;
+import org.glassfish.tyrus.test.tools.TestContainer;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link ReferenceClusterContext} with both provided transports.
+ */
+public class ClusterTest extends TestContainer {
+
+    private static final String CONTEXT_PATH = "/cluster-test";
+
+    @Test
+    public void testTwoServersInMemory() throws Exception {
+        final InMemoryCluster cluster = new InMemoryCluster();
+        final ReferenceClusterContext node1 = new ReferenceClusterContext("node1", cluster.createTransport());
+        final ReferenceClusterContext node2 = new ReferenceClusterContext("node2", cluster.createTransport());
+
+        setContextPath(CONTEXT_PATH);
+        final Server server1 = startNode(node1, 8025);
+        final Server server2 = startNode(node2, 8026);
+
+        try {
+            final ClientManager client = createClient();
+            final ClusterClientEndpoint client1 = new ClusterClientEndpoint();
+            final ClusterClientEndpoint client2 = new ClusterClientEndpoint();
+
+            setDefaultPort(8025);
+            final Session session1 = client.connectToServer(client1, getURI(ClusteredEndpoint.class));
+            setDefaultPort(8026);
+            final Session session2 = client.connectToServer(client2, getURI(ClusteredEndpoint.class));
+
+            final String endpointPath = CONTEXT_PATH + "/cluster";
+            waitFor(node2, endpointPath, 1);
+            waitFor(node1, endpointPath, 1);
+
+            // cached remote session is refreshed when the owner changes its properties
+            session1.getBasicRemote().sendText("idle:12345");
+            String idleTimeout = null;
+            for (int i = 0; i < 50 && !"12345".equals(idleTimeout); i++) {
+                session2.getBasicRemote().sendText("remote-idle");
+                idleTimeout = client2.messages.poll(5, TimeUnit.SECONDS);
+                Thread.sleep(50);
+            }
+            assertEquals("12345", idleTimeout);
+
+            // broadcast is delivered to sessions on both nodes
+            session2.getBasicRemote().sendText("broadcast");
+            assertEquals("broadcasted", client1.messages.poll(5, TimeUnit.SECONDS));
+            assertEquals("broadcasted", client2.messages.poll(5, TimeUnit.SECONDS));
+
+            // node2 sends message to session owned by node1
+            session2.getBasicRemote().sendText("remote");
+            assertEquals("remote", client1.messages.poll(5, TimeUnit.SECONDS));
+
+            session2.close();
+            waitFor(node1, endpointPath, 0);
+        } finally {
+            stopServer(server1);
+            stopServer(server2);
+            node1.shutdown();
+            node2.shutdown();
+        }
+    }
+
+    @Test
+    public void testBroadcastSkipsNodesWithoutSessions() throws Exception {
+        final InMemoryCluster cluster = new InMemoryCluster();
+        final ReferenceClusterContext node1 = new ReferenceClusterContext("node1", cluster.createTransport());
+        final ReferenceClusterContext node2 = new ReferenceClusterContext("node2", cluster.createTransport());
+        final ReferenceClusterContext node3 = new ReferenceClusterContext("node3", cluster.createTransport());
+
+        final String endpointPath = CONTEXT_PATH + "/cluster";
+        final AtomicInteger node3Broadcasts = new AtomicInteger();
+        node3.registerBroadcastListener(endpointPath, new BroadcastListener() {
+            @Override
+            public void onBroadcast(String text) {
+                node3Broadcasts.incrementAndGet();
+            }
+
+            @Override
+            public void onBroadcast(byte[] data) {
+                node3Broadcasts.incrementAndGet();
+            }
+        });
+
+        setContextPath(CONTEXT_PATH);
+        final Server server1 = startNode(node1, 8025);
+        final Server server2 = startNode(node2, 8026);
+
+        try {
+            final ClientManager client = createClient();
+            final ClusterClientEndpoint client1 = new ClusterClientEndpoint();
+            final ClusterClientEndpoint client2 = new ClusterClientEndpoint();
+
+            setDefaultPort(8025);
+            client.connectToServer(client1, getURI(ClusteredEndpoint.class));
+            setDefaultPort(8026);
+            final Session session2 = client.connectToServer(client2, getURI(ClusteredEndpoint.class));
+            waitFor(node2, endpointPath, 1);
+
+            // one local and one remote session, both futures completed
+            session2.getBasicRemote().sendText("broadcast-futures");
+            assertEquals("broadcasted", client1.messages.poll(5, TimeUnit.SECONDS));
+            assertEquals("broadcasted", client2.messages.poll(5, TimeUnit.SECONDS));
+            assertEquals("futures:2", client2.messages.poll(5, TimeUnit.SECONDS));
+
+            assertEquals(0, node3Broadcasts.get());
+        } finally {
+            stopServer(server1);
+            stopServer(server2);
+            node1.shutdown();
+            node2.shutdown();
+            node3.shutdown();
+        }
+    }
+
+    @Test
+    public void testRemoteSessionProperties() throws Exception {
+        final InMemoryCluster cluster = new InMemoryCluster();
+        final ReferenceClusterContext announcing = new ReferenceClusterContext("node1", cluster.createTransport());
+        final ReferenceClusterContext silent = new ReferenceClusterContext("node2", cluster.createTransport()) {
+            @Override
+            public boolean isSessionUpdateSupported() {
+                return false;
+            }
+        };
+
+        try {
+            final Map<RemoteSession.DistributedMapKey, Object> properties =
+                    new EnumMap<RemoteSession.DistributedMapKey, Object>(RemoteSession.DistributedMapKey.class);
+            properties.put(RemoteSession.DistributedMapKey.CONNECTION_ID, "connection");
+            properties.put(RemoteSession.DistributedMapKey.MAX_IDLE_TIMEOUT, 1000L);
+
+            final RemoteSession cached = new RemoteSession("session", announcing, properties, null, null);
+            final RemoteSession uncached = new RemoteSession("session", silent, properties, null, null);
+
+            properties.put(RemoteSession.DistributedMapKey.MAX_IDLE_TIMEOUT, 2000L);
+
+            // snapshot is refreshed only when the update is announced
+            assertEquals(1000L, cached.getMaxIdleTimeout());
+            cached.invalidate();
+            assertEquals(2000L, cached.getMaxIdleTimeout());
+
+            // context which does not announce updates is never served from a stale snapshot
+            assertEquals(2000L, uncached.getMaxIdleTimeout());
+        } finally {
+            announcing.shutdown();
+            silent.shutdown();
+        }
+    }
+
+    @Test
+    public void testSocketTransport() throws Exception {
+        final InetAddress loopback = InetAddress.getLoopbackAddress();
+        final SocketClusterTransport transport1 = new SocketClusterTransport(new InetSocketAddress(loopback, 0));
+        final ReferenceClusterContext node1 = new ReferenceClusterContext("node1", transport1);
+        final SocketClusterTransport transport2 =
+                new SocketClusterTransport(new InetSocketAddress(loopback, 0), transport1.getLocalAddress());
+        final ReferenceClusterContext node2 = new ReferenceClusterContext("node2", transport2);
+
+        try {
+            final LinkedBlockingQueue<String> received = new LinkedBlockingQueue<String>();
+            final Map<RemoteSession.DistributedMapKey, Object> properties =
+                    node2.getDistributedSessionProperties("session");
+            properties.put(RemoteSession.DistributedMapKey.QUERY_STRING, "a=b");
+            properties.put(RemoteSession.DistributedMapKey.CONNECTION_ID, "connection");
+
+            node2.registerSession("session", "/endpoint", new SessionEventListener(null) {
+                @Override
+                public void onSendText(String message) throws IOException {
+                    received.add(message);
+                }
+            });
+
+            waitFor(node1, "/endpoint", 1);
+            assertTrue(node1.isSessionOpen("session", "/endpoint"));
+            assertEquals("a=b",
+                         node1.getDistributedSessionProperties("session")
+                              .get(RemoteSession.DistributedMapKey.QUERY_STRING));
+
+            node1.sendText("session", "hello").get(5, TimeUnit.SECONDS);
+            assertEquals("hello", received.poll(5, TimeUnit.SECONDS));
+
+            node1.getDistributedUserProperties("connection").put("key", "value");
+            for (int i = 0; i < 50 && node2.getDistributedUserProperties("connection").get("key") == null; i++) {
+                Thread.sleep(100);
+            }
+            assertEquals("value", node2.getDistributedUserProperties("connection").get("key"));
+
+            node2.shutdown();
+            waitFor(node1, "/endpoint", 0);
+            assertFalse(node1.isSessionOpen("session", "/endpoint"));
+
+            try {
+                node1.sendText("session", "hello").get(5, TimeUnit.SECONDS);
+                fail("ExecutionException expected.");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+        } finally {
+            node1.shutdown();
+            node2.shutdown();
+        }
+    }
+
+    private Server startNode(ClusterContext clusterContext, int port) throws Exception {
+        getServerProperties().put(ClusterContext.CLUSTER_CONTEXT, clusterContext);
+        setDefaultPort(port);
+        return startServer(ClusteredEndpoint.class);
+    }
+
+    private static void waitFor(ClusterContext clusterContext, String endpointPath, int remoteSessions)
+            throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            if (clusterContext.getRemoteSessionIds(endpointPath).size() == remoteSessions) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        assertEquals(remoteSessions, clusterContext.getRemoteSessionIds(endpointPath).size());
+    }
+
+    @ServerEndpoint("/cluster")
+    public static class ClusteredEndpoint {
+
+        @OnMessage
+        public void onMessage(Session session, String message) throws Exception {
+            if (message.equals("broadcast")) {
+                ((TyrusSession) session).broadcast("broadcasted");
+            } else if (message.equals("broadcast-futures")) {
+                final Map<Session, Future<?>> futures = ((TyrusSession) session).broadcast("broadcasted");
+                for (Future<?> future : futures.values()) {
+                    future.get(5, TimeUnit.SECONDS);
+                }
+                session.getBasicRemote().sendText("futures:" + futures.size());
+            } else if (message.startsWith("idle:")) {
+                session.setMaxIdleTimeout(Long.parseLong(message.substring("idle:".length())));
+            } else if (message.equals("remote-idle")) {
+                for (RemoteSession remoteSession : ((TyrusSession) session).getRemoteSessions()) {
+                    session.getBasicRemote().sendText(Long.toString(remoteSession.getMaxIdleTimeout()));
+                }
+            } else if (message.equals("remote")) {
+                for (RemoteSession remoteSession : ((TyrusSession) session).getRemoteSessions()) {
+                    remoteSession.getBasicRemote().sendText("remote");
+                }
+            }
+        }
+    }
+
+    @ClientEndpoint
+    public static class ClusterClientEndpoint {
+
+        private final LinkedBlockingQueue<String> messages = new LinkedBlockingQueue<String>();
+
+        @OnMessage
+        public void onMessage(String message) {
+            messages.add(message);
+        }
+    }
+}
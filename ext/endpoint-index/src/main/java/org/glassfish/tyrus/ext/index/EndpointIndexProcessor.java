@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.ext.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating the Tyrus endpoint index ({@value #RESOURCE_NAME}).
+ * <p>
+ * Every compiled class annotated with {@code javax.websocket.server.ServerEndpoint}, extending
+ * {@code javax.websocket.Endpoint} or implementing {@code javax.websocket.server.ServerApplicationConfig} is recorded,
+ * together with the public methods annotated with {@code OnOpen}, {@code OnMessage}, {@code OnError} or
+ * {@code OnClose} of annotated endpoints, including inherited ones. Abstract classes and interfaces are not recorded.
+ * When only some classes are recompiled, records of the other classes are taken over from the existing index.
+ * <p>
+ * The index is read by {@code org.glassfish.tyrus.core.EndpointIndex}, see its documentation for the format.
+ *
+ * @since 2.0
+ */
+@SupportedAnnotationTypes("*")
+public class EndpointIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Name of the generated resource, has to be the same as
+     * {@code org.glassfish.tyrus.core.EndpointIndex#RESOURCE_NAME}.
+     */
+    static final String RESOURCE_NAME = "META-INF/tyrus/endpoint-index";
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final String SERVER_ENDPOINT = "javax.websocket.server.ServerEndpoint";
+    private static final String ENDPOINT = "javax.websocket.Endpoint";
+    private static final String SERVER_APPLICATION_CONFIG = "javax.websocket.server.ServerApplicationConfig";
+    private static final Set<String> LIFECYCLE_ANNOTATIONS = new HashSet<String>();
+
+    static {
+        Collections.addAll(LIFECYCLE_ANNOTATIONS, "javax.websocket.OnOpen", "javax.websocket.OnMessage",
+                           "javax.websocket.OnError", "javax.websocket.OnClose");
+    }
+
+    // class name -> records of the class, in the order in which they are written
+    private final Map<String, List<String>> records = new LinkedHashMap<String, List<String>>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!records.isEmpty()) {
+                writeIndex();
+            }
+        } else {
+            for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                index(typeElement);
+            }
+        }
+
+        // other processors may process the same annotations
+        return false;
+    }
+
+    private void index(TypeElement typeElement) {
+        for (TypeElement member : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+            if (member.getModifiers().contains(Modifier.STATIC)) {
+                index(member);
+            }
+        }
+
+        if (typeElement.getKind() != ElementKind.CLASS || typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return;
+        }
+
+        final String className = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+        final List<String> classRecords = new ArrayList<String>();
+
+        if (isAnnotated(typeElement, SERVER_ENDPOINT)) {
+            classRecords.add("annotated " + className);
+            for (ExecutableElement method : getLifecycleMethods(typeElement)) {
+                final StringBuilder record = new StringBuilder("method ").append(className).append(' ')
+                                                                           .append(method.getSimpleName());
+                for (VariableElement parameter : method.getParameters()) {
+                    record.append(' ').append(getTypeName(parameter.asType()));
+                }
+                classRecords.add(record.toString());
+            }
+        }
+
+        if (isSubtype(typeElement, ENDPOINT)) {
+            classRecords.add("programmatic " + className);
+        }
+
+        if (isSubtype(typeElement, SERVER_APPLICATION_CONFIG)) {
+            classRecords.add("config " + className);
+        }
+
+        // recompiled classes which are not endpoints anymore replace their previous records too
+        records.put(className, classRecords);
+    }
+
+    /**
+     * Get public methods annotated with a lifecycle annotation, the same which {@link Class#getMethods()} would find.
+     */
+    private List<ExecutableElement> getLifecycleMethods(TypeElement typeElement) {
+        final List<ExecutableElement> methods = new ArrayList<ExecutableElement>();
+        final Set<String> signatures = new HashSet<String>();
+
+        final List<TypeElement> types = new ArrayList<TypeElement>();
+        for (TypeElement type = typeElement; type != null; type = getSuperclass(type)) {
+            types.add(type);
+        }
+        for (int i = 0; i < types.size(); i++) {
+            for (TypeMirror superinterface : types.get(i).getInterfaces()) {
+                types.add((TypeElement) ((DeclaredType) superinterface).asElement());
+            }
+        }
+
+        for (TypeElement type : types) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+                    continue;
+                }
+
+                // overriding methods hide the overridden ones, method annotations are not inherited
+                final StringBuilder signature = new StringBuilder(method.getSimpleName());
+                for (VariableElement parameter : method.getParameters()) {
+                    signature.append(' ').append(getTypeName(parameter.asType()));
+                }
+                if (!signatures.add(signature.toString())) {
+                    continue;
+                }
+
+                for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+                    if (LIFECYCLE_ANNOTATIONS.contains(getName(annotation))) {
+                        methods.add(method);
+                        break;
+                    }
+                }
+            }
+        }
+
+        return methods;
+    }
+
+    private TypeElement getSuperclass(TypeElement typeElement) {
+        final TypeMirror superclass = typeElement.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    /**
+     * Get name of a type as returned by {@link Class#getName()} of its erasure.
+     */
+    private String getTypeName(TypeMirror type) {
+        final TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind().isPrimitive()) {
+            return erasure.toString();
+        } else if (erasure.getKind() == TypeKind.ARRAY) {
+            return "[" + getDescriptor(((ArrayType) erasure).getComponentType());
+        }
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) erasure).asElement())
+                            .toString();
+    }
+
+    private String getDescriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            case ARRAY:
+                return "[" + getDescriptor(((ArrayType) type).getComponentType());
+            default:
+                return "L" + getTypeName(type) + ";";
+        }
+    }
+
+    private boolean isAnnotated(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotationName.equals(getName(annotation))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private boolean isSubtype(TypeElement typeElement, String supertypeName) {
+        final TypeElement supertype = processingEnv.getElementUtils().getTypeElement(supertypeName);
+        // WebSocket API is not on the classpath
+        if (supertype == null) {
+            return false;
+        }
+
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(typeElement.asType()),
+                                                         processingEnv.getTypeUtils().erasure(supertype.asType()));
+    }
+
+    private void writeIndex() {
+        final Map<String, List<String>> index = readExistingIndex();
+        index.putAll(records);
+
+        try {
+            final FileObject resource =
+                    processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE_NAME);
+
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), UTF8)) {
+                writer.write("# Tyrus endpoint index, generated by " + getClass().getName() + "\n");
+                for (List<String> classRecords : index.values()) {
+                    for (String record : classRecords) {
+                        writer.write(record);
+                        writer.write('\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR, "Tyrus endpoint index cannot be written: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read records of classes which have not been compiled this time, but still exist.
+     */
+    private Map<String, List<String>> readExistingIndex() {
+        final Map<String, List<String>> index = new LinkedHashMap<String, List<String>>();
+
+        try {
+            final FileObject resource =
+                    processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE_NAME);
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openInputStream(), UTF8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String[] tokens = line.trim().split("\\s+");
+                    if (tokens.length < 2 || tokens[0].startsWith("#")) {
+                        continue;
+                    }
+
+                    final String className = tokens[1];
+                    List<String> classRecords = index.get(className);
+                    if (classRecords == null) {
+                        if (processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) == null) {
+                            continue;
+                        }
+                        classRecords = new ArrayList<String>();
+                        index.put(className, classRecords);
+                    }
+                    classRecords.add(line.trim());
+                }
+            }
+        } catch (IOException e) {
+            // there is no index yet
+        }
+
+        return index;
+    }
+}
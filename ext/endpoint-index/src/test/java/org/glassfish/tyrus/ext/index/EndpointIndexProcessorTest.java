@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.ext.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import javax.websocket.OnClose;
+import javax.websocket.OnError;
+import javax.websocket.OnMessage;
+import javax.websocket.OnOpen;
+
+import org.glassfish.tyrus.core.EndpointIndex;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link EndpointIndexProcessor} and reading of the generated index by {@link EndpointIndex}.
+ */
+public class EndpointIndexProcessorTest {
+
+    private static final String BASE = "package test;\n"
+            + "import javax.websocket.*;\n"
+            + "public abstract class Base {\n"
+            + "    @OnOpen public void open(Session session) {}\n"
+            + "    @OnClose public void close(CloseReason closeReason) {}\n"
+            + "}\n";
+
+    private static final String ECHO = "package test;\n"
+            + "import javax.websocket.*;\n"
+            + "import javax.websocket.server.*;\n"
+            + "@ServerEndpoint(\"/echo\")\n"
+            + "public class EchoEndpoint extends Base {\n"
+            + "    @OnMessage public String echo(String message, Session session) { return message; }\n"
+            + "    @OnMessage public void partial(byte[] data, boolean last) {}\n"
+            + "    @OnError public void error(Throwable t) {}\n"
+            + "    @Override public void open(Session session) {}\n"
+            + "    public void notLifecycle(String message) {}\n"
+            + "    @ServerEndpoint(\"/nested\")\n"
+            + "    public static class Nested {\n"
+            + "        @OnMessage public void message(String[][] message) {}\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String PROGRAMMATIC = "package test;\n"
+            + "import javax.websocket.*;\n"
+            + "public class ProgrammaticEndpoint extends Endpoint {\n"
+            + "    public void onOpen(Session session, EndpointConfig config) {}\n"
+            + "}\n";
+
+    private static final String CONFIG = "package test;\n"
+            + "import java.util.*;\n"
+            + "import javax.websocket.*;\n"
+            + "import javax.websocket.server.*;\n"
+            + "public class Config implements ServerApplicationConfig {\n"
+            + "    public Set<ServerEndpointConfig> getEndpointConfigs(Set<Class<? extends Endpoint>> c) {\n"
+            + "        return null;\n"
+            + "    }\n"
+            + "    public Set<Class<?>> getAnnotatedEndpointClasses(Set<Class<?>> c) { return null; }\n"
+            + "}\n";
+
+    private File output;
+
+    @Before
+    public void before() throws IOException {
+        output = Files.createTempDirectory("endpoint-index").toFile();
+    }
+
+    @After
+    public void after() {
+        delete(output);
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        compile(source("test.Base", BASE), source("test.EchoEndpoint", ECHO),
+                source("test.ProgrammaticEndpoint", PROGRAMMATIC), source("test.Config", CONFIG));
+
+        final List<String> records = readIndex();
+        assertTrue(records.contains("annotated test.EchoEndpoint"));
+        assertTrue(records.contains("method test.EchoEndpoint partial [B boolean"));
+        assertTrue(records.contains("annotated test.EchoEndpoint$Nested"));
+        assertTrue(records.contains("method test.EchoEndpoint$Nested message [[Ljava.lang.String;"));
+        assertTrue(records.contains("programmatic test.ProgrammaticEndpoint"));
+        assertTrue(records.contains("config test.Config"));
+        for (String record : records) {
+            assertFalse(record, record.contains("test.Base"));
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toURI().toURL()},
+                                                             getClass().getClassLoader())) {
+            final EndpointIndex endpointIndex = EndpointIndex.getInstance(classLoader);
+
+            final Set<String> classes = new HashSet<String>();
+            for (Class<?> c : endpointIndex.getClasses()) {
+                classes.add(c.getName());
+            }
+            assertEquals(new HashSet<String>(Arrays.asList("test.EchoEndpoint", "test.EchoEndpoint$Nested",
+                                                           "test.ProgrammaticEndpoint", "test.Config")), classes);
+
+            final Class<?> echoEndpoint = classLoader.loadClass("test.EchoEndpoint");
+            assertEquals(getLifecycleMethods(echoEndpoint),
+                         new HashSet<Method>(Arrays.asList(endpointIndex.getMethods(echoEndpoint))));
+            assertEquals(4, endpointIndex.getMethods(echoEndpoint).length);
+
+            final Class<?> nested = classLoader.loadClass("test.EchoEndpoint$Nested");
+            assertEquals(getLifecycleMethods(nested),
+                         new HashSet<Method>(Arrays.asList(endpointIndex.getMethods(nested))));
+
+            // not an annotated endpoint
+            assertNull(endpointIndex.getMethods(classLoader.loadClass("test.ProgrammaticEndpoint")));
+        }
+    }
+
+    @Test
+    public void testIncrementalCompilation() throws Exception {
+        compile(source("test.Base", BASE), source("test.EchoEndpoint", ECHO),
+                source("test.ProgrammaticEndpoint", PROGRAMMATIC));
+        final List<String> records = readIndex();
+
+        compile(source("test.Config", CONFIG));
+
+        final List<String> expected = new ArrayList<String>(records);
+        expected.add("config test.Config");
+        assertEquals(expected, readIndex());
+    }
+
+    private void compile(JavaFileObject... sources) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final String classPath = System.getProperty("java.class.path") + File.pathSeparator + output.getPath();
+
+        final JavaCompiler.CompilationTask task = compiler.getTask(
+                null, null, null, Arrays.asList("-d", output.getPath(), "-classpath", classPath), null,
+                Arrays.asList(sources));
+        task.setProcessors(Collections.singletonList(new EndpointIndexProcessor()));
+
+        assertTrue(task.call());
+    }
+
+    private List<String> readIndex() throws IOException {
+        final List<String> lines = Files.readAllLines(new File(output, EndpointIndexProcessor.RESOURCE_NAME).toPath(),
+                                                      Charset.forName("UTF-8"));
+        final List<String> records = new ArrayList<String>();
+        for (String line : lines) {
+            if (!line.startsWith("#")) {
+                records.add(line);
+            }
+        }
+        return records;
+    }
+
+    private static Set<Method> getLifecycleMethods(Class<?> endpointClass) {
+        final Set<Method> methods = new HashSet<Method>();
+        for (Method method : endpointClass.getMethods()) {
+            for (Class<? extends Annotation> annotation : Arrays.asList(OnOpen.class, OnMessage.class,
+                                                                        OnError.class, OnClose.class)) {
+                if (method.isAnnotationPresent(annotation)) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static JavaFileObject source(String className, final String source) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                                        JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+
+    private static void delete(File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Successful opening handshake which took at least the configured threshold.
+ */
+@Name("org.glassfish.tyrus.Handshake")
+@Label("WebSocket Handshake")
+@Category({"Tyrus", "WebSocket"})
+@Description("Opening handshake processed by the server.")
+@StackTrace(false)
+class HandshakeEvent extends jdk.jfr.Event {
+
+    @Label("Application")
+    String application;
+
+    @Label("Endpoint Path")
+    String endpointPath;
+
+    @Label("Extensions")
+    @Description("Names of the extensions negotiated in the handshake.")
+    String extensions;
+
+    @Label("Handshake Duration")
+    @Description("Time from passing the handshake request to Tyrus to preparing the response.")
+    @Timespan(Timespan.NANOSECONDS)
+    long handshakeDuration;
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.monitoring.jfr;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.tyrus.core.Beta;
+import org.glassfish.tyrus.core.monitoring.ApplicationEventListener;
+import org.glassfish.tyrus.core.monitoring.EndpointEventListener;
+
+/**
+ * Application events listener which emits Java Flight Recorder events.
+ * <p>
+ * The following events are emitted, all of them in the "Tyrus" category:
+ * <ul>
+ * <li>{@code org.glassfish.tyrus.Handshake} - opening handshake which took at least the threshold, with the negotiated
+ * extensions,</li>
+ * <li>{@code org.glassfish.tyrus.HandshakeFailed} - every opening handshake matched to an endpoint and rejected,</li>
+ * <li>{@code org.glassfish.tyrus.Message} - received frame whose processing by the endpoint took at least the
+ * threshold,</li>
+ * <li>{@code org.glassfish.tyrus.Send} - sent frame whose write, including time spent in the write queue, took at
+ * least the threshold, with the queue and write time reported separately,</li>
+ * <li>{@code org.glassfish.tyrus.SessionClosed} - every closed session with its close code and lifetime.</li>
+ * </ul>
+ * Durations are measured by Tyrus and stored in event fields, the events themselves are instant events committed when
+ * the measured operation has finished. Only operations slower than the threshold create an event object, so the
+ * listener does not allocate anything per message on a healthy server. Events can be further enabled or disabled in
+ * the JFR configuration.
+ * <p>
+ * Other application event listener, typically one of the JMX monitors, can be passed as a delegate, which gets all the
+ * events as if it was registered directly.
+ * <p>
+ * For monitoring in Grizzly server an instance should be passed to the server in server properties.
+ * <pre>
+ *     serverProperties.put(ApplicationEventListener.APPLICATION_EVENT_LISTENER, new JfrApplicationMonitor());
+ * </pre>
+ * For use in servlet container the class name should be passed as a context parameter in web.xml; the default
+ * threshold is used then.
+ * <pre>{@code
+ *     <context-param>
+ *         <param-name>org.glassfish.tyrus.core.monitoring.ApplicationEventListener</param-name>
+ *         <param-value>org.glassfish.tyrus.ext.monitoring.jfr.JfrApplicationMonitor</param-value>
+ *     </context-param>}</pre>
+ * <p>
+ * Requires Java 11 or newer.
+ *
+ * @see org.glassfish.tyrus.core.monitoring.ApplicationEventListener
+ * @since 2.0
+ */
+@Beta
+public final class JfrApplicationMonitor implements ApplicationEventListener {
+
+    /**
+     * Default threshold of handshake, message and send events in milliseconds.
+     */
+    public static final long DEFAULT_THRESHOLD_MILLIS = 20;
+
+    private final ApplicationEventListener delegate;
+    private final long thresholdNanos;
+
+    private volatile String applicationName;
+
+    /**
+     * Create monitor with {@link #DEFAULT_THRESHOLD_MILLIS default threshold} and no delegate.
+     */
+    public JfrApplicationMonitor() {
+        this(null);
+    }
+
+    /**
+     * Create monitor with {@link #DEFAULT_THRESHOLD_MILLIS default threshold}.
+     *
+     * @param delegate listener which gets all the events as well, can be {@code null}.
+     */
+    public JfrApplicationMonitor(ApplicationEventListener delegate) {
+        this(delegate, DEFAULT_THRESHOLD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param delegate  listener which gets all the events as well, can be {@code null}.
+     * @param threshold minimal duration of handshake, message processing or send to be recorded, 0 records all of
+     *                  them.
+     * @param unit      unit of the threshold.
+     */
+    public JfrApplicationMonitor(ApplicationEventListener delegate, long threshold, TimeUnit unit) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+        }
+
+        this.delegate = delegate == null ? ApplicationEventListener.NO_OP : delegate;
+        this.thresholdNanos = unit.toNanos(threshold);
+    }
+
+    @Override
+    public void onApplicationInitialized(String applicationName) {
+        this.applicationName = applicationName;
+        delegate.onApplicationInitialized(applicationName);
+    }
+
+    @Override
+    public void onApplicationDestroyed() {
+        delegate.onApplicationDestroyed();
+    }
+
+    @Override
+    public EndpointEventListener onEndpointRegistered(String endpointPath, Class<?> endpointClass) {
+        return new JfrEndpointListener(this, endpointPath, delegate.onEndpointRegistered(endpointPath, endpointClass));
+    }
+
+    @Override
+    public void onEndpointUnregistered(String endpointPath) {
+        delegate.onEndpointUnregistered(endpointPath);
+    }
+
+    /**
+     * Get name of the application.
+     *
+     * @return application name or {@code null} if the application has not been initialized yet. Endpoints are
+     * registered before the application is initialized.
+     */
+    String getApplicationName() {
+        return applicationName;
+    }
+
+    /**
+     * Get minimal recorded duration of handshake, message processing or send.
+     *
+     * @return threshold in nanoseconds.
+     */
+    long getThresholdNanos() {
+        return thresholdNanos;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.monitoring.jfr;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.websocket.CloseReason;
+import javax.websocket.Extension;
+
+import org.glassfish.tyrus.core.monitoring.EndpointEventListener;
+import org.glassfish.tyrus.core.monitoring.MessageEventListener;
+
+/**
+ * Emits handshake, failed handshake and session closed events of one endpoint.
+ */
+class JfrEndpointListener implements EndpointEventListener {
+
+    private final JfrApplicationMonitor applicationMonitor;
+    private final String endpointPath;
+    private final EndpointEventListener delegate;
+    private final Map<String, Long> sessionOpenTimes = new ConcurrentHashMap<String, Long>();
+
+    JfrEndpointListener(JfrApplicationMonitor applicationMonitor, String endpointPath, EndpointEventListener delegate) {
+        this.applicationMonitor = applicationMonitor;
+        this.endpointPath = endpointPath;
+        this.delegate = delegate == null ? EndpointEventListener.NO_OP : delegate;
+    }
+
+    @Override
+    public MessageEventListener onSessionOpened(String sessionId) {
+        sessionOpenTimes.put(sessionId, System.nanoTime());
+        return new JfrMessageListener(this, sessionId, delegate.onSessionOpened(sessionId));
+    }
+
+    @Override
+    public void onSessionClosed(String sessionId) {
+        onSessionClosed(sessionId, null);
+    }
+
+    @Override
+    public void onSessionClosed(String sessionId, CloseReason closeReason) {
+        final Long openTime = sessionOpenTimes.remove(sessionId);
+        if (openTime != null) {
+            final SessionClosedEvent event = new SessionClosedEvent();
+            if (event.shouldCommit()) {
+                event.application = getApplicationName();
+                event.endpointPath = endpointPath;
+                event.sessionId = sessionId;
+                if (closeReason != null) {
+                    event.closeCode = closeReason.getCloseCode().getCode();
+                    event.closeReason = closeReason.getReasonPhrase();
+                }
+                event.lifetime = System.nanoTime() - openTime;
+                event.commit();
+            }
+        }
+        delegate.onSessionClosed(sessionId, closeReason);
+    }
+
+    @Override
+    public void onError(String sessionId, Throwable t) {
+        delegate.onError(sessionId, t);
+    }
+
+    @Override
+    public void onHandshakeProcessed(long startNanos, long endNanos) {
+        onHandshakeProcessed(startNanos, endNanos, Collections.<Extension>emptyList());
+    }
+
+    @Override
+    public void onHandshakeProcessed(long startNanos, long endNanos, List<Extension> extensions) {
+        final long duration = endNanos - startNanos;
+        if (duration >= getThresholdNanos()) {
+            final HandshakeEvent event = new HandshakeEvent();
+            if (event.shouldCommit()) {
+                event.application = getApplicationName();
+                event.endpointPath = endpointPath;
+                event.extensions = extensionNames(extensions);
+                event.handshakeDuration = duration;
+                event.commit();
+            }
+        }
+        delegate.onHandshakeProcessed(startNanos, endNanos, extensions);
+    }
+
+    @Override
+    public void onHandshakeFailed(long startNanos, long endNanos, int httpStatus) {
+        final HandshakeFailedEvent event = new HandshakeFailedEvent();
+        if (event.shouldCommit()) {
+            event.application = getApplicationName();
+            event.endpointPath = endpointPath;
+            event.httpStatus = httpStatus;
+            event.handshakeDuration = endNanos - startNanos;
+            event.commit();
+        }
+        delegate.onHandshakeFailed(startNanos, endNanos, httpStatus);
+    }
+
+    private static String extensionNames(List<Extension> extensions) {
+        final StringBuilder sb = new StringBuilder();
+        for (Extension extension : extensions) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(extension.getName());
+        }
+        return sb.toString();
+    }
+
+    String getApplicationName() {
+        return applicationMonitor.getApplicationName();
+    }
+
+    String getEndpointPath() {
+        return endpointPath;
+    }
+
+    long getThresholdNanos() {
+        return applicationMonitor.getThresholdNanos();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.monitoring.jfr;
+
+import org.glassfish.tyrus.core.frame.TyrusFrame;
+import org.glassfish.tyrus.core.monitoring.MessageEventListener;
+
+/**
+ * Emits message and send events of one session.
+ */
+class JfrMessageListener implements MessageEventListener {
+
+    private final JfrEndpointListener endpointListener;
+    private final String sessionId;
+    private final MessageEventListener delegate;
+
+    // onFrameProcessed and the following onFrameReceived are called by the same thread, frames of one session are
+    // not processed concurrently
+    private long pendingHandlerDuration = -1;
+
+    JfrMessageListener(JfrEndpointListener endpointListener, String sessionId, MessageEventListener delegate) {
+        this.endpointListener = endpointListener;
+        this.sessionId = sessionId;
+        this.delegate = delegate == null ? MessageEventListener.NO_OP : delegate;
+    }
+
+    @Override
+    public void onFrameSent(TyrusFrame.FrameType frameType, long payloadLength) {
+        delegate.onFrameSent(frameType, payloadLength);
+    }
+
+    @Override
+    public void onFrameReceived(TyrusFrame.FrameType frameType, long payloadLength) {
+        final long handlerDuration = pendingHandlerDuration;
+        if (handlerDuration >= 0) {
+            pendingHandlerDuration = -1;
+            final MessageEvent event = new MessageEvent();
+            if (event.shouldCommit()) {
+                event.application = endpointListener.getApplicationName();
+                event.endpointPath = endpointListener.getEndpointPath();
+                event.sessionId = sessionId;
+                event.frameType = frameType.name();
+                event.payloadLength = payloadLength;
+                event.handlerDuration = handlerDuration;
+                event.commit();
+            }
+        }
+        delegate.onFrameReceived(frameType, payloadLength);
+    }
+
+    @Override
+    public void onFrameProcessed(TyrusFrame.FrameType frameType, long startNanos, long endNanos) {
+        final long duration = endNanos - startNanos;
+        if (duration >= endpointListener.getThresholdNanos()) {
+            // the payload length is reported by onFrameReceived right after this
+            pendingHandlerDuration = duration;
+        }
+        delegate.onFrameProcessed(frameType, startNanos, endNanos);
+    }
+
+    @Override
+    public void onFrameDecoded(TyrusFrame.FrameType frameType, long startNanos, long endNanos) {
+        delegate.onFrameDecoded(frameType, startNanos, endNanos);
+    }
+
+    @Override
+    public void onFrameWriteStarted(TyrusFrame.FrameType frameType, long submittedNanos, long startedNanos) {
+        delegate.onFrameWriteStarted(frameType, submittedNanos, startedNanos);
+    }
+
+    @Override
+    public void onFrameWritten(TyrusFrame.FrameType frameType, long submittedNanos, long completedNanos) {
+        onFrameWritten(frameType, submittedNanos, submittedNanos, completedNanos);
+    }
+
+    @Override
+    public void onFrameWritten(TyrusFrame.FrameType frameType, long submittedNanos, long startedNanos,
+                               long completedNanos) {
+        if (completedNanos - submittedNanos >= endpointListener.getThresholdNanos()) {
+            final SendEvent event = new SendEvent();
+            if (event.shouldCommit()) {
+                event.application = endpointListener.getApplicationName();
+                event.endpointPath = endpointListener.getEndpointPath();
+                event.sessionId = sessionId;
+                event.frameType = frameType.name();
+                event.queueDuration = startedNanos - submittedNanos;
+                event.writeDuration = completedNanos - startedNanos;
+                event.commit();
+            }
+        }
+        delegate.onFrameWritten(frameType, submittedNanos, startedNanos, completedNanos);
+    }
+}
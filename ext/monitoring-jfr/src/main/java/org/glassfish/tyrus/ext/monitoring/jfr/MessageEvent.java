@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Received frame whose processing by the endpoint took at least the configured threshold.
+ */
+@Name("org.glassfish.tyrus.Message")
+@Label("WebSocket Message Received")
+@Category({"Tyrus", "WebSocket"})
+@Description("Frame received and dispatched to the endpoint.")
+@StackTrace(false)
+class MessageEvent extends jdk.jfr.Event {
+
+    @Label("Application")
+    String application;
+
+    @Label("Endpoint Path")
+    String endpointPath;
+
+    @Label("Session Id")
+    String sessionId;
+
+    @Label("Frame Type")
+    String frameType;
+
+    @Label("Payload Length")
+    @DataAmount
+    long payloadLength;
+
+    @Label("Handler Duration")
+    @Description("Time spent in the endpoint, including decoding of the message.")
+    @Timespan(Timespan.NANOSECONDS)
+    long handlerDuration;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Sent frame whose write, including time spent in the write queue, took at least the configured threshold.
+ */
+@Name("org.glassfish.tyrus.Send")
+@Label("WebSocket Send Completed")
+@Category({"Tyrus", "WebSocket"})
+@Description("Frame written by the transport.")
+@StackTrace(false)
+class SendEvent extends jdk.jfr.Event {
+
+    @Label("Application")
+    String application;
+
+    @Label("Endpoint Path")
+    String endpointPath;
+
+    @Label("Session Id")
+    String sessionId;
+
+    @Label("Frame Type")
+    String frameType;
+
+    @Label("Queue Duration")
+    @Description("Time from submitting the frame for writing to the start of the write, zero if the transport does "
+            + "not report the start of the write.")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueDuration;
+
+    @Label("Write Duration")
+    @Description("Time from the start of the write to its completion.")
+    @Timespan(Timespan.NANOSECONDS)
+    long writeDuration;
+}
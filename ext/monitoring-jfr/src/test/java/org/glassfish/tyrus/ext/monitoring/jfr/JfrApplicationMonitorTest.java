@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.monitoring.jfr;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.websocket.ClientEndpoint;
+import javax.websocket.CloseReason;
+import javax.websocket.OnMessage;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.core.monitoring.ApplicationEventListener;
+import org.glassfish.tyrus.core.monitoring.EndpointEventListener;
+import org.glassfish.tyrus.core.monitoring.MessageEventListener;
+import org.glassfish.tyrus.server.Server;
+import org.glassfish.tyrus.test.tools.TestContainer;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that {@link JfrApplicationMonitor} emits JFR events and passes all events to its delegate.
+ */
+public class JfrApplicationMonitorTest extends TestContainer {
+
+    @ServerEndpoint("/jfrEndpoint")
+    public static class AnnotatedServerEndpoint {
+
+        @OnMessage
+        public String onMessage(String message) {
+            return message;
+        }
+    }
+
+    @ClientEndpoint
+    public static class AnnotatedClientEndpoint {
+
+        private final CountDownLatch messageLatch;
+
+        public AnnotatedClientEndpoint(CountDownLatch messageLatch) {
+            this.messageLatch = messageLatch;
+        }
+
+        @OnMessage
+        public void onMessage(String message) {
+            messageLatch.countDown();
+        }
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        Server server = null;
+        Recording recording = new Recording();
+        try {
+            setContextPath("/jfrTestApp");
+
+            final CountDownLatch sessionClosedLatch = new CountDownLatch(1);
+            final AtomicInteger closeCode = new AtomicInteger();
+            final AtomicInteger failedHandshakeStatus = new AtomicInteger();
+            ApplicationEventListener delegate = new ApplicationEventListener() {
+                @Override
+                public void onApplicationInitialized(String applicationName) {
+                }
+
+                @Override
+                public void onApplicationDestroyed() {
+                }
+
+                @Override
+                public EndpointEventListener onEndpointRegistered(String endpointPath, Class<?> endpointClass) {
+                    return new EndpointEventListener() {
+                        @Override
+                        public MessageEventListener onSessionOpened(String sessionId) {
+                            return MessageEventListener.NO_OP;
+                        }
+
+                        @Override
+                        public void onSessionClosed(String sessionId) {
+                        }
+
+                        @Override
+                        public void onSessionClosed(String sessionId, CloseReason closeReason) {
+                            closeCode.set(closeReason.getCloseCode().getCode());
+                            sessionClosedLatch.countDown();
+                        }
+
+                        @Override
+                        public void onError(String sessionId, Throwable t) {
+                        }
+
+                        @Override
+                        public void onHandshakeProcessed(long startNanos, long endNanos) {
+                        }
+
+                        @Override
+                        public void onHandshakeFailed(long startNanos, long endNanos, int httpStatus) {
+                            failedHandshakeStatus.set(httpStatus);
+                        }
+                    };
+                }
+
+                @Override
+                public void onEndpointUnregistered(String endpointPath) {
+                }
+            };
+            getServerProperties().put(ApplicationEventListener.APPLICATION_EVENT_LISTENER,
+                                      new JfrApplicationMonitor(delegate, 0, TimeUnit.MILLISECONDS));
+
+            recording.enable(HandshakeEvent.class);
+            recording.enable(HandshakeFailedEvent.class);
+            recording.enable(MessageEvent.class);
+            recording.enable(SendEvent.class);
+            recording.enable(SessionClosedEvent.class);
+            recording.start();
+
+            server = startServer(AnnotatedServerEndpoint.class);
+
+            ClientManager client = createClient();
+            CountDownLatch messageLatch = new CountDownLatch(2);
+            Session session = client.connectToServer(new AnnotatedClientEndpoint(messageLatch),
+                                                     getURI(AnnotatedServerEndpoint.class));
+            session.getBasicRemote().sendText("a");
+            session.getBasicRemote().sendText("bb");
+            assertTrue(messageLatch.await(1, TimeUnit.SECONDS));
+
+            session.close(new CloseReason(CloseReason.CloseCodes.NORMAL_CLOSURE, "bye"));
+            assertTrue(sessionClosedLatch.await(1, TimeUnit.SECONDS));
+            assertEquals(1000, closeCode.get());
+
+            assertEquals(426, sendUnsupportedVersionHandshake(getURI(AnnotatedServerEndpoint.class)));
+            assertEquals(426, failedHandshakeStatus.get());
+
+            recording.stop();
+            Map<String, List<RecordedEvent>> events = readEvents(recording);
+
+            assertEquals(1, events.get("org.glassfish.tyrus.Handshake").size());
+            assertEquals("", events.get("org.glassfish.tyrus.Handshake").get(0).getString("extensions"));
+
+            assertEquals(1, events.get("org.glassfish.tyrus.HandshakeFailed").size());
+            assertEquals(426, events.get("org.glassfish.tyrus.HandshakeFailed").get(0).getInt("httpStatus"));
+
+            assertEquals(2, events.get("org.glassfish.tyrus.Message").size());
+
+            // echoed messages and the close frame reply
+            assertTrue(events.get("org.glassfish.tyrus.Send").size() >= 2);
+            for (RecordedEvent event : events.get("org.glassfish.tyrus.Send")) {
+                assertTrue(event.getLong("queueDuration") >= 0);
+                assertTrue(event.getLong("writeDuration") >= 0);
+            }
+
+            assertEquals(1, events.get("org.glassfish.tyrus.SessionClosed").size());
+            assertEquals(1000, events.get("org.glassfish.tyrus.SessionClosed").get(0).getInt("closeCode"));
+            assertEquals("bye", events.get("org.glassfish.tyrus.SessionClosed").get(0).getString("closeReason"));
+        } finally {
+            recording.close();
+            stopServer(server);
+        }
+    }
+
+    /**
+     * Send a handshake request with an unsupported protocol version, which is rejected by the server.
+     *
+     * @param uri endpoint URI.
+     * @return HTTP status code of the handshake response.
+     */
+    private static int sendUnsupportedVersionHandshake(URI uri) throws IOException {
+        try (Socket socket = new Socket(uri.getHost(), uri.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + uri.getPath() + " HTTP/1.1\r\n"
+                    + "Host: " + uri.getHost() + ":" + uri.getPort() + "\r\n"
+                    + "Upgrade: websocket\r\n"
+                    + "Connection: Upgrade\r\n"
+                    + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n"
+                    + "Sec-WebSocket-Version: 7\r\n"
+                    + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                                                                         StandardCharsets.US_ASCII));
+            // HTTP/1.1 426 ...
+            return Integer.parseInt(in.readLine().split(" ")[1]);
+        }
+    }
+
+    private static Map<String, List<RecordedEvent>> readEvents(Recording recording) throws IOException {
+        Path file = Files.createTempFile("tyrus", ".jfr");
+        try {
+            recording.dump(file);
+            Map<String, List<RecordedEvent>> events = new HashMap<String, List<RecordedEvent>>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                String name = event.getEventType().getName();
+                if (name.startsWith("org.glassfish.tyrus.")) {
+                    assertEquals("/jfrTestApp", event.getString("application"));
+                    assertEquals("/jfrEndpoint", event.getString("endpointPath"));
+                    List<RecordedEvent> list = events.get(name);
+                    if (list == null) {
+                        list = new ArrayList<RecordedEvent>();
+                        events.put(name, list);
+                    }
+                    list.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
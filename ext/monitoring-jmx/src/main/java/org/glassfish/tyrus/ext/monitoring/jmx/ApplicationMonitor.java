@@ -43,10 +43,17 @@ import org.glassfish.tyrus.core.monitoring.EndpointEventListener;
  */
 class ApplicationMonitor extends BaseMonitor implements ApplicationEventListener, MessageListener {
 
+    /**
+     * Default maximal number of sessions listed in {@link EndpointMXBean#getTopSessions()}.
+     */
+    static final int DEFAULT_TOP_SESSIONS_COUNT = 10;
+
     private final Map<String, EndpointMonitor> endpoints = new ConcurrentHashMap<String, EndpointMonitor>();
     private final AtomicInteger openSessionsCount = new AtomicInteger(0);
     private final Object maxOpenSessionsCountLock = new Object();
     private final boolean monitorOnSessionLevel;
+    private final int sessionMXBeanSampleRate;
+    private final int topSessionsCount;
 
     private final ConcurrentMessageStatistics sentTextMessageStatistics = new ConcurrentMessageStatistics();
     private final ConcurrentMessageStatistics sentBinaryMessageStatistics = new ConcurrentMessageStatistics();
@@ -69,7 +76,21 @@ class ApplicationMonitor extends BaseMonitor implements ApplicationEventListener
      *                              and application.
      */
     ApplicationMonitor(boolean monitorOnSessionLevel) {
+        this(monitorOnSessionLevel, 1, DEFAULT_TOP_SESSIONS_COUNT);
+    }
+
+    /**
+     * Constructor.
+     * @param monitorOnSessionLevel   defines the level monitoring will be conducted on, see {@link
+     *                                #ApplicationMonitor(boolean)}.
+     * @param sessionMXBeanSampleRate if monitoring is conducted on session level, MXBeans of every n-th opened
+     *                                session will be registered. 1 means all sessions, 0 means none.
+     * @param topSessionsCount        maximal number of sessions listed in {@link EndpointMXBean#getTopSessions()}.
+     */
+    ApplicationMonitor(boolean monitorOnSessionLevel, int sessionMXBeanSampleRate, int topSessionsCount) {
         this.monitorOnSessionLevel = monitorOnSessionLevel;
+        this.sessionMXBeanSampleRate = sessionMXBeanSampleRate;
+        this.topSessionsCount = topSessionsCount;
     }
 
     @Override
@@ -109,7 +130,8 @@ class ApplicationMonitor extends BaseMonitor implements ApplicationEventListener
         EndpointMonitor endpointJmx;
         if (monitorOnSessionLevel) {
             endpointJmx = new SessionAwareEndpointMonitor(this, applicationMXBean, applicationName, endpointPath,
-                                                          endpointClass.getName());
+                                                          endpointClass.getName(), sessionMXBeanSampleRate,
+                                                          topSessionsCount);
         } else {
             endpointJmx = new SessionlessEndpointMonitor(this, applicationMXBean, applicationName, endpointPath,
                                                          endpointClass.getName());
@@ -230,4 +252,34 @@ class ApplicationMonitor extends BaseMonitor implements ApplicationEventListener
     public void onControlMessageReceived(long length) {
         receivedControlMessageStatistics.onMessage(length);
     }
+
+    @Override
+    public void onTextMessageWritten(long nanos) {
+        sentTextMessageStatistics.onMessageLatency(nanos);
+    }
+
+    @Override
+    public void onBinaryMessageWritten(long nanos) {
+        sentBinaryMessageStatistics.onMessageLatency(nanos);
+    }
+
+    @Override
+    public void onControlMessageWritten(long nanos) {
+        sentControlMessageStatistics.onMessageLatency(nanos);
+    }
+
+    @Override
+    public void onTextMessageProcessed(long nanos) {
+        receivedTextMessageStatistics.onMessageLatency(nanos);
+    }
+
+    @Override
+    public void onBinaryMessageProcessed(long nanos) {
+        receivedBinaryMessageStatistics.onMessageLatency(nanos);
+    }
+
+    @Override
+    public void onControlMessageProcessed(long nanos) {
+        receivedControlMessageStatistics.onMessageLatency(nanos);
+    }
 }
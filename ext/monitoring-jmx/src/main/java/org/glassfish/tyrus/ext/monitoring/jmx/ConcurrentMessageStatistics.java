@@ -17,6 +17,7 @@
 package org.glassfish.tyrus.ext.monitoring.jmx;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
@@ -31,31 +32,30 @@ class ConcurrentMessageStatistics implements MessageStatisticsSource, Serializab
 
     private final LongAdder messagesCount = new LongAdder();
     private final LongAdder messagesSize = new LongAdder();
-    private final Object minimalMessageSizeLock = new Object();
-    private final Object maximalMessageSizeLock = new Object();
-
-    private volatile long minimalMessageSize = Long.MAX_VALUE;
-    private volatile long maximalMessageSize = 0;
+    private final AtomicLong minimalMessageSize = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maximalMessageSize = new AtomicLong(0);
+    private final RollingHistogram messageSizeHistogram = new RollingHistogram();
+    private final RollingHistogram latencyHistogram = new RollingHistogram();
 
     void onMessage(long size) {
         messagesCount.increment();
         messagesSize.add(size);
-        if (minimalMessageSize > size) {
-            synchronized (minimalMessageSizeLock) {
-                if (minimalMessageSize > size) {
-                    minimalMessageSize = size;
-                }
-            }
+        messageSizeHistogram.record(size);
+
+        long min = minimalMessageSize.get();
+        while (size < min && !minimalMessageSize.compareAndSet(min, size)) {
+            min = minimalMessageSize.get();
         }
-        if (maximalMessageSize < size) {
-            synchronized (maximalMessageSizeLock) {
-                if (maximalMessageSize < size) {
-                    maximalMessageSize = size;
-                }
-            }
+        long max = maximalMessageSize.get();
+        while (size > max && !maximalMessageSize.compareAndSet(max, size)) {
+            max = maximalMessageSize.get();
         }
     }
 
+    void onMessageLatency(long nanos) {
+        latencyHistogram.record(nanos);
+    }
+
     @Override
     public long getMessagesCount() {
         return messagesCount.longValue();
@@ -68,14 +68,25 @@ class ConcurrentMessageStatistics implements MessageStatisticsSource, Serializab
 
     @Override
     public long getMinMessageSize() {
-        if (minimalMessageSize == Long.MAX_VALUE) {
+        final long min = minimalMessageSize.get();
+        if (min == Long.MAX_VALUE) {
             return 0;
         }
-        return minimalMessageSize;
+        return min;
     }
 
     @Override
     public long getMaxMessageSize() {
-        return maximalMessageSize;
+        return maximalMessageSize.get();
+    }
+
+    @Override
+    public Histogram.Snapshot getMessageSizeHistogram() {
+        return messageSizeHistogram.getSnapshot();
+    }
+
+    @Override
+    public Histogram.Snapshot getLatencyHistogram() {
+        return latencyHistogram.getSnapshot();
     }
 }
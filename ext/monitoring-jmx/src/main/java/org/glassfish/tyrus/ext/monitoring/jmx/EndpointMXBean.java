@@ -58,11 +58,40 @@ public interface EndpointMXBean extends BaseMXBean {
      */
     public int getMaximalOpenSessionsCount();
 
+    /**
+     * Get percentiles of times spent processing handshake requests within the last minute, from passing the request to
+     * Tyrus to preparing the handshake response.
+     *
+     * @return percentiles of handshake processing times within the last minute in microseconds.
+     */
+    public Percentiles getHandshakeTimePercentiles();
+
     /**
      * Get list of MXBeans representing currently open sessions. Return an empty list if monitoring is conducted only on
      * endpoint level.
+     * <p>
+     * When {@link SampledSessionApplicationMonitor} is used, only sessions whose MXBeans have been registered are
+     * included.
      *
      * @return list of MXBeans representing currently open sessions.
      */
     public List<SessionMXBean> getSessionMXBeans();
+
+    /**
+     * Get statistics of currently open sessions which have sent and received the most bytes, ordered from the session
+     * with the most traffic. Return an empty list if monitoring is conducted only on endpoint level.
+     *
+     * @return list of statistics of the busiest open sessions.
+     */
+    public List<SessionStatistics> getTopSessions();
+
+    /**
+     * Register MXBeans of an open session whose MXBeans have not been registered when it was opened.
+     *
+     * @param sessionId ID of the session, as returned by {@link SessionStatistics#getSessionId()}.
+     * @return {@code true} if the MXBeans have been registered, {@code false} if the session is not open, its MXBeans
+     * are already registered or monitoring is conducted only on endpoint level.
+     * @see SampledSessionApplicationMonitor
+     */
+    public boolean registerSessionMXBean(String sessionId);
 }
@@ -33,12 +33,17 @@ class EndpointMXBeanImpl extends BaseMXBeanImpl implements EndpointMXBean, Seria
     private final String endpointClassName;
     private final Callable<Integer> openSessionsCount;
     private final Callable<Integer> maxOpenSessionsCount;
+    private final Callable<List<SessionStatistics>> topSessions;
+    private final SessionMXBeanRegistrar sessionMXBeanRegistrar;
+    private final Callable<Histogram.Snapshot> handshakeTimes;
     private final Map<String, SessionMXBean> sessionMXBeans = new ConcurrentHashMap<String, SessionMXBean>();
 
     public EndpointMXBeanImpl(
             MessageStatisticsSource sentMessageStatistics, MessageStatisticsSource receivedMessageStatistics,
             String endpointPath, String endpointClassName, Callable<Integer> openSessionsCount,
-            Callable<Integer> maxOpenSessionsCount, Callable<List<ErrorCount>> errorCounts,
+            Callable<Integer> maxOpenSessionsCount, Callable<List<SessionStatistics>> topSessions,
+            SessionMXBeanRegistrar sessionMXBeanRegistrar, Callable<Histogram.Snapshot> handshakeTimes,
+            Callable<List<ErrorCount>> errorCounts,
             MessageStatisticsMXBean textMessageStatisticsMXBean, MessageStatisticsMXBean binaryMessageStatisticsMXBean,
             MessageStatisticsMXBean controlMessageStatisticsMXBean) {
         super(sentMessageStatistics, receivedMessageStatistics, errorCounts, textMessageStatisticsMXBean,
@@ -47,6 +52,9 @@ class EndpointMXBeanImpl extends BaseMXBeanImpl implements EndpointMXBean, Seria
         this.endpointClassName = endpointClassName;
         this.openSessionsCount = openSessionsCount;
         this.maxOpenSessionsCount = maxOpenSessionsCount;
+        this.topSessions = topSessions;
+        this.sessionMXBeanRegistrar = sessionMXBeanRegistrar;
+        this.handshakeTimes = handshakeTimes;
     }
 
     @Override
@@ -74,6 +82,21 @@ class EndpointMXBeanImpl extends BaseMXBeanImpl implements EndpointMXBean, Seria
         return new ArrayList<SessionMXBean>(sessionMXBeans.values());
     }
 
+    @Override
+    public List<SessionStatistics> getTopSessions() {
+        return topSessions.call();
+    }
+
+    @Override
+    public boolean registerSessionMXBean(String sessionId) {
+        return sessionMXBeanRegistrar.registerSessionMXBean(sessionId);
+    }
+
+    @Override
+    public Percentiles getHandshakeTimePercentiles() {
+        return Percentiles.of(handshakeTimes.call(), NANOS_PER_MICRO);
+    }
+
     void putSessionMXBean(String sessionId, SessionMXBean sessionMXBean) {
         sessionMXBeans.put(sessionId, sessionMXBean);
     }
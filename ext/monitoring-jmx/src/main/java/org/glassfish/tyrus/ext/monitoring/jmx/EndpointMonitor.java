@@ -16,6 +16,8 @@
 
 package org.glassfish.tyrus.ext.monitoring.jmx;
 
+import java.util.List;
+
 import org.glassfish.tyrus.core.monitoring.EndpointEventListener;
 
 /**
@@ -45,6 +47,8 @@ abstract class EndpointMonitor extends BaseMonitor implements EndpointEventListe
     private final ConcurrentMessageStatistics receivedBinaryMessageStatistics = new ConcurrentMessageStatistics();
     private final ConcurrentMessageStatistics receivedControlMessageStatistics = new ConcurrentMessageStatistics();
 
+    private final RollingHistogram handshakeHistogram = new RollingHistogram();
+
     protected volatile int maxOpenSessionsCount = 0;
 
     EndpointMonitor(ApplicationMonitor applicationMonitor, ApplicationMXBeanImpl applicationMXBean,
@@ -69,7 +73,8 @@ abstract class EndpointMonitor extends BaseMonitor implements EndpointEventListe
                                                 receivedControlMessageStatistics);
         endpointMXBean =
                 new EndpointMXBeanImpl(sentTotalStatistics, receivedTotalStatistics, endpointPath, endpointClassName,
-                                       getOpenSessionsCount(), getMaxOpenSessionsCount(), getErrorCounts(),
+                                       getOpenSessionsCount(), getMaxOpenSessionsCount(), getTopSessions(),
+                                       getSessionMXBeanRegistrar(), getHandshakeTimes(), getErrorCounts(),
                                        textMessagesMXBean, binaryMessagesMXBean, controlMessagesMXBean);
 
         MBeanPublisher.registerEndpointMXBeans(applicationName, endpointPath, endpointMXBean, textMessagesMXBean,
@@ -94,6 +99,18 @@ abstract class EndpointMonitor extends BaseMonitor implements EndpointEventListe
      */
     protected abstract Callable<Integer> getOpenSessionsCount();
 
+    /**
+     * Get a {@link Callable} that will provide statistics of open sessions with the most traffic.
+     * @return {@link Callable} returning statistics of the busiest open sessions.
+     */
+    protected abstract Callable<List<SessionStatistics>> getTopSessions();
+
+    /**
+     * Get a {@link SessionMXBeanRegistrar} that will register MXBeans of an open session on demand.
+     * @return registrar of session MXBeans.
+     */
+    protected abstract SessionMXBeanRegistrar getSessionMXBeanRegistrar();
+
     /**
      * Get a {@link Callable} that will provide maximal number of open sessions for this endpoint since the start of
      * monitoring.
@@ -109,6 +126,24 @@ abstract class EndpointMonitor extends BaseMonitor implements EndpointEventListe
         };
     }
 
+    /**
+     * Get a {@link Callable} that will provide distribution of handshake processing times within the last minute.
+     * @return {@link Callable} returning handshake processing times in nanoseconds.
+     */
+    private Callable<Histogram.Snapshot> getHandshakeTimes() {
+        return new Callable<Histogram.Snapshot>() {
+            @Override
+            public Histogram.Snapshot call() {
+                return handshakeHistogram.getSnapshot();
+            }
+        };
+    }
+
+    @Override
+    public void onHandshakeProcessed(long startNanos, long endNanos) {
+        handshakeHistogram.record(endNanos - startNanos);
+    }
+
     @Override
     public void onTextMessageSent(long length) {
         sentTextMessageStatistics.onMessage(length);
@@ -144,4 +179,40 @@ abstract class EndpointMonitor extends BaseMonitor implements EndpointEventListe
         receivedControlMessageStatistics.onMessage(length);
         applicationMonitor.onControlMessageReceived(length);
     }
+
+    @Override
+    public void onTextMessageWritten(long nanos) {
+        sentTextMessageStatistics.onMessageLatency(nanos);
+        applicationMonitor.onTextMessageWritten(nanos);
+    }
+
+    @Override
+    public void onBinaryMessageWritten(long nanos) {
+        sentBinaryMessageStatistics.onMessageLatency(nanos);
+        applicationMonitor.onBinaryMessageWritten(nanos);
+    }
+
+    @Override
+    public void onControlMessageWritten(long nanos) {
+        sentControlMessageStatistics.onMessageLatency(nanos);
+        applicationMonitor.onControlMessageWritten(nanos);
+    }
+
+    @Override
+    public void onTextMessageProcessed(long nanos) {
+        receivedTextMessageStatistics.onMessageLatency(nanos);
+        applicationMonitor.onTextMessageProcessed(nanos);
+    }
+
+    @Override
+    public void onBinaryMessageProcessed(long nanos) {
+        receivedBinaryMessageStatistics.onMessageLatency(nanos);
+        applicationMonitor.onBinaryMessageProcessed(nanos);
+    }
+
+    @Override
+    public void onControlMessageProcessed(long nanos) {
+        receivedControlMessageStatistics.onMessageLatency(nanos);
+        applicationMonitor.onControlMessageProcessed(nanos);
+    }
 }
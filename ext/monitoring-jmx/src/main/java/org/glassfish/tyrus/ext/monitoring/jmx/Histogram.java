@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.monitoring.jmx;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free histogram with logarithmic buckets.
+ * <p>
+ * Values are grouped by their highest set bit and every group is divided into {@link #SUB_BUCKETS} linear buckets, so
+ * the relative error of a reported value is at most 1/{@value #SUB_BUCKETS}. Values from 0 to {@link #MAX_VALUE} are
+ * recorded, larger values are recorded as {@link #MAX_VALUE}. Bucket groups are allocated when the first value falls
+ * into them, so a histogram of values of similar magnitude stays small.
+ *
+ * @see Snapshot
+ */
+class Histogram implements Serializable {
+
+    private static final long serialVersionUID = 2694815377423918605L;
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * Number of buckets within one power of two.
+     */
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Largest recorded value, 2^41 - 1. That is about 2 TB or 36 minutes when nanoseconds are recorded.
+     */
+    static final long MAX_VALUE = (1L << 41) - 1;
+
+    // group 0 holds values 0 - 7 exactly, group g > 0 holds values from 2^(g + 2) to 2^(g + 3) - 1
+    private static final int GROUPS = 64 - Long.numberOfLeadingZeros(MAX_VALUE) - SUB_BUCKET_BITS + 1;
+
+    private final AtomicReferenceArray<AtomicLongArray> groups = new AtomicReferenceArray<AtomicLongArray>(GROUPS);
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Record a value.
+     *
+     * @param value value to be recorded. Negative values are recorded as 0.
+     */
+    void record(long value) {
+        final long clamped = value < 0 ? 0 : Math.min(value, MAX_VALUE);
+        final int index = index(clamped);
+        final int group = index >>> SUB_BUCKET_BITS;
+
+        AtomicLongArray buckets = groups.get(group);
+        if (buckets == null) {
+            groups.compareAndSet(group, null, new AtomicLongArray(SUB_BUCKETS));
+            buckets = groups.get(group);
+        }
+        buckets.incrementAndGet(index & (SUB_BUCKETS - 1));
+
+        long max = maxValue.get();
+        while (clamped > max && !maxValue.compareAndSet(max, clamped)) {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * Add all values recorded by this histogram to a snapshot.
+     *
+     * @param snapshot snapshot to be updated.
+     */
+    void addTo(Snapshot snapshot) {
+        for (int group = 0; group < GROUPS; group++) {
+            final AtomicLongArray buckets = groups.get(group);
+            if (buckets != null) {
+                for (int i = 0; i < SUB_BUCKETS; i++) {
+                    final long count = buckets.get(i);
+                    snapshot.counts[(group << SUB_BUCKET_BITS) + i] += count;
+                    snapshot.totalCount += count;
+                }
+            }
+        }
+        snapshot.maxValue = Math.max(snapshot.maxValue, maxValue.get());
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int group = exponent - SUB_BUCKET_BITS + 1;
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (group << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    private static long highestEquivalentValue(int index) {
+        final int group = index >>> SUB_BUCKET_BITS;
+        final int subBucket = index & (SUB_BUCKETS - 1);
+        if (group == 0) {
+            return subBucket;
+        }
+
+        final int exponent = group + SUB_BUCKET_BITS - 1;
+        final long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+
+    /**
+     * Point-in-time copy of one or more merged histograms.
+     * <p>
+     * Not thread safe.
+     */
+    static class Snapshot {
+
+        private final long[] counts = new long[GROUPS << SUB_BUCKET_BITS];
+        private long totalCount = 0;
+        private long maxValue = 0;
+
+        /**
+         * Add values of other snapshot to this one.
+         *
+         * @param other snapshot to be merged.
+         * @return this snapshot.
+         */
+        Snapshot merge(Snapshot other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            totalCount += other.totalCount;
+            maxValue = Math.max(maxValue, other.maxValue);
+            return this;
+        }
+
+        /**
+         * Get number of recorded values.
+         *
+         * @return number of recorded values.
+         */
+        long getTotalCount() {
+            return totalCount;
+        }
+
+        /**
+         * Get the largest recorded value.
+         *
+         * @return the largest recorded value or 0 if nothing has been recorded.
+         */
+        long getMaxValue() {
+            return maxValue;
+        }
+
+        /**
+         * Get value below or equal to which given percentage of recorded values falls.
+         *
+         * @param percentile percentile, between 0 and 100.
+         * @return the highest value equivalent to the bucket containing the percentile, never larger than the largest
+         * recorded value. 0 if nothing has been recorded.
+         */
+        long getValueAtPercentile(double percentile) {
+            if (totalCount == 0) {
+                return 0;
+            }
+
+            final long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+            long count = 0;
+            for (int i = 0; i < counts.length; i++) {
+                count += counts[i];
+                if (count >= countAtPercentile) {
+                    return Math.min(highestEquivalentValue(i), maxValue);
+                }
+            }
+
+            return maxValue;
+        }
+    }
+}
@@ -57,4 +57,42 @@ class MessageEventListenerImpl implements MessageEventListener {
             messageListener.onControlMessageReceived(payloadLength);
         }
     }
+
+    @Override
+    public void onFrameProcessed(TyrusFrame.FrameType frameType, long startNanos, long endNanos) {
+        final long duration = endNanos - startNanos;
+        if (frameType == TyrusFrame.FrameType.TEXT || frameType == TyrusFrame.FrameType.TEXT_CONTINUATION) {
+            messageListener.onTextMessageProcessed(duration);
+        }
+        if (frameType == TyrusFrame.FrameType.BINARY || frameType == TyrusFrame.FrameType.BINARY_CONTINUATION) {
+            messageListener.onBinaryMessageProcessed(duration);
+        }
+        if (frameType == TyrusFrame.FrameType.PING || frameType == TyrusFrame.FrameType.PONG) {
+            messageListener.onControlMessageProcessed(duration);
+        }
+    }
+
+    @Override
+    public void onFrameDecoded(TyrusFrame.FrameType frameType, long startNanos, long endNanos) {
+        // included in the message handler execution time
+    }
+
+    @Override
+    public void onFrameWriteStarted(TyrusFrame.FrameType frameType, long submittedNanos, long startedNanos) {
+        // included in the send latency
+    }
+
+    @Override
+    public void onFrameWritten(TyrusFrame.FrameType frameType, long submittedNanos, long completedNanos) {
+        final long duration = completedNanos - submittedNanos;
+        if (frameType == TyrusFrame.FrameType.TEXT || frameType == TyrusFrame.FrameType.TEXT_CONTINUATION) {
+            messageListener.onTextMessageWritten(duration);
+        }
+        if (frameType == TyrusFrame.FrameType.BINARY || frameType == TyrusFrame.FrameType.BINARY_CONTINUATION) {
+            messageListener.onBinaryMessageWritten(duration);
+        }
+        if (frameType == TyrusFrame.FrameType.PING || frameType == TyrusFrame.FrameType.PONG) {
+            messageListener.onControlMessageWritten(duration);
+        }
+    }
 }
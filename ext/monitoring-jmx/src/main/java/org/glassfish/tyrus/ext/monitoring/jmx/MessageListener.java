@@ -35,4 +35,16 @@ interface MessageListener {
     void onBinaryMessageReceived(long length);
 
     void onControlMessageReceived(long length);
+
+    void onTextMessageWritten(long nanos);
+
+    void onBinaryMessageWritten(long nanos);
+
+    void onControlMessageWritten(long nanos);
+
+    void onTextMessageProcessed(long nanos);
+
+    void onBinaryMessageProcessed(long nanos);
+
+    void onControlMessageProcessed(long nanos);
 }
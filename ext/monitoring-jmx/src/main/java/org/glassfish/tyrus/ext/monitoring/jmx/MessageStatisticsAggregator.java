@@ -68,4 +68,22 @@ class MessageStatisticsAggregator implements MessageStatisticsSource, Serializab
         }
         return result;
     }
+
+    @Override
+    public Histogram.Snapshot getMessageSizeHistogram() {
+        final Histogram.Snapshot result = new Histogram.Snapshot();
+        for (MessageStatisticsSource statisticsSource : messageStatisticsSources) {
+            result.merge(statisticsSource.getMessageSizeHistogram());
+        }
+        return result;
+    }
+
+    @Override
+    public Histogram.Snapshot getLatencyHistogram() {
+        final Histogram.Snapshot result = new Histogram.Snapshot();
+        for (MessageStatisticsSource statisticsSource : messageStatisticsSources) {
+            result.merge(statisticsSource.getLatencyHistogram());
+        }
+        return result;
+    }
 }
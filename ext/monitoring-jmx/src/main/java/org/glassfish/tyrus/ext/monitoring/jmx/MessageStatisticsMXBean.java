@@ -97,4 +97,33 @@ public interface MessageStatisticsMXBean extends Serializable {
      * @return the average number of received messages per second.
      */
     public long getReceivedMessagesCountPerSecond();
+
+    /**
+     * Get percentiles of sizes of messages sent within the last minute.
+     *
+     * @return percentiles of sizes of messages sent within the last minute in bytes.
+     */
+    public Percentiles getSentMessageSizePercentiles();
+
+    /**
+     * Get percentiles of sizes of messages received within the last minute.
+     *
+     * @return percentiles of sizes of messages received within the last minute in bytes.
+     */
+    public Percentiles getReceivedMessageSizePercentiles();
+
+    /**
+     * Get percentiles of times between submitting a message for sending and completing its write, for messages sent
+     * within the last minute.
+     *
+     * @return percentiles of send completion latencies within the last minute in microseconds.
+     */
+    public Percentiles getSendLatencyPercentiles();
+
+    /**
+     * Get percentiles of times spent in message handlers, for messages received within the last minute.
+     *
+     * @return percentiles of message handler execution times within the last minute in microseconds.
+     */
+    public Percentiles getHandlerExecutionTimePercentiles();
 }
@@ -25,6 +25,8 @@ class MessageStatisticsMXBeanImpl implements MessageStatisticsMXBean, Serializab
 
     private static final long serialVersionUID = -2156995729320425363L;
 
+    static final long NANOS_PER_MICRO = 1000;
+
     private final MessageStatisticsSource sentMessageStatistics;
     private final MessageStatisticsSource receivedMessageStatistics;
     private final long monitoringStart;
@@ -100,6 +102,26 @@ class MessageStatisticsMXBeanImpl implements MessageStatisticsMXBean, Serializab
         return getReceivedMessagesCount() / time;
     }
 
+    @Override
+    public Percentiles getSentMessageSizePercentiles() {
+        return Percentiles.of(sentMessageStatistics.getMessageSizeHistogram(), 1);
+    }
+
+    @Override
+    public Percentiles getReceivedMessageSizePercentiles() {
+        return Percentiles.of(receivedMessageStatistics.getMessageSizeHistogram(), 1);
+    }
+
+    @Override
+    public Percentiles getSendLatencyPercentiles() {
+        return Percentiles.of(sentMessageStatistics.getLatencyHistogram(), NANOS_PER_MICRO);
+    }
+
+    @Override
+    public Percentiles getHandlerExecutionTimePercentiles() {
+        return Percentiles.of(receivedMessageStatistics.getLatencyHistogram(), NANOS_PER_MICRO);
+    }
+
     private long getTimeSinceBeginningInSeconds() {
         long time = System.currentTimeMillis() - monitoringStart;
         return time / 1000;
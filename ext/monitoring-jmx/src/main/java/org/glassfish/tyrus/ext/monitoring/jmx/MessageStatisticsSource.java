@@ -30,4 +30,21 @@ interface MessageStatisticsSource {
     long getMinMessageSize();
 
     long getMaxMessageSize();
+
+    /**
+     * Get distribution of message sizes within the last minute.
+     *
+     * @return new snapshot of message sizes in bytes.
+     */
+    Histogram.Snapshot getMessageSizeHistogram();
+
+    /**
+     * Get distribution of message latencies within the last minute.
+     * <p>
+     * For sent messages it is the time from submitting the message to the completion of the write, for received
+     * messages it is the time spent in the message handler.
+     *
+     * @return new snapshot of message latencies in nanoseconds.
+     */
+    Histogram.Snapshot getLatencyHistogram();
 }
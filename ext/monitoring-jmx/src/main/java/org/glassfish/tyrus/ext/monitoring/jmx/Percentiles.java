@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.tyrus.ext.monitoring.jmx;
+
+import java.beans.ConstructorProperties;
+import java.io.Serializable;
+
+import org.glassfish.tyrus.core.Beta;
+
+/**
+ * Percentiles of values recorded within a time window.
+ * <p>
+ * Reported percentiles are approximations, they can be larger than the exact value by at most 12.5%.
+ */
+@Beta
+public class Percentiles implements Serializable {
+
+    private static final long serialVersionUID = -4510734985209532618L;
+
+    private final Long count;
+    private final Long p50;
+    private final Long p99;
+    private final Long p999;
+    private final Long max;
+
+    @ConstructorProperties({"count", "p50", "p99", "p999", "max"})
+    public Percentiles(Long count, Long p50, Long p99, Long p999, Long max) {
+        this.count = count;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+
+    /**
+     * Create percentiles from a histogram snapshot.
+     *
+     * @param snapshot histogram snapshot.
+     * @param divisor  every value is divided by the divisor, used for unit conversion.
+     * @return new percentiles.
+     */
+    static Percentiles of(Histogram.Snapshot snapshot, long divisor) {
+        return new Percentiles(snapshot.getTotalCount(),
+                               snapshot.getValueAtPercentile(50) / divisor,
+                               snapshot.getValueAtPercentile(99) / divisor,
+                               snapshot.getValueAtPercentile(99.9) / divisor,
+                               snapshot.getMaxValue() / divisor);
+    }
+
+    /**
+     * The number of recorded values.
+     *
+     * @return the number of recorded values.
+     */
+    public Long getCount() {
+        return count;
+    }
+
+    /**
+     * The median.
+     *
+     * @return the value below or equal to which 50% of recorded values fall.
+     */
+    public Long getP50() {
+        return p50;
+    }
+
+    /**
+     * The 99th percentile.
+     *
+     * @return the value below or equal to which 99% of recorded values fall.
+     */
+    public Long getP99() {
+        return p99;
+    }
+
+    /**
+     * The 99.9th percentile.
+     *
+     * @return the value below or equal to which 99.9% of recorded values fall.
+     */
+    public Long getP999() {
+        return p999;
+    }
+
+    /**
+     * The largest recorded value.
+     *
+     * @return the largest recorded value.
+     */
+    public Long getMax() {
+        return max;
+    }
+}
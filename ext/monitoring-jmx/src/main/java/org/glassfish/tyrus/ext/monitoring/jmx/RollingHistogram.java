@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.tyrus.ext.monitoring.jmx;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link Histogram} of values recorded during a rolling time window.
+ * <p>
+ * The window is divided into slots of equal duration, every slot holds its own histogram. When a value is recorded
+ * into a slot that belongs to an already passed period, the slot is replaced by an empty one, so values older than the
+ * window are forgotten without any background task. A snapshot merges all slots which are still within the window, so
+ * it covers at least {@code (slotCount - 1)} and at most {@code slotCount} slot durations.
+ */
+class RollingHistogram implements Serializable {
+
+    private static final long serialVersionUID = -3146271890253519764L;
+
+    /**
+     * Default number of slots.
+     */
+    static final int DEFAULT_SLOT_COUNT = 4;
+
+    /**
+     * Default duration of one slot; with {@link #DEFAULT_SLOT_COUNT} the window is one minute.
+     */
+    static final long DEFAULT_SLOT_DURATION = TimeUnit.SECONDS.toNanos(15);
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final long slotDuration;
+    private final long start;
+
+    /**
+     * Create rolling histogram with one minute window.
+     */
+    RollingHistogram() {
+        this(DEFAULT_SLOT_COUNT, DEFAULT_SLOT_DURATION);
+    }
+
+    /**
+     * Create rolling histogram.
+     *
+     * @param slotCount    number of slots.
+     * @param slotDuration duration of one slot in nanoseconds.
+     */
+    RollingHistogram(int slotCount, long slotDuration) {
+        this.slots = new AtomicReferenceArray<Slot>(slotCount);
+        this.slotDuration = slotDuration;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Record a value.
+     *
+     * @param value value to be recorded.
+     */
+    void record(long value) {
+        record(value, System.nanoTime());
+    }
+
+    /**
+     * Record a value.
+     *
+     * @param value value to be recorded.
+     * @param now   current {@link System#nanoTime()}.
+     */
+    void record(long value, long now) {
+        final long period = period(now);
+        final int index = (int) (period % slots.length());
+
+        Slot slot = slots.get(index);
+        while (slot == null || slot.period < period) {
+            final Slot newSlot = new Slot(period);
+            if (slots.compareAndSet(index, slot, newSlot)) {
+                slot = newSlot;
+            } else {
+                slot = slots.get(index);
+            }
+        }
+        slot.histogram.record(value);
+    }
+
+    /**
+     * Get snapshot of values recorded within the window.
+     *
+     * @return new snapshot.
+     */
+    Histogram.Snapshot getSnapshot() {
+        return getSnapshot(System.nanoTime());
+    }
+
+    /**
+     * Get snapshot of values recorded within the window.
+     *
+     * @param now current {@link System#nanoTime()}.
+     * @return new snapshot.
+     */
+    Histogram.Snapshot getSnapshot(long now) {
+        final long period = period(now);
+        final Histogram.Snapshot snapshot = new Histogram.Snapshot();
+
+        for (int i = 0; i < slots.length(); i++) {
+            final Slot slot = slots.get(i);
+            if (slot != null && slot.period > period - slots.length()) {
+                slot.histogram.addTo(snapshot);
+            }
+        }
+
+        return snapshot;
+    }
+
+    private long period(long now) {
+        return Math.max(0, now - start) / slotDuration;
+    }
+
+    private static class Slot implements Serializable {
+
+        private static final long serialVersionUID = 5839127605316743861L;
+
+        private final long period;
+        private final Histogram histogram = new Histogram();
+
+        private Slot(long period) {
+            this.period = period;
+        }
+    }
+}
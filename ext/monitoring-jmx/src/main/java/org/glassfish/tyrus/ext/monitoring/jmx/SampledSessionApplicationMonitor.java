@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.tyrus.ext.monitoring.jmx;
+
+/**
+ * Application events listener and statistics collector.
+ * The statistics are collected on application, endpoint and session level like in {@link
+ * org.glassfish.tyrus.ext.monitoring.jmx.SessionAwareApplicationMonitor}, but MXBeans are not registered for every
+ * opened session.
+ * <p>
+ * Registering MXBeans is synchronized and relatively slow, so registering MXBeans of every session slows down opening
+ * and closing sessions, especially when many clients connect at the same time. This monitor registers MXBeans only of
+ * every n-th opened session (none by default). Statistics of the sessions with the most traffic are available through
+ * {@link EndpointMXBean#getTopSessions()} and MXBeans of any open session can be registered on demand using
+ * {@link EndpointMXBean#registerSessionMXBean(String)}.
+ * <p>
+ * For monitoring in Grizzly server an instance should be passed to the server in server properties.
+ * <pre>
+ *     serverProperties.put(ApplicationEventListener.APPLICATION_EVENT_LISTENER,
+ *                          new SampledSessionApplicationMonitor(100, 20));
+ * </pre>
+ * For use in servlet container the class name should be passed as a context parameter in web.xml.
+ * <pre>{@code
+ *     <context-param>
+ *         <param-name>org.glassfish.tyrus.core.monitoring.ApplicationEventListener</param-name>
+ *         <param-value>org.glassfish.tyrus.ext.monitoring.jmx.SampledSessionApplicationMonitor</param-value>
+ *     </context-param>}</pre>
+ *
+ * @see org.glassfish.tyrus.core.monitoring.ApplicationEventListener
+ */
+public final class SampledSessionApplicationMonitor extends ApplicationMonitor {
+
+    /**
+     * Constructor. MXBeans of sessions are registered only on demand, {@link EndpointMXBean#getTopSessions()} lists
+     * up to 10 sessions.
+     */
+    public SampledSessionApplicationMonitor() {
+        this(0, DEFAULT_TOP_SESSIONS_COUNT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sessionMXBeanSampleRate MXBeans of every n-th opened session will be registered. 0 means that MXBeans of
+     *                                sessions are registered only on demand.
+     * @param topSessionsCount        maximal number of sessions listed in {@link EndpointMXBean#getTopSessions()}.
+     */
+    public SampledSessionApplicationMonitor(int sessionMXBeanSampleRate, int topSessionsCount) {
+        super(true, sessionMXBeanSampleRate, topSessionsCount);
+    }
+}
@@ -16,24 +16,54 @@
 
 package org.glassfish.tyrus.ext.monitoring.jmx;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.glassfish.tyrus.core.monitoring.MessageEventListener;
 
 /**
  * This {@link org.glassfish.tyrus.ext.monitoring.jmx.EndpointMonitor} implementation creates and holds
  * {@link org.glassfish.tyrus.ext.monitoring.jmx.SessionMonitor}, which collects message statistics for open sessions.
+ * <p>
+ * MXBeans of every n-th opened session are registered, where n is the session MXBean sample rate. MXBeans of other
+ * sessions can be registered on demand using {@link EndpointMXBean#registerSessionMXBean(String)}.
  *
  * @author Petr Janouch
  */
 class SessionAwareEndpointMonitor extends EndpointMonitor {
 
+    private static final Comparator<SessionStatistics> TRAFFIC_COMPARATOR = new Comparator<SessionStatistics>() {
+        @Override
+        public int compare(SessionStatistics o1, SessionStatistics o2) {
+            return Long.compare(o1.getSentMessagesSize() + o1.getReceivedMessagesSize(),
+                                o2.getSentMessagesSize() + o2.getReceivedMessagesSize());
+        }
+    };
+
     private final Map<String, SessionMonitor> sessions = new ConcurrentHashMap<String, SessionMonitor>();
+    private final AtomicLong openedSessionsCount = new AtomicLong();
+    private final int sessionMXBeanSampleRate;
+    private final int topSessionsCount;
 
+    /**
+     * Constructor.
+     *
+     * @param sessionMXBeanSampleRate MXBeans of every n-th opened session will be registered, 1 means all sessions,
+     *                                0 means none.
+     * @param topSessionsCount        maximal number of sessions returned by {@link EndpointMXBean#getTopSessions()}.
+     */
     SessionAwareEndpointMonitor(ApplicationMonitor applicationJmx, ApplicationMXBeanImpl applicationMXBean,
-                                String applicationName, String endpointPath, String endpointClassName) {
+                                String applicationName, String endpointPath, String endpointClassName,
+                                int sessionMXBeanSampleRate, int topSessionsCount) {
         super(applicationJmx, applicationMXBean, applicationName, endpointPath, endpointClassName);
+        this.sessionMXBeanSampleRate = sessionMXBeanSampleRate;
+        this.topSessionsCount = topSessionsCount;
     }
 
     @Override
@@ -43,6 +73,10 @@ class SessionAwareEndpointMonitor extends EndpointMonitor {
                                    endpointMXBean);
         sessions.put(sessionId, sessionMonitor);
 
+        if (sessionMXBeanSampleRate > 0 && openedSessionsCount.getAndIncrement() % sessionMXBeanSampleRate == 0) {
+            sessionMonitor.register();
+        }
+
         if (sessions.size() > maxOpenSessionsCount) {
             synchronized (maxOpenSessionsCountLock) {
                 if (sessions.size() > maxOpenSessionsCount) {
@@ -73,6 +107,47 @@ class SessionAwareEndpointMonitor extends EndpointMonitor {
         };
     }
 
+    @Override
+    protected Callable<List<SessionStatistics>> getTopSessions() {
+        return new Callable<List<SessionStatistics>>() {
+            @Override
+            public List<SessionStatistics> call() {
+                if (topSessionsCount <= 0) {
+                    return Collections.emptyList();
+                }
+
+                // min-heap of the busiest sessions; statistics are copied first, so that the ordering is not affected
+                // by messages sent or received in the meantime
+                final PriorityQueue<SessionStatistics> top =
+                        new PriorityQueue<SessionStatistics>(topSessionsCount + 1, TRAFFIC_COMPARATOR);
+                for (SessionMonitor sessionMonitor : sessions.values()) {
+                    top.add(sessionMonitor.getSessionStatistics());
+                    if (top.size() > topSessionsCount) {
+                        top.poll();
+                    }
+                }
+
+                final List<SessionStatistics> result = new ArrayList<SessionStatistics>(top.size());
+                while (!top.isEmpty()) {
+                    result.add(top.poll());
+                }
+                Collections.reverse(result);
+                return result;
+            }
+        };
+    }
+
+    @Override
+    protected SessionMXBeanRegistrar getSessionMXBeanRegistrar() {
+        return new SessionMXBeanRegistrar() {
+            @Override
+            public boolean registerSessionMXBean(String sessionId) {
+                final SessionMonitor sessionMonitor = sessions.get(sessionId);
+                return sessionMonitor != null && sessionMonitor.register();
+            }
+        };
+    }
+
     @Override
     public void onError(String sessionId, Throwable t) {
         SessionMonitor sessionMonitor = sessions.get(sessionId);
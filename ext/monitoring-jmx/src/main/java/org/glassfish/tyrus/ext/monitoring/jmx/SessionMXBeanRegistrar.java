@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.tyrus.ext.monitoring.jmx;
+
+import java.io.Serializable;
+
+/**
+ * Registers MXBeans of a session which is monitored, but whose MXBeans have not been registered when it was opened.
+ *
+ * @see EndpointMXBean#registerSessionMXBean(String)
+ */
+interface SessionMXBeanRegistrar extends Serializable {
+
+    /**
+     * Register MXBeans of an open session.
+     *
+     * @param sessionId session ID.
+     * @return {@code true} if the MXBeans have been registered by this call, {@code false} if the session is not open,
+     * is not monitored or its MXBeans are already registered.
+     */
+    boolean registerSessionMXBean(String sessionId);
+}
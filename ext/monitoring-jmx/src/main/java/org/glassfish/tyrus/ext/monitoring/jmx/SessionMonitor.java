@@ -19,9 +19,9 @@ package org.glassfish.tyrus.ext.monitoring.jmx;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Listens to message events and collects session-level statistics for sent and received messages. Creates and registers
- * {@link org.glassfish.tyrus.ext.monitoring.jmx.MessageStatisticsMXBean} MXBeans for text, binary control and all
- * messages which expose these statistics.
+ * Listens to message events and collects session-level statistics for sent and received messages. When {@link
+ * #register()} is called, creates and registers {@link org.glassfish.tyrus.ext.monitoring.jmx.MessageStatisticsMXBean}
+ * MXBeans for text, binary control and all messages which expose these statistics.
  *
  * @author Petr Janouch
  * @see org.glassfish.tyrus.core.monitoring.MessageEventListener
@@ -41,6 +41,11 @@ class SessionMonitor extends BaseMonitor implements MessageListener {
     private final String sessionId;
     private final MessageListener messageListener;
     private final EndpointMXBeanImpl endpointMXBean;
+    private final MessageStatisticsAggregator sentMessagesTotal;
+    private final MessageStatisticsAggregator receivedMessagesTotal;
+
+    private boolean registered = false;
+    private boolean closed = false;
 
     SessionMonitor(String applicationName, String endpointPath, String sessionId, MessageListener messageListener,
                    EndpointMXBeanImpl endpointMXBean) {
@@ -50,6 +55,25 @@ class SessionMonitor extends BaseMonitor implements MessageListener {
         this.messageListener = messageListener;
         this.endpointMXBean = endpointMXBean;
 
+        sentMessagesTotal = new MessageStatisticsAggregator(sentTextMessageStatistics, sentBinaryMessageStatistics,
+                                                            sentControlMessageStatistics);
+        receivedMessagesTotal =
+                new MessageStatisticsAggregator(receivedTextMessageStatistics, receivedBinaryMessageStatistics,
+                                                receivedControlMessageStatistics);
+    }
+
+    /**
+     * Create and register MXBeans exposing statistics of this session.
+     *
+     * @return {@code true} if the MXBeans have been registered, {@code false} if they are already registered or the
+     * session has been closed.
+     */
+    synchronized boolean register() {
+        if (registered || closed) {
+            return false;
+        }
+        registered = true;
+
         MessageStatisticsMXBean textMessagesMXBean =
                 new MessageStatisticsMXBeanImpl(sentTextMessageStatistics, receivedTextMessageStatistics);
         MessageStatisticsMXBean binaryMessagesMXBean =
@@ -57,12 +81,6 @@ class SessionMonitor extends BaseMonitor implements MessageListener {
         MessageStatisticsMXBean controlMessagesMXBean =
                 new MessageStatisticsMXBeanImpl(sentControlMessageStatistics, receivedControlMessageStatistics);
 
-        MessageStatisticsAggregator sentMessagesTotal =
-                new MessageStatisticsAggregator(sentTextMessageStatistics, sentBinaryMessageStatistics,
-                                                sentControlMessageStatistics);
-        MessageStatisticsAggregator receivedMessagesTotal =
-                new MessageStatisticsAggregator(receivedTextMessageStatistics, receivedBinaryMessageStatistics,
-                                                receivedControlMessageStatistics);
         SessionMXBeanImpl sessionMXBean =
                 new SessionMXBeanImpl(sentMessagesTotal, receivedMessagesTotal, getErrorCounts(), textMessagesMXBean,
                                       binaryMessagesMXBean, controlMessagesMXBean, sessionId);
@@ -71,11 +89,21 @@ class SessionMonitor extends BaseMonitor implements MessageListener {
         MBeanPublisher
                 .registerSessionMXBeans(applicationName, endpointPath, sessionId, sessionMXBean, textMessagesMXBean,
                                         binaryMessagesMXBean, controlMessagesMXBean);
+        return true;
     }
 
-    void unregister() {
-        MBeanPublisher.unregisterSessionMXBeans(applicationName, endpointPath, sessionId);
-        endpointMXBean.removeSessionMXBean(sessionId);
+    synchronized void unregister() {
+        closed = true;
+        if (registered) {
+            MBeanPublisher.unregisterSessionMXBeans(applicationName, endpointPath, sessionId);
+            endpointMXBean.removeSessionMXBean(sessionId);
+        }
+    }
+
+    SessionStatistics getSessionStatistics() {
+        return new SessionStatistics(sessionId, sentMessagesTotal.getMessagesCount(),
+                                     sentMessagesTotal.getMessagesSize(), receivedMessagesTotal.getMessagesCount(),
+                                     receivedMessagesTotal.getMessagesSize());
     }
 
     @Override
@@ -114,6 +142,42 @@ class SessionMonitor extends BaseMonitor implements MessageListener {
         messageListener.onControlMessageReceived(length);
     }
 
+    @Override
+    public void onTextMessageWritten(long nanos) {
+        sentTextMessageStatistics.onMessageLatency(nanos);
+        messageListener.onTextMessageWritten(nanos);
+    }
+
+    @Override
+    public void onBinaryMessageWritten(long nanos) {
+        sentBinaryMessageStatistics.onMessageLatency(nanos);
+        messageListener.onBinaryMessageWritten(nanos);
+    }
+
+    @Override
+    public void onControlMessageWritten(long nanos) {
+        sentControlMessageStatistics.onMessageLatency(nanos);
+        messageListener.onControlMessageWritten(nanos);
+    }
+
+    @Override
+    public void onTextMessageProcessed(long nanos) {
+        receivedTextMessageStatistics.onMessageLatency(nanos);
+        messageListener.onTextMessageProcessed(nanos);
+    }
+
+    @Override
+    public void onBinaryMessageProcessed(long nanos) {
+        receivedBinaryMessageStatistics.onMessageLatency(nanos);
+        messageListener.onBinaryMessageProcessed(nanos);
+    }
+
+    @Override
+    public void onControlMessageProcessed(long nanos) {
+        receivedControlMessageStatistics.onMessageLatency(nanos);
+        messageListener.onControlMessageProcessed(nanos);
+    }
+
     private static class MessageStatistics implements MessageStatisticsSource {
 
         /*
@@ -123,6 +187,8 @@ class SessionMonitor extends BaseMonitor implements MessageListener {
         private volatile long messagesSize = 0;
         private volatile long minimalMessageSize = Long.MAX_VALUE;
         private volatile long maximalMessageSize = 0;
+        private final RollingHistogram messageSizeHistogram = new RollingHistogram();
+        private final RollingHistogram latencyHistogram = new RollingHistogram();
 
         void onMessage(long size) {
             messagesCount.incrementAndGet();
@@ -133,6 +199,11 @@ class SessionMonitor extends BaseMonitor implements MessageListener {
             if (maximalMessageSize < size) {
                 maximalMessageSize = size;
             }
+            messageSizeHistogram.record(size);
+        }
+
+        void onMessageLatency(long nanos) {
+            latencyHistogram.record(nanos);
         }
 
         @Override
@@ -157,5 +228,15 @@ class SessionMonitor extends BaseMonitor implements MessageListener {
         public long getMaxMessageSize() {
             return maximalMessageSize;
         }
+
+        @Override
+        public Histogram.Snapshot getMessageSizeHistogram() {
+            return messageSizeHistogram.getSnapshot();
+        }
+
+        @Override
+        public Histogram.Snapshot getLatencyHistogram() {
+            return latencyHistogram.getSnapshot();
+        }
     }
 }
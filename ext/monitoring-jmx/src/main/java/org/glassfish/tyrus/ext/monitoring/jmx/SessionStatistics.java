@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.tyrus.ext.monitoring.jmx;
+
+import java.beans.ConstructorProperties;
+import java.io.Serializable;
+
+import org.glassfish.tyrus.core.Beta;
+
+/**
+ * Summary of messages sent and received by one session.
+ *
+ * @see EndpointMXBean#getTopSessions()
+ */
+@Beta
+public class SessionStatistics implements Serializable {
+
+    private static final long serialVersionUID = -1638453012290558725L;
+
+    private final String sessionId;
+    private final Long sentMessagesCount;
+    private final Long sentMessagesSize;
+    private final Long receivedMessagesCount;
+    private final Long receivedMessagesSize;
+
+    @ConstructorProperties({"sessionId", "sentMessagesCount", "sentMessagesSize", "receivedMessagesCount",
+            "receivedMessagesSize"})
+    public SessionStatistics(String sessionId, Long sentMessagesCount, Long sentMessagesSize,
+                             Long receivedMessagesCount, Long receivedMessagesSize) {
+        this.sessionId = sessionId;
+        this.sentMessagesCount = sentMessagesCount;
+        this.sentMessagesSize = sentMessagesSize;
+        this.receivedMessagesCount = receivedMessagesCount;
+        this.receivedMessagesSize = receivedMessagesSize;
+    }
+
+    /**
+     * The ID of the session.
+     *
+     * @return the ID of the session.
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * The number of messages sent by the session.
+     *
+     * @return the number of messages sent by the session.
+     */
+    public Long getSentMessagesCount() {
+        return sentMessagesCount;
+    }
+
+    /**
+     * The total size of messages sent by the session in bytes.
+     *
+     * @return the total size of messages sent by the session.
+     */
+    public Long getSentMessagesSize() {
+        return sentMessagesSize;
+    }
+
+    /**
+     * The number of messages received by the session.
+     *
+     * @return the number of messages received by the session.
+     */
+    public Long getReceivedMessagesCount() {
+        return receivedMessagesCount;
+    }
+
+    /**
+     * The total size of messages received by the session in bytes.
+     *
+     * @return the total size of messages received by the session.
+     */
+    public Long getReceivedMessagesSize() {
+        return receivedMessagesSize;
+    }
+}
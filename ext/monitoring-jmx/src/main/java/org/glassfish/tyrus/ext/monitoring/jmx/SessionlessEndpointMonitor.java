@@ -16,6 +16,8 @@
 
 package org.glassfish.tyrus.ext.monitoring.jmx;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.glassfish.tyrus.core.monitoring.MessageEventListener;
@@ -46,6 +48,26 @@ class SessionlessEndpointMonitor extends EndpointMonitor {
         };
     }
 
+    @Override
+    protected Callable<List<SessionStatistics>> getTopSessions() {
+        return new Callable<List<SessionStatistics>>() {
+            @Override
+            public List<SessionStatistics> call() {
+                return Collections.emptyList();
+            }
+        };
+    }
+
+    @Override
+    protected SessionMXBeanRegistrar getSessionMXBeanRegistrar() {
+        return new SessionMXBeanRegistrar() {
+            @Override
+            public boolean registerSessionMXBean(String sessionId) {
+                return false;
+            }
+        };
+    }
+
     @Override
     public MessageEventListener onSessionOpened(String sessionId) {
         applicationMonitor.onSessionOpened();
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.tyrus.ext.monitoring.jmx;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link Histogram} and {@link RollingHistogram}.
+ */
+public class HistogramTest {
+
+    @Test
+    public void testSmallValuesExact() {
+        final Histogram histogram = new Histogram();
+        for (int i = 0; i < 16; i++) {
+            histogram.record(i);
+        }
+
+        final Histogram.Snapshot snapshot = new Histogram.Snapshot();
+        histogram.addTo(snapshot);
+
+        assertEquals(16, snapshot.getTotalCount());
+        assertEquals(15, snapshot.getMaxValue());
+        assertEquals(7, snapshot.getValueAtPercentile(50));
+        assertEquals(15, snapshot.getValueAtPercentile(100));
+        assertEquals(0, snapshot.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testPercentilesWithinRelativeError() {
+        final Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100000; i++) {
+            histogram.record(i);
+        }
+
+        final Histogram.Snapshot snapshot = new Histogram.Snapshot();
+        histogram.addTo(snapshot);
+
+        assertWithinError(50000, snapshot.getValueAtPercentile(50));
+        assertWithinError(99000, snapshot.getValueAtPercentile(99));
+        assertWithinError(99900, snapshot.getValueAtPercentile(99.9));
+        assertEquals(100000, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testOutOfRangeValues() {
+        final Histogram histogram = new Histogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+
+        final Histogram.Snapshot snapshot = new Histogram.Snapshot();
+        histogram.addTo(snapshot);
+
+        assertEquals(2, snapshot.getTotalCount());
+        assertEquals(0, snapshot.getValueAtPercentile(50));
+        assertEquals(Histogram.MAX_VALUE, snapshot.getMaxValue());
+    }
+
+    @Test
+    public void testMerge() {
+        final Histogram first = new Histogram();
+        final Histogram second = new Histogram();
+        for (int i = 0; i < 99; i++) {
+            first.record(10);
+        }
+        second.record(1000000);
+
+        final Histogram.Snapshot firstSnapshot = new Histogram.Snapshot();
+        first.addTo(firstSnapshot);
+        final Histogram.Snapshot secondSnapshot = new Histogram.Snapshot();
+        second.addTo(secondSnapshot);
+        final Histogram.Snapshot merged = new Histogram.Snapshot().merge(firstSnapshot).merge(secondSnapshot);
+
+        assertEquals(100, merged.getTotalCount());
+        assertEquals(1000000, merged.getMaxValue());
+        assertWithinError(10, merged.getValueAtPercentile(99));
+        assertEquals(1000000, merged.getValueAtPercentile(99.9));
+    }
+
+    @Test
+    public void testRollingWindow() {
+        final long slot = TimeUnit.SECONDS.toNanos(1);
+        final RollingHistogram histogram = new RollingHistogram(2, slot);
+        final long start = System.nanoTime();
+
+        histogram.record(1, start);
+        histogram.record(2, start + slot);
+        assertEquals(2, histogram.getSnapshot(start + slot).getTotalCount());
+
+        // the first slot is out of the window and gets reused
+        histogram.record(3, start + 2 * slot);
+        final Histogram.Snapshot snapshot = histogram.getSnapshot(start + 2 * slot);
+        assertEquals(2, snapshot.getTotalCount());
+        assertEquals(3, snapshot.getMaxValue());
+
+        assertEquals(0, histogram.getSnapshot(start + 10 * slot).getTotalCount());
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final Histogram histogram = new Histogram();
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 10000; j++) {
+                        histogram.record(j);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        final Histogram.Snapshot snapshot = new Histogram.Snapshot();
+        histogram.addTo(snapshot);
+        assertEquals(40000, snapshot.getTotalCount());
+        assertEquals(9999, snapshot.getMaxValue());
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        assertTrue("Expected " + expected + " but was " + actual,
+                   actual >= expected && actual <= expected + expected / Histogram.SUB_BUCKETS);
+    }
+}
@@ -272,6 +272,13 @@ public class MessageStatisticsTest extends TestContainer {
             assertEquals(minSentMessageSize, applicationBean.getMinimalSentMessageSize());
             assertEquals(maxReceivedMessageSize, applicationBean.getMaximalReceivedMessageSize());
             assertEquals(minReceivedMessageSize, applicationBean.getMinimalReceivedMessageSize());
+
+            Percentiles sentSizes = applicationBean.getSentMessageSizePercentiles();
+            assertEquals(sentMessagesCount, (long) sentSizes.getCount());
+            assertEquals(maxSentMessageSize, (long) sentSizes.getMax());
+            Percentiles receivedSizes = applicationBean.getReceivedMessageSizePercentiles();
+            assertEquals(receivedMessagesCount, (long) receivedSizes.getCount());
+            assertEquals(maxReceivedMessageSize, (long) receivedSizes.getMax());
         } catch (Exception e) {
             // do nothing false will be returned
             e.printStackTrace();
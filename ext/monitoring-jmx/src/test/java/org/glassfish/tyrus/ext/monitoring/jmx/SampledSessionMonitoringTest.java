@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.tyrus.ext.monitoring.jmx;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.websocket.ClientEndpoint;
+import javax.websocket.OnMessage;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.core.monitoring.ApplicationEventListener;
+import org.glassfish.tyrus.server.Server;
+import org.glassfish.tyrus.test.tools.TestContainer;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that {@link SampledSessionApplicationMonitor} collects session statistics without registering session MXBeans
+ * and that the MXBeans can be registered on demand.
+ */
+public class SampledSessionMonitoringTest extends TestContainer {
+
+    @ServerEndpoint("/sampledSessionEndpoint")
+    public static class AnnotatedServerEndpoint {
+
+        @OnMessage
+        public void onMessage(String message, Session session) {
+        }
+    }
+
+    @ClientEndpoint
+    public static class AnnotatedClientEndpoint {
+    }
+
+    @Test
+    public void testTopSessionsAndOnDemandRegistration() throws Exception {
+        Server server = null;
+        try {
+            setContextPath("/sampledSessionTestApp");
+
+            CountDownLatch receivedMessagesLatch = new CountDownLatch(6);
+            ApplicationEventListener applicationEventListener =
+                    new TestApplicationEventListener(new SampledSessionApplicationMonitor(0, 2), null, null, null,
+                                                     receivedMessagesLatch, null);
+            getServerProperties().put(ApplicationEventListener.APPLICATION_EVENT_LISTENER, applicationEventListener);
+            server = startServer(AnnotatedServerEndpoint.class);
+
+            ClientManager client = createClient();
+            // session i sends i messages of length i
+            for (int i = 1; i <= 3; i++) {
+                Session session =
+                        client.connectToServer(AnnotatedClientEndpoint.class, getURI(AnnotatedServerEndpoint.class));
+                for (int j = 0; j < i; j++) {
+                    session.getBasicRemote().sendText("aaa".substring(0, i));
+                }
+            }
+
+            assertTrue(receivedMessagesLatch.await(1, TimeUnit.SECONDS));
+
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            String endpointMXBeanName = "org.glassfish.tyrus:type=/sampledSessionTestApp,endpoints=endpoints,"
+                    + "endpoint=/sampledSessionEndpoint";
+            EndpointMXBean endpointMXBean =
+                    JMX.newMXBeanProxy(mBeanServer, new ObjectName(endpointMXBeanName), EndpointMXBean.class);
+
+            assertEquals(3, endpointMXBean.getOpenSessionsCount());
+            assertTrue(endpointMXBean.getSessionMXBeans().isEmpty());
+
+            List<SessionStatistics> topSessions = endpointMXBean.getTopSessions();
+            assertEquals(2, topSessions.size());
+            assertEquals(9, (long) topSessions.get(0).getReceivedMessagesSize());
+            assertEquals(3, (long) topSessions.get(0).getReceivedMessagesCount());
+            assertEquals(4, (long) topSessions.get(1).getReceivedMessagesSize());
+
+            String sessionId = topSessions.get(0).getSessionId();
+            assertTrue(endpointMXBean.registerSessionMXBean(sessionId));
+            assertFalse(endpointMXBean.registerSessionMXBean(sessionId));
+            assertFalse(endpointMXBean.registerSessionMXBean("unknown"));
+
+            List<SessionMXBean> sessionMXBeans = endpointMXBean.getSessionMXBeans();
+            assertEquals(1, sessionMXBeans.size());
+            assertEquals(sessionId, sessionMXBeans.get(0).getSessionId());
+            assertEquals(3, sessionMXBeans.get(0).getReceivedMessagesCount());
+        } finally {
+            stopServer(server);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.ext.monitoring.jmx;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import javax.websocket.ClientEndpoint;
+import javax.websocket.OnMessage;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.core.monitoring.ApplicationEventListener;
+import org.glassfish.tyrus.server.Server;
+import org.glassfish.tyrus.test.tools.TestContainer;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that handshake times, handler execution times and send latencies reported by the runtime are collected.
+ * <p>
+ * The monitor is installed directly, timing events are not forwarded by {@link TestApplicationEventListener}.
+ */
+public class TimingStatisticsTest extends TestContainer {
+
+    @ServerEndpoint("/timingStatisticsEndpoint")
+    public static class AnnotatedServerEndpoint {
+
+        @OnMessage
+        public void onMessage(String message, Session session) throws IOException {
+            session.getBasicRemote().sendText(message);
+        }
+    }
+
+    @ClientEndpoint
+    public static class AnnotatedClientEndpoint {
+
+        @OnMessage
+        public void onMessage(String message) {
+        }
+    }
+
+    @Test
+    public void testTimingStatistics() throws Exception {
+        Server server = null;
+        try {
+            setContextPath("/timingStatisticsTestApp");
+
+            ApplicationEventListener applicationEventListener = new ApplicationMonitor(false);
+            getServerProperties().put(ApplicationEventListener.APPLICATION_EVENT_LISTENER, applicationEventListener);
+            server = startServer(AnnotatedServerEndpoint.class);
+
+            ClientManager client = createClient();
+            Session session = client.connectToServer(AnnotatedClientEndpoint.class,
+                                                     getURI(AnnotatedServerEndpoint.class));
+            for (int i = 0; i < 3; i++) {
+                session.getBasicRemote().sendText("message");
+            }
+
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ApplicationMXBean applicationMXBean = JMX.newMXBeanProxy(
+                    mBeanServer, new ObjectName("org.glassfish.tyrus:type=/timingStatisticsTestApp"),
+                    ApplicationMXBean.class);
+
+            // statistics are updated after the handler and the echo have completed
+            for (int i = 0; i < 50 && (applicationMXBean.getHandlerExecutionTimePercentiles().getCount() < 3
+                    || applicationMXBean.getSendLatencyPercentiles().getCount() < 3); i++) {
+                Thread.sleep(100);
+            }
+
+            assertEquals(3, (long) applicationMXBean.getHandlerExecutionTimePercentiles().getCount());
+            assertEquals(3, (long) applicationMXBean.getSendLatencyPercentiles().getCount());
+
+            EndpointMXBean endpointMXBean = JMX.newMXBeanProxy(
+                    mBeanServer, new ObjectName("org.glassfish.tyrus:type=/timingStatisticsTestApp,endpoints=endpoints,"
+                                                        + "endpoint=/timingStatisticsEndpoint"), EndpointMXBean.class);
+            assertEquals(1, (long) endpointMXBean.getHandshakeTimePercentiles().getCount());
+        } finally {
+            stopServer(server);
+        }
+    }
+}
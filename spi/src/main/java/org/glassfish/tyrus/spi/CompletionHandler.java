@@ -46,6 +46,18 @@ public abstract class CompletionHandler<E> {
     public void completed(final E result) {
     }
 
+    /**
+     * The operation, which might have been queued, has been started.
+     * <p>
+     * Transports are not required to call this method. When they do, it is called at most once, before {@link
+     * #completed(Object)}, {@link #failed(Throwable)} or {@link #cancelled()}, so the time between submitting the
+     * operation and this call is the time the operation spent waiting in a queue.
+     *
+     * @since 2.0
+     */
+    public void started() {
+    }
+
     /**
      * The callback method may be called, when there is some progress in
      * operation execution, but it is still not completed.
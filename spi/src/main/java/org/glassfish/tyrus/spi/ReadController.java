@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.spi;
+
+/**
+ * Read flow control of a connection, implemented by a transport.
+ * <p>
+ * A transport able to stop reading websocket data of a connection registers an implementation using {@link
+ * ReadHandler#setReadController(ReadController)}. Tyrus runtime suspends reading when it cannot process the data as
+ * fast as they arrive, for instance when a message handler consumes a streamed message slower than the remote
+ * endpoint sends it, so that TCP flow control slows down the sender instead of Tyrus buffering the data.
+ * <p>
+ * Calls are never nested; every {@link #suspendReading()} is followed by {@link #resumeReading()} before it is called
+ * again. Both methods may be called from any thread, including the one currently in {@link
+ * ReadHandler#handle(java.nio.ByteBuffer)}, and must not block.
+ *
+ * @since 2.0
+ */
+public interface ReadController {
+
+    /**
+     * Stop reading data of the connection.
+     * <p>
+     * Data which have already been read may still be passed to {@link ReadHandler#handle(java.nio.ByteBuffer)}.
+     */
+    void suspendReading();
+
+    /**
+     * Continue reading data of the connection.
+     * <p>
+     * The transport must not pass data to {@link ReadHandler#handle(java.nio.ByteBuffer)} from within this method,
+     * reading has to be resumed asynchronously.
+     */
+    void resumeReading();
+}
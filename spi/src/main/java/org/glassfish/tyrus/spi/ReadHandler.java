@@ -40,4 +40,17 @@ public interface ReadHandler {
      * @param data websocket data of a connection.
      */
     void handle(ByteBuffer data);
+
+    /**
+     * A transport which is able to suspend and resume reading of the connection data invokes this method to let tyrus
+     * runtime control the flow of incoming data. It should be called before any data is passed to
+     * {@link #handle(ByteBuffer)}. Transports which do not call this method keep reading as fast as possible.
+     * <p>
+     * Default implementation ignores the controller.
+     *
+     * @param readController read controller of the connection.
+     * @since 2.0
+     */
+    default void setReadController(ReadController readController) {
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.test.e2e.non_deployable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+import javax.websocket.ClientEndpoint;
+import javax.websocket.OnMessage;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.client.ClientProperties;
+import org.glassfish.tyrus.container.grizzly.client.GrizzlyClientContainer;
+import org.glassfish.tyrus.container.grizzly.client.GrizzlyClientProperties;
+import org.glassfish.tyrus.server.Server;
+import org.glassfish.tyrus.test.tools.TestContainer;
+
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that Grizzly client connections with the same configuration share one transport, which is shut down after the
+ * last connection is closed, and that {@link GrizzlyClientProperties#ISOLATED_TRANSPORT} creates a separate one.
+ */
+public class GrizzlyClientSharedTransportTest extends TestContainer {
+
+    @ServerEndpoint("/sharedTransportEcho")
+    public static class EchoEndpoint {
+
+        @OnMessage
+        public String onMessage(String message) {
+            return message;
+        }
+    }
+
+    @ClientEndpoint
+    public static class AnnotatedClientEndpoint {
+    }
+
+    @Test
+    public void testSharedTransport() throws Exception {
+        if (System.getProperties().getProperty(ClientProperties.SHARED_CONTAINER) != null) {
+            // test not valid with shared container.
+            return;
+        }
+
+        final List<Thread> selectorThreads = new ArrayList<Thread>();
+        final ThreadPoolConfig selectorThreadPoolConfig =
+                ThreadPoolConfig.defaultConfig().setThreadFactory(new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        final Thread thread = new Thread(r);
+                        thread.setDaemon(true);
+                        synchronized (selectorThreads) {
+                            selectorThreads.add(thread);
+                        }
+                        return thread;
+                    }
+                });
+
+        Server server = startServer(EchoEndpoint.class);
+        try {
+            final List<Session> sessions = new ArrayList<Session>();
+            int sharedSelectorThreads = 0;
+            for (int i = 0; i < 5; i++) {
+                ClientManager client = ClientManager.createClient(GrizzlyClientContainer.class.getName());
+                client.getProperties().put(GrizzlyClientProperties.SELECTOR_THREAD_POOL_CONFIG, selectorThreadPoolConfig);
+                sessions.add(client.connectToServer(AnnotatedClientEndpoint.class, getURI(EchoEndpoint.class)));
+
+                if (i == 0) {
+                    sharedSelectorThreads = selectorThreadCount(selectorThreads);
+                    assertTrue(sharedSelectorThreads > 0);
+                } else {
+                    // no new selector threads for other clients with the same configuration
+                    assertEquals(sharedSelectorThreads, selectorThreadCount(selectorThreads));
+                }
+            }
+
+            ClientManager isolatedClient = ClientManager.createClient(GrizzlyClientContainer.class.getName());
+            isolatedClient.getProperties().put(GrizzlyClientProperties.SELECTOR_THREAD_POOL_CONFIG,
+                                               selectorThreadPoolConfig);
+            isolatedClient.getProperties().put(GrizzlyClientProperties.ISOLATED_TRANSPORT, true);
+            sessions.add(isolatedClient.connectToServer(AnnotatedClientEndpoint.class, getURI(EchoEndpoint.class)));
+
+            assertTrue(selectorThreadCount(selectorThreads) > sharedSelectorThreads);
+
+            for (Session session : sessions) {
+                session.close();
+            }
+
+            // all transports are shut down when the last connection is closed
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (aliveThreadCount(selectorThreads) > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(0, aliveThreadCount(selectorThreads));
+        } finally {
+            stopServer(server);
+        }
+    }
+
+    private static int selectorThreadCount(List<Thread> selectorThreads) {
+        synchronized (selectorThreads) {
+            return selectorThreads.size();
+        }
+    }
+
+    private static int aliveThreadCount(List<Thread> selectorThreads) {
+        int alive = 0;
+        synchronized (selectorThreads) {
+            for (Thread thread : selectorThreads) {
+                if (thread.isAlive()) {
+                    alive++;
+                }
+            }
+        }
+        return alive;
+    }
+}
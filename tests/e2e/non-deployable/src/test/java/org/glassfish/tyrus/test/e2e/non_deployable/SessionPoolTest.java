@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.tyrus.test.e2e.non_deployable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.websocket.ClientEndpointConfig;
+import javax.websocket.MessageHandler;
+import javax.websocket.OnMessage;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.client.SessionPool;
+import org.glassfish.tyrus.server.Server;
+import org.glassfish.tyrus.test.tools.TestContainer;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link SessionPool}.
+ */
+public class SessionPoolTest extends TestContainer {
+
+    @ServerEndpoint("/sessionPoolEcho")
+    public static class EchoEndpoint {
+
+        @OnMessage
+        public String onMessage(String message) {
+            return message;
+        }
+    }
+
+    @Test
+    public void testLeaseAndReplace() throws Exception {
+        Server server = startServer(EchoEndpoint.class);
+        try {
+            final ClientManager client = createClient();
+            final SessionPool pool = client.createSessionPool(ClientEndpointConfig.Builder.create().build(),
+                                                              getURI(EchoEndpoint.class), 2, 100,
+                                                              TimeUnit.MILLISECONDS);
+            try {
+                awaitIdleCount(pool, 2);
+
+                final Session session = pool.acquire(5, TimeUnit.SECONDS);
+                assertNotNull(session);
+                assertEquals(1, pool.getIdleCount());
+
+                final CountDownLatch messageLatch = new CountDownLatch(1);
+                session.addMessageHandler(new MessageHandler.Whole<String>() {
+                    @Override
+                    public void onMessage(String message) {
+                        if ("hello".equals(message)) {
+                            messageLatch.countDown();
+                        }
+                    }
+                });
+                session.getBasicRemote().sendText("hello");
+                assertTrue(messageLatch.await(5, TimeUnit.SECONDS));
+
+                pool.release(session);
+                assertEquals(1, session.getMessageHandlers().size());
+                assertEquals(2, pool.getIdleCount());
+
+                // health check keeps healthy sessions in the pool
+                Thread.sleep(500);
+                assertEquals(2, pool.getIdleCount());
+
+                // closed session is replaced
+                final Session closed = pool.acquire(5, TimeUnit.SECONDS);
+                closed.close();
+                pool.release(closed);
+                awaitIdleCount(pool, 2);
+
+                final Session first = pool.acquire(5, TimeUnit.SECONDS);
+                final Session second = pool.acquire(5, TimeUnit.SECONDS);
+                assertNotSame(closed, first);
+                assertNotSame(closed, second);
+                pool.release(first);
+                pool.release(second);
+            } finally {
+                pool.close();
+            }
+
+            try {
+                pool.acquire(1, TimeUnit.SECONDS);
+                fail("IllegalStateException expected.");
+            } catch (IllegalStateException e) {
+                // expected
+            }
+        } finally {
+            stopServer(server);
+        }
+    }
+
+    private static void awaitIdleCount(SessionPool pool, int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (pool.getIdleCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(count, pool.getIdleCount());
+    }
+}
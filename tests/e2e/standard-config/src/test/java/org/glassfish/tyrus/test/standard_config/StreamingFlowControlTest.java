@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.tyrus.test.standard_config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.websocket.ClientEndpointConfig;
+import javax.websocket.CloseReason;
+import javax.websocket.DeploymentException;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
+import javax.websocket.OnClose;
+import javax.websocket.OnMessage;
+import javax.websocket.OnOpen;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.core.TyrusWebSocketEngine;
+import org.glassfish.tyrus.server.Server;
+import org.glassfish.tyrus.test.tools.TestContainer;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that streamed messages are received completely when the reading handler is slower than the peer and reading
+ * of the connection is suspended and resumed repeatedly.
+ */
+public class StreamingFlowControlTest extends TestContainer {
+
+    private static final int WINDOW_SIZE = 1024;
+    private static final int PART_SIZE = 4096;
+    private static final int PARTS = 64;
+
+    @Test
+    public void testServerReadsSlowly() throws DeploymentException, IOException, InterruptedException {
+        final Server server = startServer(SlowReadingEndpoint.class);
+        try {
+            final CountDownLatch resultLatch = new CountDownLatch(1);
+            final AtomicReference<String> result = new AtomicReference<String>();
+
+            final ClientManager client = createClient();
+            final Session session = client.connectToServer(new Endpoint() {
+                @Override
+                public void onOpen(Session session, EndpointConfig config) {
+                    session.addMessageHandler(new MessageHandler.Whole<String>() {
+                        @Override
+                        public void onMessage(String message) {
+                            result.set(message);
+                            resultLatch.countDown();
+                        }
+                    });
+                }
+            }, ClientEndpointConfig.Builder.create().build(), getURI(SlowReadingEndpoint.class));
+
+            for (int i = 0; i < PARTS; i++) {
+                session.getBasicRemote().sendBinary(ByteBuffer.wrap(createPart(i)), i == PARTS - 1);
+            }
+
+            assertTrue(resultLatch.await(10, TimeUnit.SECONDS));
+            assertEquals(expectedResult(), result.get());
+            session.close();
+        } finally {
+            stopServer(server);
+        }
+    }
+
+    @Test
+    public void testClientReadsSlowly() throws DeploymentException, IOException, InterruptedException {
+        final Server server = startServer(StreamingEndpoint.class);
+        try {
+            final CountDownLatch resultLatch = new CountDownLatch(1);
+            final AtomicReference<String> result = new AtomicReference<String>();
+
+            final ClientEndpointConfig config = ClientEndpointConfig.Builder.create().build();
+            config.getUserProperties().put(TyrusWebSocketEngine.STREAMING_WINDOW_SIZE, WINDOW_SIZE);
+
+            final ClientManager client = createClient();
+            final Session session = client.connectToServer(new Endpoint() {
+                @Override
+                public void onOpen(Session session, EndpointConfig config) {
+                    session.addMessageHandler(new MessageHandler.Whole<InputStream>() {
+                        @Override
+                        public void onMessage(InputStream message) {
+                            try {
+                                result.set(readSlowly(message));
+                            } catch (Exception e) {
+                                result.set(e.toString());
+                            }
+                            resultLatch.countDown();
+                        }
+                    });
+                }
+            }, config, getURI(StreamingEndpoint.class));
+
+            session.getBasicRemote().sendText("start");
+
+            assertTrue(resultLatch.await(10, TimeUnit.SECONDS));
+            assertEquals(expectedResult(), result.get());
+            session.close();
+        } finally {
+            stopServer(server);
+        }
+    }
+
+    @Test
+    public void testCloseWhileReadingSuspended() throws DeploymentException, IOException, InterruptedException {
+        final Server server = startServer(BlockedReadingEndpoint.class);
+        try {
+            final CountDownLatch clientClosedLatch = new CountDownLatch(1);
+
+            final ClientManager client = createClient();
+            final Session session = client.connectToServer(new Endpoint() {
+                @Override
+                public void onOpen(Session session, EndpointConfig config) {
+                }
+
+                @Override
+                public void onClose(Session session, CloseReason closeReason) {
+                    clientClosedLatch.countDown();
+                }
+            }, ClientEndpointConfig.Builder.create().build(), getURI(BlockedReadingEndpoint.class));
+
+            // more than the window, the server suspends reading of the connection while the handler is blocked
+            for (int i = 0; i < 8; i++) {
+                session.getBasicRemote().sendBinary(ByteBuffer.wrap(createPart(i)), i == 7);
+            }
+            assertTrue(BlockedReadingEndpoint.MESSAGE_LATCH.await(5, TimeUnit.SECONDS));
+            Thread.sleep(500);
+
+            // the close frame sent by the client in reply has to be read although the handler has not returned
+            BlockedReadingEndpoint.SESSION.get().close();
+            assertTrue(BlockedReadingEndpoint.CLOSED_LATCH.await(5, TimeUnit.SECONDS));
+            assertTrue(clientClosedLatch.await(5, TimeUnit.SECONDS));
+        } finally {
+            BlockedReadingEndpoint.RELEASE_LATCH.countDown();
+            stopServer(server);
+        }
+    }
+
+    private static byte[] createPart(int index) {
+        final byte[] part = new byte[PART_SIZE];
+        for (int i = 0; i < part.length; i++) {
+            part[i] = (byte) (index + i);
+        }
+        return part;
+    }
+
+    private static String expectedResult() {
+        long checksum = 0;
+        for (int i = 0; i < PARTS; i++) {
+            for (byte b : createPart(i)) {
+                checksum = checksum * 31 + b;
+            }
+        }
+        return PARTS * PART_SIZE + ":" + checksum;
+    }
+
+    private static String readSlowly(InputStream inputStream) throws IOException, InterruptedException {
+        final byte[] buffer = new byte[WINDOW_SIZE / 2];
+        long length = 0;
+        long checksum = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                checksum = checksum * 31 + buffer[i];
+            }
+            length += read;
+            if (length % (16 * PART_SIZE) < read) {
+                Thread.sleep(50);
+            }
+        }
+        return length + ":" + checksum;
+    }
+
+    @ServerEndpoint("/streamingFlowControlSlowReading")
+    public static class SlowReadingEndpoint {
+
+        @OnOpen
+        public void onOpen(Session session) {
+            // per session window
+            session.getUserProperties().put(TyrusWebSocketEngine.STREAMING_WINDOW_SIZE, WINDOW_SIZE);
+        }
+
+        @OnMessage
+        public void onMessage(Session session, InputStream message) throws IOException, InterruptedException {
+            session.getBasicRemote().sendText(readSlowly(message));
+        }
+    }
+
+    @ServerEndpoint("/streamingFlowControlBlockedReading")
+    public static class BlockedReadingEndpoint {
+
+        static final AtomicReference<Session> SESSION = new AtomicReference<Session>();
+        static final CountDownLatch MESSAGE_LATCH = new CountDownLatch(1);
+        static final CountDownLatch CLOSED_LATCH = new CountDownLatch(1);
+        static final CountDownLatch RELEASE_LATCH = new CountDownLatch(1);
+
+        @OnOpen
+        public void onOpen(Session session) {
+            session.getUserProperties().put(TyrusWebSocketEngine.STREAMING_WINDOW_SIZE, WINDOW_SIZE);
+            SESSION.set(session);
+        }
+
+        @OnMessage
+        public void onMessage(InputStream message) throws InterruptedException {
+            MESSAGE_LATCH.countDown();
+            // does not read the message until the test has finished
+            RELEASE_LATCH.await(10, TimeUnit.SECONDS);
+        }
+
+        @OnClose
+        public void onClose() {
+            CLOSED_LATCH.countDown();
+        }
+    }
+
+    @ServerEndpoint("/streamingFlowControlStreaming")
+    public static class StreamingEndpoint {
+
+        @OnMessage
+        public void onMessage(Session session, String message) throws IOException {
+            for (int i = 0; i < PARTS; i++) {
+                session.getBasicRemote().sendBinary(ByteBuffer.wrap(createPart(i)), i == PARTS - 1);
+            }
+        }
+    }
+}